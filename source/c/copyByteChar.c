@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jcharArray
 #define METHODNAMETB "copyCharToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyCharToByte___3CI_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyCharToByte___3CILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyCharToByte___3CIJII
 #define METHODNAMEBT "copyByteToChar"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToChar___3BI_3CIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToChar__Ljava_nio_ByteBuffer_2I_3CIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToChar__J_3CIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3CII
 #define COPY_FUNC GetCharArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_2
+#define SWAP_UINT uint16_t
+#define BSWAP BSWAP_16
 
 #include "copyByteTarget.ctempl"
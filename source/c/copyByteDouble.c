@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jdoubleArray
 #define METHODNAMETB "copyDoubleToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyDoubleToByte___3DI_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyDoubleToByte___3DILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyDoubleToByte___3DIJII
 #define METHODNAMEBT "copyByteToDouble"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToDouble___3BI_3DIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToDouble__Ljava_nio_ByteBuffer_2I_3DIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToDouble__J_3DIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3DII
 #define COPY_FUNC GetDoubleArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_8
+#define SWAP_UINT uint64_t
+#define BSWAP BSWAP_64
 
 #include "copyByteTarget.ctempl"
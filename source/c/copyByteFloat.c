@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jfloatArray
 #define METHODNAMETB "copyFloatToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyFloatToByte___3FI_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyFloatToByte___3FILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyFloatToByte___3FIJII
 #define METHODNAMEBT "copyByteToFloat"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToFloat___3BI_3FIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToFloat__Ljava_nio_ByteBuffer_2I_3FIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToFloat__J_3FIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3FII
 #define COPY_FUNC GetFloatArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_4
+#define SWAP_UINT uint32_t
+#define BSWAP BSWAP_32
 
 #include "copyByteTarget.ctempl"
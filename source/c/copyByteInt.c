@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jintArray
 #define METHODNAMETB "copyIntToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyIntToByte___3II_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyIntToByte___3IILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyIntToByte___3IIJII
 #define METHODNAMEBT "copyByteToInt"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToInt___3BI_3IIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToInt__Ljava_nio_ByteBuffer_2I_3IIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToInt__J_3IIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3III
 #define COPY_FUNC GetIntArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_4
+#define SWAP_UINT uint32_t
+#define BSWAP BSWAP_32
 
 #include "copyByteTarget.ctempl"
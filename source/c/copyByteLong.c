@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jlongArray
 #define METHODNAMETB "copyLongToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyLongToByte___3JI_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyLongToByte___3JILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyLongToByte___3JIJII
 #define METHODNAMEBT "copyByteToLong"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToLong___3BI_3JIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToLong__Ljava_nio_ByteBuffer_2I_3JIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToLong__J_3JIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3JII
 #define COPY_FUNC GetLongArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_8
+#define SWAP_UINT uint64_t
+#define BSWAP BSWAP_64
 
 #include "copyByteTarget.ctempl"
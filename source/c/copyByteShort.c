@@ -34,9 +34,17 @@
 #define TARGET_ARRAY jshortArray
 #define METHODNAMETB "copyShortToByte"
 #define FUNCTIONNAMETB Java_ch_systemsx_cisd_base_convert_NativeData_copyShortToByte___3SI_3BIII
+#define FUNCTIONNAMETBB Java_ch_systemsx_cisd_base_convert_NativeData_copyShortToByte___3SILjava_nio_ByteBuffer_2III
+#define FUNCTIONNAMETBA Java_ch_systemsx_cisd_base_convert_NativeData_copyShortToByte___3SIJII
 #define METHODNAMEBT "copyByteToShort"
 #define FUNCTIONNAMEBT Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToShort___3BI_3SIII
+#define FUNCTIONNAMEBTB Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToShort__Ljava_nio_ByteBuffer_2I_3SIII
+#define FUNCTIONNAMEBTA Java_ch_systemsx_cisd_base_convert_NativeData_copyByteToShort__J_3SIII
+#define METHODNAMESWAP "swapByteOrder"
+#define FUNCTIONNAMESWAP Java_ch_systemsx_cisd_base_convert_NativeData_nativeSwapByteOrder___3SII
 #define COPY_FUNC GetShortArrayRegion
 #define CHANGE_BYTE_ORDER CHANGE_BYTE_ORDER_2
+#define SWAP_UINT uint16_t
+#define BSWAP BSWAP_16
 
 #include "copyByteTarget.ctempl"
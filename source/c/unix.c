@@ -17,6 +17,9 @@
 #include <unistd.h>
 #include <errno.h>
 #include <string.h>
+#include <stdlib.h>
+#include <fcntl.h>
+#include <dirent.h>
 #include <pwd.h>
 #include <grp.h>
 #include <sys/types.h>
@@ -49,6 +52,16 @@
 #define __LSTAT lstat
 #endif
 
+#ifndef __FSTATAT
+#define __FSTATAT fstatat
+#endif
+
+/* Number of fields filled by statfields(). Keep in sync with Java class Unix.StatBuffer. */
+#define STAT_FIELDS 16
+
+/* Initial number of entries of the buffer used when listing a directory. */
+#define LISTSTAT_INITIAL_CAPACITY 256
+
 /* Global references. */
 jclass stringClass;
 jclass passwordClass;
@@ -232,13 +245,49 @@ JNIEXPORT jint JNICALL Java_ch_systemsx_cisd_base_unix_Unix_symlink
 /* Function pointer for stat function calls. */
 typedef int (*stat_func_ptr)(const char *path, struct __STAT *buf);
 
+jbyte get_link_type(mode_t mode)
+{
+    if (S_ISLNK(mode))
+    {
+        return SYMLINK;
+    } else if (S_ISDIR(mode))
+    {
+        return DIRECTORY;
+    } else if (S_ISREG(mode))
+    {
+        return REGULAR_FILE;
+    } else
+    {
+        return OTHER;
+    }
+}
+
+jobject create_stat(JNIEnv *env, struct __STAT *s)
+{
+    jbyte type;
+
+    type = get_link_type(s->st_mode);
+    if (statConstructorHasNanos)
+    {
+        return (*env)->NewObject(env, statClass, statConstructorID, (jlong) s->st_dev, (jlong) s->st_ino, 
+                   (jshort) (s->st_mode & 07777), (jbyte) type, (jint) s->st_nlink, 
+                   (jint) s->st_uid, (jint) s->st_gid, (jlong) s->st_atime, (jlong) s->ST_ATIME_NANO, 
+                   (jlong) s->st_mtime, (jlong) s->ST_MTIME_NANO, (jlong) s->st_ctime, (jlong) s->ST_CTIME_NANO, 
+                   (jlong) s->st_size, (jlong) s->st_blocks, (jint) s->st_blksize);
+    } else
+    {
+        return (*env)->NewObject(env, statClass, statConstructorID, (jlong) s->st_dev, (jlong) s->st_ino, 
+                   (jshort) (s->st_mode & 07777), (jbyte) type, (jint) s->st_nlink, 
+                   (jint) s->st_uid, (jint) s->st_gid, (jlong) s->st_atime, (jlong) s->st_mtime, 
+                   (jlong) s->st_ctime, (jlong) s->st_size, (jlong) s->st_blocks, (jint) s->st_blksize);
+    }
+}
+
 jobject call_stat(JNIEnv *env, jclass clss, jstring filename, stat_func_ptr statf)
 {
     const char* pfilename;
     struct __STAT s;
-    jobject result;
     int retval;
-    jbyte type;
 
     pfilename = (char *) (*env)->GetStringUTFChars(env, filename, NULL);
     retval = statf(pfilename, &s);
@@ -248,34 +297,7 @@ jobject call_stat(JNIEnv *env, jclass clss, jstring filename, stat_func_ptr stat
         return NULL;
     } else
     {
-        if (S_ISLNK(s.st_mode))
-        {
-            type = SYMLINK;
-        } else if (S_ISDIR(s.st_mode))
-        {
-            type = DIRECTORY;
-        } else if (S_ISREG(s.st_mode))
-        {
-            type = REGULAR_FILE;
-        } else
-        {
-            type = OTHER;
-        }
-        if (statConstructorHasNanos)
-        {
-            result = (*env)->NewObject(env, statClass, statConstructorID, (jlong) s.st_dev, (jlong) s.st_ino, 
-                       (jshort) (s.st_mode & 07777), (jbyte) type, (jint) s.st_nlink, 
-                       (jint) s.st_uid, (jint) s.st_gid, (jlong) s.st_atime, (jlong) s.ST_ATIME_NANO, 
-                       (jlong) s.st_mtime, (jlong) s.ST_MTIME_NANO, (jlong) s.st_ctime, (jlong) s.ST_CTIME_NANO, 
-                       (jlong) s.st_size, (jlong) s.st_blocks, (jint) s.st_blksize);
-        } else
-        {
-            result = (*env)->NewObject(env, statClass, statConstructorID, (jlong) s.st_dev, (jlong) s.st_ino, 
-                       (jshort) (s.st_mode & 07777), (jbyte) type, (jint) s.st_nlink, 
-                       (jint) s.st_uid, (jint) s.st_gid, (jlong) s.st_atime, (jlong) s.st_mtime, 
-                       (jlong) s.st_ctime, (jlong) s.st_size, (jlong) s.st_blocks, (jint) s.st_blksize);
-        }
-        return result;
+        return create_stat(env, &s);
     }
 }
 
@@ -289,6 +311,189 @@ JNIEXPORT jobject JNICALL Java_ch_systemsx_cisd_base_unix_Unix_lstat(JNIEnv *env
     return call_stat(env, clss, filename, &__LSTAT);
 }
 
+/*
+ * Stats filename into the long array fields (see Unix.StatBuffer for the layout) without creating 
+ * any Java object. Returns 0 on success and -errno on failure.
+ */
+JNIEXPORT jint JNICALL Java_ch_systemsx_cisd_base_unix_Unix_statfields
+  (JNIEnv *env, jclass clss, jstring filename, jboolean followLinks, jlongArray fields)
+{
+    const char* pfilename;
+    struct __STAT s;
+    jlong values[STAT_FIELDS];
+    int retval;
+
+    pfilename = (char *) (*env)->GetStringUTFChars(env, filename, NULL);
+    retval = followLinks ? __STAT(pfilename, &s) : __LSTAT(pfilename, &s);
+    if (retval < 0)
+    {
+        retval = -errno;
+    }
+    (*env)->ReleaseStringUTFChars(env, filename, pfilename);
+    if (retval < 0)
+    {
+        return retval;
+    }
+    values[0] = (jlong) s.st_dev;
+    values[1] = (jlong) s.st_ino;
+    values[2] = (jlong) (s.st_mode & 07777);
+    values[3] = (jlong) get_link_type(s.st_mode);
+    values[4] = (jlong) s.st_nlink;
+    values[5] = (jlong) s.st_uid;
+    values[6] = (jlong) s.st_gid;
+    values[7] = (jlong) s.st_atime;
+    values[8] = (jlong) s.ST_ATIME_NANO;
+    values[9] = (jlong) s.st_mtime;
+    values[10] = (jlong) s.ST_MTIME_NANO;
+    values[11] = (jlong) s.st_ctime;
+    values[12] = (jlong) s.ST_CTIME_NANO;
+    values[13] = (jlong) s.st_size;
+    values[14] = (jlong) s.st_blocks;
+    values[15] = (jlong) s.st_blksize;
+    (*env)->SetLongArrayRegion(env, fields, 0, STAT_FIELDS, values);
+    return 0;
+}
+
+/* An entry of a directory listing. */
+typedef struct
+{
+    char *name;
+    struct __STAT s;
+    int hasStat;
+} dir_entry;
+
+void free_dir_entries(dir_entry *entries, size_t count)
+{
+    size_t i;
+
+    for (i = 0; i < count; ++i)
+    {
+        free(entries[i].name);
+    }
+    free(entries);
+}
+
+/*
+ * Reads the directory dirname and stats all entries relative to the open directory. Returns an 
+ * Object[] { String[] names, Stat[] stats } or NULL with errno set if the directory cannot be read.
+ */
+JNIEXPORT jobjectArray JNICALL Java_ch_systemsx_cisd_base_unix_Unix_liststat
+  (JNIEnv *env, jclass clss, jstring dirname, jboolean followLinks)
+{
+    const char* pdirname;
+    DIR *dir;
+    struct dirent *dentry;
+    dir_entry *entries;
+    dir_entry *newEntries;
+    size_t count, capacity, i;
+    int fd, flags, error;
+    jclass objectClass;
+    jobjectArray names, stats, result;
+    jobject obj;
+
+    pdirname = (char *) (*env)->GetStringUTFChars(env, dirname, NULL);
+    dir = opendir(pdirname);
+    (*env)->ReleaseStringUTFChars(env, dirname, pdirname);
+    if (dir == NULL)
+    {
+        return NULL;
+    }
+    fd = dirfd(dir);
+    flags = followLinks ? 0 : AT_SYMLINK_NOFOLLOW;
+    count = 0;
+    capacity = LISTSTAT_INITIAL_CAPACITY;
+    entries = (dir_entry *) malloc(capacity * sizeof(dir_entry));
+    if (entries == NULL)
+    {
+        closedir(dir);
+        errno = ENOMEM;
+        return NULL;
+    }
+    error = 0;
+    while (1)
+    {
+        errno = 0;
+        dentry = readdir(dir);
+        if (dentry == NULL)
+        {
+            error = errno;
+            break;
+        }
+        if (strcmp(dentry->d_name, ".") == 0 || strcmp(dentry->d_name, "..") == 0)
+        {
+            continue;
+        }
+        if (count == capacity)
+        {
+            newEntries = (dir_entry *) realloc(entries, 2 * capacity * sizeof(dir_entry));
+            if (newEntries == NULL)
+            {
+                error = ENOMEM;
+                break;
+            }
+            entries = newEntries;
+            capacity *= 2;
+        }
+        entries[count].hasStat = (__FSTATAT(fd, dentry->d_name, &entries[count].s, flags) == 0);
+        if (entries[count].hasStat == 0 && errno == ENOENT && followLinks == JNI_FALSE)
+        {
+            /* The entry has been removed since readdir(). */
+            continue;
+        }
+        entries[count].name = strdup(dentry->d_name);
+        if (entries[count].name == NULL)
+        {
+            error = ENOMEM;
+            break;
+        }
+        ++count;
+    }
+    closedir(dir);
+    if (error != 0)
+    {
+        free_dir_entries(entries, count);
+        errno = error;
+        return NULL;
+    }
+
+    objectClass = (*env)->FindClass(env, "java/lang/Object");
+    names = (*env)->NewObjectArray(env, count, stringClass, NULL);
+    stats = (*env)->NewObjectArray(env, count, statClass, NULL);
+    result = (*env)->NewObjectArray(env, 2, objectClass, NULL);
+    if (objectClass == NULL || names == NULL || stats == NULL || result == NULL)
+    {
+        /* An OutOfMemoryError is pending. */
+        free_dir_entries(entries, count);
+        return NULL;
+    }
+    for (i = 0; i < count; ++i)
+    {
+        obj = (*env)->NewStringUTF(env, entries[i].name);
+        if (obj == NULL)
+        {
+            free_dir_entries(entries, count);
+            return NULL;
+        }
+        (*env)->SetObjectArrayElement(env, names, i, obj);
+        (*env)->DeleteLocalRef(env, obj);
+        if (entries[i].hasStat)
+        {
+            obj = create_stat(env, &entries[i].s);
+            if (obj == NULL)
+            {
+                free_dir_entries(entries, count);
+                return NULL;
+            }
+            (*env)->SetObjectArrayElement(env, stats, i, obj);
+            (*env)->DeleteLocalRef(env, obj);
+        }
+    }
+    free_dir_entries(entries, count);
+    (*env)->SetObjectArrayElement(env, result, 0, names);
+    (*env)->SetObjectArrayElement(env, result, 1, stats);
+    return result;
+}
+
 JNIEXPORT jstring JNICALL Java_ch_systemsx_cisd_base_unix_Unix_readlink(JNIEnv *env, jclass clss, jstring linkname, jint linkvallen)
 {
     const char* plinkname;
@@ -0,0 +1,542 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import static ch.systemsx.cisd.base.convert.NativeData.DOUBLE_SIZE;
+import static ch.systemsx.cisd.base.convert.NativeData.FLOAT_SIZE;
+import static ch.systemsx.cisd.base.convert.NativeData.INT_SIZE;
+import static ch.systemsx.cisd.base.convert.NativeData.LONG_SIZE;
+import static ch.systemsx.cisd.base.convert.NativeData.SHORT_SIZE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+import ch.systemsx.cisd.base.convert.NativeTaggedArray.NativeArrayTag;
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.io.AdapterInputStreamToIInputStream;
+
+/**
+ * A read-only view of a native tagged array file that is mapped into memory, thus the data are
+ * decoded on access rather than read into a Java array first.
+ * <p>
+ * Files larger than 2GB are mapped in multiple regions. The view can be shared between threads.
+ * 
+ * @author agent
+ */
+public final class MappedNativeTaggedArray
+{
+    private static final int REGION_SHIFT = 30;
+
+    private static final int SINGLE_REGION_SHIFT = 31;
+
+    private final NativeArrayTag tag;
+
+    private final long size;
+
+    private final java.nio.ByteOrder byteOrder;
+
+    private final ByteBuffer[] regions;
+
+    private final int regionShift;
+
+    private final long regionMask;
+
+    /**
+     * Maps the native tagged array stored in <var>file</var> into memory and returns a view of
+     * it, or <code>null</code>, if <var>file</var> is not a native tagged array.
+     */
+    public static MappedNativeTaggedArray tryMap(File file) throws IOExceptionUnchecked
+    {
+        return tryMap(file, REGION_SHIFT);
+    }
+
+    static MappedNativeTaggedArray tryMap(File file, int regionShift)
+            throws IOExceptionUnchecked
+    {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            if (channel.size() < NativeTaggedArray.getHeaderSize(1))
+            {
+                return null;
+            }
+            final NativeArrayTag tagOrNull =
+                    NativeTaggedArray.tryReadArrayTag(new AdapterInputStreamToIInputStream(
+                            Channels.newInputStream(channel)));
+            if (tagOrNull == null)
+            {
+                return null;
+            }
+            final int[] dimensions = tagOrNull.getDimensions();
+            final long dataStart = NativeTaggedArray.getHeaderSize(dimensions.length);
+            final long size = getSize(dimensions);
+            final long dataSize = size * tagOrNull.getEncoding().getSizeInBytes();
+            if (dataStart + dataSize != channel.size())
+            {
+                return null;
+            }
+            final int actualRegionShift =
+                    (dataSize <= Integer.MAX_VALUE) ? SINGLE_REGION_SHIFT : regionShift;
+            final java.nio.ByteOrder byteOrder =
+                    (tagOrNull.getEncoding().getByteOrder() == ByteOrder.LITTLE_ENDIAN)
+                            ? java.nio.ByteOrder.LITTLE_ENDIAN
+                            : java.nio.ByteOrder.BIG_ENDIAN;
+            return new MappedNativeTaggedArray(tagOrNull, size, byteOrder,
+                    map(channel, dataStart, dataSize, actualRegionShift, byteOrder),
+                    actualRegionShift);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long dataStart, long dataSize,
+            int regionShift, java.nio.ByteOrder byteOrder) throws IOException
+    {
+        final long regionSize = 1L << regionShift;
+        final int regionCount = (int) Math.max(1, (dataSize + regionSize - 1) >>> regionShift);
+        final ByteBuffer[] regions = new ByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; ++i)
+        {
+            final long regionStart = i * regionSize;
+            final long len = Math.min(regionSize, dataSize - regionStart);
+            regions[i] =
+                    channel.map(MapMode.READ_ONLY, dataStart + regionStart, len).order(byteOrder);
+        }
+        return regions;
+    }
+
+    private static long getSize(int[] dimensions)
+    {
+        long size = 1;
+        for (int d : dimensions)
+        {
+            size *= d;
+        }
+        return size;
+    }
+
+    private MappedNativeTaggedArray(NativeArrayTag tag, long size, java.nio.ByteOrder byteOrder,
+            ByteBuffer[] regions, int regionShift)
+    {
+        this.tag = tag;
+        this.size = size;
+        this.byteOrder = byteOrder;
+        this.regions = regions;
+        this.regionShift = regionShift;
+        this.regionMask = (1L << regionShift) - 1;
+    }
+
+    /**
+     * Returns the array tag (encoding and dimensions) of the mapped array.
+     */
+    public NativeArrayTag getTag()
+    {
+        return tag;
+    }
+
+    /**
+     * Returns the {@link NativeArrayEncoding} of the mapped array.
+     */
+    public NativeArrayEncoding getEncoding()
+    {
+        return tag.getEncoding();
+    }
+
+    /**
+     * Returns the dimensions of the mapped array.
+     */
+    public int[] getDimensions()
+    {
+        return tag.getDimensions().clone();
+    }
+
+    /**
+     * Returns the rank of the mapped array.
+     */
+    public int rank()
+    {
+        return tag.getDimensions().length;
+    }
+
+    /**
+     * Returns the total number of elements of the mapped array.
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    /**
+     * Computes the linear index of the element at <var>indices</var> (in row-major order).
+     */
+    public long computeIndex(int... indices)
+    {
+        final int[] dimensions = tag.getDimensions();
+        if (indices.length != dimensions.length)
+        {
+            throw new IllegalArgumentException("Expected " + dimensions.length
+                    + " indices, got " + indices.length + ".");
+        }
+        long index = 0;
+        for (int i = 0; i < indices.length; ++i)
+        {
+            if (indices[i] < 0 || indices[i] >= dimensions[i])
+            {
+                throw new IndexOutOfBoundsException("Index " + indices[i] + " of dimension " + i
+                        + " out of range [0, " + dimensions[i] + ").");
+            }
+            index = index * dimensions[i] + indices[i];
+        }
+        return index;
+    }
+
+    //
+    // Float
+    //
+
+    /**
+     * Returns the float value at linear <var>index</var>.
+     */
+    public float getFloat(long index)
+    {
+        checkType(true, FLOAT_SIZE);
+        final long offset = checkIndex(index) * FLOAT_SIZE;
+        return regions[(int) (offset >>> regionShift)].getFloat((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the float value at <var>indices</var>.
+     */
+    public float getFloat(int... indices)
+    {
+        return getFloat(computeIndex(indices));
+    }
+
+    /**
+     * Copies <var>len</var> float values starting at linear index <var>start</var> to
+     * <var>data</var>, starting at <var>dataStart</var>.
+     */
+    public void copyToFloat(long start, float[] data, int dataStart, int len)
+    {
+        checkType(true, FLOAT_SIZE);
+        checkRange(start, len);
+        long offset = start * FLOAT_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final ByteBuffer region = getRegionAt(offset);
+            final int n = Math.min(end - pos, region.remaining() / FLOAT_SIZE);
+            region.order(byteOrder).asFloatBuffer().get(data, pos, n);
+            pos += n;
+            offset += (long) n * FLOAT_SIZE;
+        }
+    }
+
+    /**
+     * Returns a read-only {@link FloatBuffer} of all values of the mapped array.
+     * 
+     * @throws IllegalStateException If the data of the mapped array are larger than 2GB.
+     */
+    public FloatBuffer getAsFloatBuffer()
+    {
+        checkType(true, FLOAT_SIZE);
+        return getAsSingleRegion().asFloatBuffer();
+    }
+
+    //
+    // Double
+    //
+
+    /**
+     * Returns the double value at linear <var>index</var>.
+     */
+    public double getDouble(long index)
+    {
+        checkType(true, DOUBLE_SIZE);
+        final long offset = checkIndex(index) * DOUBLE_SIZE;
+        return regions[(int) (offset >>> regionShift)].getDouble((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the double value at <var>indices</var>.
+     */
+    public double getDouble(int... indices)
+    {
+        return getDouble(computeIndex(indices));
+    }
+
+    /**
+     * Copies <var>len</var> double values starting at linear index <var>start</var> to
+     * <var>data</var>, starting at <var>dataStart</var>.
+     */
+    public void copyToDouble(long start, double[] data, int dataStart, int len)
+    {
+        checkType(true, DOUBLE_SIZE);
+        checkRange(start, len);
+        long offset = start * DOUBLE_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final ByteBuffer region = getRegionAt(offset);
+            final int n = Math.min(end - pos, region.remaining() / DOUBLE_SIZE);
+            region.order(byteOrder).asDoubleBuffer().get(data, pos, n);
+            pos += n;
+            offset += (long) n * DOUBLE_SIZE;
+        }
+    }
+
+    /**
+     * Returns a read-only {@link DoubleBuffer} of all values of the mapped array.
+     * 
+     * @throws IllegalStateException If the data of the mapped array are larger than 2GB.
+     */
+    public DoubleBuffer getAsDoubleBuffer()
+    {
+        checkType(true, DOUBLE_SIZE);
+        return getAsSingleRegion().asDoubleBuffer();
+    }
+
+    //
+    // Short
+    //
+
+    /**
+     * Returns the short value at linear <var>index</var>.
+     */
+    public short getShort(long index)
+    {
+        checkType(false, SHORT_SIZE);
+        final long offset = checkIndex(index) * SHORT_SIZE;
+        return regions[(int) (offset >>> regionShift)].getShort((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the short value at <var>indices</var>.
+     */
+    public short getShort(int... indices)
+    {
+        return getShort(computeIndex(indices));
+    }
+
+    /**
+     * Copies <var>len</var> short values starting at linear index <var>start</var> to
+     * <var>data</var>, starting at <var>dataStart</var>.
+     */
+    public void copyToShort(long start, short[] data, int dataStart, int len)
+    {
+        checkType(false, SHORT_SIZE);
+        checkRange(start, len);
+        long offset = start * SHORT_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final ByteBuffer region = getRegionAt(offset);
+            final int n = Math.min(end - pos, region.remaining() / SHORT_SIZE);
+            region.order(byteOrder).asShortBuffer().get(data, pos, n);
+            pos += n;
+            offset += (long) n * SHORT_SIZE;
+        }
+    }
+
+    /**
+     * Returns a read-only {@link ShortBuffer} of all values of the mapped array.
+     * 
+     * @throws IllegalStateException If the data of the mapped array are larger than 2GB.
+     */
+    public ShortBuffer getAsShortBuffer()
+    {
+        checkType(false, SHORT_SIZE);
+        return getAsSingleRegion().asShortBuffer();
+    }
+
+    //
+    // Int
+    //
+
+    /**
+     * Returns the int value at linear <var>index</var>.
+     */
+    public int getInt(long index)
+    {
+        checkType(false, INT_SIZE);
+        final long offset = checkIndex(index) * INT_SIZE;
+        return regions[(int) (offset >>> regionShift)].getInt((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the int value at <var>indices</var>.
+     */
+    public int getInt(int... indices)
+    {
+        return getInt(computeIndex(indices));
+    }
+
+    /**
+     * Copies <var>len</var> int values starting at linear index <var>start</var> to
+     * <var>data</var>, starting at <var>dataStart</var>.
+     */
+    public void copyToInt(long start, int[] data, int dataStart, int len)
+    {
+        checkType(false, INT_SIZE);
+        checkRange(start, len);
+        long offset = start * INT_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final ByteBuffer region = getRegionAt(offset);
+            final int n = Math.min(end - pos, region.remaining() / INT_SIZE);
+            region.order(byteOrder).asIntBuffer().get(data, pos, n);
+            pos += n;
+            offset += (long) n * INT_SIZE;
+        }
+    }
+
+    /**
+     * Returns a read-only {@link IntBuffer} of all values of the mapped array.
+     * 
+     * @throws IllegalStateException If the data of the mapped array are larger than 2GB.
+     */
+    public IntBuffer getAsIntBuffer()
+    {
+        checkType(false, INT_SIZE);
+        return getAsSingleRegion().asIntBuffer();
+    }
+
+    //
+    // Long
+    //
+
+    /**
+     * Returns the long value at linear <var>index</var>.
+     */
+    public long getLong(long index)
+    {
+        checkType(false, LONG_SIZE);
+        final long offset = checkIndex(index) * LONG_SIZE;
+        return regions[(int) (offset >>> regionShift)].getLong((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the long value at <var>indices</var>.
+     */
+    public long getLong(int... indices)
+    {
+        return getLong(computeIndex(indices));
+    }
+
+    /**
+     * Copies <var>len</var> long values starting at linear index <var>start</var> to
+     * <var>data</var>, starting at <var>dataStart</var>.
+     */
+    public void copyToLong(long start, long[] data, int dataStart, int len)
+    {
+        checkType(false, LONG_SIZE);
+        checkRange(start, len);
+        long offset = start * LONG_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final ByteBuffer region = getRegionAt(offset);
+            final int n = Math.min(end - pos, region.remaining() / LONG_SIZE);
+            region.order(byteOrder).asLongBuffer().get(data, pos, n);
+            pos += n;
+            offset += (long) n * LONG_SIZE;
+        }
+    }
+
+    /**
+     * Returns a read-only {@link LongBuffer} of all values of the mapped array.
+     * 
+     * @throws IllegalStateException If the data of the mapped array are larger than 2GB.
+     */
+    public LongBuffer getAsLongBuffer()
+    {
+        checkType(false, LONG_SIZE);
+        return getAsSingleRegion().asLongBuffer();
+    }
+
+    //
+    // Helper methods
+    //
+
+    private void checkType(boolean floatingPoint, int sizeInBytes)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() != floatingPoint
+                || encoding.getSizeInBytes() != sizeInBytes)
+        {
+            throw new IllegalStateException("Mapped array has encoding " + encoding + ".");
+        }
+    }
+
+    private long checkIndex(long index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size
+                    + ").");
+        }
+        return index;
+    }
+
+    private void checkRange(long start, int len)
+    {
+        if (start < 0 || len < 0 || start + len > size)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + (start + len)
+                    + ") out of range [0, " + size + ").");
+        }
+    }
+
+    /**
+     * Returns a duplicate of the region that contains byte <var>offset</var>, positioned at it.
+     */
+    private ByteBuffer getRegionAt(long offset)
+    {
+        final ByteBuffer region = regions[(int) (offset >>> regionShift)].duplicate();
+        region.position((int) (offset & regionMask));
+        return region;
+    }
+
+    private ByteBuffer getAsSingleRegion()
+    {
+        if (regions.length != 1)
+        {
+            throw new IllegalStateException("Mapped array of " + size
+                    + " elements is too large for a single buffer.");
+        }
+        return regions[0].duplicate().order(byteOrder);
+    }
+
+}
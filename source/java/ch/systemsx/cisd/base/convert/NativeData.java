@@ -97,6 +97,56 @@ public class NativeData
         }
     }
 
+    /**
+     * The engines that can perform the conversions. The engine is chosen when the class is
+     * initialized, see {@link NativeData#getEngine()}.
+     */
+    public enum Engine
+    {
+        /** The jni-library is used. */
+        JNI,
+        /**
+         * Pure Java implementation that accesses the arrays as raw memory through
+         * <code>sun.misc.Unsafe</code>.
+         */
+        UNSAFE,
+        /** Pure Java implementation that uses views of {@link ByteBuffer}s. */
+        NIO
+    }
+
+    private static final Engine javaEngine = selectJavaEngine();
+
+    private static final Engine engine = useNativeLib ? Engine.JNI : javaEngine;
+
+    /**
+     * Arrays with fewer elements are converted by the pure Java engine as the cost of the JNI
+     * transition dominates for them.
+     */
+    private static final int jniMinLength = Integer.getInteger("nativedata.jni.minlength", 512);
+
+    /**
+     * Arrays with more elements are converted by the {@link Engine#UNSAFE} engine (if available)
+     * as pinning them in the jni-library would block the garbage collector for too long.
+     */
+    private static final int jniMaxLength =
+            Integer.getInteger("nativedata.jni.maxlength", 16 * 1024 * 1024);
+
+    private static Engine selectJavaEngine()
+    {
+        if ("nio".equalsIgnoreCase(System.getProperty("nativedata.javaengine")) == false
+                && UnsafeConverter.isAvailable())
+        {
+            return Engine.UNSAFE;
+        }
+        return Engine.NIO;
+    }
+
+    private static boolean useJNI(int len)
+    {
+        return useNativeLib && len >= jniMinLength
+                && (len <= jniMaxLength || javaEngine != Engine.UNSAFE);
+    }
+
     /**
      * Returns <code>true</code> if this platform is a little-endian platform and <code>false</code>
      * , if it is a big-endian platform.
@@ -295,404 +345,1770 @@ public class NativeData
     private static native void copyByteToDouble(byte[] inData, int inStart, double[] outData,
             int outStart, int len, int byteOrder);
 
-    //
-    // Public
-    //
+    /**
+     * Copies a range from an array of <code>int</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>int</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
+     */
+    private static native void copyIntToByte(int[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
 
-    /** Call to ensure that the native library is loaded. */
-    public static void ensureNativeLibIsLoaded()
-    {
-    }
+    /**
+     * Copies a range from an array of <code>int</code> into native memory.
+     * 
+     * @param inData The input array of <code>int</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     */
+    private static native void copyIntToByte(int[] inData, int inStart, long outAddress, int len,
+            int byteOrder);
 
     /**
-     * Returns <code>true</code>, if this class uses the native library and <code>false</code>
-     * otherwise.
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>int</code>.
+     * 
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>int</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>int</code> to
+     *            start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
      */
-    public static boolean isUseNativeLib()
-    {
-        return useNativeLib;
-    }
+    private static native void copyByteToInt(ByteBuffer inData, int inStart, int[] outData,
+            int outStart, int len, int byteOrder);
 
     /**
-     * Returns the native byte order of the host running this JRE.
+     * Copies a range from native memory into an array of <code>int</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>int</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>int</code> to
+     *            start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
      */
-    public static ByteOrder getNativeByteOrder()
-    {
-        return ByteOrder.getNativeByteOrder();
-    }
+    private static native void copyByteToInt(long inAddress, int[] outData, int outStart,
+            int len, int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>s</var>.
+     * Copies a range from an array of <code>long</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>long</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>long</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
      */
-    public static short changeByteOrder(short s)
-    {
-        return (short) ((s << 8) | ((s >> 8) & 0xff));
-    }
+    private static native void copyLongToByte(long[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>c</var>.
+     * Copies a range from an array of <code>long</code> into native memory.
+     * 
+     * @param inData The input array of <code>long</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>long</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
      */
-    public static char changeByteOrder(char c)
-    {
-        return (char) ((c << 8) | ((c >> 8) & 0xff));
-    }
+    private static native void copyLongToByte(long[] inData, int inStart, long outAddress, int len,
+            int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>i</var>.
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>long</code>.
+     * 
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>long</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>long</code> to
+     *            start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
      */
-    public static int changeByteOrder(int i)
-    {
-        return ((changeByteOrder((short) i) << 16) | (changeByteOrder((short) (i >> 16)) & 0xffff));
-    }
+    private static native void copyByteToLong(ByteBuffer inData, int inStart, long[] outData,
+            int outStart, int len, int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>f</var>.
+     * Copies a range from native memory into an array of <code>long</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>long</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>long</code> to
+     *            start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
      */
-    public static float changeByteOrder(float f)
-    {
-        return Float.intBitsToFloat(changeByteOrder(Float.floatToRawIntBits(f)));
-    }
+    private static native void copyByteToLong(long inAddress, long[] outData, int outStart,
+            int len, int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>l</var>.
+     * Copies a range from an array of <code>short</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>short</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>short</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
      */
-    public static long changeByteOrder(long l)
-    {
-        return (((long) changeByteOrder((int) (l)) << 32) | (changeByteOrder((int) (l >> 32)) & 0xffffffffL));
-    }
+    private static native void copyShortToByte(short[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
 
     /**
-     * Changes the byte order of the bytes constituting <var>d</var>.
+     * Copies a range from an array of <code>short</code> into native memory.
+     * 
+     * @param inData The input array of <code>short</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>short</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
      */
-    public static double changeByteOrder(double d)
-    {
-        return Double.longBitsToDouble(changeByteOrder(Double.doubleToRawLongBits(d)));
-    }
+    private static native void copyShortToByte(short[] inData, int inStart, long outAddress,
+            int len, int byteOrder);
 
     /**
-     * Copies a range from an array of <code>int</code> into an array of <code>byte</code>.
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>short</code>.
      * 
-     * @param inData The input array of <code>int</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>short</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
+     */
+    private static native void copyByteToShort(ByteBuffer inData, int inStart, short[] outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from native memory into an array of <code>short</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>short</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
      *            start
-     * @param len The number of <code>int</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
      */
-    public static void copyIntToByte(int[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
-    {
-        if (useNativeLib)
-        {
-            copyIntToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
-        } else
-        {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * INT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asIntBuffer().put(inData, inStart, len);
+    private static native void copyByteToShort(long inAddress, short[] outData, int outStart,
+            int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>char</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>char</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
+     */
+    private static native void copyCharToByte(char[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>char</code> into native memory.
+     * 
+     * @param inData The input array of <code>char</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     */
+    private static native void copyCharToByte(char[] inData, int inStart, long outAddress, int len,
+            int byteOrder);
+
+    /**
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>char</code>.
+     * 
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>char</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>char</code> to
+     *            start
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
+     */
+    private static native void copyByteToChar(ByteBuffer inData, int inStart, char[] outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from native memory into an array of <code>char</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>char</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>char</code> to
+     *            start
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
+     */
+    private static native void copyByteToChar(long inAddress, char[] outData, int outStart,
+            int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>float</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>float</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>float</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
+     */
+    private static native void copyFloatToByte(float[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>float</code> into native memory.
+     * 
+     * @param inData The input array of <code>float</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>float</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     */
+    private static native void copyFloatToByte(float[] inData, int inStart, long outAddress,
+            int len, int byteOrder);
+
+    /**
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>float</code>.
+     * 
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>float</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>float</code> to
+     *            start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
+     */
+    private static native void copyByteToFloat(ByteBuffer inData, int inStart, float[] outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from native memory into an array of <code>float</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>float</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>float</code> to
+     *            start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
+     */
+    private static native void copyByteToFloat(long inAddress, float[] outData, int outStart,
+            int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>double</code> into a direct {@link ByteBuffer}.
+     * 
+     * @param inData The input array of <code>double</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>double</code> to
+     *            start
+     * @param outData The output buffer, needs to be a direct buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outData</var> should be in.
+     */
+    private static native void copyDoubleToByte(double[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from an array of <code>double</code> into native memory.
+     * 
+     * @param inData The input array of <code>double</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>double</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     */
+    private static native void copyDoubleToByte(double[] inData, int inStart, long outAddress,
+            int len, int byteOrder);
+
+    /**
+     * Copies a range from a direct {@link ByteBuffer} into an array of <code>double</code>.
+     * 
+     * @param inData The input buffer, needs to be a direct buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>double</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>double</code> to
+     *            start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inData</var> is in.
+     */
+    private static native void copyByteToDouble(ByteBuffer inData, int inStart, double[] outData,
+            int outStart, int len, int byteOrder);
+
+    /**
+     * Copies a range from native memory into an array of <code>double</code>.
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>double</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>double</code> to
+     *            start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The ordinal of {@link ByteOrder}, encoding what byte order the
+     *            <var>inAddress</var> is in.
+     */
+    private static native void copyByteToDouble(long inAddress, double[] outData, int outStart,
+            int len, int byteOrder);
+
+    /**
+     * Changes the byte order of a range of an array of <code>short</code> in place.
+     * 
+     * @param data The array of <code>short</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>short</code> values to change
+     */
+    private static native void nativeSwapByteOrder(short[] data, int start, int len);
+
+    /**
+     * Changes the byte order of a range of an array of <code>char</code> in place.
+     * 
+     * @param data The array of <code>char</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>char</code> values to change
+     */
+    private static native void nativeSwapByteOrder(char[] data, int start, int len);
+
+    /**
+     * Changes the byte order of a range of an array of <code>int</code> in place.
+     * 
+     * @param data The array of <code>int</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>int</code> values to change
+     */
+    private static native void nativeSwapByteOrder(int[] data, int start, int len);
+
+    /**
+     * Changes the byte order of a range of an array of <code>float</code> in place.
+     * 
+     * @param data The array of <code>float</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>float</code> values to change
+     */
+    private static native void nativeSwapByteOrder(float[] data, int start, int len);
+
+    /**
+     * Changes the byte order of a range of an array of <code>long</code> in place.
+     * 
+     * @param data The array of <code>long</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>long</code> values to change
+     */
+    private static native void nativeSwapByteOrder(long[] data, int start, int len);
+
+    /**
+     * Changes the byte order of a range of an array of <code>double</code> in place.
+     * 
+     * @param data The array of <code>double</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>double</code> values to change
+     */
+    private static native void nativeSwapByteOrder(double[] data, int start, int len);
+
+    //
+    // Public
+    //
+
+    /** Call to ensure that the native library is loaded. */
+    public static void ensureNativeLibIsLoaded()
+    {
+    }
+
+    /**
+     * Returns <code>true</code>, if this class uses the native library and <code>false</code>
+     * otherwise.
+     */
+    public static boolean isUseNativeLib()
+    {
+        return useNativeLib;
+    }
+
+    /**
+     * Returns the engine this class uses to perform the conversions.
+     * <p>
+     * This is {@link Engine#JNI} if the native library is used, otherwise {@link Engine#UNSAFE}
+     * if the platform supports it and {@link Engine#NIO} as the last resort. Pass the property
+     * <code>nativedata.javaengine=nio</code> to the JRE to enforce {@link Engine#NIO} in
+     * <i>javamode</i>.
+     * <p>
+     * Note that even if the native library is used, very short and very long arrays are converted
+     * by the pure Java engine, see {@link #getEngine(int)}.
+     */
+    public static Engine getEngine()
+    {
+        return engine;
+    }
+
+    /**
+     * Returns the engine this class uses to convert an array of <var>len</var> elements.
+     * <p>
+     * If the native library is used, it performs the conversion only for arrays that have at least
+     * <code>nativedata.jni.minlength</code> (default: 512) and, if {@link Engine#UNSAFE} is
+     * available, at most <code>nativedata.jni.maxlength</code> (default: 16M) elements. All other
+     * arrays are converted by the pure Java engine. Both limits can be set as properties of the
+     * JRE.
+     */
+    public static Engine getEngine(int len)
+    {
+        return useJNI(len) ? Engine.JNI : javaEngine;
+    }
+
+    /**
+     * Returns the native byte order of the host running this JRE.
+     */
+    public static ByteOrder getNativeByteOrder()
+    {
+        return ByteOrder.getNativeByteOrder();
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>s</var>.
+     */
+    public static short changeByteOrder(short s)
+    {
+        return (short) ((s << 8) | ((s >> 8) & 0xff));
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>c</var>.
+     */
+    public static char changeByteOrder(char c)
+    {
+        return (char) ((c << 8) | ((c >> 8) & 0xff));
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>i</var>.
+     */
+    public static int changeByteOrder(int i)
+    {
+        return ((changeByteOrder((short) i) << 16) | (changeByteOrder((short) (i >> 16)) & 0xffff));
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>f</var>.
+     */
+    public static float changeByteOrder(float f)
+    {
+        return Float.intBitsToFloat(changeByteOrder(Float.floatToRawIntBits(f)));
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>l</var>.
+     */
+    public static long changeByteOrder(long l)
+    {
+        return (((long) changeByteOrder((int) (l)) << 32) | (changeByteOrder((int) (l >> 32)) & 0xffffffffL));
+    }
+
+    /**
+     * Changes the byte order of the bytes constituting <var>d</var>.
+     */
+    public static double changeByteOrder(double d)
+    {
+        return Double.longBitsToDouble(changeByteOrder(Double.doubleToRawLongBits(d)));
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(short[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * 
+     * @param data The array of <code>short</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>short</code> values to change
+     */
+    public static void swapByteOrder(short[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                data[i] = Short.reverseBytes(data[i]);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(char[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * 
+     * @param data The array of <code>char</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>char</code> values to change
+     */
+    public static void swapByteOrder(char[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                data[i] = Character.reverseBytes(data[i]);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(int[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * 
+     * @param data The array of <code>int</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>int</code> values to change
+     */
+    public static void swapByteOrder(int[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                data[i] = Integer.reverseBytes(data[i]);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(float[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * <p>
+     * <i>Note that in the pure Java implementation, the swapped values pass through
+     * {@link Float#intBitsToFloat(int)} and thus the bit pattern of signaling NaNs may not
+     * be preserved on all platforms.</i>
+     * 
+     * @param data The array of <code>float</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>float</code> values to change
+     */
+    public static void swapByteOrder(float[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                final int bits = Integer.reverseBytes(Float.floatToRawIntBits(data[i]));
+                data[i] = Float.intBitsToFloat(bits);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(long[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * 
+     * @param data The array of <code>long</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>long</code> values to change
+     */
+    public static void swapByteOrder(long[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                data[i] = Long.reverseBytes(data[i]);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte order of all values of <var>data</var> in place.
+     */
+    public static void swapByteOrder(double[] data)
+    {
+        swapByteOrder(data, 0, data.length);
+    }
+
+    /**
+     * Changes the byte order of the values of <var>data</var> in the range
+     * <code>[start, start + len)</code> in place.
+     * <p>
+     * <i>Note that in the pure Java implementation, the swapped values pass through
+     * {@link Double#longBitsToDouble(long)} and thus the bit pattern of signaling NaNs may not
+     * be preserved on all platforms.</i>
+     * 
+     * @param data The array of <code>double</code> values.
+     * @param start The position in <var>data</var> to start
+     * @param len The number of <code>double</code> values to change
+     */
+    public static void swapByteOrder(double[] data, int start, int len)
+    {
+        if (useJNI(len))
+        {
+            nativeSwapByteOrder(data, start, len);
+        } else
+        {
+            checkArrayRange(data.length, start, len);
+            final int end = start + len;
+            for (int i = start; i < end; ++i)
+            {
+                final long bits = Long.reverseBytes(Double.doubleToRawLongBits(data[i]));
+                data[i] = Double.longBitsToDouble(bits);
+            }
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>int</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>int</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyIntToByte(int[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyIntToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyIntToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * INT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asIntBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>int</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>int</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>int</code> to
+     *            start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToInt(byte[] inData, int inStart, int[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToInt(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToInt(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * INT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asIntBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>long</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>long</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>long</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyLongToByte(long[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyLongToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyLongToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * LONG_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asLongBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>long</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>long</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>long</code> to
+     *            start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToLong(byte[] inData, int inStart, long[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToLong(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToLong(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * LONG_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asLongBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>short</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>short</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>short</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyShortToByte(short[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyShortToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyShortToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * SHORT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asShortBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>char</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>char</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyCharToByte(char[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyCharToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyCharToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * SHORT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asCharBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>short</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>short</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
+     *            start
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToShort(byte[] inData, int inStart, short[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToShort(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToShort(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * SHORT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asShortBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>char</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>short</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
+     *            start
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToChar(byte[] inData, int inStart, char[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToChar(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToChar(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * CHAR_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asCharBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>float</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>float</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>float</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyFloatToByte(float[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyFloatToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyFloatToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * FLOAT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asFloatBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>float</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>float</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>float</code> to
+     *            start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToFloat(byte[] inData, int inStart, float[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToFloat(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToFloat(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * FLOAT_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asFloatBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>double</code> into an array of <code>byte</code>.
+     * 
+     * @param inData The input array of <code>double</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>double</code> to
+     *            start
+     * @param outData The output array of <code>byte</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     *            start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyDoubleToByte(double[] inData, int inStart, byte[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyDoubleToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyDoubleToByte(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * DOUBLE_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asDoubleBuffer().put(inData, inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>byte</code> into an array of <code>double</code>.
+     * 
+     * @param inData The input array of <code>byte</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     *            start
+     * @param outData The output array of <code>double</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>double</code> to
+     *            start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyByteToDouble(byte[] inData, int inStart, double[] outData, int outStart,
+            int len, ByteOrder byteOrder)
+    {
+        if (useJNI(len))
+        {
+            copyByteToDouble(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else if (javaEngine == Engine.UNSAFE)
+        {
+            UnsafeConverter.copyByteToDouble(inData, inStart, outData, outStart, len,
+                    isSwapNeeded(byteOrder));
+        } else
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * DOUBLE_SIZE);
+            bb.order(byteOrder.getNioByteOrder());
+            bb.asDoubleBuffer().get(outData, outStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>int</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
+     * 
+     * @param inData The input array of <code>int</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
+     *            should be in.
+     */
+    public static void copyIntToByteBuffer(int[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
+    {
+        checkBufferRange(outData, outStart, (long) len * INT_SIZE, true);
+        if (outData.hasArray())
+        {
+            copyIntToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
+        {
+            copyIntToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else
+        {
+            sliceBuffer(outData, outStart, len * INT_SIZE, byteOrder).asIntBuffer().put(inData,
+                    inStart, len);
+        }
+    }
+
+    /**
+     * Copies a range from an array of <code>int</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * INT_SIZE</code> writable bytes.</i>
+     * 
+     * @param inData The input array of <code>int</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>int</code> to
+     *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyIntToByte(int[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyIntToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>int</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>int</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>int</code> to
+     *            start
+     * @param len The number of <code>int</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
+     */
+    public static void copyByteBufferToInt(ByteBuffer inData, int inStart, int[] outData,
+            int outStart, int len, ByteOrder byteOrder)
+    {
+        checkBufferRange(inData, inStart, (long) len * INT_SIZE, false);
+        if (inData.hasArray())
+        {
+            copyByteToInt(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
+        {
+            copyByteToInt(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+        } else
+        {
+            sliceBuffer(inData, inStart, len * INT_SIZE, byteOrder).asIntBuffer().get(outData,
+                    outStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>int</code>.
+     * Copies a range from native memory into an array of <code>int</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * INT_SIZE</code> readable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
-     *            start
+     * @param inAddress The address of the native memory to read from.
      * @param outData The output array of <code>int</code> values.
      * @param outStart The start in the output array <code>byteData</code> of <code>int</code> to
      *            start
      * @param len The number of <code>int</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
      */
-    public static void copyByteToInt(byte[] inData, int inStart, int[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteToInt(long inAddress, int[] outData, int outStart, int len,
+            ByteOrder byteOrder)
     {
-        if (useNativeLib)
-        {
-            copyByteToInt(inData, inStart, outData, outStart, len, byteOrder.ordinal());
-        } else
-        {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * INT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asIntBuffer().get(outData, outStart, len);
-        }
+        checkNativeLib();
+        copyByteToInt(inAddress, outData, outStart, len, byteOrder.ordinal());
     }
 
     /**
-     * Copies a range from an array of <code>long</code> into an array of <code>byte</code>.
+     * Copies a range from an array of <code>long</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
      * 
      * @param inData The input array of <code>long</code> values.
      * @param inStart The position in the input array <code>inData</code> of <code>long</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
-     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
      * @param len The number of <code>long</code> to copy
      * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
      *            should be in.
      */
-    public static void copyLongToByte(long[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyLongToByteBuffer(long[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(outData, outStart, (long) len * LONG_SIZE, true);
+        if (outData.hasArray())
+        {
+            copyLongToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
         {
             copyLongToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * LONG_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asLongBuffer().put(inData, inStart, len);
+            sliceBuffer(outData, outStart, len * LONG_SIZE, byteOrder).asLongBuffer().put(inData,
+                    inStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>long</code>.
+     * Copies a range from an array of <code>long</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * LONG_SIZE</code> writable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     * @param inData The input array of <code>long</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>long</code> to
      *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyLongToByte(long[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyLongToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>long</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
      * @param outData The output array of <code>long</code> values.
      * @param outStart The start in the output array <code>byteData</code> of <code>long</code> to
      *            start
      * @param len The number of <code>long</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
      */
-    public static void copyByteToLong(byte[] inData, int inStart, long[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteBufferToLong(ByteBuffer inData, int inStart, long[] outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(inData, inStart, (long) len * LONG_SIZE, false);
+        if (inData.hasArray())
+        {
+            copyByteToLong(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
         {
             copyByteToLong(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * LONG_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asLongBuffer().get(outData, outStart, len);
+            sliceBuffer(inData, inStart, len * LONG_SIZE, byteOrder).asLongBuffer().get(outData,
+                    outStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>short</code> into an array of <code>byte</code>.
+     * Copies a range from native memory into an array of <code>long</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * LONG_SIZE</code> readable bytes.</i>
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>long</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>long</code> to
+     *            start
+     * @param len The number of <code>long</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyByteToLong(long inAddress, long[] outData, int outStart, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyByteToLong(inAddress, outData, outStart, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from an array of <code>short</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
      * 
      * @param inData The input array of <code>short</code> values.
      * @param inStart The position in the input array <code>inData</code> of <code>short</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
-     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
      * @param len The number of <code>short</code> to copy
      * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
      *            should be in.
      */
-    public static void copyShortToByte(short[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyShortToByteBuffer(short[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(outData, outStart, (long) len * SHORT_SIZE, true);
+        if (outData.hasArray())
+        {
+            copyShortToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
         {
             copyShortToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * SHORT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asShortBuffer().put(inData, inStart, len);
+            sliceBuffer(outData, outStart, len * SHORT_SIZE, byteOrder).asShortBuffer().put(inData,
+                    inStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>char</code> into an array of <code>byte</code>.
+     * Copies a range from an array of <code>short</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * SHORT_SIZE</code> writable bytes.</i>
      * 
-     * @param inData The input array of <code>char</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
+     * @param inData The input array of <code>short</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>short</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyShortToByte(short[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyShortToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>short</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>short</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
      *            start
-     * @param len The number of <code>char</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
      */
-    public static void copyCharToByte(char[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteBufferToShort(ByteBuffer inData, int inStart, short[] outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(inData, inStart, (long) len * SHORT_SIZE, false);
+        if (inData.hasArray())
         {
-            copyCharToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+            copyByteToShort(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
+        {
+            copyByteToShort(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * SHORT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asCharBuffer().put(inData, inStart, len);
+            sliceBuffer(inData, inStart, len * SHORT_SIZE, byteOrder).asShortBuffer().get(outData,
+                    outStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>short</code>.
+     * Copies a range from native memory into an array of <code>short</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * SHORT_SIZE</code> readable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
-     *            start
+     * @param inAddress The address of the native memory to read from.
      * @param outData The output array of <code>short</code> values.
      * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
      *            start
      * @param len The number of <code>short</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyByteToShort(long inAddress, short[] outData, int outStart, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyByteToShort(inAddress, outData, outStart, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from an array of <code>char</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
+     * 
+     * @param inData The input array of <code>char</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
+     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
+     * @param len The number of <code>char</code> to copy
      * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
      *            should be in.
      */
-    public static void copyByteToShort(byte[] inData, int inStart, short[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyCharToByteBuffer(char[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(outData, outStart, (long) len * CHAR_SIZE, true);
+        if (outData.hasArray())
         {
-            copyByteToShort(inData, inStart, outData, outStart, len, byteOrder.ordinal());
+            copyCharToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
+        {
+            copyCharToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * SHORT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asShortBuffer().get(outData, outStart, len);
+            sliceBuffer(outData, outStart, len * CHAR_SIZE, byteOrder).asCharBuffer().put(inData,
+                    inStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>char</code>.
+     * Copies a range from an array of <code>char</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * CHAR_SIZE</code> writable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     * @param inData The input array of <code>char</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>char</code> to
      *            start
-     * @param outData The output array of <code>short</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>short</code> to
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyCharToByte(char[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyCharToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>char</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
+     * @param outData The output array of <code>char</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>char</code> to
      *            start
-     * @param len The number of <code>short</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
      */
-    public static void copyByteToChar(byte[] inData, int inStart, char[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteBufferToChar(ByteBuffer inData, int inStart, char[] outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(inData, inStart, (long) len * CHAR_SIZE, false);
+        if (inData.hasArray())
+        {
+            copyByteToChar(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
         {
             copyByteToChar(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * CHAR_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asCharBuffer().get(outData, outStart, len);
+            sliceBuffer(inData, inStart, len * CHAR_SIZE, byteOrder).asCharBuffer().get(outData,
+                    outStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>float</code> into an array of <code>byte</code>.
+     * Copies a range from native memory into an array of <code>char</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * CHAR_SIZE</code> readable bytes.</i>
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>char</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>char</code> to
+     *            start
+     * @param len The number of <code>char</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyByteToChar(long inAddress, char[] outData, int outStart, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyByteToChar(inAddress, outData, outStart, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from an array of <code>float</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
      * 
      * @param inData The input array of <code>float</code> values.
      * @param inStart The position in the input array <code>inData</code> of <code>float</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
-     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
      * @param len The number of <code>float</code> to copy
      * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
      *            should be in.
      */
-    public static void copyFloatToByte(float[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyFloatToByteBuffer(float[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(outData, outStart, (long) len * FLOAT_SIZE, true);
+        if (outData.hasArray())
+        {
+            copyFloatToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
         {
             copyFloatToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * FLOAT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asFloatBuffer().put(inData, inStart, len);
+            sliceBuffer(outData, outStart, len * FLOAT_SIZE, byteOrder).asFloatBuffer().put(inData,
+                    inStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>float</code>.
+     * Copies a range from an array of <code>float</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * FLOAT_SIZE</code> writable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     * @param inData The input array of <code>float</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>float</code> to
      *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyFloatToByte(float[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyFloatToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>float</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
      * @param outData The output array of <code>float</code> values.
      * @param outStart The start in the output array <code>byteData</code> of <code>float</code> to
      *            start
      * @param len The number of <code>float</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
      */
-    public static void copyByteToFloat(byte[] inData, int inStart, float[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteBufferToFloat(ByteBuffer inData, int inStart, float[] outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(inData, inStart, (long) len * FLOAT_SIZE, false);
+        if (inData.hasArray())
+        {
+            copyByteToFloat(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
         {
             copyByteToFloat(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * FLOAT_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asFloatBuffer().get(outData, outStart, len);
+            sliceBuffer(inData, inStart, len * FLOAT_SIZE, byteOrder).asFloatBuffer().get(outData,
+                    outStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>double</code> into an array of <code>byte</code>.
+     * Copies a range from native memory into an array of <code>float</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * FLOAT_SIZE</code> readable bytes.</i>
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>float</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>float</code> to
+     *            start
+     * @param len The number of <code>float</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyByteToFloat(long inAddress, float[] outData, int outStart, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyByteToFloat(inAddress, outData, outStart, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from an array of <code>double</code> into a {@link ByteBuffer}.
+     * <p>
+     * The position, limit and byte order of <var>outData</var> are not changed. If
+     * <var>outData</var> is a direct buffer, the values are written straight into its memory.
      * 
      * @param inData The input array of <code>double</code> values.
      * @param inStart The position in the input array <code>inData</code> of <code>double</code> to
      *            start
-     * @param outData The output array of <code>byte</code> values.
-     * @param outStart The start in the output array <code>byteData</code> of <code>byte</code> to
-     *            start
+     * @param outData The output buffer.
+     * @param outStart The absolute index in the output buffer <code>outData</code> of
+     *            <code>byte</code> to start
      * @param len The number of <code>double</code> to copy
      * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
      *            should be in.
      */
-    public static void copyDoubleToByte(double[] inData, int inStart, byte[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyDoubleToByteBuffer(double[] inData, int inStart, ByteBuffer outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(outData, outStart, (long) len * DOUBLE_SIZE, true);
+        if (outData.hasArray())
+        {
+            copyDoubleToByte(inData, inStart, outData.array(), outData.arrayOffset() + outStart,
+                    len, byteOrder);
+        } else if (useJNI(len) && outData.isDirect())
         {
             copyDoubleToByte(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(outData, outStart, len * DOUBLE_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asDoubleBuffer().put(inData, inStart, len);
+            sliceBuffer(outData, outStart, len * DOUBLE_SIZE, byteOrder).asDoubleBuffer().put(
+                    inData, inStart, len);
         }
     }
 
     /**
-     * Copies a range from an array of <code>byte</code> into an array of <code>double</code>.
+     * Copies a range from an array of <code>double</code> into native memory.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>outAddress</var> pointing to at least <code>len * DOUBLE_SIZE</code> writable bytes.</i>
      * 
-     * @param inData The input array of <code>byte</code> values.
-     * @param inStart The position in the input array <code>inData</code> of <code>byte</code> to
+     * @param inData The input array of <code>double</code> values.
+     * @param inStart The position in the input array <code>inData</code> of <code>double</code> to
      *            start
+     * @param outAddress The address of the native memory to write to.
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the
+     *            <var>outAddress</var> should be in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyDoubleToByte(double[] inData, int inStart, long outAddress, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyDoubleToByte(inData, inStart, outAddress, len, byteOrder.ordinal());
+    }
+
+    /**
+     * Copies a range from a {@link ByteBuffer} into an array of <code>double</code>.
+     * <p>
+     * The position, limit and byte order of <var>inData</var> are not changed. If
+     * <var>inData</var> is a direct buffer, the values are read straight from its memory.
+     * 
+     * @param inData The input buffer.
+     * @param inStart The absolute index in the input buffer <code>inData</code> of
+     *            <code>byte</code> to start
      * @param outData The output array of <code>double</code> values.
      * @param outStart The start in the output array <code>byteData</code> of <code>double</code> to
      *            start
      * @param len The number of <code>double</code> to copy
-     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>outData</var>
-     *            should be in.
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inData</var> is
+     *            in.
      */
-    public static void copyByteToDouble(byte[] inData, int inStart, double[] outData, int outStart,
-            int len, ByteOrder byteOrder)
+    public static void copyByteBufferToDouble(ByteBuffer inData, int inStart, double[] outData,
+            int outStart, int len, ByteOrder byteOrder)
     {
-        if (useNativeLib)
+        checkBufferRange(inData, inStart, (long) len * DOUBLE_SIZE, false);
+        if (inData.hasArray())
+        {
+            copyByteToDouble(inData.array(), inData.arrayOffset() + inStart, outData, outStart, len,
+                    byteOrder);
+        } else if (useJNI(len) && inData.isDirect())
         {
             copyByteToDouble(inData, inStart, outData, outStart, len, byteOrder.ordinal());
         } else
         {
-            final ByteBuffer bb = ByteBuffer.wrap(inData, inStart, len * DOUBLE_SIZE);
-            bb.order(byteOrder.getNioByteOrder());
-            bb.asDoubleBuffer().get(outData, outStart, len);
+            sliceBuffer(inData, inStart, len * DOUBLE_SIZE, byteOrder).asDoubleBuffer().get(outData,
+                    outStart, len);
         }
     }
 
+    /**
+     * Copies a range from native memory into an array of <code>double</code>.
+     * <p>
+     * <i>This method requires the native library. The caller is responsible for
+     * <var>inAddress</var> pointing to at least <code>len * DOUBLE_SIZE</code> readable bytes.</i>
+     * 
+     * @param inAddress The address of the native memory to read from.
+     * @param outData The output array of <code>double</code> values.
+     * @param outStart The start in the output array <code>byteData</code> of <code>double</code> to
+     *            start
+     * @param len The number of <code>double</code> to copy
+     * @param byteOrder The {@link ByteOrder}, encoding what byte order the <var>inAddress</var>
+     *            is in.
+     * @throws UnsupportedOperationException If the native library is not available.
+     */
+    public static void copyByteToDouble(long inAddress, double[] outData, int outStart, int len,
+            ByteOrder byteOrder)
+    {
+        checkNativeLib();
+        copyByteToDouble(inAddress, outData, outStart, len, byteOrder.ordinal());
+    }
+
     /**
      * Converts a <code>byte[]</code> array into a <code>char[]</code> array.
      * 
@@ -1083,4 +2499,50 @@ public class NativeData
         return byteArr;
     }
 
+    private static boolean isSwapNeeded(ByteOrder byteOrder)
+    {
+        return byteOrder.getNioByteOrder() != java.nio.ByteOrder.nativeOrder();
+    }
+
+    private static void checkNativeLib()
+    {
+        if (useNativeLib == false)
+        {
+            throw new UnsupportedOperationException(
+                    "Access to native memory addresses requires the native library.");
+        }
+    }
+
+    private static void checkArrayRange(int arrayLength, int start, int len)
+    {
+        if (start < 0 || len < 0 || start > arrayLength - len)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + start + " + " + len
+                    + ") out of bounds for length " + arrayLength);
+        }
+    }
+
+    private static void checkBufferRange(ByteBuffer buffer, int start, long lenInBytes,
+            boolean forWriting)
+    {
+        if (forWriting && buffer.isReadOnly())
+        {
+            throw new java.nio.ReadOnlyBufferException();
+        }
+        if (start < 0 || lenInBytes < 0 || start > buffer.limit() - lenInBytes)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + start + " + "
+                    + lenInBytes + ") out of bounds for buffer limit " + buffer.limit());
+        }
+    }
+
+    private static ByteBuffer sliceBuffer(ByteBuffer buffer, int start, int lenInBytes,
+            ByteOrder byteOrder)
+    {
+        final ByteBuffer bb = buffer.duplicate();
+        bb.limit(start + lenInBytes);
+        bb.position(start);
+        return bb.slice().order(byteOrder.getNioByteOrder());
+    }
+
 }
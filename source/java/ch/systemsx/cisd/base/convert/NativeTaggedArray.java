@@ -22,8 +22,24 @@ import static ch.systemsx.cisd.base.convert.NativeData.INT_SIZE;
 import static ch.systemsx.cisd.base.convert.NativeData.LONG_SIZE;
 import static ch.systemsx.cisd.base.convert.NativeData.SHORT_SIZE;
 
+import java.io.EOFException;
+import java.util.Arrays;
+
 import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.io.IInputStream;
+import ch.systemsx.cisd.base.io.IOutputStream;
+import ch.systemsx.cisd.base.mdarray.IMDDoubleStorage;
+import ch.systemsx.cisd.base.mdarray.IMDFloatStorage;
+import ch.systemsx.cisd.base.mdarray.IMDIntStorage;
+import ch.systemsx.cisd.base.mdarray.IMDLongStorage;
+import ch.systemsx.cisd.base.mdarray.IMDShortStorage;
 import ch.systemsx.cisd.base.mdarray.MDAbstractArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedDoubleArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedFloatArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedIntArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedLongArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedShortArray;
 import ch.systemsx.cisd.base.mdarray.MDDoubleArray;
 import ch.systemsx.cisd.base.mdarray.MDFloatArray;
 import ch.systemsx.cisd.base.mdarray.MDIntArray;
@@ -55,6 +71,8 @@ public class NativeTaggedArray
 
     private static final int RANK_1 = 1;
 
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
     /**
      * A class to return the array encoding and dimensions of a native tagged array.
      */
@@ -105,6 +123,99 @@ public class NativeTaggedArray
         return new NativeArrayTag(encodingOrNull, dimensions);
     }
 
+    /**
+     * Reads the header of a native tagged array from <var>in</var> and returns its array tag, or
+     * <code>null</code>, if <var>in</var> does not start with a native tagged array. Afterwards,
+     * <var>in</var> is positioned at the start of the array data.
+     */
+    public static NativeArrayTag tryReadArrayTag(IInputStream in)
+    {
+        final byte[] start = new byte[MAGIC_SIZE + RANK_SIZE];
+        readFully(in, start, start.length);
+        final int rank = start[RANK_INDEX];
+        if (rank < RANK_1)
+        {
+            return null;
+        }
+        final byte[] header = new byte[getHeaderSize(rank)];
+        System.arraycopy(start, 0, header, 0, start.length);
+        if (NativeArrayEncoding.tryGetEncoding(header) == null)
+        {
+            return null;
+        }
+        readFully(in, header, LENGTH_INDEX, rank * LENGTH_SIZE);
+        return tryGetArrayTag(header);
+    }
+
+    /**
+     * Returns the size of the header of a native tagged array of <var>rank</var> (in bytes).
+     */
+    static int getHeaderSize(int rank)
+    {
+        return MAGIC_SIZE + RANK_SIZE + rank * LENGTH_SIZE;
+    }
+
+    private static void writeHeader(IOutputStream out, NativeArrayEncoding encoding,
+            int[] dimensions, ByteOrder byteOrder)
+    {
+        final byte[] magic = encoding.getMagic();
+        assert magic.length == MAGIC_SIZE;
+        final byte rank = (byte) dimensions.length;
+        final byte[] header = new byte[getHeaderSize(rank)];
+        System.arraycopy(magic, 0, header, 0, MAGIC_SIZE);
+        header[RANK_INDEX] = rank;
+        NativeData.copyIntToByte(dimensions, 0, header, LENGTH_INDEX, rank, byteOrder);
+        out.write(header);
+    }
+
+    /**
+     * Returns the number of elements of an array with the <var>dimensions</var> of a header.
+     * 
+     * @throws IllegalArgumentException If a dimension is negative or the number of elements
+     *             overflows the <code>int</code> type.
+     */
+    private static int getLength(int[] dimensions)
+    {
+        for (int dimension : dimensions)
+        {
+            if (dimension < 0)
+            {
+                throw new IllegalArgumentException("Negative dimension in "
+                        + Arrays.toString(dimensions));
+            }
+        }
+        return MDAbstractArray.getLength(dimensions);
+    }
+
+    /**
+     * Returns the new length of an array of <var>length</var> elements that is filled up to
+     * <var>maxLength</var> elements: twice the length, but not more than <var>maxLength</var>.
+     */
+    private static int grow(int length, int maxLength)
+    {
+        return (int) Math.min(2L * length, maxLength);
+    }
+
+    private static void readFully(IInputStream in, byte[] buf, int len)
+    {
+        readFully(in, buf, 0, len);
+    }
+
+    private static void readFully(IInputStream in, byte[] buf, int off, int len)
+    {
+        int pos = off;
+        final int end = off + len;
+        while (pos < end)
+        {
+            final int n = in.read(buf, pos, end - pos);
+            if (n < 0)
+            {
+                throw new IOExceptionUnchecked(new EOFException("Premature end of tagged array."));
+            }
+            pos += n;
+        }
+    }
+
     //
     // Float
     //
@@ -217,6 +328,203 @@ public class NativeTaggedArray
         return new MDFloatArray(intData, dimensions);
     }
 
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, float[] data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, float[] data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) FLOAT_SIZE);
+        writeHeader(out, encoding, new int[]
+            { data.length }, byteOrder);
+        writeData(out, data, data.length, byteOrder);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, MDFloatArray data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, MDFloatArray data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) FLOAT_SIZE);
+        writeHeader(out, encoding, data.dimensions(), byteOrder);
+        writeData(out, data.getAsFlatArray(), data.size(), byteOrder);
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDFloatArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) float
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDFloatArray tryReadFloatArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadFloatArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> and
+     * returns it as a {@link MDFloatArray}, or <code>null</code>, if <var>tag</var> does not
+     * describe a float array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     * <p>
+     * The array grows as the data arrive, so a corrupt header or truncated data cannot force an
+     * allocation of the declared size.
+     */
+    public static MDFloatArray tryReadFloatArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isInteger() || encoding.getSizeInBytes() != FLOAT_SIZE)
+        {
+            return null;
+        }
+        final float[] data =
+                readFloatData(in, getLength(tag.getDimensions()), encoding.getByteOrder());
+        return new MDFloatArray(data, tag.getDimensions());
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, IMDFloatStorage data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The chunks
+     * of an {@link MDChunkedFloatArray} are converted one by one, other storages are copied out
+     * in blocks, so arrays of more than <code>Integer.MAX_VALUE</code> elements can be written.
+     */
+    public static void writeTo(IOutputStream out, IMDFloatStorage data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) FLOAT_SIZE);
+        writeHeader(out, encoding, MDAbstractArray.toInt(data.longDimensions()), byteOrder);
+        if (data instanceof MDChunkedFloatArray)
+        {
+            final MDChunkedFloatArray chunkedData = (MDChunkedFloatArray) data;
+            for (int i = 0; i < chunkedData.getNumberOfChunks(); ++i)
+            {
+                final float[] chunk = chunkedData.getChunk(i);
+                writeData(out, chunk, chunk.length, byteOrder);
+            }
+        } else
+        {
+            writeData(out, data, byteOrder);
+        }
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDChunkedFloatArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) float
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDChunkedFloatArray tryReadChunkedFloatArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadChunkedFloatArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> chunk by
+     * chunk and returns it as a {@link MDChunkedFloatArray}, or <code>null</code>, if
+     * <var>tag</var> does not describe a float array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     */
+    public static MDChunkedFloatArray tryReadChunkedFloatArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isInteger() || encoding.getSizeInBytes() != FLOAT_SIZE)
+        {
+            return null;
+        }
+        final MDChunkedFloatArray array =
+                new MDChunkedFloatArray(MDAbstractArray.toLong(tag.getDimensions()));
+        for (int i = 0; i < array.getNumberOfChunks(); ++i)
+        {
+            final float[] chunk = array.getChunk(i);
+            readData(in, chunk, encoding.getByteOrder());
+        }
+        return array;
+    }
+
+    private static void writeData(IOutputStream out, float[] data, int length,
+            ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / FLOAT_SIZE);
+        final byte[] chunk = new byte[chunkLength * FLOAT_SIZE];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            NativeData.copyFloatToByte(data, start, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * FLOAT_SIZE);
+        }
+    }
+
+    private static void writeData(IOutputStream out, IMDFloatStorage data, ByteOrder byteOrder)
+    {
+        final long size = data.longSize();
+        final int chunkLength = (int) Math.min(size, STREAM_CHUNK_SIZE / FLOAT_SIZE);
+        final float[] values = new float[chunkLength];
+        final byte[] chunk = new byte[chunkLength * FLOAT_SIZE];
+        for (long start = 0; start < size; start += chunkLength)
+        {
+            final int len = (int) Math.min(chunkLength, size - start);
+            data.copyTo(start, values, 0, len);
+            NativeData.copyFloatToByte(values, 0, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * FLOAT_SIZE);
+        }
+    }
+
+    private static void readData(IInputStream in, float[] data, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(data.length, STREAM_CHUNK_SIZE / FLOAT_SIZE);
+        final byte[] chunk = new byte[chunkLength * FLOAT_SIZE];
+        for (int start = 0; start < data.length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, data.length - start);
+            readFully(in, chunk, len * FLOAT_SIZE);
+            NativeData.copyByteToFloat(chunk, 0, data, start, len, byteOrder);
+        }
+    }
+
+    private static float[] readFloatData(IInputStream in, int length, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / FLOAT_SIZE);
+        final byte[] chunk = new byte[chunkLength * FLOAT_SIZE];
+        float[] data = new float[chunkLength];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            readFully(in, chunk, len * FLOAT_SIZE);
+            if (start + len > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, length));
+            }
+            NativeData.copyByteToFloat(chunk, 0, data, start, len, byteOrder);
+        }
+        return data;
+    }
+
     //
     // Double
     //
@@ -329,6 +637,204 @@ public class NativeTaggedArray
         return new MDDoubleArray(intData, dimensions);
     }
 
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, double[] data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, double[] data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) DOUBLE_SIZE);
+        writeHeader(out, encoding, new int[]
+            { data.length }, byteOrder);
+        writeData(out, data, data.length, byteOrder);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, MDDoubleArray data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, MDDoubleArray data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) DOUBLE_SIZE);
+        writeHeader(out, encoding, data.dimensions(), byteOrder);
+        writeData(out, data.getAsFlatArray(), data.size(), byteOrder);
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDDoubleArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) double
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDDoubleArray tryReadDoubleArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadDoubleArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> and
+     * returns it as a {@link MDDoubleArray}, or <code>null</code>, if <var>tag</var> does not
+     * describe a double array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     * <p>
+     * The array grows as the data arrive, so a corrupt header or truncated data cannot force an
+     * allocation of the declared size.
+     */
+    public static MDDoubleArray tryReadDoubleArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isInteger() || encoding.getSizeInBytes() != DOUBLE_SIZE)
+        {
+            return null;
+        }
+        final double[] data =
+                readDoubleData(in, getLength(tag.getDimensions()), encoding.getByteOrder());
+        return new MDDoubleArray(data, tag.getDimensions());
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, IMDDoubleStorage data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The chunks
+     * of an {@link MDChunkedDoubleArray} are converted one by one, other storages are copied out
+     * in blocks, so arrays of more than <code>Integer.MAX_VALUE</code> elements can be written.
+     */
+    public static void writeTo(IOutputStream out, IMDDoubleStorage data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetFloatEncoding(byteOrder, (byte) DOUBLE_SIZE);
+        writeHeader(out, encoding, MDAbstractArray.toInt(data.longDimensions()), byteOrder);
+        if (data instanceof MDChunkedDoubleArray)
+        {
+            final MDChunkedDoubleArray chunkedData = (MDChunkedDoubleArray) data;
+            for (int i = 0; i < chunkedData.getNumberOfChunks(); ++i)
+            {
+                final double[] chunk = chunkedData.getChunk(i);
+                writeData(out, chunk, chunk.length, byteOrder);
+            }
+        } else
+        {
+            writeData(out, data, byteOrder);
+        }
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDChunkedDoubleArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) double
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDChunkedDoubleArray tryReadChunkedDoubleArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadChunkedDoubleArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> chunk by
+     * chunk and returns it as a {@link MDChunkedDoubleArray}, or <code>null</code>, if
+     * <var>tag</var> does not describe a double array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     */
+    public static MDChunkedDoubleArray tryReadChunkedDoubleArray(IInputStream in,
+            NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isInteger() || encoding.getSizeInBytes() != DOUBLE_SIZE)
+        {
+            return null;
+        }
+        final MDChunkedDoubleArray array =
+                new MDChunkedDoubleArray(MDAbstractArray.toLong(tag.getDimensions()));
+        for (int i = 0; i < array.getNumberOfChunks(); ++i)
+        {
+            final double[] chunk = array.getChunk(i);
+            readData(in, chunk, encoding.getByteOrder());
+        }
+        return array;
+    }
+
+    private static void writeData(IOutputStream out, double[] data, int length,
+            ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / DOUBLE_SIZE);
+        final byte[] chunk = new byte[chunkLength * DOUBLE_SIZE];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            NativeData.copyDoubleToByte(data, start, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * DOUBLE_SIZE);
+        }
+    }
+
+    private static void writeData(IOutputStream out, IMDDoubleStorage data, ByteOrder byteOrder)
+    {
+        final long size = data.longSize();
+        final int chunkLength = (int) Math.min(size, STREAM_CHUNK_SIZE / DOUBLE_SIZE);
+        final double[] values = new double[chunkLength];
+        final byte[] chunk = new byte[chunkLength * DOUBLE_SIZE];
+        for (long start = 0; start < size; start += chunkLength)
+        {
+            final int len = (int) Math.min(chunkLength, size - start);
+            data.copyTo(start, values, 0, len);
+            NativeData.copyDoubleToByte(values, 0, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * DOUBLE_SIZE);
+        }
+    }
+
+    private static void readData(IInputStream in, double[] data, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(data.length, STREAM_CHUNK_SIZE / DOUBLE_SIZE);
+        final byte[] chunk = new byte[chunkLength * DOUBLE_SIZE];
+        for (int start = 0; start < data.length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, data.length - start);
+            readFully(in, chunk, len * DOUBLE_SIZE);
+            NativeData.copyByteToDouble(chunk, 0, data, start, len, byteOrder);
+        }
+    }
+
+    private static double[] readDoubleData(IInputStream in, int length, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / DOUBLE_SIZE);
+        final byte[] chunk = new byte[chunkLength * DOUBLE_SIZE];
+        double[] data = new double[chunkLength];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            readFully(in, chunk, len * DOUBLE_SIZE);
+            if (start + len > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, length));
+            }
+            NativeData.copyByteToDouble(chunk, 0, data, start, len, byteOrder);
+        }
+        return data;
+    }
+
     //
     // Short
     //
@@ -443,6 +949,203 @@ public class NativeTaggedArray
         return new MDShortArray(intData, dimensions);
     }
 
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, short[] data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, short[] data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) SHORT_SIZE);
+        writeHeader(out, encoding, new int[]
+            { data.length }, byteOrder);
+        writeData(out, data, data.length, byteOrder);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, MDShortArray data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, MDShortArray data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) SHORT_SIZE);
+        writeHeader(out, encoding, data.dimensions(), byteOrder);
+        writeData(out, data.getAsFlatArray(), data.size(), byteOrder);
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDShortArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) short
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDShortArray tryReadShortArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadShortArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> and
+     * returns it as a {@link MDShortArray}, or <code>null</code>, if <var>tag</var> does not
+     * describe a short array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     * <p>
+     * The array grows as the data arrive, so a corrupt header or truncated data cannot force an
+     * allocation of the declared size.
+     */
+    public static MDShortArray tryReadShortArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != SHORT_SIZE)
+        {
+            return null;
+        }
+        final short[] data =
+                readShortData(in, getLength(tag.getDimensions()), encoding.getByteOrder());
+        return new MDShortArray(data, tag.getDimensions());
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, IMDShortStorage data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The chunks
+     * of an {@link MDChunkedShortArray} are converted one by one, other storages are copied out
+     * in blocks, so arrays of more than <code>Integer.MAX_VALUE</code> elements can be written.
+     */
+    public static void writeTo(IOutputStream out, IMDShortStorage data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) SHORT_SIZE);
+        writeHeader(out, encoding, MDAbstractArray.toInt(data.longDimensions()), byteOrder);
+        if (data instanceof MDChunkedShortArray)
+        {
+            final MDChunkedShortArray chunkedData = (MDChunkedShortArray) data;
+            for (int i = 0; i < chunkedData.getNumberOfChunks(); ++i)
+            {
+                final short[] chunk = chunkedData.getChunk(i);
+                writeData(out, chunk, chunk.length, byteOrder);
+            }
+        } else
+        {
+            writeData(out, data, byteOrder);
+        }
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDChunkedShortArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) short
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDChunkedShortArray tryReadChunkedShortArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadChunkedShortArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> chunk by
+     * chunk and returns it as a {@link MDChunkedShortArray}, or <code>null</code>, if
+     * <var>tag</var> does not describe a short array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     */
+    public static MDChunkedShortArray tryReadChunkedShortArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != SHORT_SIZE)
+        {
+            return null;
+        }
+        final MDChunkedShortArray array =
+                new MDChunkedShortArray(MDAbstractArray.toLong(tag.getDimensions()));
+        for (int i = 0; i < array.getNumberOfChunks(); ++i)
+        {
+            final short[] chunk = array.getChunk(i);
+            readData(in, chunk, encoding.getByteOrder());
+        }
+        return array;
+    }
+
+    private static void writeData(IOutputStream out, short[] data, int length,
+            ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / SHORT_SIZE);
+        final byte[] chunk = new byte[chunkLength * SHORT_SIZE];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            NativeData.copyShortToByte(data, start, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * SHORT_SIZE);
+        }
+    }
+
+    private static void writeData(IOutputStream out, IMDShortStorage data, ByteOrder byteOrder)
+    {
+        final long size = data.longSize();
+        final int chunkLength = (int) Math.min(size, STREAM_CHUNK_SIZE / SHORT_SIZE);
+        final short[] values = new short[chunkLength];
+        final byte[] chunk = new byte[chunkLength * SHORT_SIZE];
+        for (long start = 0; start < size; start += chunkLength)
+        {
+            final int len = (int) Math.min(chunkLength, size - start);
+            data.copyTo(start, values, 0, len);
+            NativeData.copyShortToByte(values, 0, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * SHORT_SIZE);
+        }
+    }
+
+    private static void readData(IInputStream in, short[] data, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(data.length, STREAM_CHUNK_SIZE / SHORT_SIZE);
+        final byte[] chunk = new byte[chunkLength * SHORT_SIZE];
+        for (int start = 0; start < data.length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, data.length - start);
+            readFully(in, chunk, len * SHORT_SIZE);
+            NativeData.copyByteToShort(chunk, 0, data, start, len, byteOrder);
+        }
+    }
+
+    private static short[] readShortData(IInputStream in, int length, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / SHORT_SIZE);
+        final byte[] chunk = new byte[chunkLength * SHORT_SIZE];
+        short[] data = new short[chunkLength];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            readFully(in, chunk, len * SHORT_SIZE);
+            if (start + len > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, length));
+            }
+            NativeData.copyByteToShort(chunk, 0, data, start, len, byteOrder);
+        }
+        return data;
+    }
+
     //
     // Int
     //
@@ -555,6 +1258,203 @@ public class NativeTaggedArray
         return new MDIntArray(intData, dimensions);
     }
 
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, int[] data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, int[] data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) INT_SIZE);
+        writeHeader(out, encoding, new int[]
+            { data.length }, byteOrder);
+        writeData(out, data, data.length, byteOrder);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, MDIntArray data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, MDIntArray data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) INT_SIZE);
+        writeHeader(out, encoding, data.dimensions(), byteOrder);
+        writeData(out, data.getAsFlatArray(), data.size(), byteOrder);
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDIntArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) int
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDIntArray tryReadIntArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadIntArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> and
+     * returns it as a {@link MDIntArray}, or <code>null</code>, if <var>tag</var> does not
+     * describe an int array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     * <p>
+     * The array grows as the data arrive, so a corrupt header or truncated data cannot force an
+     * allocation of the declared size.
+     */
+    public static MDIntArray tryReadIntArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != INT_SIZE)
+        {
+            return null;
+        }
+        final int[] data =
+                readIntData(in, getLength(tag.getDimensions()), encoding.getByteOrder());
+        return new MDIntArray(data, tag.getDimensions());
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, IMDIntStorage data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The chunks
+     * of an {@link MDChunkedIntArray} are converted one by one, other storages are copied out
+     * in blocks, so arrays of more than <code>Integer.MAX_VALUE</code> elements can be written.
+     */
+    public static void writeTo(IOutputStream out, IMDIntStorage data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) INT_SIZE);
+        writeHeader(out, encoding, MDAbstractArray.toInt(data.longDimensions()), byteOrder);
+        if (data instanceof MDChunkedIntArray)
+        {
+            final MDChunkedIntArray chunkedData = (MDChunkedIntArray) data;
+            for (int i = 0; i < chunkedData.getNumberOfChunks(); ++i)
+            {
+                final int[] chunk = chunkedData.getChunk(i);
+                writeData(out, chunk, chunk.length, byteOrder);
+            }
+        } else
+        {
+            writeData(out, data, byteOrder);
+        }
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDChunkedIntArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) int
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDChunkedIntArray tryReadChunkedIntArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadChunkedIntArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> chunk by
+     * chunk and returns it as a {@link MDChunkedIntArray}, or <code>null</code>, if
+     * <var>tag</var> does not describe a int array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     */
+    public static MDChunkedIntArray tryReadChunkedIntArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != INT_SIZE)
+        {
+            return null;
+        }
+        final MDChunkedIntArray array =
+                new MDChunkedIntArray(MDAbstractArray.toLong(tag.getDimensions()));
+        for (int i = 0; i < array.getNumberOfChunks(); ++i)
+        {
+            final int[] chunk = array.getChunk(i);
+            readData(in, chunk, encoding.getByteOrder());
+        }
+        return array;
+    }
+
+    private static void writeData(IOutputStream out, int[] data, int length,
+            ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / INT_SIZE);
+        final byte[] chunk = new byte[chunkLength * INT_SIZE];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            NativeData.copyIntToByte(data, start, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * INT_SIZE);
+        }
+    }
+
+    private static void writeData(IOutputStream out, IMDIntStorage data, ByteOrder byteOrder)
+    {
+        final long size = data.longSize();
+        final int chunkLength = (int) Math.min(size, STREAM_CHUNK_SIZE / INT_SIZE);
+        final int[] values = new int[chunkLength];
+        final byte[] chunk = new byte[chunkLength * INT_SIZE];
+        for (long start = 0; start < size; start += chunkLength)
+        {
+            final int len = (int) Math.min(chunkLength, size - start);
+            data.copyTo(start, values, 0, len);
+            NativeData.copyIntToByte(values, 0, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * INT_SIZE);
+        }
+    }
+
+    private static void readData(IInputStream in, int[] data, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(data.length, STREAM_CHUNK_SIZE / INT_SIZE);
+        final byte[] chunk = new byte[chunkLength * INT_SIZE];
+        for (int start = 0; start < data.length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, data.length - start);
+            readFully(in, chunk, len * INT_SIZE);
+            NativeData.copyByteToInt(chunk, 0, data, start, len, byteOrder);
+        }
+    }
+
+    private static int[] readIntData(IInputStream in, int length, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / INT_SIZE);
+        final byte[] chunk = new byte[chunkLength * INT_SIZE];
+        int[] data = new int[chunkLength];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            readFully(in, chunk, len * INT_SIZE);
+            if (start + len > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, length));
+            }
+            NativeData.copyByteToInt(chunk, 0, data, start, len, byteOrder);
+        }
+        return data;
+    }
+
     //
     // Long
     //
@@ -669,4 +1569,201 @@ public class NativeTaggedArray
         return new MDLongArray(longData, dimensions);
     }
 
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, long[] data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, long[] data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) LONG_SIZE);
+        writeHeader(out, encoding, new int[]
+            { data.length }, byteOrder);
+        writeData(out, data, data.length, byteOrder);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, MDLongArray data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The data
+     * are converted in chunks, so no byte array of the full size is allocated.
+     */
+    public static void writeTo(IOutputStream out, MDLongArray data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) LONG_SIZE);
+        writeHeader(out, encoding, data.dimensions(), byteOrder);
+        writeData(out, data.getAsFlatArray(), data.size(), byteOrder);
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDLongArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) long
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDLongArray tryReadLongArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadLongArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> and
+     * returns it as a {@link MDLongArray}, or <code>null</code>, if <var>tag</var> does not
+     * describe a long array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     * <p>
+     * The array grows as the data arrive, so a corrupt header or truncated data cannot force an
+     * allocation of the declared size.
+     */
+    public static MDLongArray tryReadLongArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != LONG_SIZE)
+        {
+            return null;
+        }
+        final long[] data =
+                readLongData(in, getLength(tag.getDimensions()), encoding.getByteOrder());
+        return new MDLongArray(data, tag.getDimensions());
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in native byte order to <var>out</var>.
+     */
+    public static void writeTo(IOutputStream out, IMDLongStorage data)
+    {
+        writeTo(out, data, NATIVE_BYTE_ORDER);
+    }
+
+    /**
+     * Writes <var>data</var> as a tagged array in given byte order to <var>out</var>. The chunks
+     * of an {@link MDChunkedLongArray} are converted one by one, other storages are copied out
+     * in blocks, so arrays of more than <code>Integer.MAX_VALUE</code> elements can be written.
+     */
+    public static void writeTo(IOutputStream out, IMDLongStorage data, ByteOrder byteOrder)
+    {
+        final NativeArrayEncoding encoding =
+                NativeArrayEncoding.tryGetIntEncoding(byteOrder, (byte) LONG_SIZE);
+        writeHeader(out, encoding, MDAbstractArray.toInt(data.longDimensions()), byteOrder);
+        if (data instanceof MDChunkedLongArray)
+        {
+            final MDChunkedLongArray chunkedData = (MDChunkedLongArray) data;
+            for (int i = 0; i < chunkedData.getNumberOfChunks(); ++i)
+            {
+                final long[] chunk = chunkedData.getChunk(i);
+                writeData(out, chunk, chunk.length, byteOrder);
+            }
+        } else
+        {
+            writeData(out, data, byteOrder);
+        }
+    }
+
+    /**
+     * Reads a tagged array from <var>in</var> and returns it as a {@link MDChunkedLongArray}, or
+     * <code>null</code>, if <var>in</var> does not start with a tagged (multi-dimensional) long
+     * array. The header is consumed from <var>in</var> in any case.
+     */
+    public static MDChunkedLongArray tryReadChunkedLongArray(IInputStream in)
+    {
+        final NativeArrayTag tagOrNull = tryReadArrayTag(in);
+        return (tagOrNull == null) ? null : tryReadChunkedLongArray(in, tagOrNull);
+    }
+
+    /**
+     * Reads the data of a tagged array with the given <var>tag</var> from <var>in</var> chunk by
+     * chunk and returns it as a {@link MDChunkedLongArray}, or <code>null</code>, if
+     * <var>tag</var> does not describe a long array. Use this method after
+     * {@link #tryReadArrayTag(IInputStream)}.
+     */
+    public static MDChunkedLongArray tryReadChunkedLongArray(IInputStream in, NativeArrayTag tag)
+    {
+        final NativeArrayEncoding encoding = tag.getEncoding();
+        if (encoding.isFloatingPoint() || encoding.getSizeInBytes() != LONG_SIZE)
+        {
+            return null;
+        }
+        final MDChunkedLongArray array =
+                new MDChunkedLongArray(MDAbstractArray.toLong(tag.getDimensions()));
+        for (int i = 0; i < array.getNumberOfChunks(); ++i)
+        {
+            final long[] chunk = array.getChunk(i);
+            readData(in, chunk, encoding.getByteOrder());
+        }
+        return array;
+    }
+
+    private static void writeData(IOutputStream out, long[] data, int length,
+            ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / LONG_SIZE);
+        final byte[] chunk = new byte[chunkLength * LONG_SIZE];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            NativeData.copyLongToByte(data, start, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * LONG_SIZE);
+        }
+    }
+
+    private static void writeData(IOutputStream out, IMDLongStorage data, ByteOrder byteOrder)
+    {
+        final long size = data.longSize();
+        final int chunkLength = (int) Math.min(size, STREAM_CHUNK_SIZE / LONG_SIZE);
+        final long[] values = new long[chunkLength];
+        final byte[] chunk = new byte[chunkLength * LONG_SIZE];
+        for (long start = 0; start < size; start += chunkLength)
+        {
+            final int len = (int) Math.min(chunkLength, size - start);
+            data.copyTo(start, values, 0, len);
+            NativeData.copyLongToByte(values, 0, chunk, 0, len, byteOrder);
+            out.write(chunk, 0, len * LONG_SIZE);
+        }
+    }
+
+    private static void readData(IInputStream in, long[] data, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(data.length, STREAM_CHUNK_SIZE / LONG_SIZE);
+        final byte[] chunk = new byte[chunkLength * LONG_SIZE];
+        for (int start = 0; start < data.length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, data.length - start);
+            readFully(in, chunk, len * LONG_SIZE);
+            NativeData.copyByteToLong(chunk, 0, data, start, len, byteOrder);
+        }
+    }
+
+    private static long[] readLongData(IInputStream in, int length, ByteOrder byteOrder)
+    {
+        final int chunkLength = Math.min(length, STREAM_CHUNK_SIZE / LONG_SIZE);
+        final byte[] chunk = new byte[chunkLength * LONG_SIZE];
+        long[] data = new long[chunkLength];
+        for (int start = 0; start < length; start += chunkLength)
+        {
+            final int len = Math.min(chunkLength, length - start);
+            readFully(in, chunk, len * LONG_SIZE);
+            if (start + len > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, length));
+            }
+            NativeData.copyByteToLong(chunk, 0, data, start, len, byteOrder);
+        }
+        return data;
+    }
+
 }
@@ -0,0 +1,528 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pure Java conversions between arrays of primitive numbers and <code>byte[]</code> arrays that
+ * access the <code>byte[]</code> arrays as raw memory through <code>sun.misc.Unsafe</code>.
+ * <p>
+ * Conversions in native byte order are done as a bulk memory copy, conversions in non-native byte
+ * order read or write one value at a time and swap the bytes using the
+ * <code>reverseBytes()</code> methods which the JIT compiles to byte swap instructions. Neither
+ * of them allocates any objects.
+ * <p>
+ * <code>sun.misc.Unsafe</code> is looked up reflectively and called through constant
+ * {@link MethodHandle}s, which the JIT inlines like direct calls. This keeps the proprietary API
+ * out of the source, so the compiler does not warn about it.
+ * <p>
+ * The converter is only available if <code>sun.misc.Unsafe</code> can be accessed and if the
+ * platform supports unaligned memory access, see {@link #isAvailable()}.
+ *
+ * @author agent
+ */
+final class UnsafeConverter
+{
+    /** Architectures known to support unaligned memory access. */
+    private static final List<String> UNALIGNED_ACCESS_ARCHITECTURES = Arrays.asList("i386",
+            "x86", "amd64", "x86_64", "aarch64", "ppc64le", "s390x");
+
+    private static final Object UNSAFE = tryGetUnsafe();
+
+    private static final MethodHandle ARRAY_BASE_OFFSET = tryFindUnsafeMethod("arrayBaseOffset",
+            int.class, Class.class);
+
+    private static final MethodHandle COPY_MEMORY = tryFindUnsafeMethod("copyMemory",
+            void.class, Object.class, long.class, Object.class, long.class, long.class);
+
+    private static final MethodHandle GET_SHORT = tryFindUnsafeMethod("getShort", short.class,
+            Object.class, long.class);
+
+    private static final MethodHandle PUT_SHORT = tryFindUnsafeMethod("putShort", void.class,
+            Object.class, long.class, short.class);
+
+    private static final MethodHandle GET_CHAR = tryFindUnsafeMethod("getChar", char.class,
+            Object.class, long.class);
+
+    private static final MethodHandle PUT_CHAR = tryFindUnsafeMethod("putChar", void.class,
+            Object.class, long.class, char.class);
+
+    private static final MethodHandle GET_INT = tryFindUnsafeMethod("getInt", int.class,
+            Object.class, long.class);
+
+    private static final MethodHandle PUT_INT = tryFindUnsafeMethod("putInt", void.class,
+            Object.class, long.class, int.class);
+
+    private static final MethodHandle GET_LONG = tryFindUnsafeMethod("getLong", long.class,
+            Object.class, long.class);
+
+    private static final MethodHandle PUT_LONG = tryFindUnsafeMethod("putLong", void.class,
+            Object.class, long.class, long.class);
+
+    private static final boolean AVAILABLE = UNSAFE != null && ARRAY_BASE_OFFSET != null
+            && COPY_MEMORY != null && GET_SHORT != null && PUT_SHORT != null && GET_CHAR != null
+            && PUT_CHAR != null && GET_INT != null && PUT_INT != null && GET_LONG != null
+            && PUT_LONG != null;
+
+    private static final long BYTE_ARRAY_OFFSET = getArrayBaseOffset(byte[].class);
+
+    private static final long SHORT_ARRAY_OFFSET = getArrayBaseOffset(short[].class);
+
+    private static final long CHAR_ARRAY_OFFSET = getArrayBaseOffset(char[].class);
+
+    private static final long INT_ARRAY_OFFSET = getArrayBaseOffset(int[].class);
+
+    private static final long LONG_ARRAY_OFFSET = getArrayBaseOffset(long[].class);
+
+    private static final long FLOAT_ARRAY_OFFSET = getArrayBaseOffset(float[].class);
+
+    private static final long DOUBLE_ARRAY_OFFSET = getArrayBaseOffset(double[].class);
+
+    private UnsafeConverter()
+    {
+        // Not to be instantiated.
+    }
+
+    private static Object tryGetUnsafe()
+    {
+        if (UNALIGNED_ACCESS_ARCHITECTURES.contains(System.getProperty("os.arch")) == false)
+        {
+            return null;
+        }
+        try
+        {
+            final Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (Throwable th)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a handle to the method <var>name</var> of <code>sun.misc.Unsafe</code>, bound to
+     * {@link #UNSAFE}, or <code>null</code>, if it cannot be found.
+     */
+    private static MethodHandle tryFindUnsafeMethod(String name, Class<?> returnType,
+            Class<?>... parameterTypes)
+    {
+        if (UNSAFE == null)
+        {
+            return null;
+        }
+        try
+        {
+            return MethodHandles.lookup()
+                    .findVirtual(UNSAFE.getClass(), name,
+                            MethodType.methodType(returnType, parameterTypes)).bindTo(UNSAFE);
+        } catch (Throwable th)
+        {
+            return null;
+        }
+    }
+
+    private static long getArrayBaseOffset(Class<?> arrayClass)
+    {
+        if (AVAILABLE == false)
+        {
+            return 0L;
+        }
+        try
+        {
+            return (int) ARRAY_BASE_OFFSET.invokeExact(arrayClass);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    /**
+     * Returns <code>true</code>, if this converter can be used on this platform.
+     */
+    static boolean isAvailable()
+    {
+        return AVAILABLE;
+    }
+
+    private static RuntimeException rethrow(Throwable th)
+    {
+        if (th instanceof RuntimeException)
+        {
+            return (RuntimeException) th;
+        }
+        if (th instanceof Error)
+        {
+            throw (Error) th;
+        }
+        return new IllegalStateException(th);
+    }
+
+    private static void copyMemory(Object src, long srcOffset, Object dest, long destOffset,
+            long bytes)
+    {
+        try
+        {
+            COPY_MEMORY.invokeExact(src, srcOffset, dest, destOffset, bytes);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static short getShort(Object base, long offset)
+    {
+        try
+        {
+            return (short) GET_SHORT.invokeExact(base, offset);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static void putShort(Object base, long offset, short value)
+    {
+        try
+        {
+            PUT_SHORT.invokeExact(base, offset, value);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static char getChar(Object base, long offset)
+    {
+        try
+        {
+            return (char) GET_CHAR.invokeExact(base, offset);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static void putChar(Object base, long offset, char value)
+    {
+        try
+        {
+            PUT_CHAR.invokeExact(base, offset, value);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static int getInt(Object base, long offset)
+    {
+        try
+        {
+            return (int) GET_INT.invokeExact(base, offset);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static void putInt(Object base, long offset, int value)
+    {
+        try
+        {
+            PUT_INT.invokeExact(base, offset, value);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static long getLong(Object base, long offset)
+    {
+        try
+        {
+            return (long) GET_LONG.invokeExact(base, offset);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static void putLong(Object base, long offset, long value)
+    {
+        try
+        {
+            PUT_LONG.invokeExact(base, offset, value);
+        } catch (Throwable th)
+        {
+            throw rethrow(th);
+        }
+    }
+
+    private static void checkRange(int arrayLength, int start, long len)
+    {
+        if (start < 0 || len < 0 || start > arrayLength - len)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + start + " + " + len
+                    + ") out of bounds for length " + arrayLength);
+        }
+    }
+
+    static void copyIntToByte(int[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.INT_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.INT_SIZE)
+            {
+                putInt(outData, ofs, Integer.reverseBytes(inData[inStart + i]));
+            }
+        } else
+        {
+            copyMemory(inData, INT_ARRAY_OFFSET + (long) inStart * NativeData.INT_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.INT_SIZE);
+        }
+    }
+
+    static void copyByteToInt(byte[] inData, int inStart, int[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.INT_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.INT_SIZE)
+            {
+                outData[outStart + i] = Integer.reverseBytes(getInt(inData, ofs));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    INT_ARRAY_OFFSET + (long) outStart * NativeData.INT_SIZE,
+                    (long) len * NativeData.INT_SIZE);
+        }
+    }
+
+    static void copyLongToByte(long[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.LONG_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.LONG_SIZE)
+            {
+                putLong(outData, ofs, Long.reverseBytes(inData[inStart + i]));
+            }
+        } else
+        {
+            copyMemory(inData, LONG_ARRAY_OFFSET + (long) inStart * NativeData.LONG_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.LONG_SIZE);
+        }
+    }
+
+    static void copyByteToLong(byte[] inData, int inStart, long[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.LONG_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.LONG_SIZE)
+            {
+                outData[outStart + i] = Long.reverseBytes(getLong(inData, ofs));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    LONG_ARRAY_OFFSET + (long) outStart * NativeData.LONG_SIZE,
+                    (long) len * NativeData.LONG_SIZE);
+        }
+    }
+
+    static void copyShortToByte(short[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.SHORT_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.SHORT_SIZE)
+            {
+                putShort(outData, ofs, Short.reverseBytes(inData[inStart + i]));
+            }
+        } else
+        {
+            copyMemory(inData, SHORT_ARRAY_OFFSET + (long) inStart * NativeData.SHORT_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.SHORT_SIZE);
+        }
+    }
+
+    static void copyByteToShort(byte[] inData, int inStart, short[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.SHORT_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.SHORT_SIZE)
+            {
+                outData[outStart + i] = Short.reverseBytes(getShort(inData, ofs));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    SHORT_ARRAY_OFFSET + (long) outStart * NativeData.SHORT_SIZE,
+                    (long) len * NativeData.SHORT_SIZE);
+        }
+    }
+
+    static void copyCharToByte(char[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.CHAR_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.CHAR_SIZE)
+            {
+                putChar(outData, ofs, Character.reverseBytes(inData[inStart + i]));
+            }
+        } else
+        {
+            copyMemory(inData, CHAR_ARRAY_OFFSET + (long) inStart * NativeData.CHAR_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.CHAR_SIZE);
+        }
+    }
+
+    static void copyByteToChar(byte[] inData, int inStart, char[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.CHAR_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.CHAR_SIZE)
+            {
+                outData[outStart + i] = Character.reverseBytes(getChar(inData, ofs));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    CHAR_ARRAY_OFFSET + (long) outStart * NativeData.CHAR_SIZE,
+                    (long) len * NativeData.CHAR_SIZE);
+        }
+    }
+
+    static void copyFloatToByte(float[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.FLOAT_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.FLOAT_SIZE)
+            {
+                putInt(outData, ofs,
+                        Integer.reverseBytes(Float.floatToRawIntBits(inData[inStart + i])));
+            }
+        } else
+        {
+            copyMemory(inData, FLOAT_ARRAY_OFFSET + (long) inStart * NativeData.FLOAT_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.FLOAT_SIZE);
+        }
+    }
+
+    static void copyByteToFloat(byte[] inData, int inStart, float[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.FLOAT_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.FLOAT_SIZE)
+            {
+                outData[outStart + i] =
+                        Float.intBitsToFloat(Integer.reverseBytes(getInt(inData, ofs)));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    FLOAT_ARRAY_OFFSET + (long) outStart * NativeData.FLOAT_SIZE,
+                    (long) len * NativeData.FLOAT_SIZE);
+        }
+    }
+
+    static void copyDoubleToByte(double[] inData, int inStart, byte[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, len);
+        checkRange(outData.length, outStart, (long) len * NativeData.DOUBLE_SIZE);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + outStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.DOUBLE_SIZE)
+            {
+                putLong(outData, ofs,
+                        Long.reverseBytes(Double.doubleToRawLongBits(inData[inStart + i])));
+            }
+        } else
+        {
+            copyMemory(inData, DOUBLE_ARRAY_OFFSET + (long) inStart * NativeData.DOUBLE_SIZE,
+                    outData, BYTE_ARRAY_OFFSET + outStart, (long) len * NativeData.DOUBLE_SIZE);
+        }
+    }
+
+    static void copyByteToDouble(byte[] inData, int inStart, double[] outData, int outStart,
+            int len, boolean swap)
+    {
+        checkRange(inData.length, inStart, (long) len * NativeData.DOUBLE_SIZE);
+        checkRange(outData.length, outStart, len);
+        if (swap)
+        {
+            long ofs = BYTE_ARRAY_OFFSET + inStart;
+            for (int i = 0; i < len; ++i, ofs += NativeData.DOUBLE_SIZE)
+            {
+                outData[outStart + i] =
+                        Double.longBitsToDouble(Long.reverseBytes(getLong(inData, ofs)));
+            }
+        } else
+        {
+            copyMemory(inData, BYTE_ARRAY_OFFSET + inStart, outData,
+                    DOUBLE_ARRAY_OFFSET + (long) outStart * NativeData.DOUBLE_SIZE,
+                    (long) len * NativeData.DOUBLE_SIZE);
+        }
+    }
+
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * The {@link AsynchronousFileChannel} implementation of {@link IAsyncPositionalFile}.
+ * 
+ * @author agent
+ */
+public class AsyncPositionalFileImpl implements IAsyncPositionalFile
+{
+
+    private final AsynchronousFileChannel channel;
+
+    private final ByteOrder byteOrder;
+
+    /**
+     * Creates an asynchronous file on <var>channel</var>. Closing the file closes
+     * <var>channel</var>.
+     * 
+     * @param channel The channel to read from and write to.
+     * @param byteOrder The byte order to use for typed reads.
+     */
+    public AsyncPositionalFileImpl(AsynchronousFileChannel channel, ByteOrder byteOrder)
+    {
+        this.channel = channel;
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see
+     * {@link java.io.RandomAccessFile#RandomAccessFile(File, String)}) in big-endian byte order,
+     * using the default thread pool of the system for completion handlers.
+     */
+    public AsyncPositionalFileImpl(File file, String mode) throws IOExceptionUnchecked
+    {
+        this(file, mode, ByteOrder.BIG_ENDIAN, null);
+    }
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see
+     * {@link java.io.RandomAccessFile#RandomAccessFile(File, String)}).
+     * 
+     * @param byteOrder The byte order to use for typed reads.
+     * @param executorOrNull The executor to run completion handlers in, e.g. a
+     *            {@link ch.systemsx.cisd.base.namedthread.NamingThreadPoolExecutor}, or
+     *            <code>null</code> to use the default thread pool of the system.
+     */
+    public AsyncPositionalFileImpl(File file, String mode, ByteOrder byteOrder,
+            ExecutorService executorOrNull) throws IOExceptionUnchecked
+    {
+        this(open(file, mode, executorOrNull), byteOrder);
+    }
+
+    private static AsynchronousFileChannel open(File file, String mode,
+            ExecutorService executorOrNull) throws IOExceptionUnchecked
+    {
+        final Set<OpenOption> options = new HashSet<OpenOption>();
+        options.add(StandardOpenOption.READ);
+        if ("rw".equals(mode) || "rws".equals(mode) || "rwd".equals(mode))
+        {
+            options.add(StandardOpenOption.WRITE);
+            options.add(StandardOpenOption.CREATE);
+            if ("rws".equals(mode))
+            {
+                options.add(StandardOpenOption.SYNC);
+            } else if ("rwd".equals(mode))
+            {
+                options.add(StandardOpenOption.DSYNC);
+            }
+        } else if ("r".equals(mode) == false)
+        {
+            throw new IllegalArgumentException("Illegal mode \"" + mode
+                    + "\" must be one of \"r\", \"rw\", \"rws\", or \"rwd\"");
+        }
+        try
+        {
+            return AsynchronousFileChannel.open(file.toPath(), options, executorOrNull,
+                    new FileAttribute<?>[0]);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    private static Throwable wrap(Throwable th)
+    {
+        return (th instanceof Exception) ? CheckedExceptionTunnel.wrapIfNecessary((Exception) th)
+                : th;
+    }
+
+    /**
+     * Returns the channel of this file.
+     */
+    public final AsynchronousFileChannel getChannel()
+    {
+        return channel;
+    }
+
+    @Override
+    public ByteOrder getByteOrder()
+    {
+        return byteOrder;
+    }
+
+    @Override
+    public long length() throws IOExceptionUnchecked
+    {
+        try
+        {
+            return channel.size();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable th)
+    {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        result.completeExceptionally(th);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> read(long position, int length)
+    {
+        if (length < 0)
+        {
+            return failed(new IllegalArgumentException("Negative length " + length + "."));
+        }
+        return read(position, ByteBuffer.allocate(length).order(byteOrder));
+    }
+
+    /**
+     * Reads <var>count</var> values of <var>elementSize</var> bytes each. Returns a failed future
+     * if the values do not fit into one buffer.
+     */
+    private CompletableFuture<ByteBuffer> readValues(long position, int count, int elementSize)
+    {
+        final long length = (long) count * elementSize;
+        if (length > Integer.MAX_VALUE)
+        {
+            return failed(new IllegalArgumentException(count + " values of " + elementSize
+                    + " bytes do not fit into one buffer."));
+        }
+        return read(position, (int) length);
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> read(long position, ByteBuffer dst)
+    {
+        final CompletableFuture<ByteBuffer> result = new CompletableFuture<ByteBuffer>();
+        readFully(position, dst, dst.position(), result);
+        return result;
+    }
+
+    /**
+     * Reads into <var>dst</var> until it is full, re-submitting the read on short reads.
+     */
+    private void readFully(final long position, final ByteBuffer dst, final int start,
+            final CompletableFuture<ByteBuffer> result)
+    {
+        if (dst.hasRemaining() == false)
+        {
+            dst.position(start);
+            result.complete(dst);
+            return;
+        }
+        try
+        {
+            channel.read(dst, position, null, new CompletionHandler<Integer, Void>()
+                {
+                    @Override
+                    public void completed(Integer n, Void attachment)
+                    {
+                        if (n < 0)
+                        {
+                            result.completeExceptionally(new IOExceptionUnchecked(
+                                    new EOFException()));
+                        } else
+                        {
+                            readFully(position + n, dst, start, result);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Throwable th, Void attachment)
+                    {
+                        result.completeExceptionally(wrap(th));
+                    }
+                });
+        } catch (RuntimeException ex)
+        {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer[]> readRanges(long[] positions, int[] lengths)
+    {
+        if (positions.length != lengths.length)
+        {
+            throw new IllegalArgumentException("positions and lengths differ in length ("
+                    + positions.length + " != " + lengths.length + ").");
+        }
+        final List<CompletableFuture<ByteBuffer>> reads =
+                new ArrayList<CompletableFuture<ByteBuffer>>(positions.length);
+        for (int i = 0; i < positions.length; ++i)
+        {
+            reads.add(read(positions[i], lengths[i]));
+        }
+        return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[reads.size()]))
+                .thenApply(new Function<Void, ByteBuffer[]>()
+                    {
+                        @Override
+                        public ByteBuffer[] apply(Void v)
+                        {
+                            final ByteBuffer[] buffers = new ByteBuffer[reads.size()];
+                            for (int i = 0; i < buffers.length; ++i)
+                            {
+                                buffers[i] = reads.get(i).join();
+                            }
+                            return buffers;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<short[]> readShorts(long position, final int count)
+    {
+        return readValues(position, count, NativeData.SHORT_SIZE).thenApply(
+                new Function<ByteBuffer, short[]>()
+                    {
+                        @Override
+                        public short[] apply(ByteBuffer buf)
+                        {
+                            final short[] result = new short[count];
+                            buf.asShortBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<char[]> readChars(long position, final int count)
+    {
+        return readValues(position, count, NativeData.CHAR_SIZE).thenApply(
+                new Function<ByteBuffer, char[]>()
+                    {
+                        @Override
+                        public char[] apply(ByteBuffer buf)
+                        {
+                            final char[] result = new char[count];
+                            buf.asCharBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<int[]> readInts(long position, final int count)
+    {
+        return readValues(position, count, NativeData.INT_SIZE).thenApply(
+                new Function<ByteBuffer, int[]>()
+                    {
+                        @Override
+                        public int[] apply(ByteBuffer buf)
+                        {
+                            final int[] result = new int[count];
+                            buf.asIntBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<long[]> readLongs(long position, final int count)
+    {
+        return readValues(position, count, NativeData.LONG_SIZE).thenApply(
+                new Function<ByteBuffer, long[]>()
+                    {
+                        @Override
+                        public long[] apply(ByteBuffer buf)
+                        {
+                            final long[] result = new long[count];
+                            buf.asLongBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<float[]> readFloats(long position, final int count)
+    {
+        return readValues(position, count, NativeData.FLOAT_SIZE).thenApply(
+                new Function<ByteBuffer, float[]>()
+                    {
+                        @Override
+                        public float[] apply(ByteBuffer buf)
+                        {
+                            final float[] result = new float[count];
+                            buf.asFloatBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<double[]> readDoubles(long position, final int count)
+    {
+        return readValues(position, count, NativeData.DOUBLE_SIZE).thenApply(
+                new Function<ByteBuffer, double[]>()
+                    {
+                        @Override
+                        public double[] apply(ByteBuffer buf)
+                        {
+                            final double[] result = new double[count];
+                            buf.asDoubleBuffer().get(result);
+                            return result;
+                        }
+                    });
+    }
+
+    @Override
+    public CompletableFuture<Void> write(long position, ByteBuffer src)
+    {
+        final CompletableFuture<Void> result = new CompletableFuture<Void>();
+        writeFully(position, src, result);
+        return result;
+    }
+
+    /**
+     * Writes <var>src</var> completely, re-submitting the write on short writes.
+     */
+    private void writeFully(final long position, final ByteBuffer src,
+            final CompletableFuture<Void> result)
+    {
+        if (src.hasRemaining() == false)
+        {
+            result.complete(null);
+            return;
+        }
+        try
+        {
+            channel.write(src, position, null, new CompletionHandler<Integer, Void>()
+                {
+                    @Override
+                    public void completed(Integer n, Void attachment)
+                    {
+                        writeFully(position + n, src, result);
+                    }
+
+                    @Override
+                    public void failed(Throwable th, Void attachment)
+                    {
+                        result.completeExceptionally(wrap(th));
+                    }
+                });
+        } catch (RuntimeException ex)
+        {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    @Override
+    public void synchronize() throws IOExceptionUnchecked
+    {
+        try
+        {
+            channel.force(true);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOExceptionUnchecked
+    {
+        try
+        {
+            channel.close();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        return "AsyncPositionalFileImpl[" + channel + ", " + byteOrder + "]";
+    }
+
+}
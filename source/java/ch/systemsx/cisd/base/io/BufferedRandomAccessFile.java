@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * A {@link RandomAccessFile} that serves reads from a page buffer (read-ahead) and collects writes
+ * in it until the buffer is flushed (write-behind). The buffer is flushed on {@link #flush()},
+ * when a position outside of the buffer is accessed or sought, on {@link #setLength(long)} and on
+ * {@link #close()}.
+ * <p>
+ * All the <code>readXXX()</code> and <code>writeXXX()</code> methods of {@link RandomAccessFile}
+ * go through the methods overridden here, except {@link #writeBytes(String)} and
+ * {@link #writeChars(String)}, which must not be used. The channel and the file descriptor
+ * don't know about the buffer, call {@link #flush()} before using them.
+ * 
+ * @author agent
+ */
+final class BufferedRandomAccessFile extends RandomAccessFile
+{
+    private final byte[] buffer;
+
+    private final boolean readOnly;
+
+    /** The position in the file of <code>buffer[0]</code>. */
+    private long bufferStart;
+
+    /** The number of valid bytes in the buffer. */
+    private int bufferLength;
+
+    /** The position of the file pointer in the buffer, <code>&lt;= bufferLength</code>. */
+    private int bufferPosition;
+
+    /** The start of the range of the buffer that has not been written to the file yet. */
+    private int dirtyStart;
+
+    /** The end of the range of the buffer that has not been written to the file yet. */
+    private int dirtyEnd;
+
+    BufferedRandomAccessFile(File file, String mode, int bufferSize) throws FileNotFoundException
+    {
+        super(file, mode);
+        if (bufferSize < 1)
+        {
+            throw new IllegalArgumentException("Buffer size must be positive, is " + bufferSize
+                    + ".");
+        }
+        this.buffer = new byte[bufferSize];
+        this.dirtyStart = bufferSize;
+        this.readOnly = "r".equals(mode);
+    }
+
+    /**
+     * Writes the dirty range of the buffer to the file. Keeps the content of the buffer.
+     */
+    void flush() throws IOException
+    {
+        if (dirtyEnd > dirtyStart)
+        {
+            super.seek(bufferStart + dirtyStart);
+            super.write(buffer, dirtyStart, dirtyEnd - dirtyStart);
+        }
+        dirtyStart = buffer.length;
+        dirtyEnd = 0;
+    }
+
+    /**
+     * Flushes the buffer and empties it at the current file pointer.
+     */
+    private void flushAndReset() throws IOException
+    {
+        flush();
+        bufferStart += bufferPosition;
+        bufferPosition = 0;
+        bufferLength = 0;
+    }
+
+    /**
+     * Refills the buffer from the file at the current file pointer.
+     * 
+     * @return The number of bytes read, or <code>-1</code> at the end of the file.
+     */
+    private int fill() throws IOException
+    {
+        flushAndReset();
+        super.seek(bufferStart);
+        final int n = super.read(buffer, 0, buffer.length);
+        if (n > 0)
+        {
+            bufferLength = n;
+        }
+        return n;
+    }
+
+    private void checkWritable() throws IOException
+    {
+        if (readOnly)
+        {
+            throw new IOException("File is opened read-only.");
+        }
+    }
+
+    private void markDirty(int start, int end)
+    {
+        dirtyStart = Math.min(dirtyStart, start);
+        dirtyEnd = Math.max(dirtyEnd, end);
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        if (bufferPosition >= bufferLength && fill() <= 0)
+        {
+            return -1;
+        }
+        return buffer[bufferPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException
+    {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        int total = 0;
+        while (total < len)
+        {
+            if (bufferPosition >= bufferLength)
+            {
+                if (len - total >= buffer.length)
+                {
+                    // Large reads bypass the buffer.
+                    flushAndReset();
+                    super.seek(bufferStart);
+                    final int n = super.read(b, off + total, len - total);
+                    if (n > 0)
+                    {
+                        bufferStart += n;
+                        total += n;
+                    }
+                    break;
+                }
+                if (fill() <= 0)
+                {
+                    break;
+                }
+            }
+            final int n = Math.min(len - total, bufferLength - bufferPosition);
+            System.arraycopy(buffer, bufferPosition, b, off + total, n);
+            bufferPosition += n;
+            total += n;
+        }
+        return (total == 0) ? -1 : total;
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        checkWritable();
+        if (bufferPosition >= buffer.length)
+        {
+            flushAndReset();
+        }
+        buffer[bufferPosition] = (byte) b;
+        markDirty(bufferPosition, bufferPosition + 1);
+        if (++bufferPosition > bufferLength)
+        {
+            bufferLength = bufferPosition;
+        }
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException
+    {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        checkWritable();
+        int pos = off;
+        int remaining = len;
+        while (remaining > 0)
+        {
+            if (bufferPosition >= buffer.length)
+            {
+                flushAndReset();
+            }
+            if (bufferLength == 0 && remaining >= buffer.length)
+            {
+                // Large writes bypass the buffer.
+                super.seek(bufferStart);
+                super.write(b, pos, remaining);
+                bufferStart += remaining;
+                return;
+            }
+            final int n = Math.min(remaining, buffer.length - bufferPosition);
+            System.arraycopy(b, pos, buffer, bufferPosition, n);
+            markDirty(bufferPosition, bufferPosition + n);
+            bufferPosition += n;
+            if (bufferPosition > bufferLength)
+            {
+                bufferLength = bufferPosition;
+            }
+            pos += n;
+            remaining -= n;
+        }
+    }
+
+    @Override
+    public long getFilePointer() throws IOException
+    {
+        return bufferStart + bufferPosition;
+    }
+
+    @Override
+    public void seek(long pos) throws IOException
+    {
+        if (pos < 0)
+        {
+            throw new IOException("Negative seek offset");
+        }
+        if (pos >= bufferStart && pos <= bufferStart + bufferLength)
+        {
+            bufferPosition = (int) (pos - bufferStart);
+        } else
+        {
+            flush();
+            bufferStart = pos;
+            bufferPosition = 0;
+            bufferLength = 0;
+        }
+    }
+
+    @Override
+    public long length() throws IOException
+    {
+        final long fileLength = super.length();
+        return (bufferLength > 0) ? Math.max(fileLength, bufferStart + bufferLength) : fileLength;
+    }
+
+    @Override
+    public void setLength(long newLength) throws IOException
+    {
+        flush();
+        final long pos = getFilePointer();
+        super.setLength(newLength);
+        bufferStart = Math.min(pos, newLength);
+        bufferPosition = 0;
+        bufferLength = 0;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            flush();
+        } finally
+        {
+            super.close();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.nio.ByteOrder;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+
+/**
+ * Helpers for the default bulk read and write methods of primitive arrays in
+ * {@link IRandomAccessFile}, which convert the values block by block.
+ *
+ * @author agent
+ */
+final class BulkArrayConversion
+{
+
+    /**
+     * The maximal size (in bytes) of the block used to convert bulk reads and writes of primitive
+     * arrays.
+     */
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Returns the byte order of <var>file</var> for the conversions of {@link NativeData}.
+     */
+    static NativeData.ByteOrder getByteOrder(IRandomAccessFile file)
+    {
+        return ByteOrder.LITTLE_ENDIAN.equals(file.getByteOrder())
+                ? NativeData.ByteOrder.LITTLE_ENDIAN
+                : NativeData.ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * Returns the number of elements of size <var>elementSize</var> to convert per block when
+     * transferring <var>len</var> elements.
+     */
+    static int getBlockLength(int len, int elementSize)
+    {
+        return Math.min(len, BLOCK_SIZE / elementSize);
+    }
+
+}
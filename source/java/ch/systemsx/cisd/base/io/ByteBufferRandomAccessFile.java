@@ -28,7 +28,9 @@ import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
 /**
  * An implementation of {@link IRandomAccessFile} based on a {@link ByteBuffer}.
  * <p>
- * Does <i>not</i> implement {@link IRandomAccessFile#readLine()}.
+ * Does <i>not</i> implement {@link IRandomAccessFile#readLine()}. The buffer does not grow and
+ * positions are limited to <code>int</code>. Use {@link SegmentedByteBufferRandomAccessFile} for
+ * content that grows or exceeds 2 GB.
  * 
  * @author Bernd Rinn
  */
@@ -189,6 +191,20 @@ public class ByteBufferRandomAccessFile implements IRandomAccessFile
         return skipBytes((int) n);
     }
     
+    /**
+     * Checks that <var>len</var> elements of <var>elementSize</var> bytes are available and
+     * returns their length in bytes.
+     */
+    private int checkAvailable(int len, int elementSize) throws IOExceptionUnchecked
+    {
+        final long byteLen = (long) len * elementSize;
+        if (byteLen > buf.remaining())
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        return (int) byteLen;
+    }
+
     private int available0() throws IOExceptionUnchecked
     {
         return (buf.remaining() == 0) ? -1 : buf.remaining();
@@ -230,6 +246,16 @@ public class ByteBufferRandomAccessFile implements IRandomAccessFile
         // NOOP
     }
 
+    private static int toInt(long pos)
+    {
+        if (pos > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Position " + pos
+                    + " is beyond the maximal size of a ByteBuffer.");
+        }
+        return (int) pos;
+    }
+
     @Override
     public long getFilePointer() throws IOExceptionUnchecked
     {
@@ -239,7 +265,7 @@ public class ByteBufferRandomAccessFile implements IRandomAccessFile
     @Override
     public void seek(long pos) throws IOExceptionUnchecked
     {
-        buf.position((int) pos);
+        buf.position(toInt(pos));
     }
 
     @Override
@@ -251,7 +277,7 @@ public class ByteBufferRandomAccessFile implements IRandomAccessFile
     @Override
     public void setLength(long newLength) throws IOExceptionUnchecked
     {
-        buf.limit((int) newLength);
+        buf.limit(toInt(newLength));
     }
 
     @Override
@@ -452,4 +478,178 @@ public class ByteBufferRandomAccessFile implements IRandomAccessFile
         }
     }
 
+    @Override
+    public void readShorts(short[] dst) throws IOExceptionUnchecked
+    {
+        readShorts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readShorts(short[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.SHORT_SIZE);
+        buf.asShortBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeShorts(short[] src) throws IOExceptionUnchecked
+    {
+        writeShorts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeShorts(short[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.SHORT_SIZE;
+        addToLength(byteLen);
+        buf.asShortBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void readChars(char[] dst) throws IOExceptionUnchecked
+    {
+        readChars(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readChars(char[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.CHAR_SIZE);
+        buf.asCharBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeChars(char[] src) throws IOExceptionUnchecked
+    {
+        writeChars(src, 0, src.length);
+    }
+
+    @Override
+    public void writeChars(char[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.CHAR_SIZE;
+        addToLength(byteLen);
+        buf.asCharBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void readInts(int[] dst) throws IOExceptionUnchecked
+    {
+        readInts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readInts(int[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.INT_SIZE);
+        buf.asIntBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeInts(int[] src) throws IOExceptionUnchecked
+    {
+        writeInts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeInts(int[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.INT_SIZE;
+        addToLength(byteLen);
+        buf.asIntBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void readLongs(long[] dst) throws IOExceptionUnchecked
+    {
+        readLongs(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readLongs(long[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.LONG_SIZE);
+        buf.asLongBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeLongs(long[] src) throws IOExceptionUnchecked
+    {
+        writeLongs(src, 0, src.length);
+    }
+
+    @Override
+    public void writeLongs(long[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.LONG_SIZE;
+        addToLength(byteLen);
+        buf.asLongBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void readFloats(float[] dst) throws IOExceptionUnchecked
+    {
+        readFloats(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readFloats(float[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.FLOAT_SIZE);
+        buf.asFloatBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeFloats(float[] src) throws IOExceptionUnchecked
+    {
+        writeFloats(src, 0, src.length);
+    }
+
+    @Override
+    public void writeFloats(float[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.FLOAT_SIZE;
+        addToLength(byteLen);
+        buf.asFloatBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void readDoubles(double[] dst) throws IOExceptionUnchecked
+    {
+        readDoubles(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readDoubles(double[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = checkAvailable(len, NativeData.DOUBLE_SIZE);
+        buf.asDoubleBuffer().get(dst, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
+    @Override
+    public void writeDoubles(double[] src) throws IOExceptionUnchecked
+    {
+        writeDoubles(src, 0, src.length);
+    }
+
+    @Override
+    public void writeDoubles(double[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final int byteLen = len * NativeData.DOUBLE_SIZE;
+        addToLength(byteLen);
+        buf.asDoubleBuffer().put(src, off, len);
+        buf.position(buf.position() + byteLen);
+    }
+
 }
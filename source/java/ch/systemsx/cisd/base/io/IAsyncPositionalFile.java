@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.CompletableFuture;
+
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * An interface for asynchronous positional access to a file.
+ * <p>
+ * All reads and writes return immediately with a {@link CompletableFuture}, so a single thread can
+ * keep many requests in flight, e.g. on a file system with high latency. If the end of the file is
+ * reached before a read is complete, its future completes exceptionally with an
+ * {@link IOExceptionUnchecked} caused by an {@link java.io.EOFException}. I/O errors are reported
+ * the same way.
+ * 
+ * @author agent
+ */
+public interface IAsyncPositionalFile extends Closeable, ISynchronizable
+{
+    /**
+     * Returns the byte-order (endiness) used for typed reads. It is set at construction time and
+     * cannot be changed.
+     */
+    public ByteOrder getByteOrder();
+
+    /**
+     * Returns the length of this file.
+     * 
+     * @return the length of this file, measured in bytes.
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public long length() throws IOExceptionUnchecked;
+
+    /**
+     * Reads <var>length</var> bytes starting at <var>position</var>.
+     * 
+     * @return A future of a new buffer in the byte order of this file, with position 0 and limit
+     *         <var>length</var>.
+     */
+    public CompletableFuture<ByteBuffer> read(long position, int length);
+
+    /**
+     * Reads bytes starting at <var>position</var> until <var>dst</var> has no remaining space.
+     * 
+     * @return A future of <var>dst</var>, with its position reset to where it was when this
+     *         method was called.
+     */
+    public CompletableFuture<ByteBuffer> read(long position, ByteBuffer dst);
+
+    /**
+     * Reads several ranges of the file. All reads are submitted before this method returns.
+     * 
+     * @param positions The start positions of the ranges.
+     * @param lengths The lengths of the ranges, in bytes. Needs to have the same length as
+     *            <var>positions</var>.
+     * @return A future of the buffers of the ranges, in the order of <var>positions</var>, as
+     *         returned by {@link #read(long, int)}.
+     */
+    public CompletableFuture<ByteBuffer[]> readRanges(long[] positions, int[] lengths);
+
+    /**
+     * Reads <var>count</var> <code>short</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<short[]> readShorts(long position, int count);
+
+    /**
+     * Reads <var>count</var> <code>char</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<char[]> readChars(long position, int count);
+
+    /**
+     * Reads <var>count</var> <code>int</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<int[]> readInts(long position, int count);
+
+    /**
+     * Reads <var>count</var> <code>long</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<long[]> readLongs(long position, int count);
+
+    /**
+     * Reads <var>count</var> <code>float</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<float[]> readFloats(long position, int count);
+
+    /**
+     * Reads <var>count</var> <code>double</code> values starting at <var>position</var>.
+     */
+    public CompletableFuture<double[]> readDoubles(long position, int count);
+
+    /**
+     * Writes all remaining bytes of <var>src</var> starting at <var>position</var>, growing the
+     * file if necessary.
+     */
+    public CompletableFuture<Void> write(long position, ByteBuffer src);
+
+    /**
+     * Closes the file. Reads and writes that are still in flight may fail.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOExceptionUnchecked;
+
+}
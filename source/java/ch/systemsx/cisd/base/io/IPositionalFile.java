@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * An interface for positional (<code>pread</code> / <code>pwrite</code> style) access to a file.
+ * <p>
+ * All methods take the absolute position in the file as argument and never change a shared file
+ * pointer. Thus implementations are safe to use from multiple threads concurrently, e.g. for
+ * reading tiles of a file in parallel through a single file descriptor.
+ * 
+ * @author agent
+ */
+public interface IPositionalFile extends Closeable, ISynchronizable
+{
+    /**
+     * Returns the byte-order (endiness) used for typed reads and writes. It is set at construction
+     * time and cannot be changed.
+     */
+    public ByteOrder getByteOrder();
+
+    /**
+     * Returns the length of this file.
+     * 
+     * @return the length of this file, measured in bytes.
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public long length() throws IOExceptionUnchecked;
+
+    //
+    // Reading
+    //
+
+    /**
+     * Reads bytes starting at <var>position</var> into <var>dst</var>.
+     * 
+     * @return The number of bytes read, or <code>-1</code>, if <var>position</var> is at or beyond
+     *         the end of the file.
+     */
+    public int read(long position, ByteBuffer dst) throws IOExceptionUnchecked;
+
+    /**
+     * Reads bytes starting at <var>position</var> until <var>dst</var> has no remaining space.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before <var>dst</var> is
+     *                full or if an I/O error occurs.
+     */
+    public void readFully(long position, ByteBuffer dst) throws IOExceptionUnchecked;
+
+    /**
+     * Reads <var>len</var> bytes starting at <var>position</var> into <var>b</var>, starting at
+     * index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all bytes have been
+     *                read or if an I/O error occurs.
+     */
+    public void readFully(long position, byte[] b, int off, int len)
+            throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>byte</code> at <var>position</var>.
+     */
+    public byte readByteAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>short</code> at <var>position</var>.
+     */
+    public short readShortAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>char</code> at <var>position</var>.
+     */
+    public char readCharAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>int</code> at <var>position</var>.
+     */
+    public int readIntAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>long</code> at <var>position</var>.
+     */
+    public long readLongAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>float</code> at <var>position</var>.
+     */
+    public float readFloatAt(long position) throws IOExceptionUnchecked;
+
+    /**
+     * Reads the <code>double</code> at <var>position</var>.
+     */
+    public double readDoubleAt(long position) throws IOExceptionUnchecked;
+
+    //
+    // Writing
+    //
+
+    /**
+     * Writes all remaining bytes of <var>src</var> starting at <var>position</var>, growing the
+     * file if necessary.
+     */
+    public void writeFully(long position, ByteBuffer src) throws IOExceptionUnchecked;
+
+    /**
+     * Writes <var>len</var> bytes of <var>b</var>, starting at index <var>off</var>, to the file
+     * at <var>position</var>, growing the file if necessary.
+     */
+    public void write(long position, byte[] b, int off, int len) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>byte</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeByteAt(long position, byte v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>short</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeShortAt(long position, short v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>char</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeCharAt(long position, char v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>int</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeIntAt(long position, int v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>long</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeLongAt(long position, long v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>float</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeFloatAt(long position, float v) throws IOExceptionUnchecked;
+
+    /**
+     * Writes the <code>double</code> <var>v</var> at <var>position</var>.
+     */
+    public void writeDoubleAt(long position, double v) throws IOExceptionUnchecked;
+
+    /**
+     * Closes the file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOExceptionUnchecked;
+
+}
@@ -21,6 +21,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.nio.ByteOrder;
 
+import ch.systemsx.cisd.base.convert.NativeData;
 import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
 
 /**
@@ -275,4 +276,366 @@ public interface IRandomAccessFile extends DataInput, DataOutput, Closeable, IIn
      */
     @Override
     public void writeUTF(String str) throws IOExceptionUnchecked;
+
+    //
+    // Bulk primitive arrays
+    //
+    // The default implementations transfer the values in blocks of bytes with readFully() and
+    // write() and convert them with NativeData. Implementations that can do better override them.
+    //
+
+    /**
+     * Reads <code>dst.length</code> <code>short</code> values into <var>dst</var>.
+     * 
+     * @see #readShorts(short[], int, int)
+     */
+    public default void readShorts(short[] dst) throws IOExceptionUnchecked
+    {
+        readShorts(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>short</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readShorts(short[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.SHORT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.SHORT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.SHORT_SIZE);
+            NativeData.copyByteToShort(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>short</code> values of <var>src</var>.
+     * 
+     * @see #writeShorts(short[], int, int)
+     */
+    public default void writeShorts(short[] src) throws IOExceptionUnchecked
+    {
+        writeShorts(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>short</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeShorts(short[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.SHORT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.SHORT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyShortToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.SHORT_SIZE);
+        }
+    }
+
+    /**
+     * Reads <code>dst.length</code> <code>char</code> values into <var>dst</var>.
+     * 
+     * @see #readChars(char[], int, int)
+     */
+    public default void readChars(char[] dst) throws IOExceptionUnchecked
+    {
+        readChars(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>char</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readChars(char[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.CHAR_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.CHAR_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.CHAR_SIZE);
+            NativeData.copyByteToChar(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>char</code> values of <var>src</var>.
+     * 
+     * @see #writeChars(char[], int, int)
+     */
+    public default void writeChars(char[] src) throws IOExceptionUnchecked
+    {
+        writeChars(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>char</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeChars(char[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.CHAR_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.CHAR_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyCharToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.CHAR_SIZE);
+        }
+    }
+
+    /**
+     * Reads <code>dst.length</code> <code>int</code> values into <var>dst</var>.
+     * 
+     * @see #readInts(int[], int, int)
+     */
+    public default void readInts(int[] dst) throws IOExceptionUnchecked
+    {
+        readInts(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>int</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readInts(int[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.INT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.INT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.INT_SIZE);
+            NativeData.copyByteToInt(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>int</code> values of <var>src</var>.
+     * 
+     * @see #writeInts(int[], int, int)
+     */
+    public default void writeInts(int[] src) throws IOExceptionUnchecked
+    {
+        writeInts(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>int</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeInts(int[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.INT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.INT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyIntToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.INT_SIZE);
+        }
+    }
+
+    /**
+     * Reads <code>dst.length</code> <code>long</code> values into <var>dst</var>.
+     * 
+     * @see #readLongs(long[], int, int)
+     */
+    public default void readLongs(long[] dst) throws IOExceptionUnchecked
+    {
+        readLongs(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>long</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readLongs(long[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.LONG_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.LONG_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.LONG_SIZE);
+            NativeData.copyByteToLong(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>long</code> values of <var>src</var>.
+     * 
+     * @see #writeLongs(long[], int, int)
+     */
+    public default void writeLongs(long[] src) throws IOExceptionUnchecked
+    {
+        writeLongs(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>long</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeLongs(long[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.LONG_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.LONG_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyLongToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.LONG_SIZE);
+        }
+    }
+
+    /**
+     * Reads <code>dst.length</code> <code>float</code> values into <var>dst</var>.
+     * 
+     * @see #readFloats(float[], int, int)
+     */
+    public default void readFloats(float[] dst) throws IOExceptionUnchecked
+    {
+        readFloats(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>float</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readFloats(float[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.FLOAT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.FLOAT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.FLOAT_SIZE);
+            NativeData.copyByteToFloat(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>float</code> values of <var>src</var>.
+     * 
+     * @see #writeFloats(float[], int, int)
+     */
+    public default void writeFloats(float[] src) throws IOExceptionUnchecked
+    {
+        writeFloats(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>float</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeFloats(float[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.FLOAT_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.FLOAT_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyFloatToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.FLOAT_SIZE);
+        }
+    }
+
+    /**
+     * Reads <code>dst.length</code> <code>double</code> values into <var>dst</var>.
+     * 
+     * @see #readDoubles(double[], int, int)
+     */
+    public default void readDoubles(double[] dst) throws IOExceptionUnchecked
+    {
+        readDoubles(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads <var>len</var> <code>double</code> values in the byte order of this file into
+     * <var>dst</var>, starting at index <var>off</var>.
+     * 
+     * @exception IOExceptionUnchecked if the end of the file is reached before all values have
+     *                been read or if an I/O error occurs.
+     */
+    public default void readDoubles(double[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.DOUBLE_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.DOUBLE_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            readFully(block, 0, n * NativeData.DOUBLE_SIZE);
+            NativeData.copyByteToDouble(block, 0, dst, off + i, n, byteOrder);
+        }
+    }
+
+    /**
+     * Writes all <code>double</code> values of <var>src</var>.
+     * 
+     * @see #writeDoubles(double[], int, int)
+     */
+    public default void writeDoubles(double[] src) throws IOExceptionUnchecked
+    {
+        writeDoubles(src, 0, src.length);
+    }
+
+    /**
+     * Writes <var>len</var> <code>double</code> values of <var>src</var>, starting at index
+     * <var>off</var>, in the byte order of this file.
+     * 
+     * @exception IOExceptionUnchecked if an I/O error occurs.
+     */
+    public default void writeDoubles(double[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        final NativeData.ByteOrder byteOrder = BulkArrayConversion.getByteOrder(this);
+        final int blockLength = BulkArrayConversion.getBlockLength(len, NativeData.DOUBLE_SIZE);
+        final byte[] block = new byte[blockLength * NativeData.DOUBLE_SIZE];
+        for (int i = 0; i < len; i += blockLength)
+        {
+            final int n = Math.min(len - i, blockLength);
+            NativeData.copyDoubleToByte(src, off + i, block, 0, n, byteOrder);
+            write(block, 0, n * NativeData.DOUBLE_SIZE);
+        }
+    }
+
 }
@@ -0,0 +1,1083 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.utilities.DirectBufferCleaner;
+
+/**
+ * An implementation of {@link IRandomAccessFile} that accesses the file through a window of a
+ * {@link MappedByteBuffer}. Reading and writing a value within the window does not need a system
+ * call. When the file pointer leaves the window, e.g. after a {@link #seek(long)}, a new window is
+ * mapped at the page that contains the file pointer. Positions are <code>long</code>, so files
+ * can be larger than 2GB.
+ * <p>
+ * When writing beyond the end of the file, the file is grown in increments of up to the window
+ * size and truncated to its actual length on {@link #close()}. Until then, other processes may see
+ * a file that is longer than {@link #length()}.
+ * <p>
+ * A window is unmapped as soon as it is replaced by the next one, on {@link #setLength(long)} and on
+ * {@link #close()}, where the JRE supports it, otherwise when it is garbage collected. This class
+ * is not thread safe.
+ * 
+ * @author agent
+ */
+public class MappedRandomAccessFile implements IRandomAccessFile
+{
+    /**
+     * The default size of a window (in bytes).
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final int PAGE_SIZE = 4096;
+
+    private static final int MIN_GROWTH = 64 * 1024;
+
+    private final File file;
+
+    private final RandomAccessFile randomAccessFile;
+
+    private final FileChannel channel;
+
+    private final boolean readOnly;
+
+    private final int windowSize;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    private int windowLength;
+
+    private long position;
+
+    private long length;
+
+    private long capacity;
+
+    private long markedPosition = -1;
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see {@link RandomAccessFile}) and the
+     * {@link #DEFAULT_WINDOW_SIZE}.
+     */
+    public MappedRandomAccessFile(File file, String mode) throws IOExceptionUnchecked
+    {
+        this(file, mode, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens the file <var>name</var> with <var>mode</var> (see {@link RandomAccessFile}) and the
+     * {@link #DEFAULT_WINDOW_SIZE}.
+     */
+    public MappedRandomAccessFile(String name, String mode) throws IOExceptionUnchecked
+    {
+        this(new File(name), mode, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see {@link RandomAccessFile}) and windows of
+     * <var>windowSize</var> bytes.
+     */
+    public MappedRandomAccessFile(File file, String mode, int windowSize)
+            throws IOExceptionUnchecked
+    {
+        if (windowSize < 2 * PAGE_SIZE)
+        {
+            throw new IllegalArgumentException("Window size needs to be at least "
+                    + (2 * PAGE_SIZE) + " bytes, is " + windowSize + ".");
+        }
+        this.file = file;
+        this.readOnly = "r".equals(mode);
+        this.windowSize = windowSize;
+        try
+        {
+            this.randomAccessFile = new RandomAccessFile(file, mode);
+            this.channel = randomAccessFile.getChannel();
+            this.length = randomAccessFile.length();
+        } catch (FileNotFoundException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        this.capacity = length;
+    }
+
+    /**
+     * Returns the channel of the file.
+     */
+    public final FileChannel getChannel()
+    {
+        return channel;
+    }
+
+    /**
+     * Returns the index in the window of <var>pos</var>, mapping a new window if
+     * <code>[pos, pos + len)</code> is not in the current window.
+     */
+    private int windowIndex(long pos, int len)
+    {
+        if (window == null || pos < windowStart || pos + len > windowStart + windowLength)
+        {
+            map(pos);
+        }
+        return (int) (pos - windowStart);
+    }
+
+    private void map(long pos)
+    {
+        final long start = pos & ~(long) (PAGE_SIZE - 1);
+        final long len = Math.min(windowSize, capacity - start);
+        unmap();
+        try
+        {
+            window = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, start, len);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        window.order(byteOrder);
+        windowStart = start;
+        windowLength = (int) len;
+    }
+
+    /**
+     * Releases the current window, if any.
+     */
+    private void unmap()
+    {
+        final MappedByteBuffer oldWindow = window;
+        window = null;
+        DirectBufferCleaner.clean(oldWindow);
+    }
+
+    /**
+     * Returns the index in the window to read <var>len</var> bytes from and advances the file
+     * pointer.
+     */
+    private int readIndex(int len)
+    {
+        if (position + len > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        final int index = windowIndex(position, len);
+        position += len;
+        return index;
+    }
+
+    /**
+     * Returns the index in the window to write <var>len</var> bytes to and advances the file
+     * pointer, growing the file if necessary.
+     */
+    private int writeIndex(int len)
+    {
+        checkWritable();
+        final long end = position + len;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        final int index = windowIndex(position, len);
+        position = end;
+        if (end > length)
+        {
+            length = end;
+        }
+        return index;
+    }
+
+    private void checkWritable()
+    {
+        if (readOnly)
+        {
+            throw new IOExceptionUnchecked(new IOException("File " + file
+                    + " is opened read-only."));
+        }
+    }
+
+    private void grow(long minCapacity)
+    {
+        final long increment = Math.min(Math.max(capacity, MIN_GROWTH), windowSize);
+        final long newCapacity = Math.max(minCapacity, capacity + increment);
+        try
+        {
+            randomAccessFile.setLength(newCapacity);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        capacity = newCapacity;
+    }
+
+    @Override
+    public ByteOrder getByteOrder()
+    {
+        return byteOrder;
+    }
+
+    @Override
+    public void setByteOrder(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        if (window != null)
+        {
+            window.order(byteOrder);
+        }
+    }
+
+    @Override
+    public long getFilePointer() throws IOExceptionUnchecked
+    {
+        return position;
+    }
+
+    @Override
+    public void seek(long pos) throws IOExceptionUnchecked
+    {
+        if (pos < 0)
+        {
+            throw new IOExceptionUnchecked(new IOException("Negative seek offset " + pos));
+        }
+        this.position = pos;
+    }
+
+    @Override
+    public long length() throws IOExceptionUnchecked
+    {
+        return length;
+    }
+
+    @Override
+    public void setLength(long newLength) throws IOExceptionUnchecked
+    {
+        checkWritable();
+        unmap();
+        try
+        {
+            randomAccessFile.setLength(newLength);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        length = newLength;
+        capacity = newLength;
+        if (position > newLength)
+        {
+            position = newLength;
+        }
+    }
+
+    @Override
+    public int read() throws IOExceptionUnchecked
+    {
+        if (position >= length)
+        {
+            return -1;
+        }
+        final int index = readIndex(1);
+        return window.get(index) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOExceptionUnchecked
+    {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        if (position >= length)
+        {
+            return -1;
+        }
+        final int n = (int) Math.min(len, length - position);
+        readFully(b, off, n);
+        return n;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOExceptionUnchecked
+    {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + len > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int pos = off;
+        final int end = off + len;
+        while (pos < end)
+        {
+            final int index = windowIndex(position, 1);
+            final int n = Math.min(end - pos, windowLength - index);
+            window.position(index);
+            window.get(b, pos, n);
+            pos += n;
+            position += n;
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOExceptionUnchecked
+    {
+        return (int) skip(n);
+    }
+
+    @Override
+    public long skip(long n) throws IOExceptionUnchecked
+    {
+        if (n <= 0)
+        {
+            return 0;
+        }
+        final long pos = position;
+        position = Math.max(pos, Math.min(length, pos + n));
+        return position - pos;
+    }
+
+    @Override
+    public int available() throws IOExceptionUnchecked
+    {
+        return (int) Math.max(0, Math.min(length - position, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void mark(int readlimit)
+    {
+        markedPosition = position;
+    }
+
+    @Override
+    public void reset() throws IOExceptionUnchecked
+    {
+        if (markedPosition == -1)
+        {
+            throw new IOExceptionUnchecked(new IOException("mark() not called"));
+        }
+        position = markedPosition;
+    }
+
+    @Override
+    public boolean markSupported()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(1);
+        return window.get(index) != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(1);
+        return window.get(index);
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOExceptionUnchecked
+    {
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public short readShort() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.SHORT_SIZE);
+        return window.getShort(index);
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOExceptionUnchecked
+    {
+        return readShort() & 0xffff;
+    }
+
+    @Override
+    public char readChar() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.CHAR_SIZE);
+        return window.getChar(index);
+    }
+
+    @Override
+    public int readInt() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.INT_SIZE);
+        return window.getInt(index);
+    }
+
+    @Override
+    public long readLong() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.LONG_SIZE);
+        return window.getLong(index);
+    }
+
+    @Override
+    public float readFloat() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.FLOAT_SIZE);
+        return window.getFloat(index);
+    }
+
+    @Override
+    public double readDouble() throws IOExceptionUnchecked
+    {
+        final int index = readIndex(NativeData.DOUBLE_SIZE);
+        return window.getDouble(index);
+    }
+
+    @Override
+    public String readLine() throws IOExceptionUnchecked
+    {
+        final StringBuilder input = new StringBuilder();
+        int c = -1;
+        boolean eol = false;
+        while (eol == false)
+        {
+            switch (c = read())
+            {
+                case -1:
+                case '\n':
+                    eol = true;
+                    break;
+                case '\r':
+                    eol = true;
+                    final long cur = position;
+                    if (read() != '\n')
+                    {
+                        position = cur;
+                    }
+                    break;
+                default:
+                    input.append((char) c);
+                    break;
+            }
+        }
+        if (c == -1 && input.length() == 0)
+        {
+            return null;
+        }
+        return input.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOExceptionUnchecked
+    {
+        try
+        {
+            return DataInputStream.readUTF(this);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(1);
+        window.put(index, (byte) b);
+    }
+
+    @Override
+    public void write(byte[] b) throws IOExceptionUnchecked
+    {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + len;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int pos = off;
+        final int bEnd = off + len;
+        while (pos < bEnd)
+        {
+            final int index = windowIndex(position, 1);
+            final int n = Math.min(bEnd - pos, windowLength - index);
+            window.position(index);
+            window.put(b, pos, n);
+            pos += n;
+            position += n;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void writeBoolean(boolean v) throws IOExceptionUnchecked
+    {
+        write(v ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(int v) throws IOExceptionUnchecked
+    {
+        write(v);
+    }
+
+    @Override
+    public void writeShort(int v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.SHORT_SIZE);
+        window.putShort(index, (short) v);
+    }
+
+    @Override
+    public void writeChar(int v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.CHAR_SIZE);
+        window.putChar(index, (char) v);
+    }
+
+    @Override
+    public void writeInt(int v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.INT_SIZE);
+        window.putInt(index, v);
+    }
+
+    @Override
+    public void writeLong(long v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.LONG_SIZE);
+        window.putLong(index, v);
+    }
+
+    @Override
+    public void writeFloat(float v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.FLOAT_SIZE);
+        window.putFloat(index, v);
+    }
+
+    @Override
+    public void writeDouble(double v) throws IOExceptionUnchecked
+    {
+        final int index = writeIndex(NativeData.DOUBLE_SIZE);
+        window.putDouble(index, v);
+    }
+
+    @Override
+    public void writeBytes(String s) throws IOExceptionUnchecked
+    {
+        final int len = s.length();
+        final byte[] b = new byte[len];
+        for (int i = 0; i < len; i++)
+        {
+            b[i] = (byte) s.charAt(i);
+        }
+        write(b);
+    }
+
+    @Override
+    public void writeChars(String s) throws IOExceptionUnchecked
+    {
+        final int len = s.length();
+        final byte[] b = new byte[NativeData.CHAR_SIZE * len];
+        for (int i = 0; i < len; i++)
+        {
+            final int v = s.charAt(i);
+            b[2 * i] = (byte) ((v >>> 8) & 0xFF);
+            b[2 * i + 1] = (byte) ((v >>> 0) & 0xFF);
+        }
+        write(b);
+    }
+
+    @Override
+    public void writeUTF(String str) throws IOExceptionUnchecked
+    {
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(str.length() + 2);
+            new DataOutputStream(bytes).writeUTF(str);
+            write(bytes.toByteArray());
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void flush() throws IOExceptionUnchecked
+    {
+        // NOOP
+    }
+
+    /**
+     * Forces the changes of the current window and of the file to the storage device.
+     */
+    @Override
+    public void synchronize() throws IOExceptionUnchecked
+    {
+        if (window != null && readOnly == false)
+        {
+            window.force();
+        }
+        try
+        {
+            channel.force(true);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    /**
+     * Closes the file, truncating it to its actual {@link #length()}.
+     */
+    @Override
+    public void close() throws IOExceptionUnchecked
+    {
+        if (channel.isOpen() == false)
+        {
+            return;
+        }
+        unmap();
+        try
+        {
+            if (capacity != length)
+            {
+                randomAccessFile.setLength(length);
+            }
+            randomAccessFile.close();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    //
+    // Bulk primitive arrays
+    //
+
+    @Override
+    public void readShorts(short[] dst) throws IOExceptionUnchecked
+    {
+        readShorts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readShorts(short[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.SHORT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.SHORT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.SHORT_SIZE);
+            window.position(index);
+            window.asShortBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.SHORT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeShorts(short[] src) throws IOExceptionUnchecked
+    {
+        writeShorts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeShorts(short[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.SHORT_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.SHORT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.SHORT_SIZE);
+            window.position(index);
+            window.asShortBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.SHORT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readChars(char[] dst) throws IOExceptionUnchecked
+    {
+        readChars(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readChars(char[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.CHAR_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.CHAR_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.CHAR_SIZE);
+            window.position(index);
+            window.asCharBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.CHAR_SIZE;
+        }
+    }
+
+    @Override
+    public void writeChars(char[] src) throws IOExceptionUnchecked
+    {
+        writeChars(src, 0, src.length);
+    }
+
+    @Override
+    public void writeChars(char[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.CHAR_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.CHAR_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.CHAR_SIZE);
+            window.position(index);
+            window.asCharBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.CHAR_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readInts(int[] dst) throws IOExceptionUnchecked
+    {
+        readInts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readInts(int[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.INT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.INT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.INT_SIZE);
+            window.position(index);
+            window.asIntBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.INT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeInts(int[] src) throws IOExceptionUnchecked
+    {
+        writeInts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeInts(int[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.INT_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.INT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.INT_SIZE);
+            window.position(index);
+            window.asIntBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.INT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readLongs(long[] dst) throws IOExceptionUnchecked
+    {
+        readLongs(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readLongs(long[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.LONG_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.LONG_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.LONG_SIZE);
+            window.position(index);
+            window.asLongBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.LONG_SIZE;
+        }
+    }
+
+    @Override
+    public void writeLongs(long[] src) throws IOExceptionUnchecked
+    {
+        writeLongs(src, 0, src.length);
+    }
+
+    @Override
+    public void writeLongs(long[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.LONG_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.LONG_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.LONG_SIZE);
+            window.position(index);
+            window.asLongBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.LONG_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readFloats(float[] dst) throws IOExceptionUnchecked
+    {
+        readFloats(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readFloats(float[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.FLOAT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.FLOAT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.FLOAT_SIZE);
+            window.position(index);
+            window.asFloatBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.FLOAT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeFloats(float[] src) throws IOExceptionUnchecked
+    {
+        writeFloats(src, 0, src.length);
+    }
+
+    @Override
+    public void writeFloats(float[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.FLOAT_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.FLOAT_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.FLOAT_SIZE);
+            window.position(index);
+            window.asFloatBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.FLOAT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readDoubles(double[] dst) throws IOExceptionUnchecked
+    {
+        readDoubles(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readDoubles(double[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.DOUBLE_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.DOUBLE_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.DOUBLE_SIZE);
+            window.position(index);
+            window.asDoubleBuffer().get(dst, off + i, n);
+            i += n;
+            position += n * NativeData.DOUBLE_SIZE;
+        }
+    }
+
+    @Override
+    public void writeDoubles(double[] src) throws IOExceptionUnchecked
+    {
+        writeDoubles(src, 0, src.length);
+    }
+
+    @Override
+    public void writeDoubles(double[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        checkWritable();
+        final long end = position + (long) len * NativeData.DOUBLE_SIZE;
+        if (end > capacity)
+        {
+            grow(end);
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final int index = windowIndex(position, NativeData.DOUBLE_SIZE);
+            final int n = Math.min(len - i, (windowLength - index) / NativeData.DOUBLE_SIZE);
+            window.position(index);
+            window.asDoubleBuffer().put(src, off + i, n);
+            i += n;
+            position += n * NativeData.DOUBLE_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        return "MappedRandomAccessFile(" + file + ")";
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * The {@link FileChannel} implementation of {@link IPositionalFile}. All reads and writes use
+ * {@link FileChannel#read(ByteBuffer, long)} and {@link FileChannel#write(ByteBuffer, long)} and
+ * thus do not change the position of the channel.
+ * <p>
+ * The file can be shared by threads. Note that a {@link FileChannel} is interruptible: if a
+ * thread is interrupted while it reads or writes, the channel is closed for all threads, and
+ * every later call fails with an {@link IOExceptionUnchecked} caused by a
+ * {@link java.nio.channels.ClosedChannelException}. Threads that may be interrupted should
+ * use a file of their own.
+ * 
+ * @author agent
+ */
+public class PositionalFileImpl implements IPositionalFile
+{
+
+    private final FileChannel channel;
+
+    private final ByteOrder byteOrder;
+
+    /**
+     * Creates a positional file on <var>channel</var>. Closing the positional file closes
+     * <var>channel</var>.
+     * 
+     * @param channel The channel to read from and write to.
+     * @param byteOrder The byte order to use for typed reads and writes.
+     */
+    public PositionalFileImpl(FileChannel channel, ByteOrder byteOrder)
+    {
+        this.channel = channel;
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see
+     * {@link RandomAccessFile#RandomAccessFile(File, String)}) in big-endian byte order.
+     */
+    public PositionalFileImpl(File file, String mode) throws IOExceptionUnchecked
+    {
+        this(file, mode, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Opens the file <var>name</var> with <var>mode</var> (see
+     * {@link RandomAccessFile#RandomAccessFile(String, String)}) in big-endian byte order.
+     */
+    public PositionalFileImpl(String name, String mode) throws IOExceptionUnchecked
+    {
+        this(new File(name), mode, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Opens <var>file</var> with <var>mode</var> (see
+     * {@link RandomAccessFile#RandomAccessFile(File, String)}) in the given <var>byteOrder</var>.
+     */
+    public PositionalFileImpl(File file, String mode, ByteOrder byteOrder)
+            throws IOExceptionUnchecked
+    {
+        this(open(file, mode), byteOrder);
+    }
+
+    private static FileChannel open(File file, String mode) throws IOExceptionUnchecked
+    {
+        try
+        {
+            return new RandomAccessFile(file, mode).getChannel();
+        } catch (FileNotFoundException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    /**
+     * Returns the channel of this file.
+     */
+    public final FileChannel getChannel()
+    {
+        return channel;
+    }
+
+    @Override
+    public ByteOrder getByteOrder()
+    {
+        return byteOrder;
+    }
+
+    @Override
+    public long length() throws IOExceptionUnchecked
+    {
+        try
+        {
+            return channel.size();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    /**
+     * Returns a buffer of <var>len</var> bytes for a typed read or write. A small heap buffer per
+     * call is cheaper than keeping a direct buffer per thread and file.
+     */
+    private ByteBuffer scratch(int len)
+    {
+        return ByteBuffer.allocate(len).order(byteOrder);
+    }
+
+    private ByteBuffer readScratch(long position, int len) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(len);
+        readFully(position, buf);
+        return buf;
+    }
+
+    //
+    // Reading
+    //
+
+    @Override
+    public int read(long position, ByteBuffer dst) throws IOExceptionUnchecked
+    {
+        try
+        {
+            return channel.read(dst, position);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        } catch (NonReadableChannelException ex)
+        {
+            throw new IOExceptionUnchecked(new IOException("File is not readable.", ex));
+        }
+    }
+
+    @Override
+    public void readFully(long position, ByteBuffer dst) throws IOExceptionUnchecked
+    {
+        try
+        {
+            long pos = position;
+            while (dst.hasRemaining())
+            {
+                final int n = channel.read(dst, pos);
+                if (n < 0)
+                {
+                    throw new EOFException();
+                }
+                pos += n;
+            }
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        } catch (NonReadableChannelException ex)
+        {
+            throw new IOExceptionUnchecked(new IOException("File is not readable.", ex));
+        }
+    }
+
+    @Override
+    public void readFully(long position, byte[] b, int off, int len)
+            throws IOExceptionUnchecked
+    {
+        readFully(position, ByteBuffer.wrap(b, off, len));
+    }
+
+    @Override
+    public byte readByteAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, 1).get(0);
+    }
+
+    @Override
+    public short readShortAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.SHORT_SIZE).getShort(0);
+    }
+
+    @Override
+    public char readCharAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.CHAR_SIZE).getChar(0);
+    }
+
+    @Override
+    public int readIntAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.INT_SIZE).getInt(0);
+    }
+
+    @Override
+    public long readLongAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.LONG_SIZE).getLong(0);
+    }
+
+    @Override
+    public float readFloatAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.FLOAT_SIZE).getFloat(0);
+    }
+
+    @Override
+    public double readDoubleAt(long position) throws IOExceptionUnchecked
+    {
+        return readScratch(position, NativeData.DOUBLE_SIZE).getDouble(0);
+    }
+
+    //
+    // Writing
+    //
+
+    @Override
+    public void writeFully(long position, ByteBuffer src) throws IOExceptionUnchecked
+    {
+        try
+        {
+            long pos = position;
+            while (src.hasRemaining())
+            {
+                pos += channel.write(src, pos);
+            }
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        } catch (NonWritableChannelException ex)
+        {
+            throw new IOExceptionUnchecked(new IOException("File is opened read-only.", ex));
+        }
+    }
+
+    @Override
+    public void write(long position, byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        writeFully(position, ByteBuffer.wrap(b, off, len));
+    }
+
+    @Override
+    public void writeByteAt(long position, byte v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(1);
+        buf.put(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeShortAt(long position, short v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.SHORT_SIZE);
+        buf.putShort(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeCharAt(long position, char v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.CHAR_SIZE);
+        buf.putChar(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeIntAt(long position, int v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.INT_SIZE);
+        buf.putInt(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeLongAt(long position, long v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.LONG_SIZE);
+        buf.putLong(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeFloatAt(long position, float v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.FLOAT_SIZE);
+        buf.putFloat(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void writeDoubleAt(long position, double v) throws IOExceptionUnchecked
+    {
+        final ByteBuffer buf = scratch(NativeData.DOUBLE_SIZE);
+        buf.putDouble(0, v);
+        writeFully(position, buf);
+    }
+
+    @Override
+    public void synchronize() throws IOExceptionUnchecked
+    {
+        try
+        {
+            channel.force(true);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOExceptionUnchecked
+    {
+        try
+        {
+            channel.close();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        return "PositionalFileImpl[" + channel + ", " + byteOrder + "]";
+    }
+
+}
@@ -39,6 +39,8 @@ public class RandomAccessFileImpl implements IRandomAccessFile
 
     private final RandomAccessFile randomAccessFile;
 
+    private final BufferedRandomAccessFile bufferedFileOrNull;
+
     private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
 
     private boolean changeByteOrder = ByteOrder.LITTLE_ENDIAN.equals(byteOrder);
@@ -48,6 +50,7 @@ public class RandomAccessFileImpl implements IRandomAccessFile
     public RandomAccessFileImpl(RandomAccessFile randomAccessFile)
     {
         this.randomAccessFile = randomAccessFile;
+        this.bufferedFileOrNull = null;
     }
 
     public RandomAccessFileImpl(String name, String mode) throws IOExceptionUnchecked
@@ -59,6 +62,7 @@ public class RandomAccessFileImpl implements IRandomAccessFile
         {
             throw CheckedExceptionTunnel.wrapIfNecessary(ex);
         }
+        this.bufferedFileOrNull = null;
     }
 
     public RandomAccessFileImpl(File file, String mode) throws IOExceptionUnchecked
@@ -70,6 +74,46 @@ public class RandomAccessFileImpl implements IRandomAccessFile
         {
             throw CheckedExceptionTunnel.wrapIfNecessary(ex);
         }
+        this.bufferedFileOrNull = null;
+    }
+
+    /**
+     * Opens the file <var>name</var> in buffered mode with a page buffer of <var>bufferSize</var>
+     * bytes.
+     * 
+     * @see #RandomAccessFileImpl(File, String, int)
+     */
+    public RandomAccessFileImpl(String name, String mode, int bufferSize)
+            throws IOExceptionUnchecked
+    {
+        this(new File(name), mode, bufferSize);
+    }
+
+    /**
+     * Opens <var>file</var> in buffered mode with a page buffer of <var>bufferSize</var> bytes.
+     * Reads are served from the buffer and writes are collected in it until {@link #flush()} is
+     * called, a position outside of the buffer is accessed or sought, or the file is closed. In
+     * this mode, call {@link #flush()} before using the file descriptor or the channel.
+     */
+    public RandomAccessFileImpl(File file, String mode, int bufferSize)
+            throws IOExceptionUnchecked
+    {
+        try
+        {
+            this.bufferedFileOrNull = new BufferedRandomAccessFile(file, mode, bufferSize);
+        } catch (FileNotFoundException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        this.randomAccessFile = bufferedFileOrNull;
+    }
+
+    /**
+     * Returns <code>true</code>, if this file is in buffered mode.
+     */
+    public boolean isBuffered()
+    {
+        return bufferedFileOrNull != null;
     }
 
     public final FileDescriptor getFD() throws IOException
@@ -82,6 +126,20 @@ public class RandomAccessFileImpl implements IRandomAccessFile
         return randomAccessFile.getChannel();
     }
 
+    /**
+     * Returns an {@link IPositionalFile} on the channel of this file that uses the current byte
+     * order. Its reads and writes do not change the file pointer of this file, so it can be shared
+     * by concurrent readers. Closing it closes this file.
+     * <p>
+     * In buffered mode, the buffer is flushed before the positional file is returned, but writes
+     * to this file after that are only visible to the positional file after {@link #flush()}.
+     */
+    public IPositionalFile asPositionalFile()
+    {
+        flush();
+        return new PositionalFileImpl(getChannel(), byteOrder);
+    }
+
     @Override
     public ByteOrder getByteOrder()
     {
@@ -506,25 +564,29 @@ public class RandomAccessFileImpl implements IRandomAccessFile
     @Override
     public final void writeBytes(String s) throws IOExceptionUnchecked
     {
-        try
+        // Not delegated to randomAccessFile.writeBytes() as that bypasses the buffered mode.
+        final int len = s.length();
+        final byte[] b = new byte[len];
+        for (int i = 0; i < len; i++)
         {
-            randomAccessFile.writeBytes(s);
-        } catch (IOException ex)
-        {
-            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+            b[i] = (byte) s.charAt(i);
         }
+        write(b);
     }
 
     @Override
     public final void writeChars(String s) throws IOExceptionUnchecked
     {
-        try
-        {
-            randomAccessFile.writeChars(s);
-        } catch (IOException ex)
+        // Not delegated to randomAccessFile.writeChars() as that bypasses the buffered mode.
+        final int len = s.length();
+        final byte[] b = new byte[2 * len];
+        for (int i = 0; i < len; i++)
         {
-            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+            final int v = s.charAt(i);
+            b[2 * i] = (byte) ((v >>> 8) & 0xFF);
+            b[2 * i + 1] = (byte) ((v >>> 0) & 0xFF);
         }
+        write(b);
     }
 
     @Override
@@ -608,12 +670,23 @@ public class RandomAccessFileImpl implements IRandomAccessFile
     @Override
     public void flush() throws IOExceptionUnchecked
     {
-        // NOOP
+        if (bufferedFileOrNull == null)
+        {
+            return;
+        }
+        try
+        {
+            bufferedFileOrNull.flush();
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
     }
 
     @Override
     public void synchronize() throws IOExceptionUnchecked
     {
+        flush();
         try
         {
             randomAccessFile.getFD().sync();
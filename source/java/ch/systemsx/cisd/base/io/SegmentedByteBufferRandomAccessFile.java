@@ -0,0 +1,1216 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * An implementation of {@link IRandomAccessFile} in memory that grows automatically when written
+ * beyond its capacity and supports <code>long</code> positions.
+ * <p>
+ * The content is held in a chain of {@link ByteBuffer} segments of equal size (heap or direct).
+ * As long as the content fits into one segment, the first segment is reallocated with geometric
+ * growth. Beyond that, new segments are appended, so existing content is never copied again. Use
+ * {@link #toByteBuffers()} or {@link #writeTo(GatheringByteChannel)} to export the content
+ * without copying.
+ * 
+ * @author agent
+ */
+public class SegmentedByteBufferRandomAccessFile implements IRandomAccessFile
+{
+
+    /**
+     * The default size of a segment as power of 2 (1 MiB).
+     */
+    public static final int DEFAULT_SEGMENT_SHIFT = 20;
+
+    private static final int MIN_CAPACITY = 64;
+
+    private static final byte[] ZEROS = new byte[4096];
+
+    private final boolean direct;
+
+    private final int segmentShift;
+
+    private final int segmentSize;
+
+    private final int segmentMask;
+
+    private final ByteBuffer scratch = ByteBuffer.allocate(NativeData.LONG_SIZE);
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private ByteBuffer[] segments = new ByteBuffer[1];
+
+    private int numberOfSegments;
+
+    private long capacity;
+
+    private long position;
+
+    private long length;
+
+    private long markedPosition = -1;
+
+    /**
+     * Creates an empty file with heap segments of the default size.
+     */
+    public SegmentedByteBufferRandomAccessFile()
+    {
+        this(false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates an empty file with segments of the default size.
+     * 
+     * @param direct If <code>true</code>, use direct buffers for the segments, otherwise heap
+     *            buffers.
+     */
+    public SegmentedByteBufferRandomAccessFile(boolean direct)
+    {
+        this(direct, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates an empty file.
+     * 
+     * @param direct If <code>true</code>, use direct buffers for the segments, otherwise heap
+     *            buffers.
+     * @param segmentShift The size of a segment as power of 2, between 3 and 30.
+     */
+    public SegmentedByteBufferRandomAccessFile(boolean direct, int segmentShift)
+    {
+        if (segmentShift < 3 || segmentShift > 30)
+        {
+            throw new IllegalArgumentException("Segment shift " + segmentShift
+                    + " out of range [3, 30].");
+        }
+        this.direct = direct;
+        this.segmentShift = segmentShift;
+        this.segmentSize = 1 << segmentShift;
+        this.segmentMask = segmentSize - 1;
+    }
+
+    private int segment(long pos)
+    {
+        return (int) (pos >>> segmentShift);
+    }
+
+    private int index(long pos)
+    {
+        return (int) (pos & segmentMask);
+    }
+
+    private ByteBuffer allocate(int size)
+    {
+        final ByteBuffer buf = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        return buf.order(byteOrder);
+    }
+
+    /**
+     * Ensures that the segments can hold at least <var>minCapacity</var> bytes.
+     */
+    private void ensureCapacity(long minCapacity)
+    {
+        if (minCapacity <= capacity)
+        {
+            return;
+        }
+        if (minCapacity <= segmentSize)
+        {
+            resizeFirstSegment((int) Math.min(segmentSize,
+                    Math.max(minCapacity, Math.max(2 * capacity, MIN_CAPACITY))));
+            return;
+        }
+        if (capacity < segmentSize)
+        {
+            resizeFirstSegment(segmentSize);
+        }
+        final long required = (minCapacity + segmentMask) >>> segmentShift;
+        if (required > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Capacity " + minCapacity + " too large.");
+        }
+        if (required > segments.length)
+        {
+            segments =
+                    Arrays.copyOf(segments, (int) Math.min(Integer.MAX_VALUE,
+                            Math.max(required, 2L * segments.length)));
+        }
+        for (int i = numberOfSegments; i < required; ++i)
+        {
+            segments[i] = allocate(segmentSize);
+        }
+        numberOfSegments = (int) required;
+        capacity = required << segmentShift;
+    }
+
+    private void resizeFirstSegment(int newCapacity)
+    {
+        final ByteBuffer newSegment = allocate(newCapacity);
+        if (numberOfSegments > 0)
+        {
+            final ByteBuffer oldSegment = segments[0];
+            oldSegment.clear();
+            newSegment.put(oldSegment);
+        }
+        segments[0] = newSegment;
+        numberOfSegments = 1;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns the segment that holds <code>[pos, pos + len)</code>, or <code>null</code>, if this
+     * range crosses a segment boundary.
+     */
+    private ByteBuffer segmentOrNull(long pos, int len)
+    {
+        final ByteBuffer segment = segments[segment(pos)];
+        return (index(pos) + len <= segment.capacity()) ? segment : null;
+    }
+
+    /**
+     * Returns the position to read <var>len</var> bytes from and advances the file pointer.
+     */
+    private long readPosition(int len)
+    {
+        if (position + len > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        final long pos = position;
+        position += len;
+        return pos;
+    }
+
+    /**
+     * Returns the position to write <var>len</var> bytes to and advances the file pointer,
+     * growing the file if necessary.
+     */
+    private long writePosition(int len)
+    {
+        final long pos = position;
+        final long end = pos + len;
+        ensureCapacity(end);
+        position = end;
+        if (end > length)
+        {
+            length = end;
+        }
+        return pos;
+    }
+
+    private ByteBuffer readScratch(long pos, int len)
+    {
+        getBytes(pos, scratch.array(), 0, len);
+        return scratch;
+    }
+
+    private void getBytes(long pos, byte[] b, int off, int len)
+    {
+        int done = 0;
+        while (done < len)
+        {
+            final ByteBuffer segment = segments[segment(pos + done)];
+            final int index = index(pos + done);
+            final int n = Math.min(len - done, segment.capacity() - index);
+            segment.position(index);
+            segment.get(b, off + done, n);
+            done += n;
+        }
+    }
+
+    private void putBytes(long pos, byte[] b, int off, int len)
+    {
+        int done = 0;
+        while (done < len)
+        {
+            final ByteBuffer segment = segments[segment(pos + done)];
+            final int index = index(pos + done);
+            final int n = Math.min(len - done, segment.capacity() - index);
+            segment.position(index);
+            segment.put(b, off + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * Returns the number of bytes this file can hold without allocating more memory.
+     */
+    public long capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Returns the content of this file as an array of buffers, suitable for a gathering write (see
+     * {@link GatheringByteChannel#write(ByteBuffer[])}). The buffers share their content with this
+     * file and together hold {@link #length()} bytes.
+     */
+    public ByteBuffer[] toByteBuffers()
+    {
+        final int n = (int) ((length + segmentMask) >>> segmentShift);
+        final ByteBuffer[] buffers = new ByteBuffer[n];
+        for (int i = 0; i < n; ++i)
+        {
+            final ByteBuffer buf = segments[i].duplicate();
+            buf.clear();
+            buf.limit((int) Math.min(buf.capacity(), length - ((long) i << segmentShift)));
+            buffers[i] = buf.order(byteOrder);
+        }
+        return buffers;
+    }
+
+    /**
+     * Writes the content of this file to <var>channel</var> with gathering writes.
+     * 
+     * @return The number of bytes written, which is {@link #length()}.
+     * @throws IOExceptionUnchecked If an I/O error occurs or if <var>channel</var> accepts no
+     *             bytes, e.g. a non-blocking channel that is not ready for writing.
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOExceptionUnchecked
+    {
+        final ByteBuffer[] buffers = toByteBuffers();
+        long written = 0;
+        try
+        {
+            while (written < length)
+            {
+                final long n = channel.write(buffers);
+                if (n <= 0)
+                {
+                    throw new IOException("Channel accepted no bytes after " + written + " of "
+                            + length + " bytes.");
+                }
+                written += n;
+            }
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+        return written;
+    }
+
+    @Override
+    public ByteOrder getByteOrder()
+    {
+        return byteOrder;
+    }
+
+    @Override
+    public void setByteOrder(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        scratch.order(byteOrder);
+        for (int i = 0; i < numberOfSegments; ++i)
+        {
+            segments[i].order(byteOrder);
+        }
+    }
+
+    @Override
+    public long getFilePointer() throws IOExceptionUnchecked
+    {
+        return position;
+    }
+
+    @Override
+    public void seek(long pos) throws IOExceptionUnchecked
+    {
+        if (pos < 0)
+        {
+            throw new IOExceptionUnchecked(new IOException("Negative seek offset " + pos));
+        }
+        this.position = pos;
+    }
+
+    @Override
+    public long length() throws IOExceptionUnchecked
+    {
+        return length;
+    }
+
+    /**
+     * Sets the length of this file. When the file is extended, the extended portion is filled
+     * with zeros.
+     */
+    @Override
+    public void setLength(long newLength) throws IOExceptionUnchecked
+    {
+        if (newLength < 0)
+        {
+            throw new IOExceptionUnchecked(new IOException("Negative length " + newLength));
+        }
+        if (newLength > length)
+        {
+            ensureCapacity(newLength);
+        } else
+        {
+            // Zero the cut off content, so that it doesn't re-appear when the file grows again.
+            for (long pos = newLength; pos < length; pos += ZEROS.length)
+            {
+                putBytes(pos, ZEROS, 0, (int) Math.min(ZEROS.length, length - pos));
+            }
+        }
+        length = newLength;
+        if (position > newLength)
+        {
+            position = newLength;
+        }
+    }
+
+    @Override
+    public int read() throws IOExceptionUnchecked
+    {
+        if (position >= length)
+        {
+            return -1;
+        }
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOExceptionUnchecked
+    {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        if (position >= length)
+        {
+            return -1;
+        }
+        final int n = (int) Math.min(len, length - position);
+        readFully(b, off, n);
+        return n;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOExceptionUnchecked
+    {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        getBytes(readPosition(len), b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOExceptionUnchecked
+    {
+        return (int) skip(n);
+    }
+
+    @Override
+    public long skip(long n) throws IOExceptionUnchecked
+    {
+        if (n <= 0)
+        {
+            return 0;
+        }
+        final long pos = position;
+        position = Math.max(pos, Math.min(length, pos + n));
+        return position - pos;
+    }
+
+    @Override
+    public int available() throws IOExceptionUnchecked
+    {
+        return (int) Math.max(0, Math.min(length - position, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void mark(int readlimit)
+    {
+        markedPosition = position;
+    }
+
+    @Override
+    public void reset() throws IOExceptionUnchecked
+    {
+        if (markedPosition == -1)
+        {
+            throw new IOExceptionUnchecked(new IOException("mark() not called"));
+        }
+        position = markedPosition;
+    }
+
+    @Override
+    public boolean markSupported()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOExceptionUnchecked
+    {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(1);
+        return segments[segment(pos)].get(index(pos));
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOExceptionUnchecked
+    {
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOExceptionUnchecked
+    {
+        return readShort() & 0xffff;
+    }
+
+    @Override
+    public short readShort() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.SHORT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.SHORT_SIZE);
+        if (segment != null)
+        {
+            return segment.getShort(index(pos));
+        }
+        return readScratch(pos, NativeData.SHORT_SIZE).getShort(0);
+    }
+
+    @Override
+    public char readChar() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.CHAR_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.CHAR_SIZE);
+        if (segment != null)
+        {
+            return segment.getChar(index(pos));
+        }
+        return readScratch(pos, NativeData.CHAR_SIZE).getChar(0);
+    }
+
+    @Override
+    public int readInt() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.INT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.INT_SIZE);
+        if (segment != null)
+        {
+            return segment.getInt(index(pos));
+        }
+        return readScratch(pos, NativeData.INT_SIZE).getInt(0);
+    }
+
+    @Override
+    public long readLong() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.LONG_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.LONG_SIZE);
+        if (segment != null)
+        {
+            return segment.getLong(index(pos));
+        }
+        return readScratch(pos, NativeData.LONG_SIZE).getLong(0);
+    }
+
+    @Override
+    public float readFloat() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.FLOAT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.FLOAT_SIZE);
+        if (segment != null)
+        {
+            return segment.getFloat(index(pos));
+        }
+        return readScratch(pos, NativeData.FLOAT_SIZE).getFloat(0);
+    }
+
+    @Override
+    public double readDouble() throws IOExceptionUnchecked
+    {
+        final long pos = readPosition(NativeData.DOUBLE_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.DOUBLE_SIZE);
+        if (segment != null)
+        {
+            return segment.getDouble(index(pos));
+        }
+        return readScratch(pos, NativeData.DOUBLE_SIZE).getDouble(0);
+    }
+
+    @Override
+    public String readLine() throws IOExceptionUnchecked
+    {
+        final StringBuilder input = new StringBuilder();
+        int c = -1;
+        boolean eol = false;
+        while (eol == false)
+        {
+            switch (c = read())
+            {
+                case -1:
+                case '\n':
+                    eol = true;
+                    break;
+                case '\r':
+                    eol = true;
+                    final long cur = position;
+                    if (read() != '\n')
+                    {
+                        position = cur;
+                    }
+                    break;
+                default:
+                    input.append((char) c);
+                    break;
+            }
+        }
+        if (c == -1 && input.length() == 0)
+        {
+            return null;
+        }
+        return input.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOExceptionUnchecked
+    {
+        try
+        {
+            return DataInputStream.readUTF(this);
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(1);
+        segments[segment(pos)].put(index(pos), (byte) b);
+    }
+
+    @Override
+    public void write(byte[] b) throws IOExceptionUnchecked
+    {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        putBytes(writePosition(len), b, off, len);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) throws IOExceptionUnchecked
+    {
+        write(v ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(int v) throws IOExceptionUnchecked
+    {
+        write(v);
+    }
+
+    @Override
+    public void writeShort(int v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.SHORT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.SHORT_SIZE);
+        if (segment != null)
+        {
+            segment.putShort(index(pos), (short) v);
+        } else
+        {
+            scratch.putShort(0, (short) v);
+            putBytes(pos, scratch.array(), 0, NativeData.SHORT_SIZE);
+        }
+    }
+
+    @Override
+    public void writeChar(int v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.CHAR_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.CHAR_SIZE);
+        if (segment != null)
+        {
+            segment.putChar(index(pos), (char) v);
+        } else
+        {
+            scratch.putChar(0, (char) v);
+            putBytes(pos, scratch.array(), 0, NativeData.CHAR_SIZE);
+        }
+    }
+
+    @Override
+    public void writeInt(int v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.INT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.INT_SIZE);
+        if (segment != null)
+        {
+            segment.putInt(index(pos), v);
+        } else
+        {
+            scratch.putInt(0, v);
+            putBytes(pos, scratch.array(), 0, NativeData.INT_SIZE);
+        }
+    }
+
+    @Override
+    public void writeLong(long v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.LONG_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.LONG_SIZE);
+        if (segment != null)
+        {
+            segment.putLong(index(pos), v);
+        } else
+        {
+            scratch.putLong(0, v);
+            putBytes(pos, scratch.array(), 0, NativeData.LONG_SIZE);
+        }
+    }
+
+    @Override
+    public void writeFloat(float v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.FLOAT_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.FLOAT_SIZE);
+        if (segment != null)
+        {
+            segment.putFloat(index(pos), v);
+        } else
+        {
+            scratch.putFloat(0, v);
+            putBytes(pos, scratch.array(), 0, NativeData.FLOAT_SIZE);
+        }
+    }
+
+    @Override
+    public void writeDouble(double v) throws IOExceptionUnchecked
+    {
+        final long pos = writePosition(NativeData.DOUBLE_SIZE);
+        final ByteBuffer segment = segmentOrNull(pos, NativeData.DOUBLE_SIZE);
+        if (segment != null)
+        {
+            segment.putDouble(index(pos), v);
+        } else
+        {
+            scratch.putDouble(0, v);
+            putBytes(pos, scratch.array(), 0, NativeData.DOUBLE_SIZE);
+        }
+    }
+
+    @Override
+    public void writeBytes(String s) throws IOExceptionUnchecked
+    {
+        final int len = s.length();
+        final byte[] b = new byte[len];
+        for (int i = 0; i < len; i++)
+        {
+            b[i] = (byte) s.charAt(i);
+        }
+        write(b);
+    }
+
+    @Override
+    public void writeChars(String s) throws IOExceptionUnchecked
+    {
+        final int len = s.length();
+        final byte[] b = new byte[NativeData.CHAR_SIZE * len];
+        for (int i = 0; i < len; i++)
+        {
+            final int v = s.charAt(i);
+            b[2 * i] = (byte) ((v >>> 8) & 0xFF);
+            b[2 * i + 1] = (byte) ((v >>> 0) & 0xFF);
+        }
+        write(b);
+    }
+
+    @Override
+    public void writeUTF(String str) throws IOExceptionUnchecked
+    {
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(str.length() + 2);
+            new DataOutputStream(bytes).writeUTF(str);
+            write(bytes.toByteArray());
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+    @Override
+    public void flush() throws IOExceptionUnchecked
+    {
+        // NOOP
+    }
+
+    @Override
+    public void synchronize() throws IOExceptionUnchecked
+    {
+        // NOOP
+    }
+
+    @Override
+    public void close() throws IOExceptionUnchecked
+    {
+        // NOOP
+    }
+
+    //
+    // Bulk primitive arrays
+    //
+
+    @Override
+    public void readShorts(short[] dst) throws IOExceptionUnchecked
+    {
+        readShorts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readShorts(short[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.SHORT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.SHORT_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readShort();
+                continue;
+            }
+            segment.position(index);
+            segment.asShortBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.SHORT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeShorts(short[] src) throws IOExceptionUnchecked
+    {
+        writeShorts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeShorts(short[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.SHORT_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.SHORT_SIZE);
+            if (n == 0)
+            {
+                writeShort(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asShortBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.SHORT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readChars(char[] dst) throws IOExceptionUnchecked
+    {
+        readChars(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readChars(char[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.CHAR_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.CHAR_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readChar();
+                continue;
+            }
+            segment.position(index);
+            segment.asCharBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.CHAR_SIZE;
+        }
+    }
+
+    @Override
+    public void writeChars(char[] src) throws IOExceptionUnchecked
+    {
+        writeChars(src, 0, src.length);
+    }
+
+    @Override
+    public void writeChars(char[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.CHAR_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.CHAR_SIZE);
+            if (n == 0)
+            {
+                writeChar(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asCharBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.CHAR_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readInts(int[] dst) throws IOExceptionUnchecked
+    {
+        readInts(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readInts(int[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.INT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.INT_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readInt();
+                continue;
+            }
+            segment.position(index);
+            segment.asIntBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.INT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeInts(int[] src) throws IOExceptionUnchecked
+    {
+        writeInts(src, 0, src.length);
+    }
+
+    @Override
+    public void writeInts(int[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.INT_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.INT_SIZE);
+            if (n == 0)
+            {
+                writeInt(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asIntBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.INT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readLongs(long[] dst) throws IOExceptionUnchecked
+    {
+        readLongs(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readLongs(long[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.LONG_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.LONG_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readLong();
+                continue;
+            }
+            segment.position(index);
+            segment.asLongBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.LONG_SIZE;
+        }
+    }
+
+    @Override
+    public void writeLongs(long[] src) throws IOExceptionUnchecked
+    {
+        writeLongs(src, 0, src.length);
+    }
+
+    @Override
+    public void writeLongs(long[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.LONG_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.LONG_SIZE);
+            if (n == 0)
+            {
+                writeLong(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asLongBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.LONG_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readFloats(float[] dst) throws IOExceptionUnchecked
+    {
+        readFloats(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readFloats(float[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.FLOAT_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.FLOAT_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readFloat();
+                continue;
+            }
+            segment.position(index);
+            segment.asFloatBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.FLOAT_SIZE;
+        }
+    }
+
+    @Override
+    public void writeFloats(float[] src) throws IOExceptionUnchecked
+    {
+        writeFloats(src, 0, src.length);
+    }
+
+    @Override
+    public void writeFloats(float[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.FLOAT_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.FLOAT_SIZE);
+            if (n == 0)
+            {
+                writeFloat(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asFloatBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.FLOAT_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+    @Override
+    public void readDoubles(double[] dst) throws IOExceptionUnchecked
+    {
+        readDoubles(dst, 0, dst.length);
+    }
+
+    @Override
+    public void readDoubles(double[] dst, int off, int len) throws IOExceptionUnchecked
+    {
+        if (position + (long) len * NativeData.DOUBLE_SIZE > length)
+        {
+            throw new IOExceptionUnchecked(new EOFException());
+        }
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.DOUBLE_SIZE);
+            if (n == 0)
+            {
+                dst[off + i++] = readDouble();
+                continue;
+            }
+            segment.position(index);
+            segment.asDoubleBuffer().get(dst, off + i, n);
+            i += n;
+            position += (long) n * NativeData.DOUBLE_SIZE;
+        }
+    }
+
+    @Override
+    public void writeDoubles(double[] src) throws IOExceptionUnchecked
+    {
+        writeDoubles(src, 0, src.length);
+    }
+
+    @Override
+    public void writeDoubles(double[] src, int off, int len) throws IOExceptionUnchecked
+    {
+        if (len == 0)
+        {
+            return;
+        }
+        final long end = position + (long) len * NativeData.DOUBLE_SIZE;
+        ensureCapacity(end);
+        int i = 0;
+        while (i < len)
+        {
+            final ByteBuffer segment = segments[segment(position)];
+            final int index = index(position);
+            final int n = Math.min(len - i, (segment.capacity() - index) / NativeData.DOUBLE_SIZE);
+            if (n == 0)
+            {
+                writeDouble(src[off + i++]);
+                continue;
+            }
+            segment.position(index);
+            segment.asDoubleBuffer().put(src, off + i, n);
+            i += n;
+            position += (long) n * NativeData.DOUBLE_SIZE;
+        }
+        if (end > length)
+        {
+            length = end;
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * Comparison and hashing of the first <var>length</var> elements of flattened arrays. The results
+ * are the same as {@link java.util.Arrays#equals} and {@link java.util.Arrays#hashCode} on
+ * copies of the ranges, but without copying.
+ * 
+ * @author agent
+ */
+final class FlatArrays
+{
+    private FlatArrays()
+    {
+        // Not to be instantiated.
+    }
+
+    static boolean equals(byte[] array1, byte[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (array1[i] != array2[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(byte[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static boolean equals(short[] array1, short[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (array1[i] != array2[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(short[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static boolean equals(int[] array1, int[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (array1[i] != array2[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(int[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    static boolean equals(long[] array1, long[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (array1[i] != array2[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(long[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            result = 31 * result + (int) (array[i] ^ (array[i] >>> 32));
+        }
+        return result;
+    }
+
+    static boolean equals(float[] array1, float[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (Float.floatToIntBits(array1[i]) != Float.floatToIntBits(array2[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(float[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            result = 31 * result + Float.floatToIntBits(array[i]);
+        }
+        return result;
+    }
+
+    static boolean equals(double[] array1, double[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            if (Double.doubleToLongBits(array1[i]) != Double.doubleToLongBits(array2[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(double[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            final long bits = Double.doubleToLongBits(array[i]);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+        }
+        return result;
+    }
+
+    static boolean equals(Object[] array1, Object[] array2, int length)
+    {
+        for (int i = 0; i < length; ++i)
+        {
+            final Object element1 = array1[i];
+            final Object element2 = array2[i];
+            if ((element1 == null) ? (element2 != null) : (element1.equals(element2) == false))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(Object[] array, int length)
+    {
+        int result = 1;
+        for (int i = 0; i < length; ++i)
+        {
+            final Object element = array[i];
+            result = 31 * result + ((element == null) ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+}
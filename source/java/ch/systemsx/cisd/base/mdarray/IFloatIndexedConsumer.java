@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * A consumer of the elements of a {@link MDFloatArray} that gets the linear index and the
+ * primitive value of each element.
+ *
+ * @author agent
+ */
+public interface IFloatIndexedConsumer
+{
+
+    /**
+     * Accepts the element with the given <var>linearIndex</var> and <var>value</var>.
+     */
+    public void accept(int linearIndex, float value);
+
+}
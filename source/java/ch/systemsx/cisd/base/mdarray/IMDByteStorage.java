@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * The storage of a multi-dimensional <code>byte</code> array, addressed with <code>long</code>
+ * indices.
+ * 
+ * @author agent
+ */
+public interface IMDByteStorage extends IMDStorage
+{
+    /**
+     * Returns the value of the array at the linear <var>index</var>.
+     */
+    public byte get(long index);
+
+    /**
+     * Sets the <var>value</var> of the array at the linear <var>index</var>.
+     */
+    public void set(byte value, long index);
+
+    /**
+     * Copies <var>len</var> values starting at linear index <var>start</var> to <var>data</var>,
+     * starting at <var>dataStart</var>.
+     */
+    public void copyTo(long start, byte[] data, int dataStart, int len);
+
+    /**
+     * Copies <var>len</var> values from <var>data</var>, starting at <var>dataStart</var>, to the
+     * array, starting at linear index <var>start</var>.
+     */
+    public void copyFrom(byte[] data, int dataStart, long start, int len);
+}
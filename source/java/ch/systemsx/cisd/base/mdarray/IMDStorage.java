@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * The storage of a multi-dimensional array, addressed with <code>long</code> indices. Implemented
+ * by the on-heap MD arrays, the off-heap MD arrays and the chunked MD arrays, so code that works
+ * on this interface is not limited to arrays of <code>Integer.MAX_VALUE</code> elements.
+ * 
+ * @author agent
+ */
+public interface IMDStorage
+{
+    /**
+     * Returns the rank of the array.
+     */
+    public int rank();
+
+    /**
+     * Returns a copy of the dimensions of the array as <code>long[]</code>.
+     */
+    public long[] longDimensions();
+
+    /**
+     * Returns the number of elements in the array.
+     */
+    public long longSize();
+
+    /**
+     * Computes the linear index for the multi-dimensional <var>indices</var> provided.
+     */
+    public long computeIndex(long... indices);
+}
@@ -32,7 +32,7 @@ import org.apache.commons.lang3.ClassUtils;
  * @author Bernd Rinn
  */
 public abstract class MDAbstractArray<T> implements Serializable,
-        Iterable<MDAbstractArray<T>.ArrayEntry>
+        Iterable<MDAbstractArray<T>.ArrayEntry>, IMDStorage
 {
     private static final long serialVersionUID = 1L;
 
@@ -81,6 +81,67 @@ public abstract class MDAbstractArray<T> implements Serializable,
         }
     }
 
+    /**
+     * A cursor over the elements of a {@link MDAbstractArray} in order of the linear index. The
+     * cursor updates its multi-dimensional index in place, so it doesn't allocate objects while
+     * iterating.
+     */
+    public final class Cursor
+    {
+        private final int[] index = new int[dimensions.length];
+
+        private int linearIndex = -1;
+
+        Cursor()
+        {
+        }
+
+        /**
+         * Moves the cursor to the next element.
+         * 
+         * @return <code>true</code>, if the cursor is on an element, <code>false</code> if the end
+         *         of the array has been reached.
+         */
+        public boolean next()
+        {
+            if (linearIndex + 1 >= size)
+            {
+                linearIndex = size;
+                return false;
+            }
+            if (++linearIndex > 0)
+            {
+                for (int d = index.length - 1; d >= 0; --d)
+                {
+                    if (++index[d] < dimensions[d])
+                    {
+                        break;
+                    }
+                    index[d] = 0;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The multi-dimensional index of the current element.
+         * <p>
+         * <i>The returned array is updated in place by {@link #next()}. Do not modify it.</i>
+         */
+        public int[] getIndex()
+        {
+            return index;
+        }
+
+        /**
+         * The linear index of the current element.
+         */
+        public int getLinearIndex()
+        {
+            return linearIndex;
+        }
+    }
+
     protected MDAbstractArray(int[] dimensions, int arrayLength, int capacityHyperRows)
     {
         assert dimensions != null;
@@ -171,6 +232,12 @@ public abstract class MDAbstractArray<T> implements Serializable,
         return size;
     }
     
+    @Override
+    public long longSize()
+    {
+        return size;
+    }
+
     /**
      * Returns the current number of hyper rows of of this array.
      */
@@ -273,6 +340,48 @@ public abstract class MDAbstractArray<T> implements Serializable,
         return index;
     }
 
+    @Override
+    public long computeIndex(long... indices)
+    {
+        assert indices != null;
+        assert indices.length == dimensions.length;
+
+        long index = indices[0];
+        for (int i = 1; i < indices.length; ++i)
+        {
+            index = index * dimensions[i] + indices[i];
+        }
+        return index;
+    }
+
+    /**
+     * Checks that the linear <var>index</var> is within the array and returns it as
+     * <code>int</code>.
+     */
+    protected final int checkIndex(long index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size
+                    + ").");
+        }
+        return (int) index;
+    }
+
+    /**
+     * Checks that the range <code>[start, start + len)</code> is within the array and returns
+     * <var>start</var> as <code>int</code>.
+     */
+    protected final int checkRange(long start, int len)
+    {
+        if (start < 0 || len < 0 || start + len > size)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + (start + len)
+                    + ") out of range [0, " + size + ").");
+        }
+        return (int) start;
+    }
+
     /**
      * Computes the multi-dimensional index from the <var>linearIndex</var>.
      */
@@ -424,6 +533,14 @@ public abstract class MDAbstractArray<T> implements Serializable,
         return intLength;
     }
 
+    /**
+     * Returns a new {@link Cursor} that is positioned before the first element of this array.
+     */
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
     //
     // Iterable
     //
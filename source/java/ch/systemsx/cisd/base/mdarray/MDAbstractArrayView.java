@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Base class of a view of a hyperslab of a multi-dimensional array. A view shares the flattened
+ * array of the array it has been created from, it only maps its own indices to the indices of the
+ * flattened array by means of an offset and a stride per dimension. Changes to the view thus
+ * change the array and vice versa.
+ * <p>
+ * <i>Note that a view is detached from its array when the array re-allocates its flattened array,
+ * e.g. because its number of hyper-rows is increased beyond its capacity.</i>
+ * 
+ * @author agent
+ */
+public abstract class MDAbstractArrayView
+{
+    protected final Object flattenedArray;
+
+    protected final int[] dimensions;
+
+    protected final int[] strides;
+
+    protected final int offset;
+
+    protected final int size;
+
+    protected MDAbstractArrayView(Object flattenedArray, int[] dimensions, int[] strides,
+            int offset)
+    {
+        assert dimensions.length == strides.length;
+
+        this.flattenedArray = flattenedArray;
+        this.dimensions = dimensions;
+        this.strides = strides;
+        this.offset = offset;
+        int len = 1;
+        for (int d : dimensions)
+        {
+            len *= d;
+        }
+        this.size = len;
+    }
+
+    /**
+     * Returns the strides of an array with <var>dimensions</var> stored in row-major order.
+     */
+    static int[] computeStrides(int[] dimensions)
+    {
+        final int[] strides = new int[dimensions.length];
+        int stride = 1;
+        for (int i = dimensions.length - 1; i >= 0; --i)
+        {
+            strides[i] = stride;
+            stride *= dimensions[i];
+        }
+        return strides;
+    }
+
+    /**
+     * Returns an array of <var>length</var> with all elements set to 1.
+     */
+    static int[] ones(int length)
+    {
+        final int[] ones = new int[length];
+        Arrays.fill(ones, 1);
+        return ones;
+    }
+
+    /**
+     * Returns the index in the flattened array of the hyperslab starting at
+     * <var>hyperslabOffset</var>.
+     * 
+     * @throws IllegalArgumentException If the hyperslab is not within this view.
+     */
+    protected final int computeHyperslabOffset(int[] hyperslabOffset, int[] block, int[] stride)
+    {
+        if (hyperslabOffset.length != dimensions.length || block.length != dimensions.length
+                || stride.length != dimensions.length)
+        {
+            throw new IllegalArgumentException("Hyperslab needs to have rank " + dimensions.length
+                    + ".");
+        }
+        int index = offset;
+        for (int i = 0; i < dimensions.length; ++i)
+        {
+            if (hyperslabOffset[i] < 0 || block[i] < 0 || stride[i] < 1
+                    || (block[i] > 0 && hyperslabOffset[i] + (long) (block[i] - 1) * stride[i]
+                            >= dimensions[i]))
+            {
+                throw new IllegalArgumentException("Hyperslab [offset=" + hyperslabOffset[i]
+                        + ", block=" + block[i] + ", stride=" + stride[i] + "] of dimension " + i
+                        + " is outside of [0, " + dimensions[i] + ").");
+            }
+            index += hyperslabOffset[i] * strides[i];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the strides in the flattened array of a hyperslab with <var>stride</var>.
+     */
+    protected final int[] computeHyperslabStrides(int[] stride)
+    {
+        final int[] hyperslabStrides = new int[strides.length];
+        for (int i = 0; i < strides.length; ++i)
+        {
+            hyperslabStrides[i] = strides[i] * stride[i];
+        }
+        return hyperslabStrides;
+    }
+
+    /**
+     * Checks that <var>dim</var> and <var>index</var> define a valid slice of this view.
+     */
+    protected final void checkSlice(int dim, int index)
+    {
+        if (dim < 0 || dim >= dimensions.length)
+        {
+            throw new IllegalArgumentException("Dimension " + dim + " is outside of [0, "
+                    + dimensions.length + ").");
+        }
+        if (index < 0 || index >= dimensions[dim])
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " of dimension " + dim
+                    + " is outside of [0, " + dimensions[dim] + ").");
+        }
+    }
+
+    /**
+     * Returns the rank of the view.
+     */
+    public int rank()
+    {
+        return dimensions.length;
+    }
+
+    /**
+     * Returns the extent of the view along its <var>dim</var>-th axis.
+     */
+    public int size(int dim)
+    {
+        assert dim < dimensions.length;
+
+        return dimensions[dim];
+    }
+
+    /**
+     * Returns a copy of the dimensions of the view.
+     */
+    public int[] dimensions()
+    {
+        return dimensions.clone();
+    }
+
+    /**
+     * Returns the number of elements in the view.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Computes the index in the flattened array for the multi-dimensional <var>indices</var> of
+     * the view.
+     */
+    public int computeIndex(int... indices)
+    {
+        assert indices != null;
+        assert indices.length == dimensions.length;
+
+        int index = offset;
+        for (int i = 0; i < indices.length; ++i)
+        {
+            assert indices[i] >= 0 && indices[i] < dimensions[i];
+            index += indices[i] * strides[i];
+        }
+        return index;
+    }
+
+    /**
+     * Copies all elements of the view to <var>target</var> in row-major order, starting at
+     * <var>targetStart</var>.
+     */
+    protected final void copyToArray(Object target, int targetStart)
+    {
+        transfer(target, targetStart, true);
+    }
+
+    /**
+     * Copies {@link #size()} elements from <var>source</var> in row-major order, starting at
+     * <var>sourceStart</var>, to the view.
+     */
+    protected final void copyFromArray(Object source, int sourceStart)
+    {
+        transfer(source, sourceStart, false);
+    }
+
+    private void transfer(Object other, int otherStart, boolean toOther)
+    {
+        if (size == 0)
+        {
+            return;
+        }
+        final int rank = dimensions.length;
+        if (rank == 0)
+        {
+            transferRun(offset, 1, 1, other, otherStart, toOther);
+            return;
+        }
+        // Collapse the innermost dimensions that are contiguous in the flattened array to a
+        // single run.
+        final int runStride = strides[rank - 1];
+        int runLength = dimensions[rank - 1];
+        int outerRank = rank - 1;
+        while (runStride == 1 && outerRank > 0 && strides[outerRank - 1] == runLength)
+        {
+            --outerRank;
+            runLength *= dimensions[outerRank];
+        }
+        final int[] counter = new int[outerRank];
+        int index = offset;
+        final int otherEnd = otherStart + size;
+        for (int otherIndex = otherStart; otherIndex < otherEnd; otherIndex += runLength)
+        {
+            transferRun(index, runStride, runLength, other, otherIndex, toOther);
+            for (int d = outerRank - 1; d >= 0; --d)
+            {
+                index += strides[d];
+                if (++counter[d] < dimensions[d])
+                {
+                    break;
+                }
+                index -= strides[d] * dimensions[d];
+                counter[d] = 0;
+            }
+        }
+    }
+
+    private void transferRun(int index, int stride, int length, Object other, int otherIndex,
+            boolean toOther)
+    {
+        if (stride == 1)
+        {
+            if (toOther)
+            {
+                System.arraycopy(flattenedArray, index, other, otherIndex, length);
+            } else
+            {
+                System.arraycopy(other, otherIndex, flattenedArray, index, length);
+            }
+        } else
+        {
+            transferStridedRun(index, stride, length, other, otherIndex, toOther);
+        }
+    }
+
+    /**
+     * Copies a run of <var>length</var> elements with <var>stride</var> in the flattened array,
+     * starting at <var>index</var>, to <var>other</var> (if <var>toOther</var> is
+     * <code>true</code>) or from <var>other</var> (otherwise). The run in <var>other</var> is
+     * contiguous, starting at <var>otherIndex</var>.
+     */
+    protected abstract void transferStridedRun(int index, int stride, int length, Object other,
+            int otherIndex, boolean toOther);
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder b = new StringBuilder();
+        b.append(ClassUtils.getShortCanonicalName(this.getClass()));
+        b.append('(');
+        b.append(ArrayUtils.toString(dimensions));
+        b.append(')');
+        return b.toString();
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Base class of a multi-dimensional array that keeps its data on the Java heap in a list of
+ * fixed-size primitive arrays, the <i>chunks</i>. The <var>dimensions</var> of an array are
+ * provided as a <code>long[]</code> and all indices are <code>long</code>, thus the number of
+ * elements is not limited to <code>Integer.MAX_VALUE</code>.
+ * <p>
+ * All chunks but the last one have a length of <code>2^chunkShift</code> elements, so the chunk
+ * and the position within the chunk of a linear index are computed by a shift and a mask.
+ * Dimensions <code>1...n</code> form a <i>hyper-row</i>, like in {@link MDAbstractArray}, and the
+ * linear index is computed the same way. The dimensions are fixed once the array is created.
+ * 
+ * @author agent
+ */
+public abstract class MDAbstractChunkedArray implements IMDStorage
+{
+    /**
+     * The default chunk shift, chunks have 16M elements.
+     */
+    public static final int DEFAULT_CHUNK_SHIFT = 24;
+
+    protected final long[] dimensions;
+
+    protected final long hyperRowLength;
+
+    protected final long size;
+
+    protected final int chunkShift;
+
+    protected final int chunkMask;
+
+    protected MDAbstractChunkedArray(long[] dimensions, int chunkShift)
+    {
+        assert dimensions != null;
+
+        if (chunkShift < 0 || chunkShift > 30)
+        {
+            throw new IllegalArgumentException("Illegal chunk shift " + chunkShift);
+        }
+        this.dimensions = dimensions.clone();
+        long hyperRowLen = 1;
+        long sizeOfDimensions = 0;
+        try
+        {
+            for (int i = 0; i < dimensions.length; ++i)
+            {
+                if (dimensions[i] < 0)
+                {
+                    throw new IllegalArgumentException("Negative dimension in "
+                            + ArrayUtils.toString(dimensions));
+                }
+                if (i > 0)
+                {
+                    hyperRowLen = Math.multiplyExact(hyperRowLen, dimensions[i]);
+                }
+            }
+            if (dimensions.length > 0)
+            {
+                sizeOfDimensions = Math.multiplyExact(dimensions[0], hyperRowLen);
+            }
+        } catch (ArithmeticException ex)
+        {
+            throw new IllegalArgumentException("Size of dimensions "
+                    + ArrayUtils.toString(dimensions) + " overflows the long type.");
+        }
+        if ((sizeOfDimensions >>> chunkShift) >= Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Illegal dimensions "
+                    + ArrayUtils.toString(dimensions));
+        }
+        this.hyperRowLength = hyperRowLen;
+        this.size = sizeOfDimensions;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    /**
+     * Returns the length of the chunk with the given <var>index</var>.
+     */
+    public final int getChunkLength(int index)
+    {
+        return (int) Math.min(1L << chunkShift, size - ((long) index << chunkShift));
+    }
+
+    /**
+     * Returns the number of chunks of this array.
+     */
+    public final int getNumberOfChunks()
+    {
+        return (int) ((size + chunkMask) >>> chunkShift);
+    }
+
+    /**
+     * Returns the index of the chunk that contains the linear <var>index</var>.
+     */
+    protected final int chunk(long index)
+    {
+        return (int) (index >>> chunkShift);
+    }
+
+    /**
+     * Returns the position of the linear <var>index</var> within its chunk.
+     */
+    protected final int positionInChunk(long index)
+    {
+        return (int) index & chunkMask;
+    }
+
+    /**
+     * Checks that the range <code>[start, start + len)</code> is within the array.
+     */
+    protected final void checkRange(long start, int len)
+    {
+        if (start < 0 || len < 0 || start + len > size)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + (start + len)
+                    + ") out of range [0, " + size + ").");
+        }
+    }
+
+    /**
+     * Returns the rank of the array.
+     */
+    @Override
+    public int rank()
+    {
+        return dimensions.length;
+    }
+
+    /**
+     * Returns the extent of the array along its <var>dim</var>-th axis.
+     */
+    public long size(int dim)
+    {
+        assert dim < dimensions.length;
+
+        return dimensions[dim];
+    }
+
+    /**
+     * Returns a copy of the dimensions of the multi-dimensional array.
+     */
+    public long[] dimensions()
+    {
+        return dimensions.clone();
+    }
+
+    @Override
+    public long[] longDimensions()
+    {
+        return dimensions.clone();
+    }
+
+    /**
+     * Returns the number of elements in the array.
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    @Override
+    public long longSize()
+    {
+        return size;
+    }
+
+    /**
+     * Computes the linear index for the multi-dimensional <var>indices</var> provided.
+     */
+    @Override
+    public long computeIndex(long... indices)
+    {
+        assert indices != null;
+        assert indices.length == dimensions.length;
+
+        long index = indices[0];
+        for (int i = 1; i < indices.length; ++i)
+        {
+            index = index * dimensions[i] + indices[i];
+        }
+        return index;
+    }
+
+    /**
+     * Computes the linear index for the two-dimensional (<var>indexX, indexY</var>) provided.
+     */
+    public long computeIndex(long indexX, long indexY)
+    {
+        assert 2 == dimensions.length;
+
+        return dimensions[1] * indexX + indexY;
+    }
+
+    /**
+     * Computes the linear index for the three-dimensional (<var>indexX, indexY, indexZ</var>)
+     * provided.
+     */
+    public long computeIndex(long indexX, long indexY, long indexZ)
+    {
+        assert 3 == dimensions.length;
+
+        return dimensions[2] * (dimensions[1] * indexX + indexY) + indexZ;
+    }
+
+    /**
+     * Computes the multi-dimensional index from the <var>linearIndex</var>.
+     * 
+     * @throws IndexOutOfBoundsException If <var>linearIndex</var> is not in
+     *             <code>[0, size)</code>, which includes every index of an empty array.
+     */
+    public long[] computeReverseIndex(long linearIndex)
+    {
+        if (linearIndex < 0 || linearIndex >= size)
+        {
+            throw new IndexOutOfBoundsException("Linear index " + linearIndex
+                    + " out of range [0, " + size + ").");
+        }
+        final long[] index = new long[dimensions.length];
+        long workIndex = linearIndex;
+        long blockSize = size;
+        for (int i = 0; i < dimensions.length; ++i)
+        {
+            blockSize /= dimensions[i];
+            index[i] = workIndex / blockSize;
+            workIndex = workIndex - index[i] * blockSize;
+        }
+        return index;
+    }
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder b = new StringBuilder();
+        b.append(ClassUtils.getShortCanonicalName(this.getClass()));
+        b.append('(');
+        b.append(ArrayUtils.toString(dimensions));
+        b.append(')');
+        return b.toString();
+    }
+
+}
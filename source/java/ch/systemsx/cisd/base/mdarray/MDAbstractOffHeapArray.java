@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+import ch.systemsx.cisd.base.utilities.DirectBufferCleaner;
+
+/**
+ * Base class of a multi-dimensional array that keeps its data off the Java heap in direct
+ * {@link ByteBuffer}s. The <var>dimensions</var> of an array are provided as a
+ * <code>long[]</code> and all indices are <code>long</code>, thus the number of elements is not
+ * limited to <code>Integer.MAX_VALUE</code>.
+ * <p>
+ * Dimensions <code>1...n</code> form a <i>hyper-row</i>, like in {@link MDAbstractArray}, and the
+ * linear index is computed the same way. Contrary to {@link MDAbstractArray}, the dimensions are
+ * fixed once the array is created.
+ * <p>
+ * The off-heap memory is released when {@link #close()} is called or, if it isn't, when the array
+ * is garbage collected. The array must not be accessed during or after {@link #close()}.
+ * 
+ * @author agent
+ */
+public abstract class MDAbstractOffHeapArray implements IMDStorage, AutoCloseable
+{
+    private static final int REGION_SHIFT = 30;
+
+    protected final long[] dimensions;
+
+    protected final long hyperRowLength;
+
+    protected final long size;
+
+    protected final int elementSize;
+
+    protected final int regionShift;
+
+    protected final long regionMask;
+
+    protected ByteBuffer[] regions;
+
+    protected MDAbstractOffHeapArray(long[] dimensions, int elementSize)
+    {
+        this(dimensions, elementSize, REGION_SHIFT);
+    }
+
+    MDAbstractOffHeapArray(long[] dimensions, int elementSize, int regionShift)
+    {
+        assert dimensions != null;
+
+        this.dimensions = dimensions.clone();
+        this.elementSize = elementSize;
+        long hyperRowLen = 1;
+        long sizeOfDimensions = 0;
+        try
+        {
+            for (int i = 0; i < dimensions.length; ++i)
+            {
+                if (dimensions[i] < 0)
+                {
+                    throw new IllegalArgumentException("Negative dimension in "
+                            + ArrayUtils.toString(dimensions));
+                }
+                if (i > 0)
+                {
+                    hyperRowLen = Math.multiplyExact(hyperRowLen, dimensions[i]);
+                }
+            }
+            if (dimensions.length > 0)
+            {
+                sizeOfDimensions = Math.multiplyExact(dimensions[0], hyperRowLen);
+            }
+        } catch (ArithmeticException ex)
+        {
+            throw new IllegalArgumentException("Size of dimensions "
+                    + ArrayUtils.toString(dimensions) + " overflows the long type.");
+        }
+        if (sizeOfDimensions > Long.MAX_VALUE / elementSize)
+        {
+            throw new IllegalArgumentException("Illegal dimensions "
+                    + ArrayUtils.toString(dimensions));
+        }
+        this.hyperRowLength = hyperRowLen;
+        this.size = sizeOfDimensions;
+        this.regionShift = regionShift;
+        this.regionMask = (1L << regionShift) - 1;
+        this.regions = allocate(size * elementSize, regionShift);
+    }
+
+    private static ByteBuffer[] allocate(long sizeInBytes, int regionShift)
+    {
+        final long regionSize = 1L << regionShift;
+        final int regionCount = (int) Math.max(1, (sizeInBytes + regionSize - 1) >>> regionShift);
+        final ByteBuffer[] buffers = new ByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; ++i)
+        {
+            final long len = Math.min(regionSize, sizeInBytes - i * regionSize);
+            buffers[i] = ByteBuffer.allocateDirect((int) len).order(ByteOrder.nativeOrder());
+        }
+        return buffers;
+    }
+
+    /**
+     * Returns the region that contains the byte <var>offset</var>.
+     */
+    protected final ByteBuffer region(long offset)
+    {
+        return regions[(int) (offset >>> regionShift)];
+    }
+
+    /**
+     * Returns a duplicate of the region that contains the byte <var>offset</var>, positioned at
+     * it.
+     */
+    protected final ByteBuffer regionAt(long offset)
+    {
+        final ByteBuffer region = region(offset).duplicate().order(ByteOrder.nativeOrder());
+        region.position((int) (offset & regionMask));
+        return region;
+    }
+
+    /**
+     * Returns the number of bytes from <var>offset</var> to the end of its region.
+     */
+    protected final long getRemainingInRegion(long offset)
+    {
+        return region(offset).limit() - (offset & regionMask);
+    }
+
+    /**
+     * Checks that the range <code>[start, start + len)</code> is within the array.
+     */
+    protected final void checkRange(long start, int len)
+    {
+        if (start < 0 || len < 0 || start + len > size)
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + (start + len)
+                    + ") out of range [0, " + size + ").");
+        }
+    }
+
+    /**
+     * Returns the rank of the array.
+     */
+    @Override
+    public int rank()
+    {
+        return dimensions.length;
+    }
+
+    /**
+     * Returns the extent of the array along its <var>dim</var>-th axis.
+     */
+    public long size(int dim)
+    {
+        assert dim < dimensions.length;
+
+        return dimensions[dim];
+    }
+
+    /**
+     * Returns a copy of the dimensions of the multi-dimensional array.
+     */
+    public long[] dimensions()
+    {
+        return dimensions.clone();
+    }
+
+    /**
+     * Returns the number of elements in the array.
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    @Override
+    public long[] longDimensions()
+    {
+        return dimensions.clone();
+    }
+
+    @Override
+    public long longSize()
+    {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code>, if the off-heap memory of this array has been released.
+     */
+    public boolean isClosed()
+    {
+        return regions == null;
+    }
+
+    /**
+     * Computes the linear index for the multi-dimensional <var>indices</var> provided.
+     */
+    @Override
+    public long computeIndex(long... indices)
+    {
+        assert indices != null;
+        assert indices.length == dimensions.length;
+
+        long index = indices[0];
+        for (int i = 1; i < indices.length; ++i)
+        {
+            index = index * dimensions[i] + indices[i];
+        }
+        return index;
+    }
+
+    /**
+     * Computes the linear index for the two-dimensional (<var>indexX, indexY</var>) provided.
+     */
+    public long computeIndex(long indexX, long indexY)
+    {
+        assert 2 == dimensions.length;
+
+        return dimensions[1] * indexX + indexY;
+    }
+
+    /**
+     * Computes the linear index for the three-dimensional (<var>indexX, indexY, indexZ</var>)
+     * provided.
+     */
+    public long computeIndex(long indexX, long indexY, long indexZ)
+    {
+        assert 3 == dimensions.length;
+
+        return dimensions[2] * (dimensions[1] * indexX + indexY) + indexZ;
+    }
+
+    /**
+     * Computes the multi-dimensional index from the <var>linearIndex</var>.
+     * 
+     * @throws IndexOutOfBoundsException If <var>linearIndex</var> is not in
+     *             <code>[0, size)</code>, which includes every index of an empty array.
+     */
+    public long[] computeReverseIndex(long linearIndex)
+    {
+        if (linearIndex < 0 || linearIndex >= size)
+        {
+            throw new IndexOutOfBoundsException("Linear index " + linearIndex
+                    + " out of range [0, " + size + ").");
+        }
+        final long[] index = new long[dimensions.length];
+        long workIndex = linearIndex;
+        long blockSize = size;
+        for (int i = 0; i < dimensions.length; ++i)
+        {
+            blockSize /= dimensions[i];
+            index[i] = workIndex / blockSize;
+            workIndex = workIndex - index[i] * blockSize;
+        }
+        return index;
+    }
+
+    /**
+     * Releases the off-heap memory of this array. Calling this method more than once has no
+     * effect.
+     */
+    @Override
+    public void close()
+    {
+        final ByteBuffer[] buffers = regions;
+        if (buffers == null)
+        {
+            return;
+        }
+        regions = null;
+        for (ByteBuffer buffer : buffers)
+        {
+            DirectBufferCleaner.clean(buffer);
+        }
+    }
+
+    //
+    // Object
+    //
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder b = new StringBuilder();
+        b.append(ClassUtils.getShortCanonicalName(this.getClass()));
+        b.append('(');
+        b.append(ArrayUtils.toString(dimensions));
+        b.append(')');
+        if (isClosed())
+        {
+            b.append(" [closed]");
+        }
+        return b.toString();
+    }
+
+}
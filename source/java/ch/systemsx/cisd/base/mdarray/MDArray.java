@@ -289,7 +289,7 @@ public class MDArray<T> extends MDAbstractArray<T>
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.hashCode(getValuesAsFlatArray());
+        result = prime * result + FlatArrays.hashCode(flattenedArray, size);
         result = prime * result + Arrays.hashCode(dimensions);
         return result;
     }
@@ -310,22 +310,13 @@ public class MDArray<T> extends MDAbstractArray<T>
             return false;
         }
         final MDArray<T> other = toMDArray(obj);
-        if (Arrays.equals(getValuesAsFlatArray(), other.getValuesAsFlatArray()) == false)
-        {
-            return false;
-        }
         if (Arrays.equals(dimensions, other.dimensions) == false)
         {
             return false;
         }
-        return true;
+        return FlatArrays.equals(flattenedArray, other.flattenedArray, size);
     }
 
-    private T[] getValuesAsFlatArray()
-    {
-        return (dimensions[0] < capacityHyperRows) ? getCopyAsFlatArray() : getAsFlatArray(); 
-    }
-    
     @SuppressWarnings("unchecked")
     private MDArray<T> toMDArray(Object obj)
     {
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+
+/**
+ * The serialized form of the primitive MD arrays. Writes the type, the dimensions and only the
+ * live elements (<code>[0, size)</code>) of the flattened array in big-endian byte order, no
+ * matter how large the capacity of the array is. The elements are converted in chunks with
+ * {@link NativeData}. The deserialized array has no spare capacity.
+ * <p>
+ * The dimensions in the stream are not trusted: the arrays for the dimensions and the elements
+ * start small and grow as the data actually arrives, so a stream that declares a large array
+ * but ends early fails with an {@link java.io.EOFException} instead of allocating the declared
+ * size.
+ * <p>
+ * Arrays that have been serialized before this form was introduced are still read by the
+ * <code>readObject()</code> methods of the array classes. The reverse does not hold: versions of
+ * the library before this class was introduced can not read streams written in this form.
+ * 
+ * @author agent
+ */
+final class MDArraySerializationProxy implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    /** The size of the byte buffer used for converting the elements. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The initial length of the dimensions array when reading. */
+    private static final int INITIAL_RANK = 16;
+
+    private static final byte BYTE = 1;
+
+    private static final byte SHORT = 2;
+
+    private static final byte INT = 3;
+
+    private static final byte LONG = 4;
+
+    private static final byte FLOAT = 5;
+
+    private static final byte DOUBLE = 6;
+
+    private MDAbstractArray<?> array;
+
+    /**
+     * Constructor for deserialization only.
+     */
+    public MDArraySerializationProxy()
+    {
+    }
+
+    MDArraySerializationProxy(MDAbstractArray<?> array)
+    {
+        this.array = array;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        final int[] dimensions = array.dimensions;
+        out.writeByte(getType(array));
+        out.writeInt(dimensions.length);
+        for (int dimension : dimensions)
+        {
+            out.writeInt(dimension);
+        }
+        final int size = array.size();
+        if (array instanceof MDByteArray)
+        {
+            out.write(((MDByteArray) array).getAsFlatArray(), 0, size);
+        } else if (array instanceof MDShortArray)
+        {
+            writeShorts(out, ((MDShortArray) array).getAsFlatArray(), size);
+        } else if (array instanceof MDIntArray)
+        {
+            writeInts(out, ((MDIntArray) array).getAsFlatArray(), size);
+        } else if (array instanceof MDLongArray)
+        {
+            writeLongs(out, ((MDLongArray) array).getAsFlatArray(), size);
+        } else if (array instanceof MDFloatArray)
+        {
+            writeFloats(out, ((MDFloatArray) array).getAsFlatArray(), size);
+        } else
+        {
+            writeDoubles(out, ((MDDoubleArray) array).getAsFlatArray(), size);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        final byte type = in.readByte();
+        final int rank = in.readInt();
+        if (rank < 0)
+        {
+            throw new InvalidObjectException("Negative rank " + rank + ".");
+        }
+        int[] dimensions = new int[Math.min(rank, INITIAL_RANK)];
+        long size = (rank == 0) ? 0 : 1;
+        for (int i = 0; i < rank; ++i)
+        {
+            if (i == dimensions.length)
+            {
+                dimensions = Arrays.copyOf(dimensions, grow(dimensions.length, rank));
+            }
+            dimensions[i] = in.readInt();
+            if (dimensions[i] < 0)
+            {
+                throw new InvalidObjectException("Negative dimension " + dimensions[i] + ".");
+            }
+            size = Math.min(size * dimensions[i], Integer.MAX_VALUE + 1L);
+        }
+        if (size > Integer.MAX_VALUE)
+        {
+            throw new InvalidObjectException("Array size of dimensions "
+                    + Arrays.toString(dimensions) + " is too large.");
+        }
+        switch (type)
+        {
+            case BYTE:
+                array = new MDByteArray(readBytes(in, (int) size), dimensions);
+                break;
+            case SHORT:
+                array = new MDShortArray(readShorts(in, (int) size), dimensions);
+                break;
+            case INT:
+                array = new MDIntArray(readInts(in, (int) size), dimensions);
+                break;
+            case LONG:
+                array = new MDLongArray(readLongs(in, (int) size), dimensions);
+                break;
+            case FLOAT:
+                array = new MDFloatArray(readFloats(in, (int) size), dimensions);
+                break;
+            case DOUBLE:
+                array = new MDDoubleArray(readDoubles(in, (int) size), dimensions);
+                break;
+            default:
+                throw new InvalidObjectException("Unknown array type " + type + ".");
+        }
+    }
+
+    private Object readResolve()
+    {
+        return array;
+    }
+
+    private static byte getType(MDAbstractArray<?> array)
+    {
+        if (array instanceof MDByteArray)
+        {
+            return BYTE;
+        } else if (array instanceof MDShortArray)
+        {
+            return SHORT;
+        } else if (array instanceof MDIntArray)
+        {
+            return INT;
+        } else if (array instanceof MDLongArray)
+        {
+            return LONG;
+        } else if (array instanceof MDFloatArray)
+        {
+            return FLOAT;
+        } else if (array instanceof MDDoubleArray)
+        {
+            return DOUBLE;
+        }
+        throw new IllegalArgumentException("Unsupported array type "
+                + array.getClass().getSimpleName() + ".");
+    }
+
+    private static byte[] createBuffer(int size, int elementSize)
+    {
+        return new byte[Math.min(size, BUFFER_SIZE / elementSize) * elementSize];
+    }
+
+    /**
+     * Returns the doubled <var>length</var> of an array that is read, but no more than its
+     * declared <var>size</var>.
+     */
+    private static int grow(int length, int size)
+    {
+        return (int) Math.min(size, 2L * length);
+    }
+
+    private static byte[] readBytes(ObjectInput in, int size) throws IOException
+    {
+        byte[] data = new byte[Math.min(size, BUFFER_SIZE)];
+        for (int start = 0; start < size; start += BUFFER_SIZE)
+        {
+            final int length = Math.min(BUFFER_SIZE, size - start);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            in.readFully(data, start, length);
+        }
+        return data;
+    }
+
+    private static void writeShorts(ObjectOutput out, short[] data, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 2);
+        final int chunkLength = buffer.length / 2;
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            NativeData.copyShortToByte(data, start, buffer, 0, length, ByteOrder.BIG_ENDIAN);
+            out.write(buffer, 0, length * 2);
+        }
+    }
+
+    private static short[] readShorts(ObjectInput in, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 2);
+        final int chunkLength = buffer.length / 2;
+        short[] data = new short[chunkLength];
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            in.readFully(buffer, 0, length * 2);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            NativeData.copyByteToShort(buffer, 0, data, start, length, ByteOrder.BIG_ENDIAN);
+        }
+        return data;
+    }
+
+    private static void writeInts(ObjectOutput out, int[] data, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 4);
+        final int chunkLength = buffer.length / 4;
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            NativeData.copyIntToByte(data, start, buffer, 0, length, ByteOrder.BIG_ENDIAN);
+            out.write(buffer, 0, length * 4);
+        }
+    }
+
+    private static int[] readInts(ObjectInput in, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 4);
+        final int chunkLength = buffer.length / 4;
+        int[] data = new int[chunkLength];
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            in.readFully(buffer, 0, length * 4);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            NativeData.copyByteToInt(buffer, 0, data, start, length, ByteOrder.BIG_ENDIAN);
+        }
+        return data;
+    }
+
+    private static void writeLongs(ObjectOutput out, long[] data, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 8);
+        final int chunkLength = buffer.length / 8;
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            NativeData.copyLongToByte(data, start, buffer, 0, length, ByteOrder.BIG_ENDIAN);
+            out.write(buffer, 0, length * 8);
+        }
+    }
+
+    private static long[] readLongs(ObjectInput in, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 8);
+        final int chunkLength = buffer.length / 8;
+        long[] data = new long[chunkLength];
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            in.readFully(buffer, 0, length * 8);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            NativeData.copyByteToLong(buffer, 0, data, start, length, ByteOrder.BIG_ENDIAN);
+        }
+        return data;
+    }
+
+    private static void writeFloats(ObjectOutput out, float[] data, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 4);
+        final int chunkLength = buffer.length / 4;
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            NativeData.copyFloatToByte(data, start, buffer, 0, length, ByteOrder.BIG_ENDIAN);
+            out.write(buffer, 0, length * 4);
+        }
+    }
+
+    private static float[] readFloats(ObjectInput in, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 4);
+        final int chunkLength = buffer.length / 4;
+        float[] data = new float[chunkLength];
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            in.readFully(buffer, 0, length * 4);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            NativeData.copyByteToFloat(buffer, 0, data, start, length, ByteOrder.BIG_ENDIAN);
+        }
+        return data;
+    }
+
+    private static void writeDoubles(ObjectOutput out, double[] data, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 8);
+        final int chunkLength = buffer.length / 8;
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            NativeData.copyDoubleToByte(data, start, buffer, 0, length, ByteOrder.BIG_ENDIAN);
+            out.write(buffer, 0, length * 8);
+        }
+    }
+
+    private static double[] readDoubles(ObjectInput in, int size) throws IOException
+    {
+        final byte[] buffer = createBuffer(size, 8);
+        final int chunkLength = buffer.length / 8;
+        double[] data = new double[chunkLength];
+        for (int start = 0; start < size; start += chunkLength)
+        {
+            final int length = Math.min(chunkLength, size - start);
+            in.readFully(buffer, 0, length * 8);
+            if (start + length > data.length)
+            {
+                data = Arrays.copyOf(data, grow(data.length, size));
+            }
+            NativeData.copyByteToDouble(buffer, 0, data, start, length, ByteOrder.BIG_ENDIAN);
+        }
+        return data;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A view of a hyperslab of a {@link MDByteArray}.
+ * 
+ * @see MDAbstractArrayView
+ * @author agent
+ */
+public final class MDByteArrayView extends MDAbstractArrayView
+{
+    private final byte[] array;
+
+    MDByteArrayView(byte[] flattenedArray, int[] dimensions, int[] strides, int offset)
+    {
+        super(flattenedArray, dimensions, strides, offset);
+        this.array = flattenedArray;
+    }
+
+    /**
+     * Returns the value of the view at the position defined by <var>indices</var>.
+     */
+    public byte get(int... indices)
+    {
+        return array[computeIndex(indices)];
+    }
+
+    /**
+     * Sets the <var>value</var> of the view at the position defined by <var>indices</var>.
+     */
+    public void set(byte value, int... indices)
+    {
+        array[computeIndex(indices)] = value;
+    }
+
+    /**
+     * Returns a view of the hyperslab of this view that starts at <var>offset</var> and has the
+     * extent <var>block</var>.
+     */
+    public MDByteArrayView view(int[] hyperslabOffset, int[] block)
+    {
+        return view(hyperslabOffset, block, ones(block.length));
+    }
+
+    /**
+     * Returns a view of the hyperslab of this view that starts at <var>offset</var>, has the
+     * extent <var>block</var> and takes every <var>stride</var>-th element along each axis.
+     */
+    public MDByteArrayView view(int[] hyperslabOffset, int[] block, int[] stride)
+    {
+        final int start = computeHyperslabOffset(hyperslabOffset, block, stride);
+        return new MDByteArrayView(array, block.clone(), computeHyperslabStrides(stride), start);
+    }
+
+    /**
+     * Returns a view of rank <code>rank() - 1</code> of the elements of this view where the index
+     * along axis <var>dim</var> is <var>index</var>.
+     */
+    public MDByteArrayView slice(int dim, int index)
+    {
+        checkSlice(dim, index);
+        return new MDByteArrayView(array, ArrayUtils.remove(dimensions, dim), ArrayUtils.remove(
+                strides, dim), offset + index * strides[dim]);
+    }
+
+    /**
+     * Copies all elements of the view to <var>target</var> in row-major order, starting at
+     * <var>targetStart</var>.
+     */
+    public void copyTo(byte[] target, int targetStart)
+    {
+        copyToArray(target, targetStart);
+    }
+
+    /**
+     * Copies {@link #size()} elements from <var>source</var> in row-major order, starting at
+     * <var>sourceStart</var>, to the view.
+     */
+    public void copyFrom(byte[] source, int sourceStart)
+    {
+        copyFromArray(source, sourceStart);
+    }
+
+    /**
+     * Returns a copy of the view as an independent {@link MDByteArray}.
+     */
+    public MDByteArray toMDArray()
+    {
+        final byte[] data = new byte[size];
+        copyTo(data, 0);
+        return new MDByteArray(data, dimensions.clone());
+    }
+
+    @Override
+    protected void transferStridedRun(int index, int stride, int length, Object other,
+            int otherIndex, boolean toOther)
+    {
+        final byte[] otherArray = (byte[]) other;
+        int idx = index;
+        if (toOther)
+        {
+            for (int i = otherIndex; i < otherIndex + length; ++i, idx += stride)
+            {
+                otherArray[i] = array[idx];
+            }
+        } else
+        {
+            for (int i = otherIndex; i < otherIndex + length; ++i, idx += stride)
+            {
+                array[idx] = otherArray[i];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * A multi-dimensional <code>long</code> array that keeps its data on the Java heap in chunks and
+ * can thus have more than <code>Integer.MAX_VALUE</code> elements.
+ * 
+ * @author agent
+ */
+public final class MDChunkedLongArray extends MDAbstractChunkedArray implements IMDLongStorage
+{
+    private final long[][] chunks;
+
+    /**
+     * Creates a chunked array with the <var>dimensions</var>, initialized with 0.
+     */
+    public MDChunkedLongArray(long[] dimensions)
+    {
+        this(dimensions, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates a chunked array with the <var>dimensions</var>, initialized with 0.
+     */
+    public MDChunkedLongArray(int[] dimensions)
+    {
+        this(MDAbstractArray.toLong(dimensions));
+    }
+
+    /**
+     * Creates a chunked copy of <var>array</var>.
+     */
+    public MDChunkedLongArray(MDLongArray array)
+    {
+        this(array.longDimensions());
+        copyFrom(array.getAsFlatArray(), 0, 0, array.size());
+    }
+
+    /**
+     * Creates a chunked array with the <var>dimensions</var> and chunks of
+     * <code>2^chunkShift</code> elements, initialized with 0.
+     */
+    public MDChunkedLongArray(long[] dimensions, int chunkShift)
+    {
+        super(dimensions, chunkShift);
+        this.chunks = new long[getNumberOfChunks()][];
+        for (int i = 0; i < chunks.length; ++i)
+        {
+            chunks[i] = new long[getChunkLength(i)];
+        }
+    }
+
+    /**
+     * Returns the chunk with the given <var>index</var>. All chunks but the last one have the same
+     * length. Changes to the chunk are reflected in the array.
+     */
+    public long[] getChunk(int index)
+    {
+        return chunks[index];
+    }
+
+    /**
+     * Returns the value of array at the position defined by <var>indices</var>.
+     */
+    public long get(long... indices)
+    {
+        return get(computeIndex(indices));
+    }
+
+    /**
+     * Returns the value of array at the linear <var>index</var>.
+     */
+    @Override
+    public long get(long index)
+    {
+        return chunks[chunk(index)][positionInChunk(index)];
+    }
+
+    /**
+     * Returns the value of a two-dimensional array at the position defined by <var>indexX</var> and
+     * <var>indexY</var>.
+     * <p>
+     * <b>Do not call for arrays other than two-dimensional!</b>
+     */
+    public long get(long indexX, long indexY)
+    {
+        return get(computeIndex(indexX, indexY));
+    }
+
+    /**
+     * Returns the value of a three-dimensional array at the position defined by <var>indexX</var>,
+     * <var>indexY</var> and <var>indexZ</var>.
+     * <p>
+     * <b>Do not call for arrays other than three-dimensional!</b>
+     */
+    public long get(long indexX, long indexY, long indexZ)
+    {
+        return get(computeIndex(indexX, indexY, indexZ));
+    }
+
+    /**
+     * Sets the <var>value</var> of array at the position defined by <var>indices</var>.
+     */
+    public void set(long value, long... indices)
+    {
+        set(value, computeIndex(indices));
+    }
+
+    /**
+     * Sets the <var>value</var> of array at the linear <var>index</var>.
+     */
+    @Override
+    public void set(long value, long index)
+    {
+        chunks[chunk(index)][positionInChunk(index)] = value;
+    }
+
+    /**
+     * Sets the <var>value</var> of a two-dimensional array at the position defined by
+     * <var>indexX</var> and <var>indexY</var>.
+     * <p>
+     * <b>Do not call for arrays other than two-dimensional!</b>
+     */
+    public void set(long value, long indexX, long indexY)
+    {
+        set(value, computeIndex(indexX, indexY));
+    }
+
+    /**
+     * Sets the <var>value</var> of a three-dimensional array at the position defined by
+     * <var>indexX</var>, <var>indexY</var> and <var>indexZ</var>.
+     * <p>
+     * <b>Do not call for arrays other than three-dimensional!</b>
+     */
+    public void set(long value, long indexX, long indexY, long indexZ)
+    {
+        set(value, computeIndex(indexX, indexY, indexZ));
+    }
+
+    @Override
+    public void copyTo(long start, long[] data, int dataStart, int len)
+    {
+        checkRange(start, len);
+        long index = start;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final long[] chunk = chunks[chunk(index)];
+            final int positionInChunk = positionInChunk(index);
+            final int n = Math.min(end - pos, chunk.length - positionInChunk);
+            System.arraycopy(chunk, positionInChunk, data, pos, n);
+            pos += n;
+            index += n;
+        }
+    }
+
+    @Override
+    public void copyFrom(long[] data, int dataStart, long start, int len)
+    {
+        checkRange(start, len);
+        long index = start;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final long[] chunk = chunks[chunk(index)];
+            final int positionInChunk = positionInChunk(index);
+            final int n = Math.min(end - pos, chunk.length - positionInChunk);
+            System.arraycopy(data, pos, chunk, positionInChunk, n);
+            pos += n;
+            index += n;
+        }
+    }
+
+    /**
+     * Returns a non-chunked copy of this array.
+     * 
+     * @throws IllegalArgumentException If this array is too large for an {@link MDLongArray}.
+     */
+    public MDLongArray toMDArray()
+    {
+        final int[] intDimensions = MDAbstractArray.toInt(dimensions);
+        final long[] data = new long[MDAbstractArray.getLength(intDimensions)];
+        copyTo(0, data, 0, data.length);
+        return new MDLongArray(data, intDimensions);
+    }
+
+}
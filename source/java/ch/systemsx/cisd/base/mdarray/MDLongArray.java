@@ -27,7 +27,7 @@ import org.apache.commons.lang3.ArrayUtils;
  * 
  * @author Bernd Rinn
  */
-public final class MDLongArray extends MDAbstractArray<Long>
+public final class MDLongArray extends MDAbstractArray<Long> implements IMDLongStorage
 {
     private static final long serialVersionUID = 1L;
 
@@ -302,6 +302,88 @@ public final class MDLongArray extends MDAbstractArray<Long>
         flattenedArray[computeIndex(indexX, indexY, indexZ)] = value;
     }
 
+    @Override
+    public long get(long index)
+    {
+        return flattenedArray[checkIndex(index)];
+    }
+
+    @Override
+    public void set(long value, long index)
+    {
+        flattenedArray[checkIndex(index)] = value;
+    }
+
+    @Override
+    public void copyTo(long start, long[] data, int dataStart, int len)
+    {
+        System.arraycopy(flattenedArray, checkRange(start, len), data, dataStart, len);
+    }
+
+    @Override
+    public void copyFrom(long[] data, int dataStart, long start, int len)
+    {
+        System.arraycopy(data, dataStart, flattenedArray, checkRange(start, len), len);
+    }
+
+    /**
+     * Calls <var>consumer</var> for each element of the array, in order of the linear index. No
+     * objects are allocated during iteration.
+     */
+    public void forEach(ILongIndexedConsumer consumer)
+    {
+        final long[] array = flattenedArray;
+        for (int i = 0; i < size; ++i)
+        {
+            consumer.accept(i, array[i]);
+        }
+    }
+
+    /**
+     * Returns a view of the hyperslab of this array that starts at <var>offset</var> and has the
+     * extent <var>block</var>. The view shares the flattened array of this array.
+     */
+    public MDLongArrayView view(int[] offset, int[] block)
+    {
+        return createView().view(offset, block);
+    }
+
+    /**
+     * Returns a view of the hyperslab of this array that starts at <var>offset</var>, has the
+     * extent <var>block</var> and takes every <var>stride</var>-th element along each axis. The
+     * view shares the flattened array of this array.
+     */
+    public MDLongArrayView view(int[] offset, int[] block, int[] stride)
+    {
+        return createView().view(offset, block, stride);
+    }
+
+    /**
+     * Returns a view of rank <code>rank() - 1</code> of the elements of this array where the index
+     * along axis <var>dim</var> is <var>index</var>, e.g. a plane of a volume. The view shares the
+     * flattened array of this array.
+     */
+    public MDLongArrayView slice(int dim, int index)
+    {
+        return createView().slice(dim, index);
+    }
+
+    /**
+     * Copies the block of this array that starts at <var>offset</var> and has the extent
+     * <var>block</var> to <var>target</var> in row-major order, starting at
+     * <var>targetStart</var>.
+     */
+    public void copyBlockTo(int[] offset, int[] block, long[] target, int targetStart)
+    {
+        createView().view(offset, block).copyTo(target, targetStart);
+    }
+
+    private MDLongArrayView createView()
+    {
+        return new MDLongArrayView(flattenedArray, dimensions.clone(),
+                MDAbstractArrayView.computeStrides(dimensions), 0);
+    }
+
     /**
      * Creates and returns a matrix from a two-dimensional array.
      * <p>
@@ -328,7 +410,7 @@ public final class MDLongArray extends MDAbstractArray<Long>
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.hashCode(getValuesAsFlatArray());
+        result = prime * result + FlatArrays.hashCode(flattenedArray, size);
         result = prime * result + Arrays.hashCode(dimensions);
         return result;
     }
@@ -349,22 +431,18 @@ public final class MDLongArray extends MDAbstractArray<Long>
             return false;
         }
         MDLongArray other = (MDLongArray) obj;
-        if (Arrays.equals(getValuesAsFlatArray(), other.getValuesAsFlatArray()) == false)
-        {
-            return false;
-        }
         if (Arrays.equals(dimensions, other.dimensions) == false)
         {
             return false;
         }
-        return true;
+        return FlatArrays.equals(flattenedArray, other.flattenedArray, size);
     }
 
-    private long[] getValuesAsFlatArray()
+    private Object writeReplace()
     {
-        return (dimensions[0] < capacityHyperRows) ? getCopyAsFlatArray() : getAsFlatArray(); 
+        return new MDArraySerializationProxy(this);
     }
-    
+
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException
     {
         stream.defaultReadObject();
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+/**
+ * A multi-dimensional <code>byte</code> array that keeps its data off the Java heap.
+ * 
+ * @author agent
+ */
+public final class MDOffHeapByteArray extends MDAbstractOffHeapArray implements
+        IMDByteStorage
+{
+    private static final int ELEMENT_SIZE = 1;
+
+    /**
+     * Creates an off-heap array with the <var>dimensions</var>, initialized with 0.
+     */
+    public MDOffHeapByteArray(long[] dimensions)
+    {
+        super(dimensions, ELEMENT_SIZE);
+    }
+
+    /**
+     * Creates an off-heap array with the <var>dimensions</var>, initialized with 0.
+     */
+    public MDOffHeapByteArray(int[] dimensions)
+    {
+        this(MDAbstractArray.toLong(dimensions));
+    }
+
+    /**
+     * Creates an off-heap copy of <var>array</var>.
+     */
+    public MDOffHeapByteArray(MDByteArray array)
+    {
+        this(array.longDimensions());
+        copyFrom(array.getAsFlatArray(), 0, 0, array.size());
+    }
+
+    MDOffHeapByteArray(long[] dimensions, int regionShift)
+    {
+        super(dimensions, ELEMENT_SIZE, regionShift);
+    }
+
+    /**
+     * Returns the value of array at the position defined by <var>indices</var>.
+     */
+    public byte get(long... indices)
+    {
+        return get(computeIndex(indices));
+    }
+
+    /**
+     * Returns the value of array at the linear <var>index</var>.
+     */
+    @Override
+    public byte get(long index)
+    {
+        final long offset = index * ELEMENT_SIZE;
+        return region(offset).get((int) (offset & regionMask));
+    }
+
+    /**
+     * Returns the value of a two-dimensional array at the position defined by <var>indexX</var> and
+     * <var>indexY</var>.
+     * <p>
+     * <b>Do not call for arrays other than two-dimensional!</b>
+     */
+    public byte get(long indexX, long indexY)
+    {
+        return get(computeIndex(indexX, indexY));
+    }
+
+    /**
+     * Returns the value of a three-dimensional array at the position defined by <var>indexX</var>,
+     * <var>indexY</var> and <var>indexZ</var>.
+     * <p>
+     * <b>Do not call for arrays other than three-dimensional!</b>
+     */
+    public byte get(long indexX, long indexY, long indexZ)
+    {
+        return get(computeIndex(indexX, indexY, indexZ));
+    }
+
+    /**
+     * Sets the <var>value</var> of array at the position defined by <var>indices</var>.
+     */
+    public void set(byte value, long... indices)
+    {
+        set(value, computeIndex(indices));
+    }
+
+    /**
+     * Sets the <var>value</var> of array at the linear <var>index</var>.
+     */
+    @Override
+    public void set(byte value, long index)
+    {
+        final long offset = index * ELEMENT_SIZE;
+        region(offset).put((int) (offset & regionMask), value);
+    }
+
+    /**
+     * Sets the <var>value</var> of a two-dimensional array at the position defined by
+     * <var>indexX</var> and <var>indexY</var>.
+     * <p>
+     * <b>Do not call for arrays other than two-dimensional!</b>
+     */
+    public void set(byte value, long indexX, long indexY)
+    {
+        set(value, computeIndex(indexX, indexY));
+    }
+
+    /**
+     * Sets the <var>value</var> of a three-dimensional array at the position defined by
+     * <var>indexX</var>, <var>indexY</var> and <var>indexZ</var>.
+     * <p>
+     * <b>Do not call for arrays other than three-dimensional!</b>
+     */
+    public void set(byte value, long indexX, long indexY, long indexZ)
+    {
+        set(value, computeIndex(indexX, indexY, indexZ));
+    }
+
+    /**
+     * Copies <var>len</var> values starting at linear index <var>start</var> to <var>data</var>,
+     * starting at <var>dataStart</var>.
+     */
+    @Override
+    public void copyTo(long start, byte[] data, int dataStart, int len)
+    {
+        checkRange(start, len);
+        long offset = start * ELEMENT_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final int n = (int) Math.min(end - pos, getRemainingInRegion(offset) / ELEMENT_SIZE);
+            regionAt(offset).get(data, pos, n);
+            pos += n;
+            offset += (long) n * ELEMENT_SIZE;
+        }
+    }
+
+    /**
+     * Copies <var>len</var> values from <var>data</var>, starting at <var>dataStart</var>, to this
+     * array, starting at linear index <var>start</var>.
+     */
+    @Override
+    public void copyFrom(byte[] data, int dataStart, long start, int len)
+    {
+        checkRange(start, len);
+        long offset = start * ELEMENT_SIZE;
+        int pos = dataStart;
+        final int end = dataStart + len;
+        while (pos < end)
+        {
+            final int n = (int) Math.min(end - pos, getRemainingInRegion(offset) / ELEMENT_SIZE);
+            regionAt(offset).put(data, pos, n);
+            pos += n;
+            offset += (long) n * ELEMENT_SIZE;
+        }
+    }
+
+    /**
+     * Returns an on-heap copy of this array.
+     * 
+     * @throws IllegalArgumentException If this array is too large for an {@link MDByteArray}.
+     */
+    public MDByteArray toMDArray()
+    {
+        final int[] intDimensions = MDAbstractArray.toInt(dimensions);
+        final byte[] data = new byte[MDAbstractArray.getLength(intDimensions)];
+        copyTo(0, data, 0, data.length);
+        return new MDByteArray(data, intDimensions);
+    }
+
+}
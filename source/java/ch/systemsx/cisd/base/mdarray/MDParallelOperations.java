@@ -0,0 +1,934 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import ch.systemsx.cisd.base.mdarray.ParallelRangeExecutor.IRangeOperation;
+
+/**
+ * Element-wise bulk operations on the flattened arrays of MD arrays that run in parallel on a
+ * {@link ForkJoinPool}. The range of elements is split recursively in halves until the chunks
+ * are no larger than the chunk size, arrays smaller than the chunk size are processed in the
+ * calling thread.
+ * <p>
+ * The <code>short</code> and <code>byte</code> operations saturate their results to the range of
+ * the element type, the <code>int</code> and <code>long</code> operations wrap around on
+ * overflow, except for <code>scale()</code>, which saturates for all integer types.
+ * 
+ * @author agent
+ */
+public final class MDParallelOperations
+{
+    /**
+     * The default number of elements of a chunk that is processed by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+    private static final MDParallelOperations DEFAULT_INSTANCE =
+            new MDParallelOperations(ForkJoinPool.commonPool());
+
+    private final ParallelRangeExecutor executor;
+
+    /**
+     * Returns an instance that runs on the common {@link ForkJoinPool}.
+     */
+    public static MDParallelOperations getDefault()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Creates an instance that runs on <var>pool</var> with the {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public MDParallelOperations(ForkJoinPool pool)
+    {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an instance that runs on <var>pool</var> and splits arrays in chunks of
+     * <var>chunkSize</var> elements.
+     */
+    public MDParallelOperations(ForkJoinPool pool, int chunkSize)
+    {
+        this.executor = new ParallelRangeExecutor(pool, chunkSize);
+    }
+
+    private void run(int size, IRangeOperation operation)
+    {
+        executor.run(size, operation);
+    }
+
+    private static void checkDimensions(MDAbstractArray<?> array1, MDAbstractArray<?> array2)
+    {
+        if (Arrays.equals(array1.dimensions, array2.dimensions) == false)
+        {
+            throw new IllegalArgumentException("Dimensions "
+                    + Arrays.toString(array1.dimensions) + " and "
+                    + Arrays.toString(array2.dimensions) + " differ.");
+        }
+    }
+
+    private static int saturateToInt(long value)
+    {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(Integer.MIN_VALUE, value));
+    }
+
+    private static short saturateToShort(long value)
+    {
+        return (short) Math.min(Short.MAX_VALUE, Math.max(Short.MIN_VALUE, value));
+    }
+
+    private static byte saturateToByte(long value)
+    {
+        return (byte) Math.min(Byte.MAX_VALUE, Math.max(Byte.MIN_VALUE, value));
+    }
+
+    //
+    // Float
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDFloatArray array, final float value)
+    {
+        final float[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it.
+     */
+    public void map(MDFloatArray array, final DoubleUnaryOperator operator)
+    {
+        final float[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = (float) operator.applyAsDouble(data[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>.
+     */
+    public void add(MDFloatArray array, final float value)
+    {
+        final float[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += value;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDFloatArray array, MDFloatArray summand)
+    {
+        checkDimensions(array, summand);
+        final float[] data = array.getAsFlatArray();
+        final float[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += summandData[i];
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>.
+     */
+    public void scale(MDFloatArray array, final float factor)
+    {
+        final float[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] *= factor;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDFloatArray array, final float min, final float max)
+    {
+        final float[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Double
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDDoubleArray array, final double value)
+    {
+        final double[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it.
+     */
+    public void map(MDDoubleArray array, final DoubleUnaryOperator operator)
+    {
+        final double[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = operator.applyAsDouble(data[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>.
+     */
+    public void add(MDDoubleArray array, final double value)
+    {
+        final double[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += value;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDDoubleArray array, MDDoubleArray summand)
+    {
+        checkDimensions(array, summand);
+        final double[] data = array.getAsFlatArray();
+        final double[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += summandData[i];
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>.
+     */
+    public void scale(MDDoubleArray array, final double factor)
+    {
+        final double[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] *= factor;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDDoubleArray array, final double min, final double max)
+    {
+        final double[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Int
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDIntArray array, final int value)
+    {
+        final int[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it.
+     */
+    public void map(MDIntArray array, final IntUnaryOperator operator)
+    {
+        final int[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = operator.applyAsInt(data[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>.
+     */
+    public void add(MDIntArray array, final int value)
+    {
+        final int[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += value;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDIntArray array, MDIntArray summand)
+    {
+        checkDimensions(array, summand);
+        final int[] data = array.getAsFlatArray();
+        final int[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += summandData[i];
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>, rounding the product to
+     * the nearest integer and saturating it to the range of <code>int</code>. <code>NaN</code>
+     * products are converted to 0.
+     */
+    public void scale(MDIntArray array, final double factor)
+    {
+        final int[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToInt(Math.round(data[i] * factor));
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDIntArray array, final int min, final int max)
+    {
+        final int[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Long
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDLongArray array, final long value)
+    {
+        final long[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it.
+     */
+    public void map(MDLongArray array, final LongUnaryOperator operator)
+    {
+        final long[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = operator.applyAsLong(data[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>.
+     */
+    public void add(MDLongArray array, final long value)
+    {
+        final long[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += value;
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDLongArray array, MDLongArray summand)
+    {
+        checkDimensions(array, summand);
+        final long[] data = array.getAsFlatArray();
+        final long[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] += summandData[i];
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>, rounding the product to
+     * the nearest integer and saturating it to the range of <code>long</code>. The product is
+     * computed in <code>double</code> precision, <code>NaN</code> products are converted to 0.
+     */
+    public void scale(MDLongArray array, final double factor)
+    {
+        final long[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = Math.round(data[i] * factor);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDLongArray array, final long min, final long max)
+    {
+        final long[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Short
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDShortArray array, final short value)
+    {
+        final short[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it, saturated to the range of <code>short</code>.
+     */
+    public void map(MDShortArray array, final IntUnaryOperator operator)
+    {
+        final short[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToShort(operator.applyAsInt(data[i]));
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>, saturating the sum to the range
+     * of <code>short</code>.
+     */
+    public void add(MDShortArray array, final short value)
+    {
+        final short[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToShort(data[i] + value);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>,
+     * saturating the sum to the range of <code>short</code>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDShortArray array, MDShortArray summand)
+    {
+        checkDimensions(array, summand);
+        final short[] data = array.getAsFlatArray();
+        final short[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToShort(data[i] + summandData[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>, rounding the product to
+     * the nearest integer and saturating it to the range of <code>short</code>. <code>NaN</code>
+     * products are converted to 0.
+     */
+    public void scale(MDShortArray array, final double factor)
+    {
+        final short[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToShort(Math.round(data[i] * factor));
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDShortArray array, final short min, final short max)
+    {
+        final short[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = (short) Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Byte
+    //
+
+    /**
+     * Sets all elements of <var>array</var> to <var>value</var>.
+     */
+    public void fill(MDByteArray array, final byte value)
+    {
+        final byte[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    Arrays.fill(data, from, to, value);
+                }
+            });
+    }
+
+    /**
+     * Replaces each element of <var>array</var> by the result of <var>operator</var> applied to
+     * it, saturated to the range of <code>byte</code>.
+     */
+    public void map(MDByteArray array, final IntUnaryOperator operator)
+    {
+        final byte[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToByte(operator.applyAsInt(data[i]));
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds <var>value</var> to each element of <var>array</var>, saturating the sum to the range
+     * of <code>byte</code>.
+     */
+    public void add(MDByteArray array, final byte value)
+    {
+        final byte[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToByte(data[i] + value);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Adds each element of <var>summand</var> to the corresponding element of <var>array</var>,
+     * saturating the sum to the range of <code>byte</code>.
+     * 
+     * @throws IllegalArgumentException If the dimensions of the two arrays differ.
+     */
+    public void add(MDByteArray array, MDByteArray summand)
+    {
+        checkDimensions(array, summand);
+        final byte[] data = array.getAsFlatArray();
+        final byte[] summandData = summand.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToByte(data[i] + summandData[i]);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Multiplies each element of <var>array</var> by <var>factor</var>, rounding the product to
+     * the nearest integer and saturating it to the range of <code>byte</code>. <code>NaN</code>
+     * products are converted to 0.
+     */
+    public void scale(MDByteArray array, final double factor)
+    {
+        final byte[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = saturateToByte(Math.round(data[i] * factor));
+                    }
+                }
+            });
+    }
+
+    /**
+     * Clamps each element of <var>array</var> to the range <code>[min, max]</code>.
+     */
+    public void clamp(MDByteArray array, final byte min, final byte max)
+    {
+        final byte[] data = array.getAsFlatArray();
+        run(array.size(), new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        data[i] = (byte) Math.min(max, Math.max(min, data[i]));
+                    }
+                }
+            });
+    }
+
+    //
+    // Conversions
+    //
+
+    /**
+     * Returns a {@link MDFloatArray} with the values of <var>array</var>.
+     */
+    public MDFloatArray toFloat(MDShortArray array)
+    {
+        final short[] data = array.getAsFlatArray();
+        final float[] result = new float[array.size()];
+        run(result.length, new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        result[i] = data[i];
+                    }
+                }
+            });
+        return new MDFloatArray(result, array.dimensions());
+    }
+
+    /**
+     * Returns a {@link MDShortArray} with the values of <var>array</var>, rounded to the nearest
+     * integer and saturated to the range of <code>short</code>. <code>NaN</code> is converted to
+     * 0.
+     */
+    public MDShortArray toShort(MDFloatArray array)
+    {
+        final float[] data = array.getAsFlatArray();
+        final short[] result = new short[array.size()];
+        run(result.length, new IRangeOperation()
+            {
+                @Override
+                public void apply(int from, int to)
+                {
+                    for (int i = from; i < to; ++i)
+                    {
+                        result[i] = saturateToShort(Math.round(data[i]));
+                    }
+                }
+            });
+        return new MDShortArray(result, array.dimensions());
+    }
+
+    //
+    // Streams
+    //
+
+    /**
+     * Returns a parallel {@link IntStream} of the elements of <var>array</var>.
+     * <p>
+     * <i>The terminal operation of the stream runs in the common pool, or in the pool of the
+     * calling task if called from within a {@link ForkJoinPool}.</i>
+     */
+    public static IntStream intStream(MDIntArray array)
+    {
+        return Arrays.stream(array.getAsFlatArray(), 0, array.size()).parallel();
+    }
+
+    /**
+     * Returns a parallel {@link DoubleStream} of the elements of <var>array</var>.
+     * <p>
+     * <i>The terminal operation of the stream runs in the common pool, or in the pool of the
+     * calling task if called from within a {@link ForkJoinPool}.</i>
+     */
+    public static DoubleStream doubleStream(MDDoubleArray array)
+    {
+        return Arrays.stream(array.getAsFlatArray(), 0, array.size()).parallel();
+    }
+
+    /**
+     * Returns a parallel {@link DoubleStream} of the elements of <var>array</var>.
+     * <p>
+     * <i>The terminal operation of the stream runs in the common pool, or in the pool of the
+     * calling task if called from within a {@link ForkJoinPool}.</i>
+     */
+    public static DoubleStream doubleStream(MDFloatArray array)
+    {
+        final float[] data = array.getAsFlatArray();
+        return IntStream.range(0, array.size()).parallel().mapToDouble(new IntToDoubleFunction()
+            {
+                @Override
+                public double applyAsDouble(int i)
+                {
+                    return data[i];
+                }
+            });
+    }
+
+}
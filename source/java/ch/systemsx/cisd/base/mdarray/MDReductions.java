@@ -0,0 +1,1155 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.util.concurrent.ForkJoinPool;
+
+import ch.systemsx.cisd.base.mdarray.ParallelRangeExecutor.ILongRangeReduction;
+import ch.systemsx.cisd.base.mdarray.ParallelRangeExecutor.IRangeOperation;
+import ch.systemsx.cisd.base.mdarray.ParallelRangeExecutor.IRangeReduction;
+
+/**
+ * Reductions (sums, means, variances, minima and maxima, histograms) over the flattened arrays
+ * of MD arrays that run in parallel on a {@link ForkJoinPool}. Each chunk is reduced in the
+ * calling task and the partial results are combined pairwise, so floating point sums are both
+ * compensated within a chunk and pairwise across chunks.
+ * 
+ * @author agent
+ */
+public final class MDReductions
+{
+    /**
+     * The minimal number of elements of a chunk of a <code>short</code> histogram, which needs
+     * one array of 65536 bins per chunk.
+     */
+    private static final int SHORT_HISTOGRAM_MIN_CHUNK_SIZE = 1 << 20;
+
+    private static final MDReductions DEFAULT_INSTANCE =
+            new MDReductions(ForkJoinPool.commonPool());
+
+    private final ParallelRangeExecutor executor;
+
+    /**
+     * A sum with a running compensation of the lost low-order bits.
+     */
+    private static final class CompensatedSum
+    {
+        private double sum;
+
+        private double compensation;
+
+        CompensatedSum(double sum, double compensation)
+        {
+            this.sum = sum;
+            this.compensation = compensation;
+        }
+
+        CompensatedSum add(CompensatedSum other)
+        {
+            final double t = sum + other.sum;
+            if (Math.abs(sum) >= Math.abs(other.sum))
+            {
+                compensation += (sum - t) + other.sum;
+            } else
+            {
+                compensation += (other.sum - t) + sum;
+            }
+            sum = t;
+            compensation += other.compensation;
+            return this;
+        }
+
+        double get()
+        {
+            return sum + compensation;
+        }
+    }
+
+    /**
+     * An array of {@link CompensatedSum}s, stored as two arrays of primitives.
+     */
+    private static final class CompensatedSums
+    {
+        private final double[] sum;
+
+        private final double[] compensation;
+
+        CompensatedSums(int length)
+        {
+            this.sum = new double[length];
+            this.compensation = new double[length];
+        }
+
+        void add(int index, double value)
+        {
+            final double s = sum[index];
+            final double t = s + value;
+            if (Math.abs(s) >= Math.abs(value))
+            {
+                compensation[index] += (s - t) + value;
+            } else
+            {
+                compensation[index] += (value - t) + s;
+            }
+            sum[index] = t;
+        }
+
+        CompensatedSums add(CompensatedSums other)
+        {
+            for (int i = 0; i < sum.length; ++i)
+            {
+                add(i, other.sum[i]);
+                compensation[i] += other.compensation[i];
+            }
+            return this;
+        }
+
+        void copyTo(double[] result, int offset)
+        {
+            for (int i = 0; i < sum.length; ++i)
+            {
+                result[offset + i] = sum[i] + compensation[i];
+            }
+        }
+    }
+
+    /**
+     * Count, mean and sum of squared deviations from the mean of a range of values.
+     */
+    private static final class Moments
+    {
+        private long count;
+
+        private double mean;
+
+        private double m2;
+
+        Moments(long count, double mean, double m2)
+        {
+            this.count = count;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        Moments add(Moments other)
+        {
+            final long totalCount = count + other.count;
+            if (totalCount == 0)
+            {
+                return this;
+            }
+            final double delta = other.mean - mean;
+            mean += delta * other.count / totalCount;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / totalCount);
+            count = totalCount;
+            return this;
+        }
+
+        double getVariance()
+        {
+            return (count == 0) ? Double.NaN : m2 / count;
+        }
+    }
+
+    /**
+     * The layout of an array with respect to an axis: <var>outer</var> blocks of
+     * <var>length</var> hyper-rows of <var>inner</var> elements each.
+     */
+    private static final class AxisLayout
+    {
+        final int outer;
+
+        final int length;
+
+        final int inner;
+
+        final int[] resultDimensions;
+
+        AxisLayout(int[] dimensions, int axis)
+        {
+            if (axis < 0 || axis >= dimensions.length)
+            {
+                throw new IllegalArgumentException("Axis " + axis + " out of range [0, "
+                        + dimensions.length + ").");
+            }
+            int outerProduct = 1;
+            for (int i = 0; i < axis; ++i)
+            {
+                outerProduct *= dimensions[i];
+            }
+            int innerProduct = 1;
+            for (int i = axis + 1; i < dimensions.length; ++i)
+            {
+                innerProduct *= dimensions[i];
+            }
+            this.outer = outerProduct;
+            this.length = dimensions[axis];
+            this.inner = innerProduct;
+            if (dimensions.length == 1)
+            {
+                this.resultDimensions = new int[] { 1 };
+            } else
+            {
+                this.resultDimensions = new int[dimensions.length - 1];
+                System.arraycopy(dimensions, 0, resultDimensions, 0, axis);
+                System.arraycopy(dimensions, axis + 1, resultDimensions, axis,
+                        dimensions.length - axis - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns an instance that runs on the common {@link ForkJoinPool}.
+     */
+    public static MDReductions getDefault()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Creates an instance that runs on <var>pool</var> with the
+     * {@link MDParallelOperations#DEFAULT_CHUNK_SIZE}.
+     */
+    public MDReductions(ForkJoinPool pool)
+    {
+        this(pool, MDParallelOperations.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an instance that runs on <var>pool</var> and splits arrays in chunks of
+     * <var>chunkSize</var> elements.
+     */
+    public MDReductions(ForkJoinPool pool, int chunkSize)
+    {
+        this.executor = new ParallelRangeExecutor(pool, chunkSize);
+    }
+
+    private static void checkNotEmpty(MDAbstractArray<?> array)
+    {
+        if (array.size() == 0)
+        {
+            throw new IllegalArgumentException("Array is empty.");
+        }
+    }
+
+    /**
+     * Returns <code>true</code>, if an axis reduction with <var>resultSize</var> elements has
+     * enough chunks of the result to keep all workers busy. Otherwise the reduced axis is split.
+     */
+    private boolean isSplitOverResult(int resultSize)
+    {
+        return resultSize / executor.getChunkSize() >= executor.getParallelism();
+    }
+
+    /**
+     * Adds the elements of <var>data</var> with axis index in <code>[axisFrom, axisTo)</code> to
+     * the result elements in <code>[resultFrom, resultTo)</code>, which are stored in
+     * <var>sums</var> from index 0.
+     */
+    private static void addAlongAxis(float[] data, AxisLayout layout, int resultFrom,
+            int resultTo, int axisFrom, int axisTo, CompensatedSums sums)
+    {
+        int r = resultFrom;
+        while (r < resultTo)
+        {
+            final int outer = r / layout.inner;
+            final int resultStart = outer * layout.inner;
+            final int innerFrom = r - resultStart;
+            final int innerTo = Math.min(layout.inner, innerFrom + (resultTo - r));
+            for (int j = axisFrom; j < axisTo; ++j)
+            {
+                final int dataStart = (outer * layout.length + j) * layout.inner;
+                for (int k = innerFrom; k < innerTo; ++k)
+                {
+                    sums.add(resultStart + k - resultFrom, data[dataStart + k]);
+                }
+            }
+            r += innerTo - innerFrom;
+        }
+    }
+
+    /**
+     * Adds the elements of <var>data</var> with axis index in <code>[axisFrom, axisTo)</code> to
+     * the result elements in <code>[resultFrom, resultTo)</code>, which are stored in
+     * <var>sums</var> from index 0.
+     */
+    private static void addAlongAxis(double[] data, AxisLayout layout, int resultFrom,
+            int resultTo, int axisFrom, int axisTo, CompensatedSums sums)
+    {
+        int r = resultFrom;
+        while (r < resultTo)
+        {
+            final int outer = r / layout.inner;
+            final int resultStart = outer * layout.inner;
+            final int innerFrom = r - resultStart;
+            final int innerTo = Math.min(layout.inner, innerFrom + (resultTo - r));
+            for (int j = axisFrom; j < axisTo; ++j)
+            {
+                final int dataStart = (outer * layout.length + j) * layout.inner;
+                for (int k = innerFrom; k < innerTo; ++k)
+                {
+                    sums.add(resultStart + k - resultFrom, data[dataStart + k]);
+                }
+            }
+            r += innerTo - innerFrom;
+        }
+    }
+
+    /**
+     * Adds the elements of <var>data</var> with axis index in <code>[axisFrom, axisTo)</code> to
+     * the result elements in <code>[resultFrom, resultTo)</code> of <var>sums</var>.
+     */
+    private static void addAlongAxis(int[] data, AxisLayout layout, int resultFrom,
+            int resultTo, int axisFrom, int axisTo, long[] sums)
+    {
+        int r = resultFrom;
+        while (r < resultTo)
+        {
+            final int outer = r / layout.inner;
+            final int resultStart = outer * layout.inner;
+            final int innerFrom = r - resultStart;
+            final int innerTo = Math.min(layout.inner, innerFrom + (resultTo - r));
+            for (int j = axisFrom; j < axisTo; ++j)
+            {
+                final int dataStart = (outer * layout.length + j) * layout.inner;
+                for (int k = innerFrom; k < innerTo; ++k)
+                {
+                    sums[resultStart + k] += data[dataStart + k];
+                }
+            }
+            r += innerTo - innerFrom;
+        }
+    }
+
+    /**
+     * Adds the elements of <var>data</var> with axis index in <code>[axisFrom, axisTo)</code> to
+     * the result elements in <code>[resultFrom, resultTo)</code> of <var>sums</var>.
+     */
+    private static void addAlongAxis(short[] data, AxisLayout layout, int resultFrom,
+            int resultTo, int axisFrom, int axisTo, long[] sums)
+    {
+        int r = resultFrom;
+        while (r < resultTo)
+        {
+            final int outer = r / layout.inner;
+            final int resultStart = outer * layout.inner;
+            final int innerFrom = r - resultStart;
+            final int innerTo = Math.min(layout.inner, innerFrom + (resultTo - r));
+            for (int j = axisFrom; j < axisTo; ++j)
+            {
+                final int dataStart = (outer * layout.length + j) * layout.inner;
+                for (int k = innerFrom; k < innerTo; ++k)
+                {
+                    sums[resultStart + k] += data[dataStart + k];
+                }
+            }
+            r += innerTo - innerFrom;
+        }
+    }
+
+    //
+    // Float
+    //
+
+    /**
+     * Returns the sum of all elements of <var>array</var>, computed with compensated summation.
+     */
+    public double sum(MDFloatArray array)
+    {
+        final float[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<CompensatedSum>()
+            {
+                @Override
+                public CompensatedSum reduce(int from, int to)
+                {
+                    double sum = 0.0;
+                    double compensation = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double t = sum + value;
+                        if (Math.abs(sum) >= Math.abs(value))
+                        {
+                            compensation += (sum - t) + value;
+                        } else
+                        {
+                            compensation += (value - t) + sum;
+                        }
+                        sum = t;
+                    }
+                    return new CompensatedSum(sum, compensation);
+                }
+
+                @Override
+                public CompensatedSum combine(CompensatedSum lower, CompensatedSum upper)
+                {
+                    return lower.add(upper);
+                }
+            }).get();
+    }
+
+    /**
+     * Returns the mean of all elements of <var>array</var>, or <code>NaN</code>, if
+     * <var>array</var> is empty.
+     */
+    public double mean(MDFloatArray array)
+    {
+        return sum(array) / array.size();
+    }
+
+    /**
+     * Returns the (population) variance of all elements of <var>array</var>, or
+     * <code>NaN</code>, if <var>array</var> is empty.
+     */
+    public double variance(MDFloatArray array)
+    {
+        final float[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<Moments>()
+            {
+                @Override
+                public Moments reduce(int from, int to)
+                {
+                    long count = 0;
+                    double mean = 0.0;
+                    double m2 = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double delta = value - mean;
+                        mean += delta / ++count;
+                        m2 += delta * (value - mean);
+                    }
+                    return new Moments(count, mean, m2);
+                }
+
+                @Override
+                public Moments combine(Moments lower, Moments upper)
+                {
+                    return lower.add(upper);
+                }
+            }).getVariance();
+    }
+
+    /**
+     * Returns the minimum and maximum of all elements of <var>array</var> as
+     * <code>{ min, max }</code>. <code>NaN</code> values are ignored. If <var>array</var> has no
+     * values other than <code>NaN</code>, both minimum and maximum are <code>NaN</code>.
+     */
+    public float[] minMax(MDFloatArray array)
+    {
+        final float[] data = array.getAsFlatArray();
+        final float[] minMax = executor.reduce(array.size(), new IRangeReduction<float[]>()
+            {
+                @Override
+                public float[] reduce(int from, int to)
+                {
+                    float min = Float.POSITIVE_INFINITY;
+                    float max = Float.NEGATIVE_INFINITY;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final float value = data[i];
+                        if (value < min)
+                        {
+                            min = value;
+                        }
+                        if (value > max)
+                        {
+                            max = value;
+                        }
+                    }
+                    return new float[] { min, max };
+                }
+
+                @Override
+                public float[] combine(float[] lower, float[] upper)
+                {
+                    lower[0] = Math.min(lower[0], upper[0]);
+                    lower[1] = Math.max(lower[1], upper[1]);
+                    return lower;
+                }
+            });
+        if (minMax[0] > minMax[1])
+        {
+            return new float[] { Float.NaN, Float.NaN };
+        }
+        return minMax;
+    }
+
+    /**
+     * Returns the sums of the elements of <var>array</var> along <var>axis</var>, computed with
+     * compensated summation. The result has the dimensions of <var>array</var> without
+     * <var>axis</var>, or <code>{ 1 }</code> if <var>array</var> has rank 1.
+     */
+    public MDDoubleArray sum(MDFloatArray array, int axis)
+    {
+        final float[] data = array.getAsFlatArray();
+        final AxisLayout layout = new AxisLayout(array.dimensions, axis);
+        final int resultSize = layout.outer * layout.inner;
+        if (isSplitOverResult(resultSize))
+        {
+            final double[] result = new double[resultSize];
+            executor.run(resultSize, new IRangeOperation()
+                {
+                    @Override
+                    public void apply(int from, int to)
+                    {
+                        final CompensatedSums sums = new CompensatedSums(to - from);
+                        addAlongAxis(data, layout, from, to, 0, layout.length, sums);
+                        sums.copyTo(result, from);
+                    }
+                });
+            return new MDDoubleArray(result, layout.resultDimensions);
+        }
+        final CompensatedSums sums =
+                executor.reduceSlices(layout.length, resultSize,
+                        new IRangeReduction<CompensatedSums>()
+                            {
+                                @Override
+                                public CompensatedSums reduce(int from, int to)
+                                {
+                                    final CompensatedSums partialSums =
+                                            new CompensatedSums(resultSize);
+                                    addAlongAxis(data, layout, 0, resultSize, from, to,
+                                            partialSums);
+                                    return partialSums;
+                                }
+
+                                @Override
+                                public CompensatedSums combine(CompensatedSums lower,
+                                        CompensatedSums upper)
+                                {
+                                    return lower.add(upper);
+                                }
+                            });
+        final double[] result = new double[resultSize];
+        sums.copyTo(result, 0);
+        return new MDDoubleArray(result, layout.resultDimensions);
+    }
+
+    //
+    // Double
+    //
+
+    /**
+     * Returns the sum of all elements of <var>array</var>, computed with compensated summation.
+     */
+    public double sum(MDDoubleArray array)
+    {
+        final double[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<CompensatedSum>()
+            {
+                @Override
+                public CompensatedSum reduce(int from, int to)
+                {
+                    double sum = 0.0;
+                    double compensation = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double t = sum + value;
+                        if (Math.abs(sum) >= Math.abs(value))
+                        {
+                            compensation += (sum - t) + value;
+                        } else
+                        {
+                            compensation += (value - t) + sum;
+                        }
+                        sum = t;
+                    }
+                    return new CompensatedSum(sum, compensation);
+                }
+
+                @Override
+                public CompensatedSum combine(CompensatedSum lower, CompensatedSum upper)
+                {
+                    return lower.add(upper);
+                }
+            }).get();
+    }
+
+    /**
+     * Returns the mean of all elements of <var>array</var>, or <code>NaN</code>, if
+     * <var>array</var> is empty.
+     */
+    public double mean(MDDoubleArray array)
+    {
+        return sum(array) / array.size();
+    }
+
+    /**
+     * Returns the (population) variance of all elements of <var>array</var>, or
+     * <code>NaN</code>, if <var>array</var> is empty.
+     */
+    public double variance(MDDoubleArray array)
+    {
+        final double[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<Moments>()
+            {
+                @Override
+                public Moments reduce(int from, int to)
+                {
+                    long count = 0;
+                    double mean = 0.0;
+                    double m2 = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double delta = value - mean;
+                        mean += delta / ++count;
+                        m2 += delta * (value - mean);
+                    }
+                    return new Moments(count, mean, m2);
+                }
+
+                @Override
+                public Moments combine(Moments lower, Moments upper)
+                {
+                    return lower.add(upper);
+                }
+            }).getVariance();
+    }
+
+    /**
+     * Returns the minimum and maximum of all elements of <var>array</var> as
+     * <code>{ min, max }</code>. <code>NaN</code> values are ignored. If <var>array</var> has no
+     * values other than <code>NaN</code>, both minimum and maximum are <code>NaN</code>.
+     */
+    public double[] minMax(MDDoubleArray array)
+    {
+        final double[] data = array.getAsFlatArray();
+        final double[] minMax = executor.reduce(array.size(), new IRangeReduction<double[]>()
+            {
+                @Override
+                public double[] reduce(int from, int to)
+                {
+                    double min = Double.POSITIVE_INFINITY;
+                    double max = Double.NEGATIVE_INFINITY;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        if (value < min)
+                        {
+                            min = value;
+                        }
+                        if (value > max)
+                        {
+                            max = value;
+                        }
+                    }
+                    return new double[] { min, max };
+                }
+
+                @Override
+                public double[] combine(double[] lower, double[] upper)
+                {
+                    lower[0] = Math.min(lower[0], upper[0]);
+                    lower[1] = Math.max(lower[1], upper[1]);
+                    return lower;
+                }
+            });
+        if (minMax[0] > minMax[1])
+        {
+            return new double[] { Double.NaN, Double.NaN };
+        }
+        return minMax;
+    }
+
+    /**
+     * Returns the sums of the elements of <var>array</var> along <var>axis</var>, computed with
+     * compensated summation. The result has the dimensions of <var>array</var> without
+     * <var>axis</var>, or <code>{ 1 }</code> if <var>array</var> has rank 1.
+     */
+    public MDDoubleArray sum(MDDoubleArray array, int axis)
+    {
+        final double[] data = array.getAsFlatArray();
+        final AxisLayout layout = new AxisLayout(array.dimensions, axis);
+        final int resultSize = layout.outer * layout.inner;
+        if (isSplitOverResult(resultSize))
+        {
+            final double[] result = new double[resultSize];
+            executor.run(resultSize, new IRangeOperation()
+                {
+                    @Override
+                    public void apply(int from, int to)
+                    {
+                        final CompensatedSums sums = new CompensatedSums(to - from);
+                        addAlongAxis(data, layout, from, to, 0, layout.length, sums);
+                        sums.copyTo(result, from);
+                    }
+                });
+            return new MDDoubleArray(result, layout.resultDimensions);
+        }
+        final CompensatedSums sums =
+                executor.reduceSlices(layout.length, resultSize,
+                        new IRangeReduction<CompensatedSums>()
+                            {
+                                @Override
+                                public CompensatedSums reduce(int from, int to)
+                                {
+                                    final CompensatedSums partialSums =
+                                            new CompensatedSums(resultSize);
+                                    addAlongAxis(data, layout, 0, resultSize, from, to,
+                                            partialSums);
+                                    return partialSums;
+                                }
+
+                                @Override
+                                public CompensatedSums combine(CompensatedSums lower,
+                                        CompensatedSums upper)
+                                {
+                                    return lower.add(upper);
+                                }
+                            });
+        final double[] result = new double[resultSize];
+        sums.copyTo(result, 0);
+        return new MDDoubleArray(result, layout.resultDimensions);
+    }
+
+    //
+    // Int
+    //
+
+    /**
+     * Returns the sum of all elements of <var>array</var>.
+     */
+    public long sum(MDIntArray array)
+    {
+        final int[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new ILongRangeReduction()
+            {
+                @Override
+                public long reduce(int from, int to)
+                {
+                    long sum = 0L;
+                    for (int i = from; i < to; ++i)
+                    {
+                        sum += data[i];
+                    }
+                    return sum;
+                }
+
+                @Override
+                public long combine(long lower, long upper)
+                {
+                    return lower + upper;
+                }
+            });
+    }
+
+    /**
+     * Returns the mean of all elements of <var>array</var>, or <code>NaN</code>, if
+     * <var>array</var> is empty.
+     */
+    public double mean(MDIntArray array)
+    {
+        return (double) sum(array) / array.size();
+    }
+
+    /**
+     * Returns the (population) variance of all elements of <var>array</var>, or
+     * <code>NaN</code>, if <var>array</var> is empty.
+     */
+    public double variance(MDIntArray array)
+    {
+        final int[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<Moments>()
+            {
+                @Override
+                public Moments reduce(int from, int to)
+                {
+                    long count = 0;
+                    double mean = 0.0;
+                    double m2 = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double delta = value - mean;
+                        mean += delta / ++count;
+                        m2 += delta * (value - mean);
+                    }
+                    return new Moments(count, mean, m2);
+                }
+
+                @Override
+                public Moments combine(Moments lower, Moments upper)
+                {
+                    return lower.add(upper);
+                }
+            }).getVariance();
+    }
+
+    /**
+     * Returns the minimum and maximum of all elements of <var>array</var> as
+     * <code>{ min, max }</code>.
+     * 
+     * @throws IllegalArgumentException If <var>array</var> is empty.
+     */
+    public int[] minMax(MDIntArray array)
+    {
+        checkNotEmpty(array);
+        final int[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<int[]>()
+            {
+                @Override
+                public int[] reduce(int from, int to)
+                {
+                    int min = data[from];
+                    int max = data[from];
+                    for (int i = from + 1; i < to; ++i)
+                    {
+                        final int value = data[i];
+                        if (value < min)
+                        {
+                            min = value;
+                        } else if (value > max)
+                        {
+                            max = value;
+                        }
+                    }
+                    return new int[] { min, max };
+                }
+
+                @Override
+                public int[] combine(int[] lower, int[] upper)
+                {
+                    lower[0] = Math.min(lower[0], upper[0]);
+                    lower[1] = Math.max(lower[1], upper[1]);
+                    return lower;
+                }
+            });
+    }
+
+    /**
+     * Returns the sums of the elements of <var>array</var> along <var>axis</var>. The result has
+     * the dimensions of <var>array</var> without <var>axis</var>, or <code>{ 1 }</code> if
+     * <var>array</var> has rank 1.
+     */
+    public MDLongArray sum(MDIntArray array, int axis)
+    {
+        final int[] data = array.getAsFlatArray();
+        final AxisLayout layout = new AxisLayout(array.dimensions, axis);
+        final int resultSize = layout.outer * layout.inner;
+        if (isSplitOverResult(resultSize))
+        {
+            final long[] result = new long[resultSize];
+            executor.run(resultSize, new IRangeOperation()
+                {
+                    @Override
+                    public void apply(int from, int to)
+                    {
+                        addAlongAxis(data, layout, from, to, 0, layout.length, result);
+                    }
+                });
+            return new MDLongArray(result, layout.resultDimensions);
+        }
+        final long[] result =
+                executor.reduceSlices(layout.length, resultSize, new IRangeReduction<long[]>()
+                    {
+                        @Override
+                        public long[] reduce(int from, int to)
+                        {
+                            final long[] partialSums = new long[resultSize];
+                            addAlongAxis(data, layout, 0, resultSize, from, to, partialSums);
+                            return partialSums;
+                        }
+
+                        @Override
+                        public long[] combine(long[] lower, long[] upper)
+                        {
+                            return addElementwise(lower, upper);
+                        }
+                    });
+        return new MDLongArray(result, layout.resultDimensions);
+    }
+
+    //
+    // Short
+    //
+
+    /**
+     * Returns the sum of all elements of <var>array</var>.
+     */
+    public long sum(MDShortArray array)
+    {
+        final short[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new ILongRangeReduction()
+            {
+                @Override
+                public long reduce(int from, int to)
+                {
+                    long sum = 0L;
+                    for (int i = from; i < to; ++i)
+                    {
+                        sum += data[i];
+                    }
+                    return sum;
+                }
+
+                @Override
+                public long combine(long lower, long upper)
+                {
+                    return lower + upper;
+                }
+            });
+    }
+
+    /**
+     * Returns the mean of all elements of <var>array</var>, or <code>NaN</code>, if
+     * <var>array</var> is empty.
+     */
+    public double mean(MDShortArray array)
+    {
+        return (double) sum(array) / array.size();
+    }
+
+    /**
+     * Returns the (population) variance of all elements of <var>array</var>, or
+     * <code>NaN</code>, if <var>array</var> is empty.
+     */
+    public double variance(MDShortArray array)
+    {
+        final short[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<Moments>()
+            {
+                @Override
+                public Moments reduce(int from, int to)
+                {
+                    long count = 0;
+                    double mean = 0.0;
+                    double m2 = 0.0;
+                    for (int i = from; i < to; ++i)
+                    {
+                        final double value = data[i];
+                        final double delta = value - mean;
+                        mean += delta / ++count;
+                        m2 += delta * (value - mean);
+                    }
+                    return new Moments(count, mean, m2);
+                }
+
+                @Override
+                public Moments combine(Moments lower, Moments upper)
+                {
+                    return lower.add(upper);
+                }
+            }).getVariance();
+    }
+
+    /**
+     * Returns the minimum and maximum of all elements of <var>array</var> as
+     * <code>{ min, max }</code>.
+     * 
+     * @throws IllegalArgumentException If <var>array</var> is empty.
+     */
+    public short[] minMax(MDShortArray array)
+    {
+        checkNotEmpty(array);
+        final short[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<short[]>()
+            {
+                @Override
+                public short[] reduce(int from, int to)
+                {
+                    short min = data[from];
+                    short max = data[from];
+                    for (int i = from + 1; i < to; ++i)
+                    {
+                        final short value = data[i];
+                        if (value < min)
+                        {
+                            min = value;
+                        } else if (value > max)
+                        {
+                            max = value;
+                        }
+                    }
+                    return new short[] { min, max };
+                }
+
+                @Override
+                public short[] combine(short[] lower, short[] upper)
+                {
+                    lower[0] = (short) Math.min(lower[0], upper[0]);
+                    lower[1] = (short) Math.max(lower[1], upper[1]);
+                    return lower;
+                }
+            });
+    }
+
+    /**
+     * Returns the sums of the elements of <var>array</var> along <var>axis</var>. The result has
+     * the dimensions of <var>array</var> without <var>axis</var>, or <code>{ 1 }</code> if
+     * <var>array</var> has rank 1.
+     */
+    public MDLongArray sum(MDShortArray array, int axis)
+    {
+        final short[] data = array.getAsFlatArray();
+        final AxisLayout layout = new AxisLayout(array.dimensions, axis);
+        final int resultSize = layout.outer * layout.inner;
+        if (isSplitOverResult(resultSize))
+        {
+            final long[] result = new long[resultSize];
+            executor.run(resultSize, new IRangeOperation()
+                {
+                    @Override
+                    public void apply(int from, int to)
+                    {
+                        addAlongAxis(data, layout, from, to, 0, layout.length, result);
+                    }
+                });
+            return new MDLongArray(result, layout.resultDimensions);
+        }
+        final long[] result =
+                executor.reduceSlices(layout.length, resultSize, new IRangeReduction<long[]>()
+                    {
+                        @Override
+                        public long[] reduce(int from, int to)
+                        {
+                            final long[] partialSums = new long[resultSize];
+                            addAlongAxis(data, layout, 0, resultSize, from, to, partialSums);
+                            return partialSums;
+                        }
+
+                        @Override
+                        public long[] combine(long[] lower, long[] upper)
+                        {
+                            return addElementwise(lower, upper);
+                        }
+                    });
+        return new MDLongArray(result, layout.resultDimensions);
+    }
+
+    /**
+     * Returns the histogram of the values of <var>array</var> with one bin per value. If
+     * <var>unsigned</var> is <code>true</code>, bin <code>i</code> counts the values
+     * <code>v</code> with <code>(v &amp; 0xFFFF) == i</code>, otherwise it counts the values
+     * <code>v == i + Short.MIN_VALUE</code>.
+     */
+    public long[] histogram(MDShortArray array, final boolean unsigned)
+    {
+        final short[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), SHORT_HISTOGRAM_MIN_CHUNK_SIZE,
+                new IRangeReduction<long[]>()
+                    {
+                        @Override
+                        public long[] reduce(int from, int to)
+                        {
+                            final long[] bins = new long[1 << 16];
+                            if (unsigned)
+                            {
+                                for (int i = from; i < to; ++i)
+                                {
+                                    ++bins[data[i] & 0xFFFF];
+                                }
+                            } else
+                            {
+                                for (int i = from; i < to; ++i)
+                                {
+                                    ++bins[data[i] - Short.MIN_VALUE];
+                                }
+                            }
+                            return bins;
+                        }
+
+                        @Override
+                        public long[] combine(long[] lower, long[] upper)
+                        {
+                            return addElementwise(lower, upper);
+                        }
+                    });
+    }
+
+    //
+    // Byte
+    //
+
+    /**
+     * Returns the sum of all elements of <var>array</var>.
+     */
+    public long sum(MDByteArray array)
+    {
+        final byte[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new ILongRangeReduction()
+            {
+                @Override
+                public long reduce(int from, int to)
+                {
+                    long sum = 0L;
+                    for (int i = from; i < to; ++i)
+                    {
+                        sum += data[i];
+                    }
+                    return sum;
+                }
+
+                @Override
+                public long combine(long lower, long upper)
+                {
+                    return lower + upper;
+                }
+            });
+    }
+
+    /**
+     * Returns the histogram of the values of <var>array</var> with one bin per value. If
+     * <var>unsigned</var> is <code>true</code>, bin <code>i</code> counts the values
+     * <code>v</code> with <code>(v &amp; 0xFF) == i</code>, otherwise it counts the values
+     * <code>v == i + Byte.MIN_VALUE</code>.
+     */
+    public long[] histogram(MDByteArray array, final boolean unsigned)
+    {
+        final byte[] data = array.getAsFlatArray();
+        return executor.reduce(array.size(), new IRangeReduction<long[]>()
+            {
+                @Override
+                public long[] reduce(int from, int to)
+                {
+                    final long[] bins = new long[1 << 8];
+                    if (unsigned)
+                    {
+                        for (int i = from; i < to; ++i)
+                        {
+                            ++bins[data[i] & 0xFF];
+                        }
+                    } else
+                    {
+                        for (int i = from; i < to; ++i)
+                        {
+                            ++bins[data[i] - Byte.MIN_VALUE];
+                        }
+                    }
+                    return bins;
+                }
+
+                @Override
+                public long[] combine(long[] lower, long[] upper)
+                {
+                    return addElementwise(lower, upper);
+                }
+            });
+    }
+
+    private static long[] addElementwise(long[] lower, long[] upper)
+    {
+        for (int i = 0; i < lower.length; ++i)
+        {
+            lower[i] += upper[i];
+        }
+        return lower;
+    }
+
+}
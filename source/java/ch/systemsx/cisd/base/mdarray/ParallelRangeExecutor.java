@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.mdarray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs operations on index ranges in parallel on a {@link ForkJoinPool}. The range is split
+ * recursively in halves until the chunks are no larger than the chunk size. Ranges no larger than
+ * the chunk size are processed in the calling thread.
+ * 
+ * @author agent
+ */
+final class ParallelRangeExecutor
+{
+    /**
+     * An operation on the range <code>[from, to)</code>.
+     */
+    interface IRangeOperation
+    {
+        public void apply(int from, int to);
+    }
+
+    /**
+     * A reduction of the range <code>[from, to)</code> to a result of type <var>R</var>.
+     */
+    interface IRangeReduction<R>
+    {
+        public R reduce(int from, int to);
+
+        /**
+         * Combines the result of a range with the result of the range that directly follows it.
+         */
+        public R combine(R lower, R upper);
+    }
+
+    /**
+     * A reduction of the range <code>[from, to)</code> to a primitive <code>long</code>.
+     */
+    interface ILongRangeReduction
+    {
+        public long reduce(int from, int to);
+
+        /**
+         * Combines the result of a range with the result of the range that directly follows it.
+         */
+        public long combine(long lower, long upper);
+    }
+
+    private static final class RangeTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final IRangeOperation operation;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        RangeTask(IRangeOperation operation, int from, int to, int chunkSize)
+        {
+            this.operation = operation;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= chunkSize)
+            {
+                operation.apply(from, to);
+            } else
+            {
+                final int mid = (from + to) >>> 1;
+                final RangeTask lower = new RangeTask(operation, from, mid, chunkSize);
+                final RangeTask upper = new RangeTask(operation, mid, to, chunkSize);
+                invokeAll(lower, upper);
+            }
+        }
+    }
+
+    private static final class ReductionTask<R> extends RecursiveTask<R>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final IRangeReduction<R> reduction;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        ReductionTask(IRangeReduction<R> reduction, int from, int to, int chunkSize)
+        {
+            this.reduction = reduction;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected R compute()
+        {
+            if (to - from <= chunkSize)
+            {
+                return reduction.reduce(from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final ReductionTask<R> lower = new ReductionTask<R>(reduction, from, mid, chunkSize);
+            final ReductionTask<R> upper = new ReductionTask<R>(reduction, mid, to, chunkSize);
+            lower.fork();
+            final R upperResult = upper.compute();
+            return reduction.combine(lower.join(), upperResult);
+        }
+    }
+
+    private static final class LongReductionTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ILongRangeReduction reduction;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        private long result;
+
+        LongReductionTask(ILongRangeReduction reduction, int from, int to, int chunkSize)
+        {
+            this.reduction = reduction;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= chunkSize)
+            {
+                result = reduction.reduce(from, to);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            final LongReductionTask lower = new LongReductionTask(reduction, from, mid, chunkSize);
+            final LongReductionTask upper = new LongReductionTask(reduction, mid, to, chunkSize);
+            lower.fork();
+            upper.compute();
+            lower.join();
+            result = reduction.combine(lower.result, upper.result);
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    ParallelRangeExecutor(ForkJoinPool pool, int chunkSize)
+    {
+        if (chunkSize < 1)
+        {
+            throw new IllegalArgumentException("Chunk size must be positive, is " + chunkSize
+                    + ".");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Applies <var>operation</var> to the range <code>[0, size)</code>.
+     */
+    void run(int size, IRangeOperation operation)
+    {
+        if (size <= chunkSize)
+        {
+            operation.apply(0, size);
+        } else
+        {
+            pool.invoke(new RangeTask(operation, 0, size, chunkSize));
+        }
+    }
+
+    /**
+     * Reduces the range <code>[0, size)</code> with <var>reduction</var>.
+     */
+    <R> R reduce(int size, IRangeReduction<R> reduction)
+    {
+        return reduce(size, chunkSize, reduction);
+    }
+
+    /**
+     * Reduces the range <code>[0, size)</code> with <var>reduction</var>, using chunks of at least
+     * <var>minChunkSize</var>. Use this for reductions with a large per-chunk state.
+     */
+    <R> R reduce(int size, int minChunkSize, IRangeReduction<R> reduction)
+    {
+        return reduceInChunks(size, Math.max(chunkSize, minChunkSize), reduction);
+    }
+
+    /**
+     * Reduces the range <code>[0, size)</code> of slices with <var>reduction</var>, where each
+     * slice has <var>sliceLength</var> elements. A chunk has at least as many slices as fit in the
+     * chunk size. As the result of a chunk is typically as large as a slice, the range is split in
+     * not much more chunks than the pool has workers.
+     */
+    <R> R reduceSlices(int size, int sliceLength, IRangeReduction<R> reduction)
+    {
+        final int parallelism = getParallelism();
+        final int slicesPerChunkSize = chunkSize / Math.max(1, sliceLength);
+        final int slicesPerWorker = (int) (((long) size + parallelism - 1) / parallelism);
+        return reduceInChunks(size, Math.max(1, Math.max(slicesPerChunkSize, slicesPerWorker)),
+                reduction);
+    }
+
+    private <R> R reduceInChunks(int size, int actualChunkSize, IRangeReduction<R> reduction)
+    {
+        if (size <= actualChunkSize)
+        {
+            return reduction.reduce(0, size);
+        }
+        return pool.invoke(new ReductionTask<R>(reduction, 0, size, actualChunkSize));
+    }
+
+    /**
+     * Reduces the range <code>[0, size)</code> with <var>reduction</var> without boxing the
+     * results of the chunks.
+     */
+    long reduce(int size, ILongRangeReduction reduction)
+    {
+        if (size <= chunkSize)
+        {
+            return reduction.reduce(0, size);
+        }
+        final LongReductionTask task = new LongReductionTask(reduction, 0, size, chunkSize);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    /**
+     * Returns the chunk size.
+     */
+    int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the parallelism of the pool.
+     */
+    int getParallelism()
+    {
+        return pool.getParallelism();
+    }
+
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.unix.Unix.DirectoryEntry;
+import ch.systemsx.cisd.base.unix.Unix.Stat;
+
+/**
+ * A parallel walker of file trees that computes the {@link DiskUsage} of the tree and optionally
+ * streams all entries to an {@link IFileTreeVisitor}.
+ * <p>
+ * Each directory is processed by its own task on a (work-stealing) {@link ForkJoinPool} and is
+ * read with {@link Unix#listDirectoryWithStats(String, boolean)}, so idle threads pick up
+ * sub-trees of busy threads. Inodes that are reachable by more than one path (hard links) are
+ * identified by their device id and inode number and counted only once.
+ * <p>
+ * <i>Requires {@link Unix#isOperational()}.</i>
+ * 
+ * @author agent
+ */
+public final class FileTreeWalker
+{
+
+    /**
+     * How the walker treats symbolic links.
+     */
+    public enum LinkPolicy
+    {
+        /**
+         * Symbolic links are neither visited nor counted.
+         */
+        SKIP,
+
+        /**
+         * Symbolic links are visited and counted as {@link FileLinkType#SYMLINK}, but not
+         * followed.
+         */
+        REPORT,
+
+        /**
+         * Symbolic links are dereferenced and linked directories are descended into. Every
+         * directory is descended into only once, so cycles are safe. Dangling links are visited as
+         * {@link FileLinkType#SYMLINK}.
+         */
+        FOLLOW
+    }
+
+    /**
+     * The disk usage of a file tree. Entries are counted once per path, while sizes and blocks are
+     * counted once per inode.
+     */
+    public static final class DiskUsage
+    {
+        private final long numberOfFiles;
+
+        private final long numberOfDirectories;
+
+        private final long numberOfSymbolicLinks;
+
+        private final long numberOfOtherEntries;
+
+        private final long numberOfInodes;
+
+        private final long size;
+
+        private final long numberOfBlocks;
+
+        private final long numberOfErrors;
+
+        DiskUsage(long numberOfFiles, long numberOfDirectories, long numberOfSymbolicLinks,
+                long numberOfOtherEntries, long numberOfInodes, long size, long numberOfBlocks,
+                long numberOfErrors)
+        {
+            this.numberOfFiles = numberOfFiles;
+            this.numberOfDirectories = numberOfDirectories;
+            this.numberOfSymbolicLinks = numberOfSymbolicLinks;
+            this.numberOfOtherEntries = numberOfOtherEntries;
+            this.numberOfInodes = numberOfInodes;
+            this.size = size;
+            this.numberOfBlocks = numberOfBlocks;
+            this.numberOfErrors = numberOfErrors;
+        }
+
+        /**
+         * Returns the number of paths of regular files.
+         */
+        public long getNumberOfFiles()
+        {
+            return numberOfFiles;
+        }
+
+        /**
+         * Returns the number of paths of directories, including the root.
+         */
+        public long getNumberOfDirectories()
+        {
+            return numberOfDirectories;
+        }
+
+        /**
+         * Returns the number of paths of symbolic links.
+         */
+        public long getNumberOfSymbolicLinks()
+        {
+            return numberOfSymbolicLinks;
+        }
+
+        /**
+         * Returns the number of paths of other entries (devices, pipes, sockets).
+         */
+        public long getNumberOfOtherEntries()
+        {
+            return numberOfOtherEntries;
+        }
+
+        /**
+         * Returns the number of distinct inodes.
+         */
+        public long getNumberOfInodes()
+        {
+            return numberOfInodes;
+        }
+
+        /**
+         * Returns the apparent size in bytes, summed over all distinct inodes.
+         */
+        public long getSize()
+        {
+            return size;
+        }
+
+        /**
+         * Returns the number of allocated 512 byte blocks, summed over all distinct inodes.
+         */
+        public long getNumberOfBlocks()
+        {
+            return numberOfBlocks;
+        }
+
+        /**
+         * Returns the allocated disk space in bytes, like <code>du</code> does.
+         */
+        public long getDiskUsage()
+        {
+            return numberOfBlocks * 512;
+        }
+
+        /**
+         * Returns the number of directories that could not be listed and entries that could not
+         * be <code>stat</code>ed.
+         */
+        public long getNumberOfErrors()
+        {
+            return numberOfErrors;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "DiskUsage [files=" + numberOfFiles + ", directories=" + numberOfDirectories
+                    + ", symbolicLinks=" + numberOfSymbolicLinks + ", other="
+                    + numberOfOtherEntries + ", inodes=" + numberOfInodes + ", size=" + size
+                    + ", blocks=" + numberOfBlocks + ", errors=" + numberOfErrors + "]";
+        }
+    }
+
+    /**
+     * The identity of an inode.
+     */
+    private static final class InodeKey
+    {
+        private final long deviceId;
+
+        private final long inode;
+
+        InodeKey(Stat stat)
+        {
+            this.deviceId = stat.getDeviceId();
+            this.inode = stat.getInode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (int) (31 * (deviceId ^ (deviceId >>> 32)) + (inode ^ (inode >>> 32)));
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass())
+            {
+                return false;
+            }
+            final InodeKey other = (InodeKey) obj;
+            return deviceId == other.deviceId && inode == other.inode;
+        }
+    }
+
+    /**
+     * The state of one walk.
+     */
+    private final class Walk
+    {
+        private final IFileTreeVisitor visitorOrNull;
+
+        private final Set<InodeKey> seenInodes =
+                Collections.newSetFromMap(new ConcurrentHashMap<InodeKey, Boolean>());
+
+        private final LongAdder numberOfFiles = new LongAdder();
+
+        private final LongAdder numberOfDirectories = new LongAdder();
+
+        private final LongAdder numberOfSymbolicLinks = new LongAdder();
+
+        private final LongAdder numberOfOtherEntries = new LongAdder();
+
+        private final LongAdder numberOfInodes = new LongAdder();
+
+        private final LongAdder size = new LongAdder();
+
+        private final LongAdder numberOfBlocks = new LongAdder();
+
+        private final LongAdder numberOfErrors = new LongAdder();
+
+        Walk(IFileTreeVisitor visitorOrNull)
+        {
+            this.visitorOrNull = visitorOrNull;
+        }
+
+        /**
+         * Counts and visits the entry <var>path</var> and returns <code>true</code>, if the
+         * walker should descend into it.
+         */
+        boolean visit(String path, Stat stat)
+        {
+            final FileLinkType type = stat.getLinkType();
+            if (type == FileLinkType.SYMLINK && linkPolicy == LinkPolicy.SKIP)
+            {
+                return false;
+            }
+            switch (type)
+            {
+                case REGULAR_FILE:
+                    numberOfFiles.increment();
+                    break;
+                case DIRECTORY:
+                    numberOfDirectories.increment();
+                    break;
+                case SYMLINK:
+                    numberOfSymbolicLinks.increment();
+                    break;
+                default:
+                    numberOfOtherEntries.increment();
+                    break;
+            }
+            final boolean firstVisit = isFirstVisit(stat);
+            if (firstVisit)
+            {
+                numberOfInodes.increment();
+                size.add(stat.getSize());
+                numberOfBlocks.add(stat.getNumberOfBlocks());
+            }
+            final boolean descend = (visitorOrNull == null) || visitorOrNull.visit(path, stat);
+            return type == FileLinkType.DIRECTORY && firstVisit && descend;
+        }
+
+        private boolean isFirstVisit(Stat stat)
+        {
+            // Without following symbolic links, only non-directories with more than one hard
+            // link can be reached by more than one path.
+            final boolean mayBeShared =
+                    (linkPolicy == LinkPolicy.FOLLOW)
+                            || (stat.getLinkType() != FileLinkType.DIRECTORY && stat
+                                    .getNumberOfHardLinks() > 1);
+            return (mayBeShared == false) || seenInodes.add(new InodeKey(stat));
+        }
+
+        void failed(String path, IOExceptionUnchecked ex)
+        {
+            numberOfErrors.increment();
+            if (visitorOrNull != null)
+            {
+                visitorOrNull.visitFailed(path, ex);
+            }
+        }
+
+        DiskUsage toDiskUsage()
+        {
+            return new DiskUsage(numberOfFiles.sum(), numberOfDirectories.sum(),
+                    numberOfSymbolicLinks.sum(), numberOfOtherEntries.sum(),
+                    numberOfInodes.sum(), size.sum(), numberOfBlocks.sum(),
+                    numberOfErrors.sum());
+        }
+    }
+
+    /**
+     * The task that lists one directory, visits its entries and forks a task for each
+     * sub-directory.
+     */
+    private final class DirectoryTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Walk walk;
+
+        private final String path;
+
+        DirectoryTask(Walk walk, String path)
+        {
+            this.walk = walk;
+            this.path = path;
+        }
+
+        @Override
+        protected void compute()
+        {
+            final DirectoryEntry[] entries;
+            try
+            {
+                entries = Unix.listDirectoryWithStats(path, linkPolicy == LinkPolicy.FOLLOW);
+            } catch (IOExceptionUnchecked ex)
+            {
+                walk.failed(path, ex);
+                return;
+            }
+            final String prefix = path.endsWith("/") ? path : path + "/";
+            final List<DirectoryTask> subDirectories = new ArrayList<DirectoryTask>();
+            for (DirectoryEntry entry : entries)
+            {
+                final String entryPath = prefix + entry.getName();
+                Stat stat = entry.tryGetStat();
+                if (stat == null && linkPolicy == LinkPolicy.FOLLOW)
+                {
+                    // A dangling symbolic link.
+                    stat = Unix.tryGetLinkInfo(entryPath, false);
+                }
+                if (stat == null)
+                {
+                    walk.failed(entryPath, new IOExceptionUnchecked(new IOException(
+                            "Cannot obtain inode info for file '" + entryPath + "'")));
+                    continue;
+                }
+                if (walk.visit(entryPath, stat))
+                {
+                    subDirectories.add(new DirectoryTask(walk, entryPath));
+                }
+            }
+            invokeAll(subDirectories);
+        }
+    }
+
+    private final LinkPolicy linkPolicy;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a walker that reports symbolic links without following them and runs on the common
+     * {@link ForkJoinPool}.
+     */
+    public FileTreeWalker()
+    {
+        this(LinkPolicy.REPORT);
+    }
+
+    /**
+     * Creates a walker with the given <var>linkPolicy</var> that runs on the common
+     * {@link ForkJoinPool}.
+     */
+    public FileTreeWalker(LinkPolicy linkPolicy)
+    {
+        this(linkPolicy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a walker with the given <var>linkPolicy</var> that runs on <var>pool</var>. As
+     * walking a tree is I/O bound, a pool with more threads than processors may be faster.
+     */
+    public FileTreeWalker(LinkPolicy linkPolicy, ForkJoinPool pool)
+    {
+        this.linkPolicy = linkPolicy;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the policy for symbolic links of this walker.
+     */
+    public LinkPolicy getLinkPolicy()
+    {
+        return linkPolicy;
+    }
+
+    /**
+     * Walks the tree starting at <var>root</var> and returns its disk usage.
+     * 
+     * @throws IOExceptionUnchecked If <var>root</var> cannot be <code>stat</code>ed. Errors below
+     *             the root are counted in {@link DiskUsage#getNumberOfErrors()}.
+     */
+    public DiskUsage getDiskUsage(String root) throws IOExceptionUnchecked
+    {
+        return walk(root, null);
+    }
+
+    /**
+     * Walks the tree starting at <var>root</var>, calls <var>visitorOrNull</var> for all entries
+     * (if not <code>null</code>) and returns the disk usage of the tree.
+     * 
+     * @throws IOExceptionUnchecked If <var>root</var> cannot be <code>stat</code>ed. Errors below
+     *             the root are reported to {@link IFileTreeVisitor#visitFailed} and counted in
+     *             {@link DiskUsage#getNumberOfErrors()}.
+     */
+    public DiskUsage walk(String root, IFileTreeVisitor visitorOrNull)
+            throws IOExceptionUnchecked
+    {
+        final Walk walk = new Walk(visitorOrNull);
+        final Stat rootStat =
+                (linkPolicy == LinkPolicy.FOLLOW) ? Unix.getFileInfo(root) : Unix.getLinkInfo(
+                        root, false);
+        if (walk.visit(root, rootStat))
+        {
+            pool.invoke(new DirectoryTask(walk, root));
+        }
+        return walk.toDiskUsage();
+    }
+
+}
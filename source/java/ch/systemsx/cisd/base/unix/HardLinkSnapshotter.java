@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.systemsx.cisd.base.exceptions.CheckedExceptionTunnel;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.unix.Unix.DirectoryEntry;
+import ch.systemsx.cisd.base.unix.Unix.Stat;
+import ch.systemsx.cisd.base.unix.Unix.Time;
+
+/**
+ * Creates incremental snapshots of directory trees, like <code>rsync --link-dest</code> does:
+ * regular files that are unchanged with respect to the previous snapshot become hard links to the
+ * file in the previous snapshot, all other files are copied.
+ * <p>
+ * A file is considered unchanged if size, modification time, permissions and (if owners are
+ * preserved) owner and group of the source file and the file in the previous snapshot are equal.
+ * Modification times are compared at micro-second resolution as this is the resolution that
+ * {@link Unix#setFileTimestamps(String, long, long, long, long)} can preserve.
+ * <p>
+ * Directories are processed in parallel on a {@link ForkJoinPool}, as are the files in each
+ * directory. Permissions and time stamps (and, if enabled, owner and group) of copied files,
+ * directories and symbolic links are preserved. Other entries (devices, pipes, sockets) are
+ * skipped.
+ * <p>
+ * <i>Requires {@link Unix#isOperational()}.</i>
+ * 
+ * @author agent
+ */
+public final class HardLinkSnapshotter
+{
+
+    /**
+     * The statistics of a snapshot.
+     */
+    public static final class SnapshotStatistics
+    {
+        private final long numberOfDirectories;
+
+        private final long numberOfLinkedFiles;
+
+        private final long numberOfCopiedFiles;
+
+        private final long numberOfCopiedBytes;
+
+        private final long numberOfSymbolicLinks;
+
+        private final long numberOfSkippedEntries;
+
+        SnapshotStatistics(long numberOfDirectories, long numberOfLinkedFiles,
+                long numberOfCopiedFiles, long numberOfCopiedBytes, long numberOfSymbolicLinks,
+                long numberOfSkippedEntries)
+        {
+            this.numberOfDirectories = numberOfDirectories;
+            this.numberOfLinkedFiles = numberOfLinkedFiles;
+            this.numberOfCopiedFiles = numberOfCopiedFiles;
+            this.numberOfCopiedBytes = numberOfCopiedBytes;
+            this.numberOfSymbolicLinks = numberOfSymbolicLinks;
+            this.numberOfSkippedEntries = numberOfSkippedEntries;
+        }
+
+        /**
+         * Returns the number of directories created, including the root.
+         */
+        public long getNumberOfDirectories()
+        {
+            return numberOfDirectories;
+        }
+
+        /**
+         * Returns the number of files hard linked to the previous snapshot.
+         */
+        public long getNumberOfLinkedFiles()
+        {
+            return numberOfLinkedFiles;
+        }
+
+        /**
+         * Returns the number of files copied.
+         */
+        public long getNumberOfCopiedFiles()
+        {
+            return numberOfCopiedFiles;
+        }
+
+        /**
+         * Returns the number of bytes copied.
+         */
+        public long getNumberOfCopiedBytes()
+        {
+            return numberOfCopiedBytes;
+        }
+
+        /**
+         * Returns the number of symbolic links created.
+         */
+        public long getNumberOfSymbolicLinks()
+        {
+            return numberOfSymbolicLinks;
+        }
+
+        /**
+         * Returns the number of entries skipped as they are neither directories, regular files
+         * nor symbolic links.
+         */
+        public long getNumberOfSkippedEntries()
+        {
+            return numberOfSkippedEntries;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SnapshotStatistics [directories=" + numberOfDirectories + ", linkedFiles="
+                    + numberOfLinkedFiles + ", copiedFiles=" + numberOfCopiedFiles
+                    + ", copiedBytes=" + numberOfCopiedBytes + ", symbolicLinks="
+                    + numberOfSymbolicLinks + ", skipped=" + numberOfSkippedEntries + "]";
+        }
+    }
+
+    /**
+     * The state of one snapshot.
+     */
+    private static final class Snapshot
+    {
+        private final LongAdder numberOfDirectories = new LongAdder();
+
+        private final LongAdder numberOfLinkedFiles = new LongAdder();
+
+        private final LongAdder numberOfCopiedFiles = new LongAdder();
+
+        private final LongAdder numberOfCopiedBytes = new LongAdder();
+
+        private final LongAdder numberOfSymbolicLinks = new LongAdder();
+
+        private final LongAdder numberOfSkippedEntries = new LongAdder();
+
+        SnapshotStatistics toStatistics()
+        {
+            return new SnapshotStatistics(numberOfDirectories.sum(), numberOfLinkedFiles.sum(),
+                    numberOfCopiedFiles.sum(), numberOfCopiedBytes.sum(),
+                    numberOfSymbolicLinks.sum(), numberOfSkippedEntries.sum());
+        }
+    }
+
+    /**
+     * The task that snapshots one directory. Sets the meta data of the target directory after
+     * all its entries are done.
+     */
+    private final class DirectoryTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Snapshot snapshot;
+
+        private final String source;
+
+        private final Stat sourceStat;
+
+        private final String previousOrNull;
+
+        private final String target;
+
+        DirectoryTask(Snapshot snapshot, String source, Stat sourceStat, String previousOrNull,
+                String target)
+        {
+            this.snapshot = snapshot;
+            this.source = source;
+            this.sourceStat = sourceStat;
+            this.previousOrNull = previousOrNull;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute()
+        {
+            final DirectoryEntry[] entries = Unix.listDirectoryWithStats(source, false);
+            createDirectory(target);
+            final String sourcePrefix = source.endsWith("/") ? source : source + "/";
+            final String previousPrefixOrNull =
+                    (previousOrNull == null) ? null : (previousOrNull.endsWith("/")
+                            ? previousOrNull : previousOrNull + "/");
+            final String targetPrefix = target.endsWith("/") ? target : target + "/";
+            final List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+            for (DirectoryEntry entry : entries)
+            {
+                final String entrySource = sourcePrefix + entry.getName();
+                final String entryPreviousOrNull =
+                        (previousPrefixOrNull == null) ? null : previousPrefixOrNull
+                                + entry.getName();
+                final String entryTarget = targetPrefix + entry.getName();
+                final Stat stat = entry.tryGetStat();
+                if (stat == null)
+                {
+                    throw new IOExceptionUnchecked("Cannot obtain inode info for file '"
+                            + entrySource + "'");
+                }
+                switch (stat.getLinkType())
+                {
+                    case DIRECTORY:
+                        tasks.add(new DirectoryTask(snapshot, entrySource, stat,
+                                entryPreviousOrNull, entryTarget));
+                        break;
+                    case REGULAR_FILE:
+                        tasks.add(new FileTask(snapshot, entrySource, stat, entryPreviousOrNull,
+                                entryTarget));
+                        break;
+                    case SYMLINK:
+                        copySymbolicLink(entrySource, stat, entryTarget);
+                        snapshot.numberOfSymbolicLinks.increment();
+                        break;
+                    default:
+                        snapshot.numberOfSkippedEntries.increment();
+                        break;
+                }
+            }
+            invokeAll(tasks);
+            setMetaData(target, sourceStat);
+            snapshot.numberOfDirectories.increment();
+        }
+    }
+
+    /**
+     * The task that links or copies one regular file.
+     */
+    private final class FileTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Snapshot snapshot;
+
+        private final String source;
+
+        private final Stat sourceStat;
+
+        private final String previousOrNull;
+
+        private final String target;
+
+        FileTask(Snapshot snapshot, String source, Stat sourceStat, String previousOrNull,
+                String target)
+        {
+            this.snapshot = snapshot;
+            this.source = source;
+            this.sourceStat = sourceStat;
+            this.previousOrNull = previousOrNull;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute()
+        {
+            final Stat previousStatOrNull =
+                    (previousOrNull == null) ? null : Unix.tryGetLinkInfo(previousOrNull, false);
+            if (isUnchanged(sourceStat, previousStatOrNull))
+            {
+                Unix.createHardLink(previousOrNull, target);
+                snapshot.numberOfLinkedFiles.increment();
+            } else
+            {
+                snapshot.numberOfCopiedBytes.add(copyContent(source, target));
+                setMetaData(target, sourceStat);
+                snapshot.numberOfCopiedFiles.increment();
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    private final boolean preserveOwner;
+
+    /**
+     * Creates a snapshotter that runs on the common {@link ForkJoinPool}. Owner and group are
+     * preserved if the effective user is <code>root</code>.
+     */
+    public HardLinkSnapshotter()
+    {
+        this(ForkJoinPool.commonPool(), Unix.getEuid() == 0);
+    }
+
+    /**
+     * Creates a snapshotter that runs on <var>pool</var>.
+     * 
+     * @param preserveOwner If <code>true</code>, owner and group of all entries are preserved.
+     *            This requires <code>root</code> privileges unless all entries belong to the
+     *            current user.
+     */
+    public HardLinkSnapshotter(ForkJoinPool pool, boolean preserveOwner)
+    {
+        this.pool = pool;
+        this.preserveOwner = preserveOwner;
+    }
+
+    /**
+     * Returns <code>true</code>, if this snapshotter preserves owner and group.
+     */
+    public boolean isPreserveOwner()
+    {
+        return preserveOwner;
+    }
+
+    /**
+     * Creates a snapshot of directory <var>source</var> in directory <var>target</var>. Files
+     * that are unchanged with respect to <var>previousSnapshotOrNull</var> are hard linked to
+     * it.
+     * 
+     * @param source The directory to create a snapshot of.
+     * @param previousSnapshotOrNull The previous snapshot of <var>source</var>, or
+     *            <code>null</code>, if all files should be copied. Needs to be on the same file
+     *            system as <var>target</var>.
+     * @param target The directory to create the snapshot in. Must not exist, its parent
+     *            directory must exist.
+     * @throws IOExceptionUnchecked If any file system operation fails. The snapshot in
+     *             <var>target</var> is incomplete in this case.
+     */
+    public SnapshotStatistics snapshot(String source, String previousSnapshotOrNull,
+            String target) throws IOExceptionUnchecked
+    {
+        final Stat sourceStat = Unix.getFileInfo(source);
+        if (sourceStat.getLinkType() != FileLinkType.DIRECTORY)
+        {
+            throw new IOExceptionUnchecked("'" + source + "' is not a directory");
+        }
+        final Snapshot snapshot = new Snapshot();
+        pool.invoke(new DirectoryTask(snapshot, source, sourceStat, previousSnapshotOrNull,
+                target));
+        return snapshot.toStatistics();
+    }
+
+    private boolean isUnchanged(Stat sourceStat, Stat previousStatOrNull)
+    {
+        if (previousStatOrNull == null
+                || previousStatOrNull.getLinkType() != FileLinkType.REGULAR_FILE)
+        {
+            return false;
+        }
+        if (preserveOwner
+                && (sourceStat.getUid() != previousStatOrNull.getUid()
+                        || sourceStat.getGid() != previousStatOrNull.getGid()))
+        {
+            return false;
+        }
+        final Time sourceTime = sourceStat.getLastModifiedTime();
+        final Time previousTime = previousStatOrNull.getLastModifiedTime();
+        return sourceStat.getSize() == previousStatOrNull.getSize()
+                && sourceStat.getPermissions() == previousStatOrNull.getPermissions()
+                && sourceTime.getSecs() == previousTime.getSecs()
+                && getMicroSecs(sourceTime) == getMicroSecs(previousTime);
+    }
+
+    /**
+     * Returns the micro-second part of <var>time</var>, truncated such that it stays a valid
+     * argument of <code>utimes(2)</code>.
+     */
+    private static long getMicroSecs(Time time)
+    {
+        return time.getNanoSecPart() / 1000;
+    }
+
+    private void setMetaData(String path, Stat stat)
+    {
+        // chown(2) may clear the set-user-ID and set-group-ID bits, thus call it before chmod(2).
+        if (preserveOwner)
+        {
+            Unix.setOwner(path, stat.getUid(), stat.getGid());
+        }
+        Unix.setAccessMode(path, stat.getPermissions());
+        final Time accessTime = stat.getLastAccessTime();
+        final Time modificationTime = stat.getLastModifiedTime();
+        Unix.setFileTimestamps(path, accessTime.getSecs(), getMicroSecs(accessTime),
+                modificationTime.getSecs(), getMicroSecs(modificationTime));
+    }
+
+    private void copySymbolicLink(String source, Stat stat, String target)
+    {
+        final String linkTarget = Unix.tryReadSymbolicLink(source);
+        if (linkTarget == null)
+        {
+            throw new IOExceptionUnchecked("Cannot read symbolic link '" + source + "': "
+                    + Unix.getLastError());
+        }
+        Unix.createSymbolicLink(linkTarget, target);
+        if (preserveOwner)
+        {
+            Unix.setLinkOwner(target, stat.getUid(), stat.getGid());
+        }
+        final Time accessTime = stat.getLastAccessTime();
+        final Time modificationTime = stat.getLastModifiedTime();
+        Unix.setLinkTimestamps(target, accessTime.getSecs(), getMicroSecs(accessTime),
+                modificationTime.getSecs(), getMicroSecs(modificationTime));
+    }
+
+    private static void createDirectory(String path)
+    {
+        if (new File(path).mkdir() == false)
+        {
+            throw new IOExceptionUnchecked("Cannot create directory '" + path + "'");
+        }
+    }
+
+    private static long copyContent(String source, String target)
+    {
+        try (final FileChannel in = FileChannel.open(Paths.get(source), StandardOpenOption.READ);
+                final FileChannel out =
+                        FileChannel.open(Paths.get(target), StandardOpenOption.CREATE_NEW,
+                                StandardOpenOption.WRITE))
+        {
+            final long size = in.size();
+            long position = 0;
+            while (position < size)
+            {
+                final long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0)
+                {
+                    // The source file has been truncated while copying.
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        } catch (IOException ex)
+        {
+            throw CheckedExceptionTunnel.wrapIfNecessary(ex);
+        }
+    }
+
+}
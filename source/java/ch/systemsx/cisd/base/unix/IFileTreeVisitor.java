@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.unix.Unix.Stat;
+
+/**
+ * A visitor of the entries of a file tree, see {@link FileTreeWalker}.
+ * <p>
+ * <i>The methods are called concurrently from multiple threads and in no particular order, so
+ * implementations need to be thread-safe.</i>
+ * 
+ * @author agent
+ */
+public interface IFileTreeVisitor
+{
+    /**
+     * Called for each entry of the file tree, including the root.
+     * 
+     * @param path The path of the entry.
+     * @param stat The information about the entry. Its {@link Stat#getLinkType()} is
+     *            {@link FileLinkType#SYMLINK} for symbolic links that are not followed.
+     * @return <code>true</code>, if the walker should descend into <var>path</var> when it is a
+     *         directory. Ignored for other entries.
+     */
+    public boolean visit(String path, Stat stat);
+
+    /**
+     * Called when a directory could not be listed or an entry could not be <code>stat</code>ed.
+     */
+    public void visitFailed(String path, IOExceptionUnchecked ex);
+}
@@ -545,6 +545,236 @@ public final class Unix
         }
     }
 
+    /**
+     * An entry of a directory listing with its {@link Stat}, see
+     * {@link Unix#listDirectoryWithStats(String, boolean)}.
+     */
+    public static final class DirectoryEntry
+    {
+        private final String name;
+
+        private final Stat statOrNull;
+
+        DirectoryEntry(String name, Stat statOrNull)
+        {
+            this.name = name;
+            this.statOrNull = statOrNull;
+        }
+
+        /**
+         * Returns the name of the entry, without the directory.
+         */
+        public String getName()
+        {
+            return name;
+        }
+
+        /**
+         * Returns the information about the entry, or <code>null</code>, if it could not be obtained
+         * (e.g. for a dangling symbolic link when following links).
+         */
+        public Stat tryGetStat()
+        {
+            return statOrNull;
+        }
+    }
+
+    /**
+     * A mutable holder of the Unix <code>stat</code> structure that can be filled over and over
+     * again by {@link Unix#tryGetFileInfo(String, StatBuffer)} or
+     * {@link Unix#tryGetLinkInfo(String, StatBuffer)} without creating any objects. Use it in loops
+     * that <code>stat</code> many files, use {@link Stat} otherwise.
+     * <p>
+     * The fields are kept in a <code>long[]</code> of length {@link #NUMBER_OF_FIELDS} at the
+     * indices given by the constants of this class. Such an array can also be filled directly by
+     * {@link Unix#tryGetFileInfo(String, long[])} or {@link Unix#tryGetLinkInfo(String, long[])}.
+     * <p>
+     * If a call fails, {@link #getErrorCode()} keeps its <code>errno</code> while the fields keep
+     * their previous values.
+     * <p>
+     * Not thread-safe.
+     */
+    public static final class StatBuffer
+    {
+        public static final int DEVICE_ID = 0;
+
+        public static final int INODE = 1;
+
+        public static final int PERMISSIONS = 2;
+
+        /** The ordinal of the {@link FileLinkType}. */
+        public static final int LINK_TYPE = 3;
+
+        public static final int NUMBER_OF_HARD_LINKS = 4;
+
+        public static final int UID = 5;
+
+        public static final int GID = 6;
+
+        public static final int LAST_ACCESS = 7;
+
+        public static final int LAST_ACCESS_NANOS = 8;
+
+        public static final int LAST_MODIFIED = 9;
+
+        public static final int LAST_MODIFIED_NANOS = 10;
+
+        public static final int LAST_STATUS_CHANGE = 11;
+
+        public static final int LAST_STATUS_CHANGE_NANOS = 12;
+
+        public static final int SIZE = 13;
+
+        public static final int NUMBER_OF_BLOCKS = 14;
+
+        public static final int BLOCK_SIZE = 15;
+
+        /** The number of fields, keep in sync with <code>STAT_FIELDS</code> in unix.c. */
+        public static final int NUMBER_OF_FIELDS = 16;
+
+        private static final FileLinkType[] LINK_TYPES = FileLinkType.values();
+
+        private final long[] fields = new long[NUMBER_OF_FIELDS];
+
+        private int errorCode;
+
+        long[] getFields()
+        {
+            return fields;
+        }
+
+        void setErrorCode(int errorCode)
+        {
+            this.errorCode = errorCode;
+        }
+
+        /**
+         * Returns the <code>errno</code> of the last call that filled this buffer, or 0 if that
+         * call succeeded. Use {@link Unix#getErrorMessage(int)} to get a description.
+         */
+        public int getErrorCode()
+        {
+            return errorCode;
+        }
+
+        public long getDeviceId()
+        {
+            return fields[DEVICE_ID];
+        }
+
+        public long getInode()
+        {
+            return fields[INODE];
+        }
+
+        public short getPermissions()
+        {
+            return (short) fields[PERMISSIONS];
+        }
+
+        public FileLinkType getLinkType()
+        {
+            return LINK_TYPES[(int) fields[LINK_TYPE]];
+        }
+
+        public boolean isSymbolicLink()
+        {
+            return FileLinkType.isSymLink(fields[LINK_TYPE]);
+        }
+
+        public int getNumberOfHardLinks()
+        {
+            return (int) fields[NUMBER_OF_HARD_LINKS];
+        }
+
+        public int getUid()
+        {
+            return (int) fields[UID];
+        }
+
+        public int getGid()
+        {
+            return (int) fields[GID];
+        }
+
+        /**
+         * Time when file data last accessed, in seconds since the epoch.
+         */
+        public long getLastAccess()
+        {
+            return fields[LAST_ACCESS];
+        }
+
+        /**
+         * The nano-second part of {@link #getLastAccess()}.
+         */
+        public long getLastAccessNanoSecPart()
+        {
+            return fields[LAST_ACCESS_NANOS];
+        }
+
+        /**
+         * Time when file data last modified, in seconds since the epoch.
+         */
+        public long getLastModified()
+        {
+            return fields[LAST_MODIFIED];
+        }
+
+        /**
+         * The nano-second part of {@link #getLastModified()}.
+         */
+        public long getLastModifiedNanoSecPart()
+        {
+            return fields[LAST_MODIFIED_NANOS];
+        }
+
+        /**
+         * Time when file status was last changed (inode data modification), in seconds since the
+         * epoch.
+         */
+        public long getLastStatusChange()
+        {
+            return fields[LAST_STATUS_CHANGE];
+        }
+
+        /**
+         * The nano-second part of {@link #getLastStatusChange()}.
+         */
+        public long getLastStatusChangeNanoSecPart()
+        {
+            return fields[LAST_STATUS_CHANGE_NANOS];
+        }
+
+        public long getSize()
+        {
+            return fields[SIZE];
+        }
+
+        public long getNumberOfBlocks()
+        {
+            return fields[NUMBER_OF_BLOCKS];
+        }
+
+        public int getBlockSize()
+        {
+            return (int) fields[BLOCK_SIZE];
+        }
+
+        /**
+         * Returns a new {@link Stat} with the current content of this buffer.
+         */
+        public Stat toStat()
+        {
+            return new Stat(fields[DEVICE_ID], fields[INODE], (short) fields[PERMISSIONS],
+                    (byte) fields[LINK_TYPE], (int) fields[NUMBER_OF_HARD_LINKS],
+                    (int) fields[UID], (int) fields[GID], fields[LAST_ACCESS],
+                    fields[LAST_ACCESS_NANOS], fields[LAST_MODIFIED], fields[LAST_MODIFIED_NANOS],
+                    fields[LAST_STATUS_CHANGE], fields[LAST_STATUS_CHANGE_NANOS], fields[SIZE],
+                    fields[NUMBER_OF_BLOCKS], (int) fields[BLOCK_SIZE]);
+        }
+    }
+
     private static void throwLinkCreationException(String type, String source, String target,
             String errorMessage)
     {
@@ -558,6 +788,12 @@ public final class Unix
                 "Cannot obtain inode info for file '%s': %s", filename, errorMessage)));
     }
 
+    private static void throwListException(String dirname, String errorMessage)
+    {
+        throw new IOExceptionUnchecked(new IOException(String.format(
+                "Cannot list directory '%s': %s", dirname, errorMessage)));
+    }
+
     private static void throwFileException(String operation, String filename, String errorMessage)
     {
         throw new IOExceptionUnchecked(new IOException(String.format("Cannot %s of file '%s': %s",
@@ -643,6 +879,10 @@ public final class Unix
 
     private static native Group getgrgid(int gid);
 
+    private static native Object[] liststat(String dirname, boolean followLinks);
+
+    private static native int statfields(String filename, boolean followLinks, long[] fields);
+
     private static native String strerror(int errnum);
 
     private static native String strerror();
@@ -698,6 +938,15 @@ public final class Unix
         return strerror();
     }
 
+    /**
+     * Returns the description of the error with the given <code>errno</code>, as returned e.g. by
+     * {@link #tryGetFileInfo(String, long[])} or {@link StatBuffer#getErrorCode()}.
+     */
+    public static String getErrorMessage(int errorCode)
+    {
+        return strerror(errorCode);
+    }
+
     //
     // Process functions
     //
@@ -1009,6 +1258,160 @@ public final class Unix
         return stat;
     }
 
+    /**
+     * Fills <var>buffer</var> with the information about <var>fileName</var>. Creates no objects
+     * unless the information cannot be obtained.
+     * 
+     * @throws IOExceptionUnchecked If the information could not be obtained, e.g. because the file
+     *             does not exist.
+     */
+    public static final void getFileInfo(String fileName, StatBuffer buffer)
+            throws IOExceptionUnchecked
+    {
+        final int result = statFields(fileName, true, buffer);
+        if (result < 0)
+        {
+            throwStatException(fileName, strerror(result));
+        }
+    }
+
+    /**
+     * Fills <var>buffer</var> with the information about <var>fileName</var>. Creates no objects.
+     * 
+     * @return <code>true</code> on success, <code>false</code> if the information could not be
+     *         obtained, e.g. because the file does not exist. In that case
+     *         {@link StatBuffer#getErrorCode()} tells what went wrong.
+     */
+    public static final boolean tryGetFileInfo(String fileName, StatBuffer buffer)
+    {
+        return statFields(fileName, true, buffer) == 0;
+    }
+
+    /**
+     * Fills <var>statFields</var> with the information about <var>fileName</var>, see
+     * {@link StatBuffer} for the layout. Creates no objects.
+     * 
+     * @return 0 on success, otherwise the <code>errno</code> telling why the information could
+     *         not be obtained, e.g. because the file does not exist (see
+     *         {@link #getErrorMessage(int)}).
+     */
+    public static final int tryGetFileInfo(String fileName, long[] statFields)
+    {
+        return -statFields(fileName, true, statFields);
+    }
+
+    /**
+     * Fills <var>buffer</var> with the information about <var>linkName</var>. Does not dereference
+     * a symbolic link. Creates no objects unless the information cannot be obtained.
+     * 
+     * @throws IOExceptionUnchecked If the information could not be obtained, e.g. because the link
+     *             does not exist.
+     */
+    public static final void getLinkInfo(String linkName, StatBuffer buffer)
+            throws IOExceptionUnchecked
+    {
+        final int result = statFields(linkName, false, buffer);
+        if (result < 0)
+        {
+            throwStatException(linkName, strerror(result));
+        }
+    }
+
+    /**
+     * Fills <var>buffer</var> with the information about <var>linkName</var>. Does not dereference
+     * a symbolic link. Creates no objects.
+     * 
+     * @return <code>true</code> on success, <code>false</code> if the information could not be
+     *         obtained, e.g. because the link does not exist. In that case
+     *         {@link StatBuffer#getErrorCode()} tells what went wrong.
+     */
+    public static final boolean tryGetLinkInfo(String linkName, StatBuffer buffer)
+    {
+        return statFields(linkName, false, buffer) == 0;
+    }
+
+    /**
+     * Fills <var>statFields</var> with the information about <var>linkName</var>, see
+     * {@link StatBuffer} for the layout. Does not dereference a symbolic link. Creates no objects.
+     * 
+     * @return 0 on success, otherwise the <code>errno</code> telling why the information could
+     *         not be obtained, e.g. because the link does not exist (see
+     *         {@link #getErrorMessage(int)}).
+     */
+    public static final int tryGetLinkInfo(String linkName, long[] statFields)
+    {
+        return -statFields(linkName, false, statFields);
+    }
+
+    private static int statFields(String fileName, boolean followLinks, StatBuffer buffer)
+    {
+        final int result = statFields(fileName, followLinks, buffer.getFields());
+        buffer.setErrorCode(-result);
+        return result;
+    }
+
+    private static int statFields(String fileName, boolean followLinks, long[] statFields)
+    {
+        if (fileName == null)
+        {
+            throw new NullPointerException("fileName");
+        }
+        if (statFields.length < StatBuffer.NUMBER_OF_FIELDS)
+        {
+            throw new IllegalArgumentException("statFields needs to have at least "
+                    + StatBuffer.NUMBER_OF_FIELDS + " elements");
+        }
+        return statfields(fileName, followLinks, statFields);
+    }
+
+    /**
+     * Returns all entries of the directory <var>dirName</var> (except <code>.</code> and
+     * <code>..</code>) with their information. Does not dereference symbolic links and does not
+     * read symbolic link targets.
+     * 
+     * @throws IOExceptionUnchecked If the directory could not be read.
+     * @see #listDirectoryWithStats(String, boolean)
+     */
+    public static final DirectoryEntry[] listDirectoryWithStats(String dirName)
+            throws IOExceptionUnchecked
+    {
+        return listDirectoryWithStats(dirName, false);
+    }
+
+    /**
+     * Returns all entries of the directory <var>dirName</var> (except <code>.</code> and
+     * <code>..</code>) with their information. The directory is read and all entries are
+     * <code>stat</code>ed relative to the open directory in one native call, which is a lot faster
+     * for large directories than calling {@link #getLinkInfo(String)} for each entry. Entries that
+     * are removed while the directory is read may be missing from the result. The symbolic link
+     * targets are not read.
+     * 
+     * @param followLinks If <code>true</code>, symbolic links are dereferenced (like
+     *            {@link #getFileInfo(String)}), otherwise not (like {@link #getLinkInfo(String)}).
+     * @throws IOExceptionUnchecked If the directory could not be read.
+     */
+    public static final DirectoryEntry[] listDirectoryWithStats(String dirName,
+            boolean followLinks) throws IOExceptionUnchecked
+    {
+        if (dirName == null)
+        {
+            throw new NullPointerException("dirName");
+        }
+        final Object[] result = liststat(dirName, followLinks);
+        if (result == null)
+        {
+            throwListException(dirName, strerror());
+        }
+        final String[] names = (String[]) result[0];
+        final Stat[] stats = (Stat[]) result[1];
+        final DirectoryEntry[] entries = new DirectoryEntry[names.length];
+        for (int i = 0; i < entries.length; ++i)
+        {
+            entries[i] = new DirectoryEntry(names[i], stats[i]);
+        }
+        return entries;
+    }
+
     /**
      * Sets the access mode of <var>filename</var> to the specified <var>mode</var> value.
      * Dereferences a symbolic link.
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.systemsx.cisd.base.unix.Unix.Group;
+import ch.systemsx.cisd.base.unix.Unix.Password;
+
+/**
+ * A cache for the user and group lookups of {@link Unix}, which go to the name service switch
+ * (and thus possibly to LDAP or NIS) on every call.
+ * <p>
+ * Lookups by id and by name share their results: looking up a user by uid also caches it by
+ * name and vice versa. Lookups that find nothing are cached as well, but with their own (usually
+ * shorter) time to live. Each of the four maps (users by uid and name, groups by gid and name)
+ * holds at most <var>maxSize</var> entries; when a map is full, the entries that were added to
+ * it first are evicted, which takes constant time per added entry.
+ * <p>
+ * The cache is thread-safe. Readers of cached entries never block; concurrent misses of the same
+ * key may result in more than one lookup. The returned {@link Password} and {@link Group} objects
+ * are shared between callers.
+ * <p>
+ * <i>Requires {@link Unix#isOperational()}.</i>
+ * 
+ * @author agent
+ */
+public final class UserGroupCache
+{
+    /** The default time to live of entries: 10 minutes. */
+    public static final long DEFAULT_TIME_TO_LIVE_MILLIS = 10 * 60 * 1000L;
+
+    /** The default time to live of negative entries: 1 minute. */
+    public static final long DEFAULT_NEGATIVE_TIME_TO_LIVE_MILLIS = 60 * 1000L;
+
+    /** The default maximal number of entries of each map. */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The statistics of a {@link UserGroupCache}.
+     */
+    public static final class Statistics
+    {
+        private final long numberOfHits;
+
+        private final long numberOfNegativeHits;
+
+        private final long numberOfMisses;
+
+        private final long numberOfEvictions;
+
+        private final int size;
+
+        Statistics(long numberOfHits, long numberOfNegativeHits, long numberOfMisses,
+                long numberOfEvictions, int size)
+        {
+            this.numberOfHits = numberOfHits;
+            this.numberOfNegativeHits = numberOfNegativeHits;
+            this.numberOfMisses = numberOfMisses;
+            this.numberOfEvictions = numberOfEvictions;
+            this.size = size;
+        }
+
+        /**
+         * Returns the number of lookups answered from the cache, including negative hits.
+         */
+        public long getNumberOfHits()
+        {
+            return numberOfHits;
+        }
+
+        /**
+         * Returns the number of lookups answered from the cache with "does not exist".
+         */
+        public long getNumberOfNegativeHits()
+        {
+            return numberOfNegativeHits;
+        }
+
+        /**
+         * Returns the number of lookups that went to the name service.
+         */
+        public long getNumberOfMisses()
+        {
+            return numberOfMisses;
+        }
+
+        /**
+         * Returns the number of entries evicted because a map was full.
+         */
+        public long getNumberOfEvictions()
+        {
+            return numberOfEvictions;
+        }
+
+        /**
+         * Returns the number of entries currently in the cache (including expired ones).
+         */
+        public int getSize()
+        {
+            return size;
+        }
+
+        /**
+         * Returns the fraction of lookups answered from the cache, or 0, if there were no
+         * lookups yet.
+         */
+        public double getHitRate()
+        {
+            final long total = numberOfHits + numberOfMisses;
+            return (total == 0) ? 0.0 : (double) numberOfHits / total;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Statistics [hits=" + numberOfHits + ", negativeHits=" + numberOfNegativeHits
+                    + ", misses=" + numberOfMisses + ", evictions=" + numberOfEvictions
+                    + ", size=" + size + "]";
+        }
+    }
+
+    /**
+     * A cache entry. A <code>null</code> value denotes a negative entry.
+     */
+    private static final class Entry<T>
+    {
+        private final T valueOrNull;
+
+        private final long expiryNanos;
+
+        Entry(T valueOrNull, long expiryNanos)
+        {
+            this.valueOrNull = valueOrNull;
+            this.expiryNanos = expiryNanos;
+        }
+
+        boolean isExpired(long nowNanos)
+        {
+            return nowNanos - expiryNanos >= 0;
+        }
+    }
+
+    /**
+     * A map of cache entries that remembers the order in which its keys were added.
+     */
+    private static final class EntryMap<K, T>
+    {
+        private final Map<K, Entry<T>> map = new ConcurrentHashMap<K, Entry<T>>();
+
+        private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<K>();
+    }
+
+    private final long timeToLiveNanos;
+
+    private final long negativeTimeToLiveNanos;
+
+    private final int maxSize;
+
+    private final EntryMap<Integer, Password> usersByUid = new EntryMap<Integer, Password>();
+
+    private final EntryMap<String, Password> usersByName = new EntryMap<String, Password>();
+
+    private final EntryMap<Integer, Group> groupsByGid = new EntryMap<Integer, Group>();
+
+    private final EntryMap<String, Group> groupsByName = new EntryMap<String, Group>();
+
+    private final LongAdder numberOfHits = new LongAdder();
+
+    private final LongAdder numberOfNegativeHits = new LongAdder();
+
+    private final LongAdder numberOfMisses = new LongAdder();
+
+    private final LongAdder numberOfEvictions = new LongAdder();
+
+    /**
+     * Creates a cache with the default time to live values and size.
+     */
+    public UserGroupCache()
+    {
+        this(DEFAULT_TIME_TO_LIVE_MILLIS, DEFAULT_NEGATIVE_TIME_TO_LIVE_MILLIS, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache.
+     * 
+     * @param timeToLiveMillis The time (in ms) that an entry is valid.
+     * @param negativeTimeToLiveMillis The time (in ms) that the information that a user or group
+     *            does not exist is valid.
+     * @param maxSize The maximal number of entries in each of the maps.
+     */
+    public UserGroupCache(long timeToLiveMillis, long negativeTimeToLiveMillis, int maxSize)
+    {
+        if (timeToLiveMillis < 0 || negativeTimeToLiveMillis < 0)
+        {
+            throw new IllegalArgumentException("Time to live must not be negative.");
+        }
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException("Illegal max size: " + maxSize);
+        }
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.negativeTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(negativeTimeToLiveMillis);
+        this.maxSize = maxSize;
+    }
+
+    //
+    // User functions
+    //
+
+    /**
+     * Returns the name of the user identified by <var>uid</var>, or <code>null</code>, if no
+     * user with that <var>uid</var> exists.
+     * 
+     * @see Unix#tryGetUserNameForUid(int)
+     */
+    public String tryGetUserNameForUid(int uid)
+    {
+        final Password user = tryGetUserByUid(uid);
+        return (user == null) ? null : user.getUserName();
+    }
+
+    /**
+     * Returns the uid of the <var>userName</var>, or <code>-1</code>, if no user with this name
+     * exists.
+     * 
+     * @see Unix#getUidForUserName(String)
+     */
+    public int getUidForUserName(String userName)
+    {
+        final Password user = tryGetUserByName(userName);
+        return (user == null) ? -1 : user.getUid();
+    }
+
+    /**
+     * Returns the {@link Password} for the given <var>uid</var>, or <code>null</code>, if no
+     * user with that uid exists.
+     * 
+     * @see Unix#tryGetUserByUid(int)
+     */
+    public Password tryGetUserByUid(int uid)
+    {
+        final Integer key = uid;
+        final long now = System.nanoTime();
+        final Entry<Password> entry = usersByUid.map.get(key);
+        if (entry != null && entry.isExpired(now) == false)
+        {
+            return hit(entry);
+        }
+        numberOfMisses.increment();
+        final Password userOrNull = Unix.tryGetUserByUid(uid);
+        put(usersByUid, key, userOrNull);
+        if (userOrNull != null)
+        {
+            put(usersByName, userOrNull.getUserName(), userOrNull);
+        }
+        return userOrNull;
+    }
+
+    /**
+     * Returns the {@link Password} for the given <var>userName</var>, or <code>null</code>, if
+     * no user with that name exists.
+     * 
+     * @see Unix#tryGetUserByName(String)
+     */
+    public Password tryGetUserByName(String userName)
+    {
+        if (userName == null)
+        {
+            throw new NullPointerException("userName");
+        }
+        final long now = System.nanoTime();
+        final Entry<Password> entry = usersByName.map.get(userName);
+        if (entry != null && entry.isExpired(now) == false)
+        {
+            return hit(entry);
+        }
+        numberOfMisses.increment();
+        final Password userOrNull = Unix.tryGetUserByName(userName);
+        put(usersByName, userName, userOrNull);
+        if (userOrNull != null)
+        {
+            put(usersByUid, userOrNull.getUid(), userOrNull);
+        }
+        return userOrNull;
+    }
+
+    //
+    // Group functions
+    //
+
+    /**
+     * Returns the name of the group identified by <var>gid</var>, or <code>null</code>, if no
+     * group with that <var>gid</var> exists.
+     * 
+     * @see Unix#tryGetGroupNameForGid(int)
+     */
+    public String tryGetGroupNameForGid(int gid)
+    {
+        final Group group = tryGetGroupByGid(gid);
+        return (group == null) ? null : group.getGroupName();
+    }
+
+    /**
+     * Returns the gid of the <var>groupName</var>, or <code>-1</code>, if no group with this
+     * name exists.
+     * 
+     * @see Unix#getGidForGroupName(String)
+     */
+    public int getGidForGroupName(String groupName)
+    {
+        final Group group = tryGetGroupByName(groupName);
+        return (group == null) ? -1 : group.getGid();
+    }
+
+    /**
+     * Returns the {@link Group} for the given <var>gid</var>, or <code>null</code>, if no group
+     * with that gid exists.
+     * 
+     * @see Unix#tryGetGroupByGid(int)
+     */
+    public Group tryGetGroupByGid(int gid)
+    {
+        final Integer key = gid;
+        final long now = System.nanoTime();
+        final Entry<Group> entry = groupsByGid.map.get(key);
+        if (entry != null && entry.isExpired(now) == false)
+        {
+            return hit(entry);
+        }
+        numberOfMisses.increment();
+        final Group groupOrNull = Unix.tryGetGroupByGid(gid);
+        put(groupsByGid, key, groupOrNull);
+        if (groupOrNull != null)
+        {
+            put(groupsByName, groupOrNull.getGroupName(), groupOrNull);
+        }
+        return groupOrNull;
+    }
+
+    /**
+     * Returns the {@link Group} for the given <var>groupName</var>, or <code>null</code>, if no
+     * group with that name exists.
+     * 
+     * @see Unix#tryGetGroupByName(String)
+     */
+    public Group tryGetGroupByName(String groupName)
+    {
+        if (groupName == null)
+        {
+            throw new NullPointerException("groupName");
+        }
+        final long now = System.nanoTime();
+        final Entry<Group> entry = groupsByName.map.get(groupName);
+        if (entry != null && entry.isExpired(now) == false)
+        {
+            return hit(entry);
+        }
+        numberOfMisses.increment();
+        final Group groupOrNull = Unix.tryGetGroupByName(groupName);
+        put(groupsByName, groupName, groupOrNull);
+        if (groupOrNull != null)
+        {
+            put(groupsByGid, groupOrNull.getGid(), groupOrNull);
+        }
+        return groupOrNull;
+    }
+
+    //
+    // Cache management
+    //
+
+    /**
+     * Removes all entries from the cache. The statistics are kept.
+     */
+    public void invalidate()
+    {
+        clear(usersByUid);
+        clear(usersByName);
+        clear(groupsByGid);
+        clear(groupsByName);
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     */
+    public Statistics getStatistics()
+    {
+        return new Statistics(numberOfHits.sum(), numberOfNegativeHits.sum(),
+                numberOfMisses.sum(), numberOfEvictions.sum(), usersByUid.map.size()
+                        + usersByName.map.size() + groupsByGid.map.size()
+                        + groupsByName.map.size());
+    }
+
+    private <T> T hit(Entry<T> entry)
+    {
+        numberOfHits.increment();
+        if (entry.valueOrNull == null)
+        {
+            numberOfNegativeHits.increment();
+        }
+        return entry.valueOrNull;
+    }
+
+    /**
+     * Adds the result of a lookup. The expiry is computed from the time after the lookup, which
+     * may have taken long.
+     */
+    private <K, T> void put(EntryMap<K, T> entries, K key, T valueOrNull)
+    {
+        final long ttl = (valueOrNull == null) ? negativeTimeToLiveNanos : timeToLiveNanos;
+        final Entry<T> entry = new Entry<T>(valueOrNull, System.nanoTime() + ttl);
+        if (entries.map.put(key, entry) == null)
+        {
+            entries.insertionOrder.add(key);
+            evict(entries);
+        }
+    }
+
+    /**
+     * Removes the entries that were added first until <var>entries</var> has no more than
+     * <var>maxSize</var> entries.
+     */
+    private <K, T> void evict(EntryMap<K, T> entries)
+    {
+        while (entries.map.size() > maxSize)
+        {
+            final K key = entries.insertionOrder.poll();
+            if (key == null)
+            {
+                break;
+            }
+            if (entries.map.remove(key) != null)
+            {
+                numberOfEvictions.increment();
+            }
+        }
+    }
+
+    private static <K, T> void clear(EntryMap<K, T> entries)
+    {
+        entries.insertionOrder.clear();
+        entries.map.clear();
+    }
+
+}
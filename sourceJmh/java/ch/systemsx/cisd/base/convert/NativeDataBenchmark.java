@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+
+/**
+ * Benchmarks for the <code>copyXToByte()</code> and <code>copyByteToX()</code> methods of
+ * {@link NativeData}, using the engine that {@link NativeData#getEngine(int)} chooses for each
+ * size: with the default settings, arrays with fewer than 512 elements (here the sizes 4 and 64)
+ * are converted by the pure Java engine and the larger ones by {@link NativeData.Engine#JNI}.
+ * <p>
+ * The sizes range from a few elements, where the cost of the JNI transition dominates, to arrays
+ * of several megabytes. See {@link NativeDataJniBenchmark} for JNI at all sizes and
+ * {@link NativeDataJavaModeBenchmark} for the pure Java engine at all sizes.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeDataBenchmark
+{
+    @Param(
+        { "4", "64", "1024", "65536", "1048576" })
+    public int size;
+
+    @Param(
+        { "NATIVE", "LITTLE_ENDIAN", "BIG_ENDIAN" })
+    public ByteOrder byteOrder;
+
+    private byte[] bytes;
+
+    private short[] shorts;
+
+    private char[] chars;
+
+    private int[] ints;
+
+    private long[] longs;
+
+    private float[] floats;
+
+    private double[] doubles;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42L);
+        bytes = new byte[size * NativeData.DOUBLE_SIZE];
+        shorts = new short[size];
+        chars = new char[size];
+        ints = new int[size];
+        longs = new long[size];
+        floats = new float[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; ++i)
+        {
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt();
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            floats[i] = random.nextFloat();
+            doubles[i] = random.nextDouble();
+        }
+        random.nextBytes(bytes);
+    }
+
+    @Benchmark
+    public byte[] copyShortToByte()
+    {
+        NativeData.copyShortToByte(shorts, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public short[] copyByteToShort()
+    {
+        NativeData.copyByteToShort(bytes, 0, shorts, 0, size, byteOrder);
+        return shorts;
+    }
+
+    @Benchmark
+    public byte[] copyCharToByte()
+    {
+        NativeData.copyCharToByte(chars, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public char[] copyByteToChar()
+    {
+        NativeData.copyByteToChar(bytes, 0, chars, 0, size, byteOrder);
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] copyIntToByte()
+    {
+        NativeData.copyIntToByte(ints, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public int[] copyByteToInt()
+    {
+        NativeData.copyByteToInt(bytes, 0, ints, 0, size, byteOrder);
+        return ints;
+    }
+
+    @Benchmark
+    public byte[] copyLongToByte()
+    {
+        NativeData.copyLongToByte(longs, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public long[] copyByteToLong()
+    {
+        NativeData.copyByteToLong(bytes, 0, longs, 0, size, byteOrder);
+        return longs;
+    }
+
+    @Benchmark
+    public byte[] copyFloatToByte()
+    {
+        NativeData.copyFloatToByte(floats, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public float[] copyByteToFloat()
+    {
+        NativeData.copyByteToFloat(bytes, 0, floats, 0, size, byteOrder);
+        return floats;
+    }
+
+    @Benchmark
+    public byte[] copyDoubleToByte()
+    {
+        NativeData.copyDoubleToByte(doubles, 0, bytes, 0, size, byteOrder);
+        return bytes;
+    }
+
+    @Benchmark
+    public double[] copyByteToDouble()
+    {
+        NativeData.copyByteToDouble(bytes, 0, doubles, 0, size, byteOrder);
+        return doubles;
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * The benchmarks of {@link NativeDataBenchmark} in <i>javamode</i>, that is with the best pure
+ * Java engine available (normally {@link NativeData.Engine#UNSAFE}).
+ *
+ * @author agent
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dnativedata.javamode=true")
+public class NativeDataJavaModeBenchmark extends NativeDataBenchmark
+{
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+import ch.systemsx.cisd.base.mdarray.MDDoubleArray;
+import ch.systemsx.cisd.base.mdarray.MDFloatArray;
+import ch.systemsx.cisd.base.mdarray.MDIntArray;
+import ch.systemsx.cisd.base.mdarray.MDLongArray;
+import ch.systemsx.cisd.base.mdarray.MDShortArray;
+
+/**
+ * Benchmarks for encoding and decoding square matrices of <var>edge</var> x <var>edge</var>
+ * elements with {@link NativeTaggedArray}.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeTaggedArrayBenchmark
+{
+    @Param(
+        { "16", "256", "2048" })
+    public int edge;
+
+    @Param(
+        { "LITTLE_ENDIAN", "BIG_ENDIAN" })
+    public ByteOrder byteOrder;
+
+    private MDShortArray shortArray;
+
+    private byte[] shortBytes;
+
+    private MDIntArray intArray;
+
+    private byte[] intBytes;
+
+    private MDLongArray longArray;
+
+    private byte[] longBytes;
+
+    private MDFloatArray floatArray;
+
+    private byte[] floatBytes;
+
+    private MDDoubleArray doubleArray;
+
+    private byte[] doubleBytes;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42L);
+        final int[] dimensions = new int[]
+            { edge, edge };
+        final short[] shorts = new short[edge * edge];
+        for (int i = 0; i < shorts.length; ++i)
+        {
+            shorts[i] = (short) random.nextInt();
+        }
+        shortArray = new MDShortArray(shorts, dimensions);
+        shortBytes = NativeTaggedArray.toByteArray(shortArray, byteOrder);
+        final int[] ints = new int[edge * edge];
+        for (int i = 0; i < ints.length; ++i)
+        {
+            ints[i] = random.nextInt();
+        }
+        intArray = new MDIntArray(ints, dimensions);
+        intBytes = NativeTaggedArray.toByteArray(intArray, byteOrder);
+        final long[] longs = new long[edge * edge];
+        for (int i = 0; i < longs.length; ++i)
+        {
+            longs[i] = random.nextLong();
+        }
+        longArray = new MDLongArray(longs, dimensions);
+        longBytes = NativeTaggedArray.toByteArray(longArray, byteOrder);
+        final float[] floats = new float[edge * edge];
+        for (int i = 0; i < floats.length; ++i)
+        {
+            floats[i] = random.nextFloat();
+        }
+        floatArray = new MDFloatArray(floats, dimensions);
+        floatBytes = NativeTaggedArray.toByteArray(floatArray, byteOrder);
+        final double[] doubles = new double[edge * edge];
+        for (int i = 0; i < doubles.length; ++i)
+        {
+            doubles[i] = random.nextDouble();
+        }
+        doubleArray = new MDDoubleArray(doubles, dimensions);
+        doubleBytes = NativeTaggedArray.toByteArray(doubleArray, byteOrder);
+    }
+
+    @Benchmark
+    public byte[] shortToByteArray()
+    {
+        return NativeTaggedArray.toByteArray(shortArray, byteOrder);
+    }
+
+    @Benchmark
+    public MDShortArray tryToShortArray()
+    {
+        return NativeTaggedArray.tryToShortArray(shortBytes);
+    }
+
+    @Benchmark
+    public byte[] intToByteArray()
+    {
+        return NativeTaggedArray.toByteArray(intArray, byteOrder);
+    }
+
+    @Benchmark
+    public MDIntArray tryToIntArray()
+    {
+        return NativeTaggedArray.tryToIntArray(intBytes);
+    }
+
+    @Benchmark
+    public byte[] longToByteArray()
+    {
+        return NativeTaggedArray.toByteArray(longArray, byteOrder);
+    }
+
+    @Benchmark
+    public MDLongArray tryToLongArray()
+    {
+        return NativeTaggedArray.tryToLongArray(longBytes);
+    }
+
+    @Benchmark
+    public byte[] floatToByteArray()
+    {
+        return NativeTaggedArray.toByteArray(floatArray, byteOrder);
+    }
+
+    @Benchmark
+    public MDFloatArray tryToFloatArray()
+    {
+        return NativeTaggedArray.tryToFloatArray(floatBytes);
+    }
+
+    @Benchmark
+    public byte[] doubleToByteArray()
+    {
+        return NativeTaggedArray.toByteArray(doubleArray, byteOrder);
+    }
+
+    @Benchmark
+    public MDDoubleArray tryToDoubleArray()
+    {
+        return NativeTaggedArray.tryToDoubleArray(doubleBytes);
+    }
+
+}
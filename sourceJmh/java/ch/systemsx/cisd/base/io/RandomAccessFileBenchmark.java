@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.systemsx.cisd.base.convert.NativeData;
+
+/**
+ * Benchmarks for reading primitive values from the implementations of {@link IRandomAccessFile}.
+ * The times are reported per value read.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomAccessFileBenchmark
+{
+    private static final int FILE_SIZE = 1 << 20;
+
+    private static final int VALUES_PER_INVOCATION = 4096;
+
+    @Param(
+        { "RandomAccessFileImpl", "ByteBufferRandomAccessFile" })
+    public String implementation;
+
+    @Param(
+        { "BIG_ENDIAN", "LITTLE_ENDIAN" })
+    public String byteOrder;
+
+    private File file;
+
+    private IRandomAccessFile raf;
+
+    private long[] randomPositions;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(42L);
+        final byte[] content = new byte[FILE_SIZE];
+        random.nextBytes(content);
+        file = File.createTempFile("raf-benchmark", ".bin");
+        Files.write(file.toPath(), content);
+        if ("RandomAccessFileImpl".equals(implementation))
+        {
+            raf = new RandomAccessFileImpl(file, "r");
+        } else
+        {
+            raf = new ByteBufferRandomAccessFile(Files.readAllBytes(file.toPath()));
+        }
+        raf.setByteOrder("LITTLE_ENDIAN".equals(byteOrder) ? ByteOrder.LITTLE_ENDIAN
+                : ByteOrder.BIG_ENDIAN);
+        randomPositions = new long[VALUES_PER_INVOCATION];
+        for (int i = 0; i < randomPositions.length; ++i)
+        {
+            randomPositions[i] = random.nextInt(FILE_SIZE - NativeData.LONG_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        raf.close();
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_PER_INVOCATION)
+    public int readShorts()
+    {
+        raf.seek(0L);
+        int sum = 0;
+        for (int i = 0; i < VALUES_PER_INVOCATION; ++i)
+        {
+            sum += raf.readShort();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_PER_INVOCATION)
+    public int readInts()
+    {
+        raf.seek(0L);
+        int sum = 0;
+        for (int i = 0; i < VALUES_PER_INVOCATION; ++i)
+        {
+            sum += raf.readInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_PER_INVOCATION)
+    public long readLongs()
+    {
+        raf.seek(0L);
+        long sum = 0;
+        for (int i = 0; i < VALUES_PER_INVOCATION; ++i)
+        {
+            sum += raf.readLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_PER_INVOCATION)
+    public double readDoubles()
+    {
+        raf.seek(0L);
+        double sum = 0;
+        for (int i = 0; i < VALUES_PER_INVOCATION; ++i)
+        {
+            sum += raf.readDouble();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_PER_INVOCATION)
+    public int seekAndReadInts()
+    {
+        int sum = 0;
+        for (int i = 0; i < VALUES_PER_INVOCATION; ++i)
+        {
+            raf.seek(randomPositions[i]);
+            sum += raf.readInt();
+        }
+        return sum;
+    }
+
+}
@@ -16,16 +16,25 @@
 
 package ch.systemsx.cisd.base;
 
+import ch.systemsx.cisd.base.convert.MappedNativeTaggedArrayTests;
 import ch.systemsx.cisd.base.convert.NativeDataTests;
 import ch.systemsx.cisd.base.convert.NativeTaggedArrayTests;
 import ch.systemsx.cisd.base.exceptions.IOExceptionUncheckedTests;
+import ch.systemsx.cisd.base.io.AsyncPositionalFileImplTests;
+import ch.systemsx.cisd.base.io.BufferedRandomAccessFileImplTests;
 import ch.systemsx.cisd.base.io.ByteBufferRandomAccessFileTests;
+import ch.systemsx.cisd.base.io.MappedRandomAccessFileTests;
+import ch.systemsx.cisd.base.io.PositionalFileImplTests;
 import ch.systemsx.cisd.base.io.RandomAccessFileImplTests;
+import ch.systemsx.cisd.base.io.SegmentedByteBufferRandomAccessFileTests;
 import ch.systemsx.cisd.base.mdarray.MDArrayTests;
 import ch.systemsx.cisd.base.namedthread.NamingThreadPoolExecutorTest;
+import ch.systemsx.cisd.base.unix.FileTreeWalkerTests;
+import ch.systemsx.cisd.base.unix.HardLinkSnapshotterTests;
 import ch.systemsx.cisd.base.unix.Unix;
 import ch.systemsx.cisd.base.unix.UnixRootTests;
 import ch.systemsx.cisd.base.unix.UnixTests;
+import ch.systemsx.cisd.base.unix.UserGroupCacheTests;
 
 /**
  * Run all unit tests.
@@ -41,12 +50,24 @@ public class AllTests
         System.out.println();
         NativeTaggedArrayTests.main(args);
         System.out.println();
+        MappedNativeTaggedArrayTests.main(args);
+        System.out.println();
         IOExceptionUncheckedTests.main(args);
         System.out.println();
         ByteBufferRandomAccessFileTests.main(args);
         System.out.println();
+        SegmentedByteBufferRandomAccessFileTests.main(args);
+        System.out.println();
         RandomAccessFileImplTests.main(args);
         System.out.println();
+        BufferedRandomAccessFileImplTests.main(args);
+        System.out.println();
+        MappedRandomAccessFileTests.main(args);
+        System.out.println();
+        PositionalFileImplTests.main(args);
+        System.out.println();
+        AsyncPositionalFileImplTests.main(args);
+        System.out.println();
         MDArrayTests.main(args);
         System.out.println();
         NamingThreadPoolExecutorTest.main(args);
@@ -55,6 +76,9 @@ public class AllTests
         {
             UnixTests.main(args);
             UnixRootTests.main(args);
+            FileTreeWalkerTests.main(args);
+            HardLinkSnapshotterTests.main(args);
+            UserGroupCacheTests.main(args);
         } else
         {
             System.err.println("No unix library found.");
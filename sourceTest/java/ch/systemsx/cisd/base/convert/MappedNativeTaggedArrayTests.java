@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.convert;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+import ch.systemsx.cisd.base.io.AdapterOutputStreamToIOutputStream;
+import ch.systemsx.cisd.base.io.IOutputStream;
+import ch.systemsx.cisd.base.mdarray.MDFloatArray;
+import ch.systemsx.cisd.base.mdarray.MDLongArray;
+import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
+
+/**
+ * Test cases for {@link MappedNativeTaggedArray}.
+ * 
+ * @author agent
+ */
+public class MappedNativeTaggedArrayTests extends AbstractFileSystemTestCase
+{
+
+    private File createTaggedArrayFile(String name, MDFloatArray array, ByteOrder byteOrder)
+            throws IOException
+    {
+        final File file = create(name);
+        try (final IOutputStream out =
+                new AdapterOutputStreamToIOutputStream(new FileOutputStream(file)))
+        {
+            NativeTaggedArray.writeTo(out, array, byteOrder);
+        }
+        return file;
+    }
+
+    private static MDFloatArray createFloatArray(int... dimensions)
+    {
+        final MDFloatArray array = new MDFloatArray(dimensions);
+        final float[] flat = array.getAsFlatArray();
+        for (int i = 0; i < flat.length; ++i)
+        {
+            flat[i] = i - 0.25f;
+        }
+        return array;
+    }
+
+    @Test
+    public void testMapFloatArray() throws IOException
+    {
+        for (ByteOrder byteOrder : new ByteOrder[]
+            { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN })
+        {
+            final MDFloatArray array = createFloatArray(3, 4, 5);
+            final File file = createTaggedArrayFile("float_" + byteOrder, array, byteOrder);
+            final MappedNativeTaggedArray mapped = MappedNativeTaggedArray.tryMap(file);
+            assertNotNull(mapped);
+            assertEquals(byteOrder, mapped.getEncoding().getByteOrder());
+            assertTrue(Arrays.equals(new int[] { 3, 4, 5 }, mapped.getDimensions()));
+            assertEquals(60, mapped.size());
+            assertEquals(array.get(2, 1, 3), mapped.getFloat(2, 1, 3));
+            assertEquals(array.getAsFlatArray()[17], mapped.getFloat(17L));
+            final float[] copy = new float[62];
+            mapped.copyToFloat(0L, copy, 2, 60);
+            assertTrue(Arrays.equals(array.getAsFlatArray(),
+                    Arrays.copyOfRange(copy, 2, copy.length)));
+            final FloatBuffer buffer = mapped.getAsFloatBuffer();
+            assertEquals(60, buffer.remaining());
+            assertEquals(array.getAsFlatArray()[59], buffer.get(59));
+        }
+    }
+
+    @Test
+    public void testMapInMultipleRegions() throws IOException
+    {
+        final MDFloatArray array = createFloatArray(10, 9);
+        final File file = createTaggedArrayFile("regions", array, ByteOrder.BIG_ENDIAN);
+        // Regions of 64 bytes.
+        final MappedNativeTaggedArray mapped = MappedNativeTaggedArray.tryMap(file, 6);
+        for (int i = 0; i < 90; ++i)
+        {
+            assertEquals(array.getAsFlatArray()[i], mapped.getFloat((long) i));
+        }
+        final float[] copy = new float[80];
+        mapped.copyToFloat(5L, copy, 0, 80);
+        assertTrue(Arrays.equals(Arrays.copyOfRange(array.getAsFlatArray(), 5, 85), copy));
+    }
+
+    @Test
+    public void testMapLongArray() throws IOException
+    {
+        final File file = create("long");
+        final MDLongArray array = new MDLongArray(new long[]
+            { 1L, Long.MAX_VALUE, -3L, 4L }, new int[] { 2, 2 });
+        FileUtils.writeByteArrayToFile(file, NativeTaggedArray.toByteArray(array));
+        final MappedNativeTaggedArray mapped = MappedNativeTaggedArray.tryMap(file);
+        assertEquals(Long.MAX_VALUE, mapped.getLong(0, 1));
+        assertEquals(-3L, mapped.getLong(1, 0));
+        assertEquals(4, mapped.getAsLongBuffer().remaining());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testMapWrongType() throws IOException
+    {
+        final File file = createTaggedArrayFile("wrongType", createFloatArray(2),
+                ByteOrder.LITTLE_ENDIAN);
+        MappedNativeTaggedArray.tryMap(file).getInt(0L);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testMapIndexOutOfBounds() throws IOException
+    {
+        final File file = createTaggedArrayFile("ioob", createFloatArray(2, 3),
+                ByteOrder.LITTLE_ENDIAN);
+        MappedNativeTaggedArray.tryMap(file).getFloat(2, 0);
+    }
+
+    @Test
+    public void testMapNoTaggedArray() throws IOException
+    {
+        final File file = create("noTaggedArray");
+        FileUtils.writeByteArrayToFile(file, "This is not a tagged array.".getBytes());
+        assertNull(MappedNativeTaggedArray.tryMap(file));
+        final File truncatedFile = create("truncated");
+        final byte[] taggedArr = NativeTaggedArray.toByteArray(new int[] { 1, 2, 3 });
+        FileUtils.writeByteArrayToFile(truncatedFile,
+                Arrays.copyOf(taggedArr, taggedArr.length - 1));
+        assertNull(MappedNativeTaggedArray.tryMap(truncatedFile));
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + MappedNativeTaggedArrayTests.class.getSimpleName());
+        System.out.println();
+        final MappedNativeTaggedArrayTests test = new MappedNativeTaggedArrayTests();
+        try
+        {
+            for (Method m : MappedNativeTaggedArrayTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null || m.getParameterTypes().length > 0)
+                {
+                    continue;
+                }
+                System.out.println("Running " + m.getName());
+                test.setUp();
+                try
+                {
+                    m.invoke(test);
+                } catch (InvocationTargetException wrapperThrowable)
+                {
+                    final Throwable th = wrapperThrowable.getCause();
+                    boolean exceptionFound = false;
+                    for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                    {
+                        if (expectedExClazz == th.getClass())
+                        {
+                            exceptionFound = true;
+                            break;
+                        }
+                    }
+                    if (exceptionFound == false)
+                    {
+                        throw th;
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
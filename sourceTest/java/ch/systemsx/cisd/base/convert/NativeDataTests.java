@@ -20,9 +20,12 @@ import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.testng.annotations.DataProvider;
@@ -413,6 +416,354 @@ public class NativeDataTests
         assertTrue(Arrays.equals(trailerArray, trailerArray2));
     }
 
+    @Test(dataProvider = "getOfs")
+    public void testIntToDirectBufferToInt(int sourceOfs, int targetOfs)
+    {
+        final int sizeOfTarget = 4;
+        final int[] orignalArr = new int[]
+            { -1, 17, 100000, -1000000 };
+        final int[] iarr = new int[sourceOfs + orignalArr.length];
+        System.arraycopy(orignalArr, 0, iarr, sourceOfs, orignalArr.length);
+        final ByteBuffer buf =
+                ByteBuffer.allocateDirect(iarr.length * sizeOfTarget + targetOfs);
+        NativeData.copyIntToByteBuffer(iarr, sourceOfs, buf, targetOfs, orignalArr.length,
+                ByteOrder.BIG_ENDIAN);
+        assertEquals(0, buf.position());
+        assertEquals(orignalArr[1], buf.getInt(targetOfs + sizeOfTarget));
+        final int[] iarr2 = new int[iarr.length];
+        NativeData.copyByteBufferToInt(buf, targetOfs, iarr2, sourceOfs, orignalArr.length,
+                ByteOrder.BIG_ENDIAN);
+        assertTrue(Arrays.equals(iarr, iarr2));
+    }
+
+    @Test(dataProvider = "getOfs")
+    public void testDoubleToDirectBufferToDouble(int sourceOfs, int targetOfs)
+    {
+        final int sizeOfTarget = 8;
+        final double[] orignalArr = new double[]
+            { -1, 17, 3.14159, -1e42 };
+        final double[] iarr = new double[sourceOfs + orignalArr.length];
+        System.arraycopy(orignalArr, 0, iarr, sourceOfs, orignalArr.length);
+        final ByteBuffer buf =
+                ByteBuffer.allocateDirect(iarr.length * sizeOfTarget + targetOfs).order(
+                        java.nio.ByteOrder.LITTLE_ENDIAN);
+        NativeData.copyDoubleToByteBuffer(iarr, sourceOfs, buf, targetOfs, orignalArr.length,
+                ByteOrder.LITTLE_ENDIAN);
+        assertEquals(orignalArr[2], buf.getDouble(targetOfs + 2 * sizeOfTarget));
+        final double[] iarr2 = new double[iarr.length];
+        NativeData.copyByteBufferToDouble(buf, targetOfs, iarr2, sourceOfs, orignalArr.length,
+                ByteOrder.LITTLE_ENDIAN);
+        assertTrue(Arrays.equals(iarr, iarr2));
+    }
+
+    @Test
+    public void testShortToHeapBufferToShort()
+    {
+        final short[] orignalArr = new short[]
+            { -1, 17, 20000, (short) -50000 };
+        final byte[] backing = new byte[4 + orignalArr.length * 2];
+        final ByteBuffer buf = ByteBuffer.wrap(backing, 2, backing.length - 2).slice();
+        NativeData.copyShortToByteBuffer(orignalArr, 0, buf, 2, orignalArr.length,
+                ByteOrder.BIG_ENDIAN);
+        assertTrue(Arrays.equals(NativeData.shortToByte(orignalArr, ByteOrder.BIG_ENDIAN),
+                ArrayUtils.subarray(backing, 4, backing.length)));
+        final short[] sarr = new short[orignalArr.length];
+        NativeData.copyByteBufferToShort(buf.asReadOnlyBuffer(), 2, sarr, 0, sarr.length,
+                ByteOrder.BIG_ENDIAN);
+        assertTrue(Arrays.equals(orignalArr, sarr));
+    }
+
+    @Test(expectedExceptions = java.nio.ReadOnlyBufferException.class)
+    public void testCopyToReadOnlyBuffer()
+    {
+        NativeData.copyLongToByteBuffer(new long[1], 0, ByteBuffer.allocateDirect(8)
+                .asReadOnlyBuffer(), 0, 1, ByteOrder.NATIVE);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testIOOBDirectBuffer()
+    {
+        NativeData.copyByteBufferToFloat(ByteBuffer.allocateDirect(8), 4, new float[2], 0, 2,
+                ByteOrder.NATIVE);
+    }
+
+    @Test
+    public void testLongToAddressToLong() throws Exception
+    {
+        if (NativeData.isUseNativeLib() == false)
+        {
+            return;
+        }
+        final Field unsafeField = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        final Object unsafe = unsafeField.get(null);
+        final Method allocateMemory =
+                unsafe.getClass().getMethod("allocateMemory", long.class);
+        final Method freeMemory = unsafe.getClass().getMethod("freeMemory", long.class);
+        final long[] orignalArr = new long[]
+            { -1, 17, 100000, -1000000 };
+        final long address = (Long) allocateMemory.invoke(unsafe, 8L * orignalArr.length);
+        try
+        {
+            NativeData.copyLongToByte(orignalArr, 0, address, orignalArr.length,
+                    ByteOrder.BIG_ENDIAN);
+            final long[] larr = new long[orignalArr.length + 1];
+            NativeData.copyByteToLong(address, larr, 1, orignalArr.length, ByteOrder.BIG_ENDIAN);
+            assertTrue(Arrays.equals(orignalArr, ArrayUtils.subarray(larr, 1, larr.length)));
+            final long[] larrSwapped = new long[orignalArr.length];
+            NativeData.copyByteToLong(address, larrSwapped, 0, orignalArr.length,
+                    ByteOrder.LITTLE_ENDIAN);
+            assertEquals(NativeData.changeByteOrder(orignalArr[2]), larrSwapped[2]);
+        } finally
+        {
+            freeMemory.invoke(unsafe, address);
+        }
+    }
+
+    @Test
+    public void testEngine()
+    {
+        assertEquals(NativeData.isUseNativeLib(), NativeData.getEngine() == NativeData.Engine.JNI);
+    }
+
+    @Test(dataProvider = "getOfs")
+    public void testUnsafeConverterIntAndDouble(int sourceOfs, int targetOfs)
+    {
+        if (UnsafeConverter.isAvailable() == false)
+        {
+            return;
+        }
+        final int[] iarr = new int[]
+            { -1, 17, 100000, -1000000 };
+        final double[] darr = new double[]
+            { -1, 17, 3.14159, -1e42 };
+        for (java.nio.ByteOrder order : new java.nio.ByteOrder[]
+            { java.nio.ByteOrder.BIG_ENDIAN, java.nio.ByteOrder.LITTLE_ENDIAN })
+        {
+            final boolean swap = (order != java.nio.ByteOrder.nativeOrder());
+            final ByteBuffer expected =
+                    ByteBuffer.allocate(targetOfs + 8 * iarr.length).order(order);
+            expected.position(targetOfs);
+            expected.asIntBuffer().put(iarr);
+            final int[] iarrSrc = new int[sourceOfs + iarr.length];
+            System.arraycopy(iarr, 0, iarrSrc, sourceOfs, iarr.length);
+            final byte[] barr = new byte[expected.capacity()];
+            UnsafeConverter.copyIntToByte(iarrSrc, sourceOfs, barr, targetOfs, iarr.length, swap);
+            assertTrue(Arrays.equals(expected.array(), barr));
+            final int[] iarr2 = new int[iarrSrc.length];
+            UnsafeConverter.copyByteToInt(barr, targetOfs, iarr2, sourceOfs, iarr.length, swap);
+            assertTrue(Arrays.equals(iarrSrc, iarr2));
+
+            expected.position(targetOfs);
+            expected.asDoubleBuffer().put(darr);
+            final double[] darrSrc = new double[sourceOfs + darr.length];
+            System.arraycopy(darr, 0, darrSrc, sourceOfs, darr.length);
+            UnsafeConverter.copyDoubleToByte(darrSrc, sourceOfs, barr, targetOfs, darr.length,
+                    swap);
+            assertTrue(Arrays.equals(expected.array(), barr));
+            final double[] darr2 = new double[darrSrc.length];
+            UnsafeConverter.copyByteToDouble(barr, targetOfs, darr2, sourceOfs, darr.length,
+                    swap);
+            assertTrue(Arrays.equals(darrSrc, darr2));
+        }
+    }
+
+    @Test
+    public void testUnsafeConverterShortSwapped()
+    {
+        if (UnsafeConverter.isAvailable() == false)
+        {
+            return;
+        }
+        final short[] values = new short[]
+            { 1, 2, 4, 8, 16, 256, 512 };
+        final byte[] barr = new byte[values.length * 2];
+        UnsafeConverter.copyShortToByte(values, 0, barr, 0, values.length, true);
+        final short[] swapped = new short[values.length];
+        UnsafeConverter.copyByteToShort(barr, 0, swapped, 0, values.length, false);
+        for (int i = 0; i < values.length; ++i)
+        {
+            assertEquals(NativeData.changeByteOrder(values[i]), swapped[i]);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testUnsafeConverterIOOB()
+    {
+        if (UnsafeConverter.isAvailable() == false)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        UnsafeConverter.copyByteToLong(new byte[8], 1, new long[1], 0, 1, false);
+    }
+
+    @Test
+    public void testEngineDependsOnLength()
+    {
+        if (System.getProperty("nativedata.jni.minlength") != null)
+        {
+            return;
+        }
+        assertEquals(NativeData.getEngine() == NativeData.Engine.NIO ? NativeData.Engine.NIO
+                : NativeData.Engine.UNSAFE, NativeData.getEngine(1));
+        assertEquals(NativeData.getEngine(), NativeData.getEngine(100000));
+    }
+
+    @Test
+    public void testLargeArraysAllByteOrders()
+    {
+        final int len = 100000;
+        final Random random = new Random(17L);
+        final byte[] bytes = new byte[len * 8];
+        random.nextBytes(bytes);
+        for (ByteOrder byteOrder : ByteOrder.values())
+        {
+            final ByteBuffer bb = ByteBuffer.wrap(bytes).order(byteOrder.getNioByteOrder());
+
+            final short[] shorts = NativeData.byteToShort(bytes, byteOrder, 0, len);
+            final short[] shortsExpected = new short[len];
+            bb.asShortBuffer().get(shortsExpected);
+            assertTrue(Arrays.equals(shortsExpected, shorts));
+            assertTrue(Arrays.equals(ArrayUtils.subarray(bytes, 0, 2 * len),
+                    NativeData.shortToByte(shorts, byteOrder)));
+
+            final char[] chars = NativeData.byteToChar(bytes, byteOrder, 0, len);
+            final char[] charsExpected = new char[len];
+            bb.asCharBuffer().get(charsExpected);
+            assertTrue(Arrays.equals(charsExpected, chars));
+            assertTrue(Arrays.equals(ArrayUtils.subarray(bytes, 0, 2 * len),
+                    NativeData.charToByte(chars, byteOrder)));
+
+            final int[] ints = NativeData.byteToInt(bytes, byteOrder, 0, len);
+            final int[] intsExpected = new int[len];
+            bb.asIntBuffer().get(intsExpected);
+            assertTrue(Arrays.equals(intsExpected, ints));
+            assertTrue(Arrays.equals(ArrayUtils.subarray(bytes, 0, 4 * len),
+                    NativeData.intToByte(ints, byteOrder)));
+
+            final float[] floats = NativeData.byteToFloat(bytes, byteOrder, 0, len);
+            final float[] floatsExpected = new float[len];
+            bb.asFloatBuffer().get(floatsExpected);
+            assertTrue(Arrays.equals(floatsExpected, floats));
+
+            final long[] longs = NativeData.byteToLong(bytes, byteOrder, 0, len);
+            final long[] longsExpected = new long[len];
+            bb.asLongBuffer().get(longsExpected);
+            assertTrue(Arrays.equals(longsExpected, longs));
+            assertTrue(Arrays.equals(bytes, NativeData.longToByte(longs, byteOrder)));
+
+            final double[] doubles = NativeData.byteToDouble(bytes, byteOrder, 0, len);
+            final double[] doublesExpected = new double[len];
+            bb.asDoubleBuffer().get(doublesExpected);
+            assertTrue(Arrays.equals(doublesExpected, doubles));
+
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            NativeData.copyLongToByteBuffer(longs, 0, direct, 0, len, byteOrder);
+            final byte[] directBytes = new byte[bytes.length];
+            direct.get(directBytes);
+            assertTrue(Arrays.equals(bytes, directBytes));
+            final double[] doublesFromDirect = new double[len];
+            NativeData.copyByteBufferToDouble(direct, 0, doublesFromDirect, 0, len, byteOrder);
+            assertTrue(Arrays.equals(doublesExpected, doublesFromDirect));
+        }
+    }
+
+    @Test
+    public void testSwapByteOrderSubRange()
+    {
+        final int[] ints = new int[] { 1, -2, 0x01020304, Integer.MIN_VALUE, 17 };
+        NativeData.swapByteOrder(ints, 1, 3);
+        assertTrue(Arrays.equals(new int[] { 1, NativeData.changeByteOrder(-2),
+                NativeData.changeByteOrder(0x01020304),
+                NativeData.changeByteOrder(Integer.MIN_VALUE), 17 }, ints));
+        final short[] shorts = new short[] { 1, (short) 0x0102, 3 };
+        NativeData.swapByteOrder(shorts, 1, 1);
+        assertTrue(Arrays.equals(new short[] { 1, (short) 0x0201, 3 }, shorts));
+        final long[] longs = new long[] { 1L, 0x0102030405060708L };
+        NativeData.swapByteOrder(longs);
+        assertTrue(Arrays.equals(new long[] { 0x0100000000000000L, 0x0807060504030201L },
+                longs));
+        final char[] chars = new char[] { 'a', 'b' };
+        NativeData.swapByteOrder(chars, 0, 1);
+        assertTrue(Arrays.equals(new char[] { (char) 0x6100, 'b' }, chars));
+        final float[] floats = new float[] { 1.5f, -3.25f, 8f };
+        NativeData.swapByteOrder(floats, 0, 2);
+        assertEquals(NativeData.changeByteOrder(1.5f), floats[0]);
+        assertEquals(NativeData.changeByteOrder(-3.25f), floats[1]);
+        assertEquals(8f, floats[2]);
+        final double[] doubles = new double[] { 1.5, -3.25 };
+        NativeData.swapByteOrder(doubles, 1, 1);
+        assertEquals(1.5, doubles[0]);
+        assertEquals(NativeData.changeByteOrder(-3.25), doubles[1]);
+    }
+
+    @Test
+    public void testSwapByteOrderLargeArrays()
+    {
+        final int len = 100000;
+        final Random rnd = new Random(42);
+        final long[] longs = new long[len];
+        final double[] doubles = new double[len];
+        final short[] shorts = new short[len];
+        for (int i = 0; i < len; ++i)
+        {
+            longs[i] = rnd.nextLong();
+            doubles[i] = rnd.nextDouble();
+            shorts[i] = (short) rnd.nextInt();
+        }
+        final long[] longsSwapped = longs.clone();
+        final double[] doublesSwapped = doubles.clone();
+        final short[] shortsSwapped = shorts.clone();
+        NativeData.swapByteOrder(longsSwapped);
+        NativeData.swapByteOrder(doublesSwapped);
+        NativeData.swapByteOrder(shortsSwapped);
+        for (int i = 0; i < len; ++i)
+        {
+            assertEquals(Long.reverseBytes(longs[i]), longsSwapped[i]);
+            assertEquals(Short.reverseBytes(shorts[i]), shortsSwapped[i]);
+        }
+        NativeData.swapByteOrder(doublesSwapped);
+        assertTrue(Arrays.equals(doubles, doublesSwapped));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testSwapByteOrderIOOB()
+    {
+        NativeData.swapByteOrder(new int[10], 5, 6);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testSwapByteOrderIOOBLarge()
+    {
+        NativeData.swapByteOrder(new long[100000], 1, 100000);
+    }
+
+    @Test
+    public void testByteToFloatWithOutputOffsetNonNativeByteOrder()
+    {
+        final int len = 4096;
+        final int outStart = 1000;
+        final ByteOrder nonNativeByteOrder =
+                (NativeData.getNativeByteOrder() == ByteOrder.LITTLE_ENDIAN) ? ByteOrder.BIG_ENDIAN
+                        : ByteOrder.LITTLE_ENDIAN;
+        final float[] floats = new float[len];
+        for (int i = 0; i < len; ++i)
+        {
+            floats[i] = i + 0.5f;
+        }
+        final byte[] bytes = NativeData.floatToByte(floats, nonNativeByteOrder);
+        final float[] result = new float[outStart + len];
+        NativeData.copyByteToFloat(bytes, 0, result, outStart, len, nonNativeByteOrder);
+        for (int i = 0; i < outStart; ++i)
+        {
+            assertEquals(0f, result[i]);
+        }
+        for (int i = 0; i < len; ++i)
+        {
+            assertEquals(floats[i], result[outStart + i]);
+        }
+    }
+
     private void afterClass()
     {
     }
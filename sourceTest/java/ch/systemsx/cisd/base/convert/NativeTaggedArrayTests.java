@@ -16,6 +16,8 @@
 
 package ch.systemsx.cisd.base.convert;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -24,6 +26,13 @@ import org.testng.annotations.Test;
 
 import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
 import ch.systemsx.cisd.base.convert.NativeData.ByteOrder;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.io.AdapterInputStreamToIInputStream;
+import ch.systemsx.cisd.base.io.AdapterOutputStreamToIOutputStream;
+import ch.systemsx.cisd.base.io.IInputStream;
+import ch.systemsx.cisd.base.io.IOutputStream;
+import ch.systemsx.cisd.base.mdarray.MDChunkedFloatArray;
+import ch.systemsx.cisd.base.mdarray.MDChunkedIntArray;
 import ch.systemsx.cisd.base.mdarray.MDDoubleArray;
 import ch.systemsx.cisd.base.mdarray.MDFloatArray;
 import ch.systemsx.cisd.base.mdarray.MDIntArray;
@@ -413,6 +422,143 @@ public class NativeTaggedArrayTests
         assertTrue(longArr.equals(convertedLongArr));
     }
 
+    @Test
+    public static void testStreamFloat3DArray()
+    {
+        final int[] dims = new int[] { 7, 100, 50 };
+        final MDFloatArray floatArr = new MDFloatArray(dims);
+        for (int i = 0; i < floatArr.size(); ++i)
+        {
+            floatArr.getAsFlatArray()[i] = i * 0.5f;
+        }
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        NativeTaggedArray.writeTo(new AdapterOutputStreamToIOutputStream(bos), floatArr,
+                ByteOrder.BIG_ENDIAN);
+        final byte[] taggedArr = bos.toByteArray();
+        assertTrue(Arrays.equals(NativeTaggedArray.toByteArray(floatArr, ByteOrder.BIG_ENDIAN),
+                taggedArr));
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(taggedArr));
+        final NativeTaggedArray.NativeArrayTag tag = NativeTaggedArray.tryReadArrayTag(in);
+        assertTrue(Arrays.equals(dims, tag.getDimensions()));
+        assertNull(NativeTaggedArray.tryReadDoubleArray(in, tag));
+        assertTrue(floatArr.equals(NativeTaggedArray.tryReadFloatArray(in, tag)));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public static void testStreamArraysOfAllTypes()
+    {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final IOutputStream out = new AdapterOutputStreamToIOutputStream(bos);
+        final short[] shortArr = new short[] { 1, -2, 3 };
+        final int[] intArr = new int[] { 1, -2, 3, 4 };
+        final long[] longArr = new long[] { Long.MIN_VALUE, 0L };
+        final double[] doubleArr = new double[] { 1.5, -2.25 };
+        NativeTaggedArray.writeTo(out, shortArr);
+        NativeTaggedArray.writeTo(out, intArr, ByteOrder.LITTLE_ENDIAN);
+        NativeTaggedArray.writeTo(out, new MDLongArray(longArr, new int[] { 1, 2 }));
+        NativeTaggedArray.writeTo(out, doubleArr, ByteOrder.BIG_ENDIAN);
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        assertTrue(Arrays.equals(shortArr, NativeTaggedArray.tryReadShortArray(in)
+                .getAsFlatArray()));
+        assertTrue(Arrays.equals(intArr, NativeTaggedArray.tryReadIntArray(in).getAsFlatArray()));
+        final MDLongArray longMDArr = NativeTaggedArray.tryReadLongArray(in);
+        assertEquals(2, longMDArr.rank());
+        assertTrue(Arrays.equals(longArr, longMDArr.getAsFlatArray()));
+        assertTrue(Arrays.equals(doubleArr, NativeTaggedArray.tryReadDoubleArray(in)
+                .getAsFlatArray()));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public static void testStreamChunkedArray()
+    {
+        final MDChunkedFloatArray chunkedArr = new MDChunkedFloatArray(new long[] { 9, 11 }, 4);
+        for (long i = 0; i < chunkedArr.size(); ++i)
+        {
+            chunkedArr.set(i * 0.25f, i);
+        }
+        final MDFloatArray floatArr = chunkedArr.toMDArray();
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final IOutputStream out = new AdapterOutputStreamToIOutputStream(bos);
+        NativeTaggedArray.writeTo(out, chunkedArr, ByteOrder.BIG_ENDIAN);
+        final byte[] taggedArr = bos.toByteArray();
+        assertTrue(Arrays.equals(NativeTaggedArray.toByteArray(floatArr, ByteOrder.BIG_ENDIAN),
+                taggedArr));
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(taggedArr));
+        final MDChunkedFloatArray readArr = NativeTaggedArray.tryReadChunkedFloatArray(in);
+        assertTrue(Arrays.equals(new long[] { 9, 11 }, readArr.dimensions()));
+        assertEquals(floatArr, readArr.toMDArray());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public static void testStreamStorageWithSpareCapacity()
+    {
+        final MDIntArray intArr = new MDIntArray(new int[] { 2, 3 }, 5);
+        for (int i = 0; i < intArr.size(); ++i)
+        {
+            intArr.getAsFlatArray()[i] = i + 1;
+        }
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final IOutputStream out = new AdapterOutputStreamToIOutputStream(bos);
+        NativeTaggedArray.writeTo(out, intArr);
+        NativeTaggedArray.writeTo(out, new MDChunkedIntArray(intArr));
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(intArr, NativeTaggedArray.tryReadIntArray(in));
+        assertEquals(intArr, NativeTaggedArray.tryReadChunkedIntArray(in).toMDArray());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public static void testReadNoTaggedArray()
+    {
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(new byte[]
+                    { 'X', 'L', 4, 1, 0, 0, 0, 0 }));
+        assertNull(NativeTaggedArray.tryReadFloatArray(in));
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public static void testReadTruncatedArray()
+    {
+        final byte[] taggedArr = NativeTaggedArray.toByteArray(new int[] { 1, 2, 3 });
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(taggedArr, 0,
+                        taggedArr.length - 1));
+        NativeTaggedArray.tryReadIntArray(in);
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public static void testReadTruncatedHugeArray()
+    {
+        final byte[] taggedArr =
+                NativeTaggedArray.toByteArray(new long[] { 1, 2, 3 }, ByteOrder.BIG_ENDIAN);
+        // Declare 2^30 elements (8 GB), but keep only the 3 elements written.
+        taggedArr[4] = 0x40;
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(taggedArr));
+        NativeTaggedArray.tryReadLongArray(in);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public static void testReadNegativeDimensions()
+    {
+        final MDShortArray shortArr = new MDShortArray(new short[6], new int[] { 2, 3 });
+        final byte[] taggedArr = NativeTaggedArray.toByteArray(shortArr, ByteOrder.BIG_ENDIAN);
+        // Turn the dimensions into { -2, -3 }, which have the same product.
+        Arrays.fill(taggedArr, 4, 11, (byte) 0xff);
+        taggedArr[7] = (byte) 0xfe;
+        taggedArr[11] = (byte) 0xfd;
+        final IInputStream in =
+                new AdapterInputStreamToIInputStream(new ByteArrayInputStream(taggedArr));
+        NativeTaggedArray.tryReadShortArray(in);
+    }
+
     private void afterClass()
     {
     }
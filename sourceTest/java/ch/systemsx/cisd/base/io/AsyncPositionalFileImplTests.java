@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.namedthread.NamingThreadPoolExecutor;
+import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
+
+/**
+ * Test cases for {@link AsyncPositionalFileImpl}.
+ *
+ * @author agent
+ */
+public class AsyncPositionalFileImplTests extends AbstractFileSystemTestCase
+{
+
+    private File createIntFile(String name, int n)
+    {
+        final File file = create(name);
+        final RandomAccessFileImpl raf = new RandomAccessFileImpl(file, "rw");
+        raf.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final int[] ints = new int[n];
+        for (int i = 0; i < n; ++i)
+        {
+            ints[i] = i;
+        }
+        raf.writeInts(ints);
+        raf.close();
+        return file;
+    }
+
+    @Test
+    public void testReadTyped()
+    {
+        final File file = createIntFile("testReadTyped", 1000);
+        final IAsyncPositionalFile af =
+                new AsyncPositionalFileImpl(file, "r", ByteOrder.LITTLE_ENDIAN, null);
+        assertEquals(4000, af.length());
+        final int[] ints = af.readInts(400, 10).join();
+        for (int i = 0; i < ints.length; ++i)
+        {
+            assertEquals(100 + i, ints[i]);
+        }
+        final long[] longs = af.readLongs(0, 2).join();
+        assertEquals(1L << 32, longs[0]);
+        final ByteBuffer buf = af.read(4, 4).join();
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+        assertEquals(0, buf.position());
+        assertEquals(4, buf.limit());
+        assertEquals(1, buf.getInt());
+        af.close();
+    }
+
+    @Test
+    public void testReadRanges()
+    {
+        final File file = createIntFile("testReadRanges", 10000);
+        final ExecutorService executor = new NamingThreadPoolExecutor("async-io");
+        final IAsyncPositionalFile af =
+                new AsyncPositionalFileImpl(file, "r", ByteOrder.LITTLE_ENDIAN, executor);
+        final long[] positions = new long[100];
+        final int[] lengths = new int[100];
+        for (int i = 0; i < positions.length; ++i)
+        {
+            positions[i] = 4L * (i * 97 % 10000);
+            lengths[i] = 8;
+        }
+        final ByteBuffer[] buffers = af.readRanges(positions, lengths).join();
+        assertEquals(100, buffers.length);
+        for (int i = 0; i < buffers.length; ++i)
+        {
+            assertEquals(i * 97 % 10000, buffers[i].getInt(0));
+        }
+        af.close();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testReadPastEnd()
+    {
+        final File file = createIntFile("testReadPastEnd", 4);
+        final IAsyncPositionalFile af = new AsyncPositionalFileImpl(file, "r");
+        try
+        {
+            af.read(8, 12).join();
+            fail("Read past end not detected.");
+        } catch (CompletionException ex)
+        {
+            assertEquals(IOExceptionUnchecked.class, ex.getCause().getClass());
+            assertEquals(EOFException.class, ex.getCause().getCause().getClass());
+        } finally
+        {
+            af.close();
+        }
+    }
+
+    @Test
+    public void testReadTooManyValuesFailsFuture()
+    {
+        final File file = createIntFile("testReadTooManyValuesFailsFuture", 4);
+        final IAsyncPositionalFile af = new AsyncPositionalFileImpl(file, "r");
+        try
+        {
+            final CompletableFuture<long[]> longs = af.readLongs(0, Integer.MAX_VALUE / 4);
+            assertTrue(longs.isCompletedExceptionally());
+            final CompletableFuture<ByteBuffer> bytes = af.read(0, -1);
+            assertTrue(bytes.isCompletedExceptionally());
+            longs.join();
+            fail("Overflow not detected.");
+        } catch (CompletionException ex)
+        {
+            assertEquals(IllegalArgumentException.class, ex.getCause().getClass());
+        } finally
+        {
+            af.close();
+        }
+    }
+
+    @Test
+    public void testWriteRead()
+    {
+        final IAsyncPositionalFile af = new AsyncPositionalFileImpl(create("testWriteRead"), "rw");
+        final ByteBuffer src = ByteBuffer.allocate(16);
+        src.putLong(17L).putLong(-1L);
+        src.flip();
+        af.write(8, src).join();
+        assertEquals(24, af.length());
+        final ByteBuffer dst = ByteBuffer.allocate(20);
+        dst.position(4);
+        assertSame(dst, af.read(8, dst).join());
+        assertEquals(4, dst.position());
+        assertEquals(17L, dst.getLong());
+        assertEquals(-1L, dst.getLong());
+        // The gap before the written range reads as zeros.
+        assertTrue(Arrays.equals(new short[4], af.readShorts(0, 4).join()));
+        af.close();
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + AsyncPositionalFileImplTests.class.getSimpleName());
+        System.out.println();
+        final AsyncPositionalFileImplTests test = new AsyncPositionalFileImplTests();
+        try
+        {
+            for (Method m : AsyncPositionalFileImplTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                if (m.getParameterTypes().length == 0)
+                {
+                    System.out.println("Running " + m.getName());
+                    test.setUp();
+                    try
+                    {
+                        m.invoke(test);
+                    } catch (InvocationTargetException wrapperThrowable)
+                    {
+                        final Throwable th = wrapperThrowable.getCause();
+                        boolean exceptionFound = false;
+                        for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                        {
+                            if (expectedExClazz == th.getClass())
+                            {
+                                exceptionFound = true;
+                                break;
+                            }
+                        }
+                        if (exceptionFound == false)
+                        {
+                            throw th;
+                        }
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
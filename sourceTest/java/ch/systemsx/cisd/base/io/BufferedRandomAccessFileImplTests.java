@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import org.apache.commons.io.FileUtils;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+
+/**
+ * Test cases for {@link RandomAccessFileImpl} in buffered mode.
+ *
+ * @author agent
+ */
+public class BufferedRandomAccessFileImplTests extends IRandomAccessFileTests
+{
+
+    @Override
+    protected IRandomAccessFile createRandomAccessFile(String name)
+    {
+        return new RandomAccessFileImpl(create(name), "rw", 16);
+    }
+
+    @Override
+    protected IRandomAccessFile createRandomAccessFile(String name, byte[] content)
+    {
+        final IRandomAccessFile f = new RandomAccessFileImpl(create(name), "rw", 16);
+        f.write(content);
+        f.seek(0L);
+        return f;
+    }
+
+    @Test
+    public void testBufferedMatchesUnbuffered() throws Exception
+    {
+        final File bufferedFile = create("testBufferedMatchesUnbuffered.buffered");
+        final File unbufferedFile = create("testBufferedMatchesUnbuffered.unbuffered");
+        final RandomAccessFileImpl buffered = new RandomAccessFileImpl(bufferedFile, "rw", 7);
+        final RandomAccessFileImpl unbuffered = new RandomAccessFileImpl(unbufferedFile, "rw");
+        assertTrue(buffered.isBuffered());
+        assertFalse(unbuffered.isBuffered());
+        buffered.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        unbuffered.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final Random random = new Random(42);
+        for (int i = 0; i < 5000; ++i)
+        {
+            final int length = (int) unbuffered.length();
+            switch (random.nextInt(7))
+            {
+                case 0:
+                {
+                    final long pos = random.nextInt(length + 10);
+                    buffered.seek(pos);
+                    unbuffered.seek(pos);
+                    break;
+                }
+                case 1:
+                {
+                    final int v = random.nextInt();
+                    buffered.writeInt(v);
+                    unbuffered.writeInt(v);
+                    break;
+                }
+                case 2:
+                {
+                    final byte[] b = new byte[random.nextInt(20)];
+                    random.nextBytes(b);
+                    buffered.write(b);
+                    unbuffered.write(b);
+                    break;
+                }
+                case 3:
+                    if (unbuffered.available() >= 4)
+                    {
+                        assertEquals(unbuffered.readInt(), buffered.readInt());
+                    }
+                    break;
+                case 4:
+                {
+                    final byte[] b1 = new byte[random.nextInt(20)];
+                    final byte[] b2 = new byte[b1.length];
+                    assertEquals(unbuffered.read(b1), buffered.read(b2));
+                    assertTrue(Arrays.equals(b1, b2));
+                    break;
+                }
+                case 5:
+                    if (random.nextInt(10) == 0)
+                    {
+                        final long newLength = random.nextInt(length + 10);
+                        buffered.setLength(newLength);
+                        unbuffered.setLength(newLength);
+                    }
+                    break;
+                default:
+                    assertEquals(unbuffered.read(), buffered.read());
+                    break;
+            }
+            assertEquals(unbuffered.getFilePointer(), buffered.getFilePointer());
+            assertEquals(unbuffered.length(), buffered.length());
+        }
+        buffered.close();
+        unbuffered.close();
+        assertTrue(Arrays.equals(FileUtils.readFileToByteArray(unbufferedFile),
+                FileUtils.readFileToByteArray(bufferedFile)));
+    }
+
+    @Test
+    public void testFlush() throws Exception
+    {
+        final File file = create("testFlush");
+        final RandomAccessFileImpl raf = new RandomAccessFileImpl(file, "rw", 1024);
+        raf.writeLong(17L);
+        raf.writeChars("ab");
+        assertEquals(12L, raf.length());
+        assertEquals(0L, file.length());
+        raf.flush();
+        assertEquals(12L, file.length());
+        raf.seek(0);
+        raf.mark(0);
+        assertEquals(17L, raf.readLong());
+        raf.reset();
+        assertEquals(0L, raf.getFilePointer());
+        raf.close();
+        assertEquals(12L, file.length());
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + BufferedRandomAccessFileImplTests.class.getSimpleName());
+        System.out.println();
+        final BufferedRandomAccessFileImplTests test = new BufferedRandomAccessFileImplTests();
+        try
+        {
+            for (Method m : BufferedRandomAccessFileImplTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                if (m.getParameterTypes().length == 0)
+                {
+                    System.out.println("Running " + m.getName());
+                    test.setUp();
+                    try
+                    {
+                        m.invoke(test);
+                    } catch (InvocationTargetException wrapperThrowable)
+                    {
+                        final Throwable th = wrapperThrowable.getCause();
+                        boolean exceptionFound = false;
+                        for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                        {
+                            if (expectedExClazz == th.getClass())
+                            {
+                                exceptionFound = true;
+                                break;
+                            }
+                        }
+                        if (exceptionFound == false)
+                        {
+                            throw th;
+                        }
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
@@ -19,11 +19,13 @@ package ch.systemsx.cisd.base.io;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
 import org.apache.commons.io.IOUtils;
 import org.testng.annotations.Test;
 
 import ch.systemsx.cisd.base.convert.NativeData;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
 import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
 
 /**
@@ -38,6 +40,74 @@ public abstract class IRandomAccessFileTests extends AbstractFileSystemTestCase
 
     abstract protected IRandomAccessFile createRandomAccessFile(String name, byte[] content);
 
+    @Test
+    public void testBulkReadWrite()
+    {
+        final IRandomAccessFile raf = createRandomAccessFile("testBulkReadWrite");
+        raf.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final short[] shorts = new short[] { 1, -2, 300 };
+        final char[] chars = "abc".toCharArray();
+        final int[] ints = new int[100];
+        final long[] longs = new long[] { 1L, Long.MIN_VALUE, -17L, 42L };
+        final float[] floats = new float[] { 1.5f, Float.NaN, -3f };
+        final double[] doubles = new double[] { 0.25, -1e300, Double.MAX_VALUE };
+        for (int i = 0; i < ints.length; ++i)
+        {
+            ints[i] = i * 1000003;
+        }
+        raf.writeShorts(shorts);
+        raf.writeChars(chars);
+        raf.writeInts(ints, 10, 50);
+        raf.writeLongs(longs);
+        raf.writeFloats(floats);
+        raf.writeDoubles(doubles, 1, 2);
+        assertEquals(6 + 6 + 200 + 32 + 12 + 16, raf.length());
+        raf.seek(0);
+        assertEquals(1, raf.readShort());
+        raf.seek(6);
+        assertEquals('a', raf.readChar());
+        raf.seek(12);
+        assertEquals(ints[10], raf.readInt());
+        raf.seek(0);
+        final short[] shortsRead = new short[shorts.length];
+        raf.readShorts(shortsRead);
+        assertTrue(Arrays.equals(shorts, shortsRead));
+        final char[] charsRead = new char[chars.length];
+        raf.readChars(charsRead);
+        assertTrue(Arrays.equals(chars, charsRead));
+        final int[] intsRead = new int[ints.length];
+        raf.readInts(intsRead, 10, 50);
+        assertTrue(Arrays.equals(Arrays.copyOfRange(ints, 10, 60),
+                Arrays.copyOfRange(intsRead, 10, 60)));
+        final long[] longsRead = new long[longs.length];
+        raf.readLongs(longsRead);
+        assertTrue(Arrays.equals(longs, longsRead));
+        final float[] floatsRead = new float[floats.length];
+        raf.readFloats(floatsRead);
+        assertTrue(Arrays.equals(floats, floatsRead));
+        final double[] doublesRead = new double[2];
+        raf.readDoubles(doublesRead);
+        assertEquals(doubles[1], doublesRead[0]);
+        assertEquals(doubles[2], doublesRead[1]);
+        assertEquals(raf.length(), raf.getFilePointer());
+        raf.close();
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testBulkReadPastEnd()
+    {
+        final IRandomAccessFile raf = createRandomAccessFile("testBulkReadPastEnd");
+        raf.writeInts(new int[] { 1, 2, 3 });
+        raf.seek(0);
+        try
+        {
+            raf.readInts(new int[4]);
+        } finally
+        {
+            raf.close();
+        }
+    }
+
     @Test
     public void testSkip()
     {
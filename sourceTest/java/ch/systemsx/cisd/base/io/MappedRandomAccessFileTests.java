@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * Test cases for {@link MappedRandomAccessFile}.
+ *
+ * @author agent
+ */
+public class MappedRandomAccessFileTests extends IRandomAccessFileTests
+{
+
+    @Override
+    protected MappedRandomAccessFile createRandomAccessFile(String name)
+    {
+        return new MappedRandomAccessFile(create(name), "rw");
+    }
+
+    @Override
+    protected MappedRandomAccessFile createRandomAccessFile(String name, byte[] content)
+    {
+        final MappedRandomAccessFile f = new MappedRandomAccessFile(create(name), "rw");
+        f.write(content);
+        f.seek(0L);
+        return f;
+    }
+
+    @Test
+    public void testWriteReadAcrossWindows()
+    {
+        final File file = create("testWriteReadAcrossWindows");
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "rw", 8192);
+        raf.write(1);
+        for (int i = 0; i < 10000; ++i)
+        {
+            raf.writeLong(i);
+        }
+        assertEquals(80001L, raf.length());
+        raf.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        raf.seek(8 * 9000 + 1);
+        assertEquals(9000L, Long.reverseBytes(raf.readLong()));
+        raf.setByteOrder(ByteOrder.BIG_ENDIAN);
+        raf.seek(8 * 5000 + 1);
+        assertEquals(5000L, raf.readLong());
+        final byte[] b = new byte[20000];
+        raf.seek(1);
+        raf.readFully(b);
+        assertEquals(7, b[8 * 2000 + 6]);
+        assertEquals((byte) 0xd0, b[8 * 2000 + 7]);
+        raf.seek(8 * 1234 + 1);
+        raf.write(b, 0, b.length);
+        raf.seek(8 * 3733 + 1);
+        assertEquals(2499L, raf.readLong());
+        assertEquals(3734L, raf.readLong());
+        raf.synchronize();
+        raf.close();
+        assertEquals(80001L, file.length());
+    }
+
+    @Test
+    public void testBulkReadWriteAcrossWindows()
+    {
+        final File file = create("testBulkReadWriteAcrossWindows");
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "rw", 8192);
+        final long[] longs = new long[5000];
+        for (int i = 0; i < longs.length; ++i)
+        {
+            longs[i] = i * 0x100000001L;
+        }
+        // Unaligned start, so that some values straddle window boundaries.
+        raf.write(1);
+        raf.writeLongs(longs);
+        assertEquals(1 + 8 * longs.length, raf.length());
+        raf.seek(1 + 8 * 1023);
+        assertEquals(longs[1023], raf.readLong());
+        raf.seek(1);
+        final long[] longsRead = new long[longs.length];
+        raf.readLongs(longsRead);
+        assertTrue(Arrays.equals(longs, longsRead));
+        raf.close();
+    }
+
+    @Test
+    public void testRandomSeeksRemapWindows()
+    {
+        final File file = create("testRandomSeeksRemapWindows");
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "rw", 8192);
+        for (int i = 0; i < 100000; ++i)
+        {
+            raf.writeInt(i);
+        }
+        raf.close();
+        final MappedRandomAccessFile rafRead = new MappedRandomAccessFile(file, "r", 8192);
+        final Random random = new Random(17);
+        final int[] ints = new int[3];
+        for (int i = 0; i < 2000; ++i)
+        {
+            final int index = random.nextInt(100000 - ints.length);
+            rafRead.seek(4L * index);
+            assertEquals(index, rafRead.readInt());
+            rafRead.readInts(ints);
+            assertEquals(index + 3, ints[2]);
+        }
+        rafRead.close();
+    }
+
+    @Test
+    public void testSetLength()
+    {
+        final File file = create("testSetLength");
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "rw", 8192);
+        raf.setLength(20000);
+        raf.seek(19996);
+        raf.writeInt(17);
+        raf.setLength(10);
+        assertEquals(10L, raf.getFilePointer());
+        assertEquals(-1, raf.read());
+        raf.seek(15000);
+        raf.writeDouble(1.5);
+        assertEquals(15008L, raf.length());
+        raf.seek(19996);
+        raf.writeInt(4);
+        raf.seek(15000);
+        assertEquals(1.5, raf.readDouble());
+        raf.seek(19996);
+        assertEquals(4, raf.readInt());
+        raf.close();
+        assertEquals(20000L, file.length());
+    }
+
+    @Test
+    public void testEmptyWritePastEndKeepsLength()
+    {
+        final File file = create("testEmptyWritePastEndKeepsLength");
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "rw", 8192);
+        raf.write(new byte[10]);
+        raf.seek(1000);
+        raf.write(new byte[5], 2, 0);
+        raf.writeInts(new int[0]);
+        raf.writeDoubles(new double[3], 1, 0);
+        assertEquals(10L, raf.length());
+        assertEquals(1000L, raf.getFilePointer());
+        raf.close();
+        assertEquals(10L, file.length());
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testReadPastEnd()
+    {
+        final MappedRandomAccessFile raf = createRandomAccessFile("testReadPastEnd", new byte[]
+            { 1, 2, 3 });
+        try
+        {
+            raf.readInt();
+        } finally
+        {
+            raf.close();
+        }
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testWriteReadOnly()
+    {
+        final File file = create("testWriteReadOnly");
+        createRandomAccessFile("testWriteReadOnly", new byte[] { 1, 2, 3 }).close();
+        final MappedRandomAccessFile raf = new MappedRandomAccessFile(file, "r");
+        try
+        {
+            assertEquals(3L, raf.length());
+            assertEquals(1, raf.readByte());
+            raf.writeInt(5);
+        } finally
+        {
+            raf.close();
+        }
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + MappedRandomAccessFileTests.class.getSimpleName());
+        System.out.println();
+        final MappedRandomAccessFileTests test = new MappedRandomAccessFileTests();
+        try
+        {
+            for (Method m : MappedRandomAccessFileTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                if (m.getParameterTypes().length == 0)
+                {
+                    System.out.println("Running " + m.getName());
+                    test.setUp();
+                    try
+                    {
+                        m.invoke(test);
+                    } catch (InvocationTargetException wrapperThrowable)
+                    {
+                        final Throwable th = wrapperThrowable.getCause();
+                        boolean exceptionFound = false;
+                        for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                        {
+                            if (expectedExClazz == th.getClass())
+                            {
+                                exceptionFound = true;
+                                break;
+                            }
+                        }
+                        if (exceptionFound == false)
+                        {
+                            throw th;
+                        }
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
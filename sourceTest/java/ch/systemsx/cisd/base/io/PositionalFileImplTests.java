@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
+
+/**
+ * Test cases for {@link PositionalFileImpl}.
+ *
+ * @author agent
+ */
+public class PositionalFileImplTests extends AbstractFileSystemTestCase
+{
+
+    @Test
+    public void testWriteReadTyped()
+    {
+        final IPositionalFile file =
+                new PositionalFileImpl(create("testWriteReadTyped"), "rw", ByteOrder.LITTLE_ENDIAN);
+        file.writeLongAt(16, -17L);
+        file.writeIntAt(0, 0x01020304);
+        file.writeShortAt(4, (short) -2);
+        file.writeCharAt(6, 'x');
+        file.writeFloatAt(8, 1.5f);
+        file.writeByteAt(12, (byte) 42);
+        file.writeDoubleAt(24, Math.PI);
+        assertEquals(32, file.length());
+        assertEquals(0x01020304, file.readIntAt(0));
+        assertEquals(4, file.readByteAt(0));
+        assertEquals(-2, file.readShortAt(4));
+        assertEquals('x', file.readCharAt(6));
+        assertEquals(1.5f, file.readFloatAt(8));
+        assertEquals(42, file.readByteAt(12));
+        assertEquals(-17L, file.readLongAt(16));
+        assertEquals(Math.PI, file.readDoubleAt(24));
+        final byte[] b = new byte[4];
+        file.readFully(16, b, 0, 4);
+        assertEquals(-17, b[0]);
+        final ByteBuffer buf = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(8, file.read(24, buf));
+        assertEquals(Math.PI, buf.getDouble(0));
+        buf.clear();
+        assertEquals(-1, file.read(32, buf));
+        file.close();
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testReadPastEnd()
+    {
+        final IPositionalFile file = new PositionalFileImpl(create("testReadPastEnd"), "rw");
+        file.writeIntAt(0, 1);
+        try
+        {
+            file.readLongAt(0);
+        } finally
+        {
+            file.close();
+        }
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testWriteReadOnly()
+    {
+        final File f = create("testWriteReadOnly");
+        new PositionalFileImpl(f, "rw").close();
+        final IPositionalFile file = new PositionalFileImpl(f, "r");
+        try
+        {
+            file.writeIntAt(0, 1);
+        } finally
+        {
+            file.close();
+        }
+    }
+
+    @Test
+    public void testDoesNotChangeFilePointer()
+    {
+        final RandomAccessFileImpl raf =
+                new RandomAccessFileImpl(create("testDoesNotChangeFilePointer"), "rw");
+        raf.writeInt(1);
+        raf.writeInt(2);
+        final IPositionalFile file = raf.asPositionalFile();
+        assertEquals(2, file.readIntAt(4));
+        file.writeIntAt(8, 3);
+        assertEquals(8, raf.getFilePointer());
+        assertEquals(3, raf.readInt());
+        raf.close();
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception
+    {
+        final File f = create("testConcurrentReaders");
+        final IPositionalFile file = new PositionalFileImpl(f, "rw");
+        final int n = 10000;
+        final byte[] b = new byte[4 * n];
+        final ByteBuffer buf = ByteBuffer.wrap(b);
+        for (int i = 0; i < n; ++i)
+        {
+            buf.putInt(i);
+        }
+        file.write(0, b, 0, b.length);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 4; ++t)
+            {
+                final int offset = t;
+                results.add(executor.submit(new Callable<Boolean>()
+                    {
+                        @Override
+                        public Boolean call()
+                        {
+                            for (int i = offset; i < n; i += 4)
+                            {
+                                if (file.readIntAt(4L * i) != i)
+                                {
+                                    return false;
+                                }
+                            }
+                            return true;
+                        }
+                    }));
+            }
+            for (Future<Boolean> result : results)
+            {
+                assertTrue(result.get());
+            }
+        } finally
+        {
+            executor.shutdown();
+            file.close();
+        }
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + PositionalFileImplTests.class.getSimpleName());
+        System.out.println();
+        final PositionalFileImplTests test = new PositionalFileImplTests();
+        try
+        {
+            for (Method m : PositionalFileImplTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                if (m.getParameterTypes().length == 0)
+                {
+                    System.out.println("Running " + m.getName());
+                    test.setUp();
+                    try
+                    {
+                        m.invoke(test);
+                    } catch (InvocationTargetException wrapperThrowable)
+                    {
+                        final Throwable th = wrapperThrowable.getCause();
+                        boolean exceptionFound = false;
+                        for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                        {
+                            if (expectedExClazz == th.getClass())
+                            {
+                                exceptionFound = true;
+                                break;
+                            }
+                        }
+                        if (exceptionFound == false)
+                        {
+                            throw th;
+                        }
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
@@ -18,6 +18,8 @@ package ch.systemsx.cisd.base.io;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import org.testng.annotations.Test;
 
@@ -46,6 +48,27 @@ public class RandomAccessFileImplTests extends IRandomAccessFileTests
         return f;
     }
 
+    @Test
+    public void testBulkReadWriteLargeArray()
+    {
+        final IRandomAccessFile raf = createRandomAccessFile("testBulkReadWriteLargeArray");
+        raf.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final double[] doubles = new double[100000];
+        for (int i = 0; i < doubles.length; ++i)
+        {
+            doubles[i] = i / 3.0;
+        }
+        raf.writeDoubles(doubles);
+        assertEquals(8 * doubles.length, raf.length());
+        raf.seek(8 * 12345);
+        assertEquals(doubles[12345], raf.readDouble());
+        raf.seek(0);
+        final double[] doublesRead = new double[doubles.length];
+        raf.readDoubles(doublesRead);
+        assertTrue(Arrays.equals(doubles, doublesRead));
+        raf.close();
+    }
+
     public static void main(String[] args) throws Throwable
     {
         System.out.println(BuildAndEnvironmentInfo.INSTANCE);
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+
+/**
+ * Test cases for {@link SegmentedByteBufferRandomAccessFile}.
+ *
+ * @author agent
+ */
+public class SegmentedByteBufferRandomAccessFileTests extends IRandomAccessFileTests
+{
+
+    @Override
+    protected IRandomAccessFile createRandomAccessFile(String name)
+    {
+        // Use small segments to exercise values that cross segment boundaries.
+        return new SegmentedByteBufferRandomAccessFile(false, 5);
+    }
+
+    @Override
+    protected IRandomAccessFile createRandomAccessFile(String name, byte[] content)
+    {
+        final IRandomAccessFile f = new SegmentedByteBufferRandomAccessFile(false, 5);
+        f.write(content);
+        f.seek(0L);
+        return f;
+    }
+
+    @Test
+    public void testGrowth()
+    {
+        final SegmentedByteBufferRandomAccessFile raf =
+                new SegmentedByteBufferRandomAccessFile(true, 10);
+        assertEquals(0, raf.capacity());
+        raf.writeInt(17);
+        assertEquals(64, raf.capacity());
+        raf.seek(100);
+        raf.writeLong(42L);
+        assertEquals(128, raf.capacity());
+        // Grows beyond one segment: the first segment is expanded, then segments are chained.
+        raf.seek(1020);
+        raf.writeLong(-1L);
+        assertEquals(2048, raf.capacity());
+        assertEquals(1028, raf.length());
+        raf.seek(0);
+        assertEquals(17, raf.readInt());
+        raf.seek(100);
+        assertEquals(42L, raf.readLong());
+        assertEquals(0, raf.readInt());
+        raf.seek(1020);
+        assertEquals(-1L, raf.readLong());
+        raf.close();
+    }
+
+    @Test
+    public void testSetLengthZerosCutOffContent()
+    {
+        final SegmentedByteBufferRandomAccessFile raf =
+                new SegmentedByteBufferRandomAccessFile(false, 4);
+        raf.writeLong(-1L);
+        raf.writeLong(-1L);
+        raf.writeLong(-1L);
+        raf.setLength(4);
+        assertEquals(4, raf.getFilePointer());
+        raf.setLength(24);
+        raf.seek(0);
+        assertEquals(-1, raf.readInt());
+        assertEquals(0, raf.readInt());
+        assertEquals(0L, raf.readLong());
+        assertEquals(0L, raf.readLong());
+        raf.close();
+    }
+
+    @Test
+    public void testEmptyWritePastEndKeepsLength()
+    {
+        final SegmentedByteBufferRandomAccessFile raf =
+                new SegmentedByteBufferRandomAccessFile(false, 4);
+        raf.seek(100);
+        raf.write(new byte[5], 2, 0);
+        raf.writeInts(new int[0]);
+        assertEquals(0, raf.length());
+        assertEquals(0, raf.capacity());
+        assertEquals(100, raf.getFilePointer());
+        raf.close();
+    }
+
+    @Test(expectedExceptions = IOExceptionUnchecked.class)
+    public void testWriteToStalledChannel()
+    {
+        final SegmentedByteBufferRandomAccessFile raf =
+                new SegmentedByteBufferRandomAccessFile(false, 4);
+        raf.writeLong(17L);
+        raf.writeTo(new GatheringByteChannel()
+            {
+                @Override
+                public int write(ByteBuffer src)
+                {
+                    return 0;
+                }
+
+                @Override
+                public long write(ByteBuffer[] srcs, int offset, int length)
+                {
+                    return 0;
+                }
+
+                @Override
+                public long write(ByteBuffer[] srcs)
+                {
+                    return 0;
+                }
+
+                @Override
+                public boolean isOpen()
+                {
+                    return true;
+                }
+
+                @Override
+                public void close()
+                {
+                }
+            });
+    }
+
+    @Test
+    public void testExport() throws IOException
+    {
+        final SegmentedByteBufferRandomAccessFile raf =
+                new SegmentedByteBufferRandomAccessFile(false, 6);
+        raf.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final int[] ints = new int[100];
+        for (int i = 0; i < ints.length; ++i)
+        {
+            ints[i] = i - 50;
+        }
+        raf.writeInts(ints);
+        raf.write(7);
+        final ByteBuffer[] buffers = raf.toByteBuffers();
+        assertEquals(7, buffers.length);
+        assertEquals(64, buffers[0].remaining());
+        assertEquals(17, buffers[6].remaining());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buffers[0].order());
+        assertEquals(-50, buffers[0].getInt(0));
+
+        final File file = create("testExport");
+        final FileOutputStream out = new FileOutputStream(file);
+        final FileChannel channel = out.getChannel();
+        try
+        {
+            assertEquals(401, raf.writeTo(channel));
+        } finally
+        {
+            out.close();
+        }
+        final byte[] content = FileUtils.readFileToByteArray(file);
+        assertEquals(401, content.length);
+        final ByteBufferRandomAccessFile check = new ByteBufferRandomAccessFile(content);
+        check.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final int[] intsRead = new int[ints.length];
+        check.readInts(intsRead);
+        assertTrue(Arrays.equals(ints, intsRead));
+        assertEquals(7, check.readByte());
+        raf.close();
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + SegmentedByteBufferRandomAccessFileTests.class.getSimpleName());
+        System.out.println();
+        final SegmentedByteBufferRandomAccessFileTests test = new SegmentedByteBufferRandomAccessFileTests();
+        try
+        {
+            for (Method m : SegmentedByteBufferRandomAccessFileTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                if (m.getParameterTypes().length == 0)
+                {
+                    System.out.println("Running " + m.getName());
+                    test.setUp();
+                    try
+                    {
+                        m.invoke(test);
+                    } catch (InvocationTargetException wrapperThrowable)
+                    {
+                        final Throwable th = wrapperThrowable.getCause();
+                        boolean exceptionFound = false;
+                        for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                        {
+                            if (expectedExClazz == th.getClass())
+                            {
+                                exceptionFound = true;
+                                break;
+                            }
+                        }
+                        if (exceptionFound == false)
+                        {
+                            throw th;
+                        }
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
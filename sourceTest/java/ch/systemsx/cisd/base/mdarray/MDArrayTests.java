@@ -18,11 +18,24 @@ package ch.systemsx.cisd.base.mdarray;
 
 import static org.testng.Assert.assertNotSame;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
 
 import org.testng.annotations.Test;
 
@@ -317,6 +330,756 @@ public class MDArrayTests
         }
     }
 
+    @Test
+    public void testOffHeapFloatArray()
+    {
+        final float[][] matrix = new float[][]
+            {
+                { 1f, 2f, 3f },
+                { 4f, 5f, 6f } };
+        final MDFloatArray array = new MDFloatArray(matrix);
+        final MDOffHeapFloatArray offHeap = new MDOffHeapFloatArray(array);
+        try
+        {
+            assertEquals(2, offHeap.rank());
+            assertEquals(6L, offHeap.size());
+            assertEquals(3L, offHeap.size(1));
+            assertEquals(6f, offHeap.get(1L, 2L));
+            assertEquals(array.computeIndex(1, 1), offHeap.computeIndex(1L, 1L));
+            assertTrue(Arrays.equals(new long[] { 1L, 0L }, offHeap.computeReverseIndex(3L)));
+            offHeap.set(-1f, 0L, 1L);
+            assertEquals(-1f, offHeap.get(1L));
+            final MDFloatArray copy = offHeap.toMDArray();
+            assertTrue(Arrays.equals(new int[] { 2, 3 }, copy.dimensions()));
+            assertEquals(-1f, copy.get(0, 1));
+            assertEquals(5f, copy.get(1, 1));
+            assertFalse(offHeap.isClosed());
+        } finally
+        {
+            offHeap.close();
+        }
+        assertTrue(offHeap.isClosed());
+    }
+
+    @Test
+    public void testOffHeapArrayMultipleRegions()
+    {
+        // Regions of 64 bytes, thus 8 long values per region.
+        final MDOffHeapLongArray offHeap = new MDOffHeapLongArray(new long[] { 5, 7 }, 6);
+        final long[] values = new long[35];
+        for (int i = 0; i < values.length; ++i)
+        {
+            values[i] = i * 1000L;
+        }
+        offHeap.copyFrom(values, 0, 0L, values.length);
+        for (int i = 0; i < values.length; ++i)
+        {
+            assertEquals(values[i], offHeap.get((long) i));
+        }
+        offHeap.set(42L, 4L, 6L);
+        final long[] copy = new long[30];
+        offHeap.copyTo(5L, copy, 0, 30);
+        assertEquals(values[5], copy[0]);
+        assertEquals(42L, copy[29]);
+        offHeap.close();
+    }
+
+    @Test
+    public void testOffHeapByteAndDoubleArrays()
+    {
+        final MDByteArray bytes = new MDByteArray(new byte[]
+            { 1, 2, 3, 4 }, new int[] { 4 });
+        final MDOffHeapByteArray offHeapBytes = new MDOffHeapByteArray(bytes);
+        assertEquals(3, offHeapBytes.get(2L));
+        assertTrue(Arrays.equals(bytes.getAsFlatArray(), offHeapBytes.toMDArray()
+                .getAsFlatArray()));
+        offHeapBytes.close();
+        final MDOffHeapDoubleArray offHeapDoubles = new MDOffHeapDoubleArray(new int[] { 2, 2, 2 });
+        offHeapDoubles.set(1.5, 1L, 0L, 1L);
+        assertEquals(1.5, offHeapDoubles.get(5L));
+        assertEquals(0.0, offHeapDoubles.get(1L, 1L, 1L));
+        offHeapDoubles.close();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testOffHeapArrayCopyOutOfRange()
+    {
+        final MDOffHeapIntArray offHeap = new MDOffHeapIntArray(new int[] { 3 });
+        try
+        {
+            offHeap.copyTo(1L, new int[3], 0, 3);
+        } finally
+        {
+            offHeap.close();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOffHeapArrayNegativeDimension()
+    {
+        new MDOffHeapIntArray(new long[] { -2, -3 });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOffHeapArrayDimensionsOverflow()
+    {
+        // The product of the dimensions is 2^64 + 2^33 + 1, which wraps around to 2^33 + 1.
+        new MDOffHeapByteArray(new long[] { (1L << 32) + 1, (1L << 32) + 1 });
+    }
+
+    @Test
+    public void testOffHeapArrayReverseIndexOutOfRange()
+    {
+        final MDOffHeapIntArray empty = new MDOffHeapIntArray(new long[] { 3, 0 });
+        final MDOffHeapIntArray offHeap = new MDOffHeapIntArray(new long[] { 3, 2 });
+        try
+        {
+            for (MDOffHeapIntArray array : new MDOffHeapIntArray[] { empty, offHeap })
+            {
+                for (long linearIndex : new long[] { -1L, array.size() })
+                {
+                    try
+                    {
+                        array.computeReverseIndex(linearIndex);
+                        fail("Linear index " + linearIndex + " not rejected.");
+                    } catch (IndexOutOfBoundsException ex)
+                    {
+                        // Expected.
+                    }
+                }
+            }
+        } finally
+        {
+            empty.close();
+            offHeap.close();
+        }
+    }
+
+    @Test
+    public void testViewAndSliceIntArray()
+    {
+        final MDIntArray array = new MDIntArray(new int[] { 4, 5, 6 });
+        final int[] flat = array.getAsFlatArray();
+        for (int i = 0; i < flat.length; ++i)
+        {
+            flat[i] = i;
+        }
+        final MDIntArrayView plane = array.slice(0, 2);
+        assertEquals(2, plane.rank());
+        assertTrue(Arrays.equals(new int[] { 5, 6 }, plane.dimensions()));
+        assertEquals(array.get(2, 3, 4), plane.get(3, 4));
+        final MDIntArrayView column = array.slice(2, 1);
+        assertEquals(array.get(3, 2, 1), column.get(3, 2));
+        final MDIntArrayView strided = array.view(new int[] { 1, 0, 1 }, new int[] { 2, 3, 2 },
+                new int[] { 2, 2, 3 });
+        assertEquals(array.get(3, 4, 4), strided.get(1, 2, 1));
+        final MDIntArray copy = strided.toMDArray();
+        assertTrue(Arrays.equals(new int[] { 2, 3, 2 }, copy.dimensions()));
+        for (int x = 0; x < 2; ++x)
+        {
+            for (int y = 0; y < 3; ++y)
+            {
+                for (int z = 0; z < 2; ++z)
+                {
+                    assertEquals(array.get(1 + 2 * x, 2 * y, 1 + 3 * z), copy.get(x, y, z));
+                }
+            }
+        }
+        strided.slice(0, 1).set(-1, 0, 0);
+        assertEquals(-1, array.get(3, 0, 1));
+    }
+
+    @Test
+    public void testCopyBlockTo()
+    {
+        final MDFloatArray array = new MDFloatArray(new int[] { 3, 4, 5 });
+        final float[] flat = array.getAsFlatArray();
+        for (int i = 0; i < flat.length; ++i)
+        {
+            flat[i] = i;
+        }
+        final float[] block = new float[1 + 2 * 2 * 3];
+        array.copyBlockTo(new int[] { 1, 1, 2 }, new int[] { 2, 2, 3 }, block, 1);
+        int pos = 1;
+        for (int x = 1; x < 3; ++x)
+        {
+            for (int y = 1; y < 3; ++y)
+            {
+                for (int z = 2; z < 5; ++z)
+                {
+                    assertEquals(array.get(x, y, z), block[pos++]);
+                }
+            }
+        }
+        final float[] all = new float[flat.length];
+        array.copyBlockTo(new int[3], array.dimensions(), all, 0);
+        assertTrue(Arrays.equals(flat, all));
+        final MDFloatArrayView roi = array.view(new int[] { 0, 2, 0 }, new int[] { 3, 1, 5 });
+        roi.copyFrom(new float[15], 0);
+        assertEquals(0f, array.get(2, 2, 4));
+        assertEquals(19f, array.get(0, 3, 4));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testViewOutOfRange()
+    {
+        new MDDoubleArray(new int[] { 4, 4 }).view(new int[] { 1, 0 }, new int[] { 2, 2 },
+                new int[] { 3, 1 });
+    }
+
+    @Test
+    public void testForEach()
+    {
+        final MDFloatArray array = new MDFloatArray(new float[]
+            { 1f, 2f, 3f, 4f, 5f, 6f }, new int[] { 2, 3 });
+        final double[] sum = new double[1];
+        final int[] count = new int[1];
+        array.forEach(new IFloatIndexedConsumer()
+            {
+                @Override
+                public void accept(int linearIndex, float value)
+                {
+                    assertEquals(array.get(linearIndex), value);
+                    assertEquals(count[0]++, linearIndex);
+                    sum[0] += value;
+                }
+            });
+        assertEquals(6, count[0]);
+        assertEquals(21.0, sum[0]);
+    }
+
+    @Test
+    public void testCursor()
+    {
+        final MDIntArray array = new MDIntArray(new int[] { 2, 3, 4 });
+        final int[] flat = array.getAsFlatArray();
+        for (int i = 0; i < flat.length; ++i)
+        {
+            flat[i] = i;
+        }
+        final MDAbstractArray<Integer>.Cursor cursor = array.cursor();
+        final int[] index = cursor.getIndex();
+        int expectedLinearIndex = 0;
+        while (cursor.next())
+        {
+            assertEquals(expectedLinearIndex, cursor.getLinearIndex());
+            assertTrue(Arrays.equals(array.computeReverseIndex(expectedLinearIndex), index));
+            assertEquals(array.get(index), array.get(cursor.getLinearIndex()));
+            ++expectedLinearIndex;
+        }
+        assertEquals(24, expectedLinearIndex);
+        assertFalse(cursor.next());
+        assertFalse(new MDIntArray(new int[] { 0, 3 }).cursor().next());
+    }
+
+    @Test
+    public void testParallelOperations()
+    {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try
+        {
+            final MDParallelOperations ops = new MDParallelOperations(pool, 7);
+            final MDFloatArray array = new MDFloatArray(new int[] { 10, 10 });
+            ops.fill(array, 2f);
+            ops.scale(array, 3f);
+            ops.add(array, -1f);
+            assertEquals(5f, array.get(9, 9));
+            final float[] flat = array.getAsFlatArray();
+            for (int i = 0; i < flat.length; ++i)
+            {
+                flat[i] = i;
+            }
+            ops.clamp(array, 10f, 50f);
+            assertEquals(10f, array.get(0, 3));
+            assertEquals(42f, array.get(4, 2));
+            assertEquals(50f, array.get(9, 9));
+            ops.map(array, new DoubleUnaryOperator()
+                {
+                    @Override
+                    public double applyAsDouble(double operand)
+                    {
+                        return -operand;
+                    }
+                });
+            assertEquals(-42f, array.get(4, 2));
+            ops.add(array, array.clone());
+            assertEquals(-84f, array.get(4, 2));
+            final MDShortArray shorts = ops.toShort(array);
+            assertEquals(-84, shorts.get(4, 2));
+            assertTrue(Arrays.equals(array.dimensions(), shorts.dimensions()));
+            assertEquals(-100f, ops.toFloat(shorts).get(9, 9));
+            final MDFloatArray large = new MDFloatArray(new float[]
+                { 1e6f, -1e6f, 1.5f, Float.NaN }, new int[] { 4 });
+            assertTrue(Arrays.equals(new short[] { Short.MAX_VALUE, Short.MIN_VALUE, 2, 0 },
+                    ops.toShort(large).getAsFlatArray()));
+        } finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelIntegerOperations()
+    {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try
+        {
+            final MDParallelOperations ops = new MDParallelOperations(pool, 7);
+            final MDShortArray frame = new MDShortArray(new int[] { 10, 10 });
+            ops.fill(frame, (short) 1000);
+            ops.add(frame, (short) -100);
+            ops.scale(frame, 2.5);
+            assertEquals(2250, frame.get(9, 9));
+            ops.scale(frame, 100.0);
+            assertEquals(Short.MAX_VALUE, frame.get(0, 0));
+            ops.add(frame, frame.clone());
+            assertEquals(Short.MAX_VALUE, frame.get(5, 5));
+            ops.map(frame, new IntUnaryOperator()
+                {
+                    @Override
+                    public int applyAsInt(int operand)
+                    {
+                        return -2 * operand;
+                    }
+                });
+            assertEquals(Short.MIN_VALUE, frame.get(3, 4));
+            ops.clamp(frame, (short) -10, (short) 10);
+            assertEquals(-10, frame.get(3, 4));
+
+            final MDByteArray bytes = new MDByteArray(new int[] { 20 });
+            ops.fill(bytes, (byte) 100);
+            ops.add(bytes, (byte) 100);
+            assertEquals(Byte.MAX_VALUE, bytes.get(19));
+            ops.scale(bytes, -0.5);
+            assertEquals(-63, bytes.get(0));
+            ops.add(bytes, bytes.clone());
+            assertEquals(-126, bytes.get(7));
+            ops.add(bytes, (byte) -100);
+            assertEquals(Byte.MIN_VALUE, bytes.get(7));
+            ops.clamp(bytes, (byte) -5, (byte) 5);
+            assertEquals(-5, bytes.get(7));
+            ops.map(bytes, new IntUnaryOperator()
+                {
+                    @Override
+                    public int applyAsInt(int operand)
+                    {
+                        return operand + 1;
+                    }
+                });
+            assertEquals(-4, bytes.get(7));
+
+            final MDIntArray ints = new MDIntArray(new int[] { 3, 7 });
+            ops.fill(ints, 1 << 30);
+            ops.scale(ints, 4.0);
+            assertEquals(Integer.MAX_VALUE, ints.get(2, 6));
+            ops.scale(ints, Double.NaN);
+            assertEquals(0, ints.get(2, 6));
+
+            final MDLongArray longs = new MDLongArray(new int[] { 4, 5 });
+            ops.fill(longs, 1L << 40);
+            ops.add(longs, 1L);
+            ops.add(longs, longs.clone());
+            assertEquals((1L << 41) + 2, longs.get(3, 4));
+            ops.scale(longs, 0.5);
+            assertEquals((1L << 40) + 1, longs.get(3, 4));
+            ops.map(longs, new LongUnaryOperator()
+                {
+                    @Override
+                    public long applyAsLong(long operand)
+                    {
+                        return operand >>> 40;
+                    }
+                });
+            ops.clamp(longs, 0L, 0L);
+            assertEquals(0L, longs.get(1, 2));
+        } finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelStreams()
+    {
+        final MDIntArray ints = new MDIntArray(new int[] { 100, 100 });
+        MDParallelOperations.getDefault().fill(ints, 3);
+        MDParallelOperations.getDefault().add(ints, 1);
+        assertEquals(40000L, MDParallelOperations.intStream(ints).asLongStream().sum());
+        final MDDoubleArray doubles = new MDDoubleArray(new double[]
+            { 1, 2, 3, 4 }, new int[] { 2, 2 });
+        assertEquals(10.0, MDParallelOperations.doubleStream(doubles).sum());
+        final MDFloatArray floats = new MDFloatArray(new float[]
+            { 1, 2, 3, 4 }, new int[] { 2, 2 });
+        assertEquals(4.0, MDParallelOperations.doubleStream(floats).max().getAsDouble());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testParallelAddDifferentDimensions()
+    {
+        MDParallelOperations.getDefault().add(new MDIntArray(new int[] { 2, 3 }),
+                new MDIntArray(new int[] { 3, 2 }));
+    }
+
+    @Test
+    public void testReductions()
+    {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try
+        {
+            final MDReductions reductions = new MDReductions(pool, 7);
+            final MDFloatArray floats = new MDFloatArray(new int[] { 4, 5, 6 });
+            final float[] flat = floats.getAsFlatArray();
+            double sum = 0.0;
+            for (int i = 0; i < flat.length; ++i)
+            {
+                flat[i] = i - 17;
+                sum += flat[i];
+            }
+            assertEquals(sum, reductions.sum(floats));
+            assertEquals(sum / flat.length, reductions.mean(floats), 1e-12);
+            double squares = 0.0;
+            for (float f : flat)
+            {
+                squares += (f - sum / flat.length) * (f - sum / flat.length);
+            }
+            assertEquals(squares / flat.length, reductions.variance(floats), 1e-9);
+            flat[5] = Float.NaN;
+            assertTrue(Arrays.equals(new float[] { -17f, 102f }, reductions.minMax(floats)));
+            flat[5] = 5 - 17;
+            final MDDoubleArray sums = reductions.sum(floats, 1);
+            assertTrue(Arrays.equals(new int[] { 4, 6 }, sums.dimensions()));
+            for (int i = 0; i < 4; ++i)
+            {
+                for (int k = 0; k < 6; ++k)
+                {
+                    double expected = 0.0;
+                    for (int j = 0; j < 5; ++j)
+                    {
+                        expected += floats.get(i, j, k);
+                    }
+                    assertEquals(expected, sums.get(i, k));
+                }
+            }
+
+            final MDShortArray shorts = new MDShortArray(new short[]
+                { -1, 2, -1, 300, 7, 7, 7 }, new int[] { 7 });
+            assertEquals(321L, reductions.sum(shorts));
+            assertTrue(Arrays.equals(new short[] { -1, 300 }, reductions.minMax(shorts)));
+            assertTrue(Arrays.equals(new int[] { 1 }, reductions.sum(shorts, 0).dimensions()));
+            assertEquals(321L, reductions.sum(shorts, 0).get(0));
+            final long[] signed = reductions.histogram(shorts, false);
+            assertEquals(2L, signed[-1 - Short.MIN_VALUE]);
+            assertEquals(3L, signed[7 - Short.MIN_VALUE]);
+            final long[] unsigned = reductions.histogram(shorts, true);
+            assertEquals(65536, unsigned.length);
+            assertEquals(2L, unsigned[0xFFFF]);
+            assertEquals(1L, unsigned[300]);
+
+            final MDByteArray bytes = new MDByteArray(new int[] { 3, 10 });
+            for (int i = 0; i < bytes.size(); ++i)
+            {
+                bytes.getAsFlatArray()[i] = (byte) (i * 9);
+            }
+            final long[] byteBins = reductions.histogram(bytes, true);
+            long byteSum = 0L;
+            long binCount = 0L;
+            for (int i = 0; i < byteBins.length; ++i)
+            {
+                byteSum += byteBins[i] * (byte) i;
+                binCount += byteBins[i];
+            }
+            assertEquals(30L, binCount);
+            assertEquals(byteSum, reductions.sum(bytes));
+        } finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReductionsCompensatedSum()
+    {
+        final MDDoubleArray array = new MDDoubleArray(new int[] { 10001 });
+        MDParallelOperations.getDefault().fill(array, 0.1);
+        array.set(1e16, 0);
+        final MDReductions reductions = new MDReductions(ForkJoinPool.commonPool(), 16);
+        assertEquals(1e16 + 1000.0, reductions.sum(array));
+        assertTrue(Double.isNaN(reductions.mean(new MDDoubleArray(new int[] { 0 }))));
+        assertTrue(Double.isNaN(reductions.minMax(new MDDoubleArray(new int[] { 0 }))[0]));
+    }
+
+    @Test
+    public void testReductionsPartiallyFilled()
+    {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try
+        {
+            final MDReductions reductions = new MDReductions(pool, 4);
+            final MDIntArray ints = new MDIntArray(new int[] { 3, 5 }, 8);
+            final int[] flat = ints.getAsFlatArray();
+            assertEquals(40, flat.length);
+            Arrays.fill(flat, 1000);
+            for (int i = 0; i < ints.size(); ++i)
+            {
+                flat[i] = i - 5;
+            }
+            assertEquals(30L, reductions.sum(ints));
+            assertEquals(2.0, reductions.mean(ints));
+            assertEquals(18.666666666666668, reductions.variance(ints), 1e-12);
+            assertTrue(Arrays.equals(new int[] { -5, 9 }, reductions.minMax(ints)));
+            final MDLongArray rowSums = reductions.sum(ints, 1);
+            assertTrue(Arrays.equals(new long[] { -15L, 10L, 35L }, rowSums.getAsFlatArray()));
+            final MDLongArray columnSums = reductions.sum(ints, 0);
+            assertTrue(Arrays.equals(new long[] { 0L, 3L, 6L, 9L, 12L },
+                    columnSums.getAsFlatArray()));
+
+            final MDShortArray shorts = new MDShortArray(new int[] { 20 }, 100);
+            Arrays.fill(shorts.getAsFlatArray(), (short) -1);
+            Arrays.fill(shorts.getAsFlatArray(), 0, 20, (short) 2);
+            assertEquals(40L, reductions.sum(shorts));
+            assertEquals(40L, reductions.sum(shorts, 0).get(0));
+            assertTrue(Arrays.equals(new short[] { 2, 2 }, reductions.minMax(shorts)));
+            assertEquals(20L, reductions.histogram(shorts, true)[2]);
+            assertEquals(0L, reductions.histogram(shorts, true)[0xFFFF]);
+
+            final MDByteArray bytes = new MDByteArray(new int[] { 10, 3 }, 20);
+            Arrays.fill(bytes.getAsFlatArray(), (byte) 100);
+            Arrays.fill(bytes.getAsFlatArray(), 0, 30, (byte) -3);
+            assertEquals(-90L, reductions.sum(bytes));
+            assertEquals(30L, reductions.histogram(bytes, false)[-3 - Byte.MIN_VALUE]);
+            assertEquals(0L, reductions.histogram(bytes, false)[100 - Byte.MIN_VALUE]);
+
+            final MDDoubleArray doubles = new MDDoubleArray(new int[] { 50, 2 }, 70);
+            Arrays.fill(doubles.getAsFlatArray(), Double.NaN);
+            Arrays.fill(doubles.getAsFlatArray(), 0, 100, 0.5);
+            assertEquals(50.0, reductions.sum(doubles));
+            assertEquals(0.0, reductions.variance(doubles));
+            assertTrue(Arrays.equals(new double[] { 0.5, 0.5 }, reductions.minMax(doubles)));
+            assertTrue(Arrays.equals(new double[] { 25.0, 25.0 },
+                    reductions.sum(doubles, 0).getAsFlatArray()));
+
+            final MDFloatArray floats = new MDFloatArray(new int[] { 30 }, 40);
+            Arrays.fill(floats.getAsFlatArray(), Float.NaN);
+            Arrays.fill(floats.getAsFlatArray(), 0, 30, 0.25f);
+            assertEquals(7.5, reductions.sum(floats));
+            assertEquals(7.5, reductions.sum(floats, 0).get(0));
+            assertTrue(Arrays.equals(new float[] { 0.25f, 0.25f }, reductions.minMax(floats)));
+        } finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReductionsAxisSumSplitsReducedAxis()
+    {
+        final MDDoubleArray array = new MDDoubleArray(new int[] { 10001, 2 });
+        MDParallelOperations.getDefault().fill(array, 0.1);
+        array.set(1e16, 0, 1);
+        final MDReductions reductions = new MDReductions(ForkJoinPool.commonPool(), 16);
+        final MDDoubleArray sums = reductions.sum(array, 0);
+        assertEquals(1000.1, sums.get(0), 1e-9);
+        assertEquals(1e16 + 1000.0, sums.get(1));
+
+        final MDIntArray ints = new MDIntArray(new int[] { 100000 });
+        MDParallelOperations.getDefault().fill(ints, 3);
+        assertEquals(300000L, reductions.sum(ints, 0).get(0));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testReductionsMinMaxEmpty()
+    {
+        MDReductions.getDefault().minMax(new MDIntArray(new int[] { 0 }));
+    }
+
+    @Test
+    public void testEqualsHashCodeWithSpareCapacity()
+    {
+        final MDFloatArray array = new MDFloatArray(new int[] { 2, 3 }, 10);
+        Arrays.fill(array.getAsFlatArray(), 7f);
+        final MDFloatArray array2 = new MDFloatArray(new float[]
+            { 7, 7, 7, 7, 7, 7 }, new int[] { 2, 3 });
+        assertEquals(array2, array);
+        assertEquals(array, array2);
+        assertEquals(array2.hashCode(), array.hashCode());
+        array.set(1f, 1, 2);
+        assertFalse(array.equals(array2));
+        final MDArray<String> strings = new MDArray<String>(String.class, new int[] { 1, 2 }, 4);
+        strings.set("a", 0, 0);
+        final MDArray<String> strings2 = new MDArray<String>(new String[]
+            { "a", null }, new int[] { 1, 2 });
+        assertEquals(strings2, strings);
+        assertEquals(strings2.hashCode(), strings.hashCode());
+    }
+
+    @Test
+    public void testSerializationWithSpareCapacity() throws Exception
+    {
+        final MDDoubleArray array = new MDDoubleArray(new int[] { 1000, 100 }, 2000);
+        final double[] flat = array.getAsFlatArray();
+        for (int i = 0; i < array.size(); ++i)
+        {
+            flat[i] = i * 0.5;
+        }
+        final MDDoubleArray copy = serializeAndDeserialize(array);
+        assertEquals(array, copy);
+        assertEquals(array.size(), copy.getAsFlatArray().length);
+        final byte[] serialized = serialize(array);
+        assertTrue(Integer.toString(serialized.length), serialized.length < array.size() * 9);
+
+        final MDShortArray shorts = new MDShortArray(new short[]
+            { 1, -2, 3, -4 }, new int[] { 2, 2 });
+        assertEquals(shorts, serializeAndDeserialize(shorts));
+        final MDByteArray bytes = new MDByteArray(new int[] { 3, 0 });
+        assertEquals(bytes, serializeAndDeserialize(bytes));
+        final MDLongArray longs = new MDLongArray(new long[]
+            { Long.MIN_VALUE, Long.MAX_VALUE }, new int[] { 2 });
+        assertEquals(longs, serializeAndDeserialize(longs));
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void testDeserializationOfTruncatedLargeArray() throws Exception
+    {
+        final byte[] serialized =
+                serialize(new MDDoubleArray(new double[] { 1, 2, 3 }, new int[] { 3 }));
+        // Declare Integer.MAX_VALUE elements, but keep the 3 elements of the stream.
+        replaceLast(serialized, new byte[] { 0, 0, 0, 1, 0, 0, 0, 3 }, new byte[]
+            { 0, 0, 0, 1, 0x7F, -1, -1, -1 });
+        deserialize(serialized);
+    }
+
+    @Test(expectedExceptions = InvalidObjectException.class)
+    public void testDeserializationOfTooLargeArray() throws Exception
+    {
+        final byte[] serialized = serialize(new MDByteArray(new int[] { 1, 3 }));
+        replaceLast(serialized, new byte[] { 0, 0, 0, 2, 0, 0, 0, 1, 0, 0, 0, 3 }, new byte[]
+            { 0, 0, 0, 2, 0, 1, 0, 0, 0, 1, 0, 0 });
+        deserialize(serialized);
+    }
+
+    private static void replaceLast(byte[] data, byte[] pattern, byte[] replacement)
+    {
+        for (int i = data.length - pattern.length; i >= 0; --i)
+        {
+            if (Arrays.equals(pattern, Arrays.copyOfRange(data, i, i + pattern.length)))
+            {
+                System.arraycopy(replacement, 0, data, i, replacement.length);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Pattern not found.");
+    }
+
+    private static byte[] serialize(Object object) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(object);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(T object) throws Exception
+    {
+        return (T) deserialize(serialize(object));
+    }
+
+    private static Object deserialize(byte[] serialized) throws Exception
+    {
+        final ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(serialized));
+        try
+        {
+            return in.readObject();
+        } finally
+        {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testChunkedArray()
+    {
+        final MDChunkedShortArray array = new MDChunkedShortArray(new long[] { 5, 3, 4 }, 3);
+        assertEquals(60L, array.size());
+        assertEquals(8, array.getNumberOfChunks());
+        assertEquals(4, array.getChunkLength(7));
+        for (long i = 0; i < array.size(); ++i)
+        {
+            array.set((short) i, i);
+        }
+        assertEquals(2 * 12 + 1 * 4 + 3, array.get(2, 1, 3));
+        array.set((short) -1, 4L, 2L, 3L);
+        assertEquals(-1, array.get(59));
+        assertTrue(Arrays.equals(new long[] { 4, 2, 3 }, array.computeReverseIndex(59)));
+        final short[] data = new short[20];
+        array.copyTo(5, data, 1, 19);
+        for (int i = 0; i < 19; ++i)
+        {
+            assertEquals(5 + i, data[i + 1]);
+        }
+        array.copyFrom(new short[] { 100, 101, 102 }, 0, 7, 3);
+        assertEquals(101, array.getChunk(1)[0]);
+        final MDShortArray copy = array.toMDArray();
+        assertEquals(array.get(2, 1, 3), copy.get(2, 1, 3));
+        assertEquals(102, copy.get(9));
+        assertEquals(copy, new MDChunkedShortArray(copy).toMDArray());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testChunkedArrayNegativeDimension()
+    {
+        new MDChunkedShortArray(new long[] { -2, -3 }, 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testChunkedArrayDimensionsOverflow()
+    {
+        // The product of the dimensions is 2^64, which wraps around to 0.
+        new MDChunkedShortArray(new long[] { 1L << 32, 1L << 32, 1 }, 3);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testChunkedArrayReverseIndexOfEmptyArray()
+    {
+        new MDChunkedShortArray(new long[] { 3, 0 }, 3).computeReverseIndex(0);
+    }
+
+    @Test
+    public void testStorageInterface()
+    {
+        final MDDoubleArray onHeap = new MDDoubleArray(new int[] { 3, 4 });
+        final MDChunkedDoubleArray chunked = new MDChunkedDoubleArray(new long[] { 3, 4 }, 2);
+        final MDOffHeapDoubleArray offHeap = new MDOffHeapDoubleArray(new long[] { 3, 4 });
+        try
+        {
+            for (IMDDoubleStorage storage : new IMDDoubleStorage[] { onHeap, chunked, offHeap })
+            {
+                assertEquals(2, storage.rank());
+                assertEquals(12L, storage.longSize());
+                assertTrue(Arrays.equals(new long[] { 3, 4 }, storage.longDimensions()));
+                storage.set(1.5, storage.computeIndex(2L, 1L));
+                storage.copyFrom(new double[] { 7, 8, 9 }, 0, 2, 3);
+                assertEquals(1.5, storage.get(9L));
+                final double[] data = new double[3];
+                storage.copyTo(2, data, 0, 3);
+                assertTrue(Arrays.equals(new double[] { 7, 8, 9 }, data));
+            }
+            assertEquals(onHeap, chunked.toMDArray());
+            assertEquals(onHeap, offHeap.toMDArray());
+        } finally
+        {
+            offHeap.close();
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testStorageIndexOutOfRange()
+    {
+        new MDIntArray(new int[] { 2, 3 }, 4).get(6L);
+    }
+
     public static void main(String[] args) throws Throwable
     {
         System.out.println(BuildAndEnvironmentInfo.INSTANCE);
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
+import ch.systemsx.cisd.base.unix.FileTreeWalker.DiskUsage;
+import ch.systemsx.cisd.base.unix.FileTreeWalker.LinkPolicy;
+import ch.systemsx.cisd.base.unix.Unix.Stat;
+
+/**
+ * Test cases for the {@link FileTreeWalker}.
+ * 
+ * @author agent
+ */
+public class FileTreeWalkerTests extends AbstractFileSystemTestCase
+{
+
+    private static final String CONTENT = "some content\n";
+
+    /**
+     * Creates <code>root/a/file1</code>, <code>root/a/b/file2</code> and
+     * <code>root/c/file3</code>.
+     */
+    private File createTree() throws IOException
+    {
+        final File root = new File(workingDirectory, "root");
+        final File b = new File(root, "a/b");
+        final File c = new File(root, "c");
+        b.mkdirs();
+        c.mkdirs();
+        FileUtils.writeStringToFile(new File(root, "a/file1"), CONTENT, Charset.defaultCharset());
+        FileUtils.writeStringToFile(new File(b, "file2"), CONTENT, Charset.defaultCharset());
+        FileUtils.writeStringToFile(new File(c, "file3"), CONTENT, Charset.defaultCharset());
+        return root;
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testDiskUsage() throws IOException
+    {
+        final File root = createTree();
+        final DiskUsage usage = new FileTreeWalker().getDiskUsage(root.getAbsolutePath());
+        assertEquals(3, usage.getNumberOfFiles());
+        assertEquals(4, usage.getNumberOfDirectories());
+        assertEquals(0, usage.getNumberOfSymbolicLinks());
+        assertEquals(0, usage.getNumberOfOtherEntries());
+        assertEquals(7, usage.getNumberOfInodes());
+        assertEquals(0, usage.getNumberOfErrors());
+        long expectedSize = 0;
+        for (String path : new String[]
+            { "", "/a", "/a/b", "/c" })
+        {
+            expectedSize += Unix.getLinkInfo(root.getAbsolutePath() + path).getSize();
+        }
+        assertEquals(expectedSize + 3 * CONTENT.length(), usage.getSize());
+        assertEquals(usage.getNumberOfBlocks() * 512, usage.getDiskUsage());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testHardLinksCountedOnce() throws IOException
+    {
+        final File root = createTree();
+        final DiskUsage usageBefore = new FileTreeWalker().getDiskUsage(root.getAbsolutePath());
+        final File file1 = new File(root, "a/file1");
+        Unix.createHardLink(file1.getAbsolutePath(), new File(root, "c/link1").getAbsolutePath());
+        Unix.createHardLink(file1.getAbsolutePath(), new File(root, "a/b/link2")
+                .getAbsolutePath());
+        final DiskUsage usage = new FileTreeWalker().getDiskUsage(root.getAbsolutePath());
+        assertEquals(5, usage.getNumberOfFiles());
+        assertEquals(usageBefore.getNumberOfInodes(), usage.getNumberOfInodes());
+        assertEquals(usageBefore.getSize(), usage.getSize());
+        assertEquals(usageBefore.getNumberOfBlocks(), usage.getNumberOfBlocks());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testLinkPolicies() throws IOException
+    {
+        final File root = createTree();
+        final File link = new File(root, "c/linkToA");
+        Unix.createSymbolicLink("../a", link.getAbsolutePath());
+
+        final DiskUsage skipped =
+                new FileTreeWalker(LinkPolicy.SKIP).getDiskUsage(root.getAbsolutePath());
+        assertEquals(0, skipped.getNumberOfSymbolicLinks());
+        assertEquals(3, skipped.getNumberOfFiles());
+        assertEquals(7, skipped.getNumberOfInodes());
+
+        final DiskUsage reported =
+                new FileTreeWalker(LinkPolicy.REPORT).getDiskUsage(root.getAbsolutePath());
+        assertEquals(1, reported.getNumberOfSymbolicLinks());
+        assertEquals(3, reported.getNumberOfFiles());
+        assertEquals(8, reported.getNumberOfInodes());
+        assertEquals(skipped.getSize() + "../a".length(), reported.getSize());
+
+        // The linked directory is counted, but its inode and content only once.
+        final DiskUsage followed =
+                new FileTreeWalker(LinkPolicy.FOLLOW).getDiskUsage(root.getAbsolutePath());
+        assertEquals(0, followed.getNumberOfSymbolicLinks());
+        assertEquals(5, followed.getNumberOfDirectories());
+        assertEquals(3, followed.getNumberOfFiles());
+        assertEquals(7, followed.getNumberOfInodes());
+        assertEquals(skipped.getSize(), followed.getSize());
+        assertTrue(link.delete());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testFollowCycle() throws IOException
+    {
+        final File root = createTree();
+        final File link = new File(root, "a/b/linkToRoot");
+        Unix.createSymbolicLink(root.getAbsolutePath(), link.getAbsolutePath());
+        final DiskUsage usage =
+                new FileTreeWalker(LinkPolicy.FOLLOW).getDiskUsage(root.getAbsolutePath());
+        assertEquals(3, usage.getNumberOfFiles());
+        assertEquals(5, usage.getNumberOfDirectories());
+        assertEquals(7, usage.getNumberOfInodes());
+        assertEquals(0, usage.getNumberOfErrors());
+        assertTrue(link.delete());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testFollowDanglingLink() throws IOException
+    {
+        final File root = createTree();
+        final File target = new File(root, "target");
+        FileUtils.writeStringToFile(target, CONTENT, Charset.defaultCharset());
+        final File link = new File(root, "dangling");
+        Unix.createSymbolicLink(target.getAbsolutePath(), link.getAbsolutePath());
+        assertTrue(target.delete());
+        final DiskUsage usage =
+                new FileTreeWalker(LinkPolicy.FOLLOW).getDiskUsage(root.getAbsolutePath());
+        assertEquals(1, usage.getNumberOfSymbolicLinks());
+        assertEquals(0, usage.getNumberOfErrors());
+        assertTrue(link.delete());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testVisitor() throws IOException
+    {
+        final File root = createTree();
+        final String rootPath = root.getAbsolutePath();
+        final Set<String> visited =
+                Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            final DiskUsage usage =
+                    new FileTreeWalker(LinkPolicy.REPORT, pool).walk(rootPath,
+                            new IFileTreeVisitor()
+                                {
+                                    @Override
+                                    public boolean visit(String path, Stat stat)
+                                    {
+                                        assertTrue(visited.add(path));
+                                        // Do not descend into a/b.
+                                        return path.endsWith("/b") == false;
+                                    }
+
+                                    @Override
+                                    public void visitFailed(String path, IOExceptionUnchecked ex)
+                                    {
+                                        fail(path + ": " + ex.getMessage());
+                                    }
+                                });
+            final Set<String> expected = new HashSet<String>();
+            for (String path : new String[]
+                { "", "/a", "/a/file1", "/a/b", "/c", "/c/file3" })
+            {
+                expected.add(rootPath + path);
+            }
+            assertEquals(expected, visited);
+            assertEquals(2, usage.getNumberOfFiles());
+        } finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testVisitFailed() throws IOException
+    {
+        // Root may list any directory.
+        if (Unix.getUid() == 0)
+        {
+            return;
+        }
+        final File root = createTree();
+        final File c = new File(root, "c");
+        Unix.setAccessMode(c.getAbsolutePath(), (short) 0);
+        try
+        {
+            final Set<String> failed = new HashSet<String>();
+            final DiskUsage usage =
+                    new FileTreeWalker().walk(root.getAbsolutePath(), new IFileTreeVisitor()
+                        {
+                            @Override
+                            public boolean visit(String path, Stat stat)
+                            {
+                                return true;
+                            }
+
+                            @Override
+                            public synchronized void visitFailed(String path,
+                                    IOExceptionUnchecked ex)
+                            {
+                                failed.add(path);
+                            }
+                        });
+            assertEquals(Collections.singleton(c.getAbsolutePath()), failed);
+            assertEquals(1, usage.getNumberOfErrors());
+            assertEquals(2, usage.getNumberOfFiles());
+        } finally
+        {
+            Unix.setAccessMode(c.getAbsolutePath(), (short) 0755);
+        }
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions = IOExceptionUnchecked.class)
+    public void testNonExistentRoot()
+    {
+        new FileTreeWalker().getDiskUsage(new File(workingDirectory, "nonExistent")
+                .getAbsolutePath());
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + FileTreeWalkerTests.class.getSimpleName());
+        System.out.println();
+        if (Unix.isOperational() == false)
+        {
+            System.err.println("No unix library found.");
+            System.exit(1);
+        }
+        final FileTreeWalkerTests test = new FileTreeWalkerTests();
+        try
+        {
+            for (Method m : FileTreeWalkerTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                System.out.println("Running " + m.getName());
+                test.setUp();
+                try
+                {
+                    m.invoke(test);
+                } catch (InvocationTargetException wrapperThrowable)
+                {
+                    final Throwable th = wrapperThrowable.getCause();
+                    boolean exceptionFound = false;
+                    for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                    {
+                        if (expectedExClazz == th.getClass())
+                        {
+                            exceptionFound = true;
+                            break;
+                        }
+                    }
+                    if (exceptionFound == false)
+                    {
+                        throw th;
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
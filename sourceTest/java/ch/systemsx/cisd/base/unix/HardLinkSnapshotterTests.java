@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked;
+import ch.systemsx.cisd.base.tests.AbstractFileSystemTestCase;
+import ch.systemsx.cisd.base.unix.HardLinkSnapshotter.SnapshotStatistics;
+import ch.systemsx.cisd.base.unix.Unix.Stat;
+
+/**
+ * Test cases for the {@link HardLinkSnapshotter}.
+ * 
+ * @author agent
+ */
+public class HardLinkSnapshotterTests extends AbstractFileSystemTestCase
+{
+
+    private static final long MTIME_SECS = 1234567890L;
+
+    private static final long MTIME_MICROS = 123456L;
+
+    /**
+     * Creates <code>source/file1</code>, <code>source/dir/file2</code> and
+     * <code>source/dir/link -> file2</code>.
+     */
+    private File createSource() throws IOException
+    {
+        final File source = new File(workingDirectory, "source");
+        final File dir = new File(source, "dir");
+        dir.mkdirs();
+        final File file1 = new File(source, "file1");
+        final File file2 = new File(dir, "file2");
+        FileUtils.writeStringToFile(file1, "content1", Charset.defaultCharset());
+        FileUtils.writeStringToFile(file2, "content2", Charset.defaultCharset());
+        Unix.createSymbolicLink("file2", new File(dir, "link").getAbsolutePath());
+        Unix.setAccessMode(file1.getAbsolutePath(), (short) 0640);
+        Unix.setAccessMode(dir.getAbsolutePath(), (short) 0750);
+        Unix.setFileTimestamps(file1.getAbsolutePath(), MTIME_SECS, MTIME_MICROS, MTIME_SECS,
+                MTIME_MICROS);
+        Unix.setFileTimestamps(dir.getAbsolutePath(), MTIME_SECS, 0, MTIME_SECS, 0);
+        return source;
+    }
+
+    private static void deleteLink(File dir)
+    {
+        assertTrue(new File(dir, "dir/link").delete());
+    }
+
+    private static long getInode(File file)
+    {
+        return Unix.getLinkInfo(file.getAbsolutePath()).getInode();
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testFullSnapshot() throws IOException
+    {
+        final File source = createSource();
+        final File target = new File(workingDirectory, "snapshot1");
+        final SnapshotStatistics stats =
+                new HardLinkSnapshotter().snapshot(source.getAbsolutePath(), null,
+                        target.getAbsolutePath());
+        assertEquals(2, stats.getNumberOfDirectories());
+        assertEquals(0, stats.getNumberOfLinkedFiles());
+        assertEquals(2, stats.getNumberOfCopiedFiles());
+        assertEquals(16, stats.getNumberOfCopiedBytes());
+        assertEquals(1, stats.getNumberOfSymbolicLinks());
+        assertEquals(0, stats.getNumberOfSkippedEntries());
+
+        final File file1 = new File(target, "file1");
+        assertEquals("content1", FileUtils.readFileToString(file1, Charset.defaultCharset()));
+        assertEquals("content2", FileUtils.readFileToString(new File(target, "dir/file2"),
+                Charset.defaultCharset()));
+        final Stat file1Stat = Unix.getLinkInfo(file1.getAbsolutePath());
+        assertEquals(0640, file1Stat.getPermissions());
+        assertEquals(MTIME_SECS, file1Stat.getLastModifiedTime().getSecs());
+        assertEquals(MTIME_MICROS * 1000, file1Stat.getLastModifiedTime().getNanoSecPart());
+        assertEquals(Unix.getLinkInfo(new File(source, "file1").getAbsolutePath()).getUid(),
+                file1Stat.getUid());
+        final Stat dirStat = Unix.getLinkInfo(new File(target, "dir").getAbsolutePath());
+        assertEquals(0750, dirStat.getPermissions());
+        assertEquals(MTIME_SECS, dirStat.getLastModifiedTime().getSecs());
+        assertEquals("file2",
+                Unix.tryReadSymbolicLink(new File(target, "dir/link").getAbsolutePath()));
+        deleteLink(source);
+        deleteLink(target);
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testIncrementalSnapshot() throws IOException
+    {
+        final File source = createSource();
+        final File snapshot1 = new File(workingDirectory, "snapshot1");
+        final File snapshot2 = new File(workingDirectory, "snapshot2");
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            final HardLinkSnapshotter snapshotter =
+                    new HardLinkSnapshotter(pool, Unix.getEuid() == 0);
+            snapshotter.snapshot(source.getAbsolutePath(), null, snapshot1.getAbsolutePath());
+            FileUtils.writeStringToFile(new File(source, "dir/file2"), "changed content2",
+                    Charset.defaultCharset());
+            FileUtils.writeStringToFile(new File(source, "file3"), "content3",
+                    Charset.defaultCharset());
+            final SnapshotStatistics stats =
+                    snapshotter.snapshot(source.getAbsolutePath(), snapshot1.getAbsolutePath(),
+                            snapshot2.getAbsolutePath());
+            assertEquals(1, stats.getNumberOfLinkedFiles());
+            assertEquals(2, stats.getNumberOfCopiedFiles());
+            assertEquals(24, stats.getNumberOfCopiedBytes());
+            assertEquals(getInode(new File(snapshot1, "file1")),
+                    getInode(new File(snapshot2, "file1")));
+            assertFalse(getInode(new File(snapshot1, "dir/file2")) == getInode(new File(
+                    snapshot2, "dir/file2")));
+            assertEquals("content2", FileUtils.readFileToString(
+                    new File(snapshot1, "dir/file2"), Charset.defaultCharset()));
+            assertEquals("changed content2", FileUtils.readFileToString(new File(snapshot2,
+                    "dir/file2"), Charset.defaultCharset()));
+            assertEquals("content3", FileUtils.readFileToString(new File(snapshot2, "file3"),
+                    Charset.defaultCharset()));
+        } finally
+        {
+            pool.shutdown();
+        }
+        deleteLink(source);
+        deleteLink(snapshot1);
+        deleteLink(snapshot2);
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testChangedPermissionsAreCopied() throws IOException
+    {
+        final File source = createSource();
+        final File snapshot1 = new File(workingDirectory, "snapshot1");
+        final File snapshot2 = new File(workingDirectory, "snapshot2");
+        final HardLinkSnapshotter snapshotter = new HardLinkSnapshotter();
+        snapshotter.snapshot(source.getAbsolutePath(), null, snapshot1.getAbsolutePath());
+        Unix.setAccessMode(new File(source, "file1").getAbsolutePath(), (short) 0600);
+        final SnapshotStatistics stats =
+                snapshotter.snapshot(source.getAbsolutePath(), snapshot1.getAbsolutePath(),
+                        snapshot2.getAbsolutePath());
+        assertEquals(1, stats.getNumberOfLinkedFiles());
+        assertEquals(1, stats.getNumberOfCopiedFiles());
+        assertEquals(0640, Unix.getLinkInfo(new File(snapshot1, "file1").getAbsolutePath())
+                .getPermissions());
+        assertEquals(0600, Unix.getLinkInfo(new File(snapshot2, "file1").getAbsolutePath())
+                .getPermissions());
+        deleteLink(source);
+        deleteLink(snapshot1);
+        deleteLink(snapshot2);
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions = IOExceptionUnchecked.class)
+    public void testTargetExists() throws IOException
+    {
+        final File source = new File(workingDirectory, "source");
+        source.mkdir();
+        new HardLinkSnapshotter().snapshot(source.getAbsolutePath(), null,
+                workingDirectory.getAbsolutePath());
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions = IOExceptionUnchecked.class)
+    public void testSourceNotADirectory() throws IOException
+    {
+        final File source = new File(workingDirectory, "source");
+        FileUtils.writeStringToFile(source, "content", Charset.defaultCharset());
+        new HardLinkSnapshotter().snapshot(source.getAbsolutePath(), null, new File(
+                workingDirectory, "target").getAbsolutePath());
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + HardLinkSnapshotterTests.class.getSimpleName());
+        System.out.println();
+        if (Unix.isOperational() == false)
+        {
+            System.err.println("No unix library found.");
+            System.exit(1);
+        }
+        final HardLinkSnapshotterTests test = new HardLinkSnapshotterTests();
+        try
+        {
+            for (Method m : HardLinkSnapshotterTests.class.getMethods())
+            {
+                final Test testAnnotation = m.getAnnotation(Test.class);
+                if (testAnnotation == null)
+                {
+                    continue;
+                }
+                System.out.println("Running " + m.getName());
+                test.setUp();
+                try
+                {
+                    m.invoke(test);
+                } catch (InvocationTargetException wrapperThrowable)
+                {
+                    final Throwable th = wrapperThrowable.getCause();
+                    boolean exceptionFound = false;
+                    for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                    {
+                        if (expectedExClazz == th.getClass())
+                        {
+                            exceptionFound = true;
+                            break;
+                        }
+                    }
+                    if (exceptionFound == false)
+                    {
+                        throw th;
+                    }
+                }
+            }
+            System.out.println("Tests OK!");
+        } finally
+        {
+            test.afterClass();
+        }
+    }
+
+}
@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.testng.annotations.Test;
@@ -428,6 +430,169 @@ public class UnixTests extends AbstractFileSystemTestCase
         assertTrue(Unix.isProcessRunningPS(Unix.getPid()));
     }
 
+    @Test(groups =
+        { "requires_unix" })
+    public void testListDirectoryWithStats() throws IOException
+    {
+        final File dir = new File(workingDirectory, "someListedDir");
+        dir.mkdir();
+        final File f = new File(dir, "someFile");
+        FileUtils.writeStringToFile(f, "someText\n", Charset.defaultCharset());
+        new File(dir, "someSubDir").mkdir();
+        Unix.createSymbolicLink(f.getAbsolutePath(), new File(dir, "someLink").getAbsolutePath());
+        final File danglingLink = new File(dir, "someDanglingLink");
+        Unix.createSymbolicLink(new File(dir, "nonExistent").getAbsolutePath(),
+                danglingLink.getAbsolutePath());
+
+        final Map<String, Stat> entries = new HashMap<String, Stat>();
+        for (Unix.DirectoryEntry entry : Unix.listDirectoryWithStats(dir.getAbsolutePath()))
+        {
+            entries.put(entry.getName(), entry.tryGetStat());
+        }
+        assertEquals(4, entries.size());
+        assertEquals(FileLinkType.REGULAR_FILE, entries.get("someFile").getLinkType());
+        assertEquals(9, entries.get("someFile").getSize());
+        assertEquals(Unix.getLinkInfo(f.getAbsolutePath()).getInode(), entries.get("someFile")
+                .getInode());
+        assertEquals(FileLinkType.DIRECTORY, entries.get("someSubDir").getLinkType());
+        assertEquals(FileLinkType.SYMLINK, entries.get("someLink").getLinkType());
+        assertNull(entries.get("someLink").tryGetSymbolicLink());
+        assertEquals(FileLinkType.SYMLINK, entries.get("someDanglingLink").getLinkType());
+
+        entries.clear();
+        for (Unix.DirectoryEntry entry : Unix.listDirectoryWithStats(dir.getAbsolutePath(), true))
+        {
+            entries.put(entry.getName(), entry.tryGetStat());
+        }
+        assertEquals(4, entries.size());
+        assertEquals(FileLinkType.REGULAR_FILE, entries.get("someLink").getLinkType());
+        assertEquals(9, entries.get("someLink").getSize());
+        assertTrue(entries.containsKey("someDanglingLink"));
+        assertNull(entries.get("someDanglingLink"));
+        // Some versions of commons-io fail to clean up directories with dangling links.
+        danglingLink.delete();
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testListDirectoryWithStatsManyEntries() throws IOException
+    {
+        final File dir = new File(workingDirectory, "someLargeDir");
+        dir.mkdir();
+        for (int i = 0; i < 1000; ++i)
+        {
+            new File(dir, "f" + i).createNewFile();
+        }
+        final Unix.DirectoryEntry[] entries = Unix.listDirectoryWithStats(dir.getAbsolutePath());
+        assertEquals(1000, entries.length);
+        for (Unix.DirectoryEntry entry : entries)
+        {
+            assertTrue(entry.getName().startsWith("f"));
+            assertEquals(0, entry.tryGetStat().getSize());
+        }
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions =
+            ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked.class)
+    public void testListDirectoryWithStatsNonExistent()
+    {
+        Unix.listDirectoryWithStats(new File(workingDirectory, "nonExistentDir").getAbsolutePath());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testStatBuffer() throws IOException
+    {
+        final File f = new File(workingDirectory, "someFile");
+        FileUtils.writeStringToFile(f, "someText\n", Charset.defaultCharset());
+        Unix.setFileTimestamps(f.getAbsolutePath(), 1000L, 17L, 2000L, 42L);
+        final File s = new File(workingDirectory, "someLink");
+        Unix.createSymbolicLink(f.getAbsolutePath(), s.getAbsolutePath());
+        final Unix.StatBuffer buffer = new Unix.StatBuffer();
+
+        Unix.getFileInfo(s.getAbsolutePath(), buffer);
+        final Stat info = Unix.getFileInfo(f.getAbsolutePath());
+        assertEquals(FileLinkType.REGULAR_FILE, buffer.getLinkType());
+        assertFalse(buffer.isSymbolicLink());
+        assertEquals(info.getDeviceId(), buffer.getDeviceId());
+        assertEquals(info.getInode(), buffer.getInode());
+        assertEquals(info.getPermissions(), buffer.getPermissions());
+        assertEquals(info.getNumberOfHardLinks(), buffer.getNumberOfHardLinks());
+        assertEquals(info.getUid(), buffer.getUid());
+        assertEquals(info.getGid(), buffer.getGid());
+        assertEquals(2000L, buffer.getLastModified());
+        assertEquals(42000L, buffer.getLastModifiedNanoSecPart());
+        assertEquals(1000L, buffer.getLastAccess());
+        assertEquals(17000L, buffer.getLastAccessNanoSecPart());
+        assertEquals(info.getLastStatusChangeTime().getSecs(), buffer.getLastStatusChange());
+        assertEquals(info.getLastStatusChangeTime().getNanoSecPart(),
+                buffer.getLastStatusChangeNanoSecPart());
+        assertEquals(9, buffer.getSize());
+        assertEquals(info.getNumberOfBlocks(), buffer.getNumberOfBlocks());
+        assertEquals(info.getBlockSize(), buffer.getBlockSize());
+        assertEquals(info.getLastModifiedTime(), buffer.toStat().getLastModifiedTime());
+
+        // Re-use the buffer for the link itself.
+        assertTrue(Unix.tryGetLinkInfo(s.getAbsolutePath(), buffer));
+        assertEquals(FileLinkType.SYMLINK, buffer.getLinkType());
+        assertTrue(buffer.isSymbolicLink());
+        assertEquals(Unix.getLinkInfo(s.getAbsolutePath()).getInode(), buffer.getInode());
+        assertEquals(f.getAbsolutePath().length(), buffer.getSize());
+        assertTrue(s.delete());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testStatFields() throws IOException
+    {
+        final File d = new File(workingDirectory, "someDir");
+        d.mkdir();
+        final long[] fields = new long[Unix.StatBuffer.NUMBER_OF_FIELDS];
+        assertEquals(0, Unix.tryGetFileInfo(d.getAbsolutePath(), fields));
+        assertEquals(FileLinkType.DIRECTORY.ordinal(), fields[Unix.StatBuffer.LINK_TYPE]);
+        assertEquals(Unix.getFileInfo(d.getAbsolutePath()).getInode(),
+                fields[Unix.StatBuffer.INODE]);
+        final String nonExistent = new File(d, "nonExistent").getAbsolutePath();
+        final int errorCode = Unix.tryGetFileInfo(nonExistent, fields);
+        assertTrue(errorCode > 0);
+        assertEquals("No such file or directory", Unix.getErrorMessage(errorCode));
+        assertEquals(errorCode, Unix.tryGetLinkInfo(nonExistent, fields));
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testStatBufferErrorCode() throws IOException
+    {
+        final File f = new File(workingDirectory, "someFile");
+        FileUtils.writeStringToFile(f, "someText", Charset.defaultCharset());
+        final Unix.StatBuffer buffer = new Unix.StatBuffer();
+        final String nonExistent = new File(workingDirectory, "nonExistent").getAbsolutePath();
+        assertFalse(Unix.tryGetFileInfo(nonExistent, buffer));
+        assertEquals("No such file or directory", Unix.getErrorMessage(buffer.getErrorCode()));
+        assertTrue(Unix.tryGetLinkInfo(f.getAbsolutePath(), buffer));
+        assertEquals(0, buffer.getErrorCode());
+        assertFalse(Unix.tryGetLinkInfo(nonExistent, buffer));
+        assertTrue(buffer.getErrorCode() > 0);
+        assertEquals(8, buffer.getSize());
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions =
+            ch.systemsx.cisd.base.exceptions.IOExceptionUnchecked.class)
+    public void testStatBufferNonExistent()
+    {
+        Unix.getLinkInfo(new File(workingDirectory, "nonExistent").getAbsolutePath(),
+                new Unix.StatBuffer());
+    }
+
+    @Test(groups =
+        { "requires_unix" }, expectedExceptions = IllegalArgumentException.class)
+    public void testStatFieldsTooShort()
+    {
+        Unix.tryGetFileInfo(workingDirectory.getAbsolutePath(), new long[3]);
+    }
+
     public static void main(String[] args) throws Throwable
     {
         System.out.println(BuildAndEnvironmentInfo.INSTANCE);
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 ETH Zuerich, CISD and SIS.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.systemsx.cisd.base.unix;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.testng.annotations.Test;
+
+import ch.systemsx.cisd.base.BuildAndEnvironmentInfo;
+import ch.systemsx.cisd.base.unix.UserGroupCache.Statistics;
+
+/**
+ * Test cases for the {@link UserGroupCache}.
+ * 
+ * @author agent
+ */
+public class UserGroupCacheTests
+{
+
+    private static final String NON_EXISTENT_NAME = "doesnotexist_0815";
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testUserByUid()
+    {
+        final UserGroupCache cache = new UserGroupCache();
+        assertEquals("root", cache.tryGetUserNameForUid(0));
+        assertEquals("root", cache.tryGetUserByUid(0).getUserName());
+        final Statistics stats = cache.getStatistics();
+        assertEquals(1, stats.getNumberOfMisses());
+        assertEquals(1, stats.getNumberOfHits());
+        assertEquals(0.5, stats.getHitRate(), 1e-9);
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testUserBidirectional()
+    {
+        final UserGroupCache cache = new UserGroupCache();
+        assertEquals(0, cache.tryGetUserByUid(0).getUid());
+        assertEquals(0, cache.getUidForUserName("root"));
+        assertEquals(1, cache.getStatistics().getNumberOfMisses());
+        assertEquals(1, cache.getStatistics().getNumberOfHits());
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testGroupBidirectional()
+    {
+        final UserGroupCache cache = new UserGroupCache();
+        final String groupName = Unix.tryGetGroupNameForGid(0);
+        assertEquals(0, cache.getGidForGroupName(groupName));
+        assertEquals(groupName, cache.tryGetGroupNameForGid(0));
+        assertEquals(groupName, cache.tryGetGroupByGid(0).getGroupName());
+        assertEquals(1, cache.getStatistics().getNumberOfMisses());
+        assertEquals(2, cache.getStatistics().getNumberOfHits());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testNegativeCaching()
+    {
+        final UserGroupCache cache = new UserGroupCache();
+        assertNull(cache.tryGetUserByName(NON_EXISTENT_NAME));
+        assertEquals(-1, cache.getUidForUserName(NON_EXISTENT_NAME));
+        assertEquals(-1, cache.getGidForGroupName(NON_EXISTENT_NAME));
+        assertNull(cache.tryGetGroupByName(NON_EXISTENT_NAME));
+        final Statistics stats = cache.getStatistics();
+        assertEquals(2, stats.getNumberOfMisses());
+        assertEquals(2, stats.getNumberOfHits());
+        assertEquals(2, stats.getNumberOfNegativeHits());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testExpiry()
+    {
+        final UserGroupCache cache = new UserGroupCache(0L, 0L, 10);
+        assertEquals("root", cache.tryGetUserNameForUid(0));
+        assertEquals("root", cache.tryGetUserNameForUid(0));
+        assertNull(cache.tryGetUserByName(NON_EXISTENT_NAME));
+        assertNull(cache.tryGetUserByName(NON_EXISTENT_NAME));
+        assertEquals(4, cache.getStatistics().getNumberOfMisses());
+        assertEquals(0, cache.getStatistics().getNumberOfHits());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testSizeBound()
+    {
+        final UserGroupCache cache = new UserGroupCache(60000L, 60000L, 2);
+        for (int i = 0; i < 5; ++i)
+        {
+            cache.tryGetUserByName(NON_EXISTENT_NAME + i);
+        }
+        final Statistics stats = cache.getStatistics();
+        assertEquals(2, stats.getSize());
+        assertEquals(3, stats.getNumberOfEvictions());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testSizeBoundEvictsOldestFirst()
+    {
+        final UserGroupCache cache = new UserGroupCache(60000L, 60000L, 3);
+        for (int i = 0; i < 10; ++i)
+        {
+            cache.tryGetUserByName(NON_EXISTENT_NAME + i);
+        }
+        assertEquals(10, cache.getStatistics().getNumberOfMisses());
+        for (int i = 7; i < 10; ++i)
+        {
+            cache.tryGetUserByName(NON_EXISTENT_NAME + i);
+        }
+        assertEquals(3, cache.getStatistics().getNumberOfNegativeHits());
+        cache.tryGetUserByName(NON_EXISTENT_NAME + 6);
+        assertEquals(11, cache.getStatistics().getNumberOfMisses());
+        assertEquals(3, cache.getStatistics().getSize());
+    }
+
+    @Test(groups =
+        { "requires_unix" })
+    public void testInvalidate()
+    {
+        final UserGroupCache cache = new UserGroupCache();
+        cache.tryGetUserByUid(0);
+        cache.invalidate();
+        assertEquals(0, cache.getStatistics().getSize());
+        cache.tryGetUserByUid(0);
+        assertEquals(2, cache.getStatistics().getNumberOfMisses());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIllegalMaxSize()
+    {
+        new UserGroupCache(1000L, 1000L, 0);
+    }
+
+    public static void main(String[] args) throws Throwable
+    {
+        System.out.println(BuildAndEnvironmentInfo.INSTANCE);
+        System.out.println("Test class: " + UserGroupCacheTests.class.getSimpleName());
+        System.out.println();
+        if (Unix.isOperational() == false)
+        {
+            System.err.println("No unix library found.");
+            System.exit(1);
+        }
+        final UserGroupCacheTests test = new UserGroupCacheTests();
+        for (Method m : UserGroupCacheTests.class.getMethods())
+        {
+            final Test testAnnotation = m.getAnnotation(Test.class);
+            if (testAnnotation == null)
+            {
+                continue;
+            }
+            System.out.println("Running " + m.getName());
+            try
+            {
+                m.invoke(test);
+            } catch (InvocationTargetException wrapperThrowable)
+            {
+                final Throwable th = wrapperThrowable.getCause();
+                boolean exceptionFound = false;
+                for (Class<?> expectedExClazz : testAnnotation.expectedExceptions())
+                {
+                    if (expectedExClazz == th.getClass())
+                    {
+                        exceptionFound = true;
+                        break;
+                    }
+                }
+                if (exceptionFound == false)
+                {
+                    throw th;
+                }
+            }
+        }
+        System.out.println("Tests OK!");
+    }
+
+}